@@ -0,0 +1,292 @@
+package benchmark;
+
+import app.DatabaseMigration;
+import util.DBUtil;
+import util.Organizations;
+import util.PasswordUtil;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+
+/**
+ * Scratch SQLite database seeded at a given scale for benchmarks.
+ * Every table except role_permissions gets {@code rows} rows; users get a
+ * tenth of that. Seeded files are kept under {@code bench.dir}
+ * (default {@code target/bench-db}) and reused by later runs.
+ *
+ * User ids follow a fixed role pattern in blocks of 20, so benchmarks can
+ * pick valid donor or caregiver ids without querying.
+ */
+public final class BenchmarkDatabase {
+
+    public static final String PASSWORD = "bench123";
+    private static final int BATCH = 10_000;
+
+    private final int rows;
+    private final int users;
+
+    private BenchmarkDatabase(int rows) {
+        this.rows = rows;
+        this.users = Math.max(100, rows / 10) / 20 * 20;
+    }
+
+    /**
+     * Opens (seeding on first use) the database for the given scale and
+     * points {@link DBUtil} at it.
+     */
+    public static BenchmarkDatabase open(int rows) throws Exception {
+        BenchmarkDatabase db = new BenchmarkDatabase(rows);
+        Path dir = Paths.get(System.getProperty("bench.dir", "target/bench-db"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve("guardianlink-" + rows + ".db");
+        boolean fresh = !Files.exists(file);
+        DBUtil.useDatabase("jdbc:sqlite:" + file.toAbsolutePath());
+        if (fresh) {
+            db.seed();
+        }
+        return db;
+    }
+
+    /**
+     * Opens a throwaway copy of the seeded database for the given scale, so
+     * write benchmarks never grow or alter the shared seed.
+     */
+    public static BenchmarkDatabase openCopy(int rows) throws Exception {
+        BenchmarkDatabase db = open(rows);
+        Path dir = Paths.get(System.getProperty("bench.dir", "target/bench-db"));
+        Path seeded = dir.resolve("guardianlink-" + rows + ".db");
+        Path copy = dir.resolve("scratch-" + rows + ".db");
+        // Release the seeded file before copying it
+        DBUtil.useDatabase("jdbc:sqlite:" + copy.toAbsolutePath());
+        Files.copy(seeded, copy, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        return db;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int randomChildId(Random random) {
+        return 1 + random.nextInt(rows);
+    }
+
+    /** Ids with role pattern offset 1..10 in each block of 20 are donors. */
+    public int randomDonorId(Random random) {
+        return blockStart(random) + 1 + random.nextInt(10);
+    }
+
+    /** Ids with role pattern offset 11..17 in each block of 20 are caregivers. */
+    public int randomCaregiverId(Random random) {
+        return blockStart(random) + 11 + random.nextInt(7);
+    }
+
+    public String randomUsername(Random random) {
+        return "user" + (1 + random.nextInt(users));
+    }
+
+    private int blockStart(Random random) {
+        return random.nextInt(users / 20) * 20 + 1;
+    }
+
+    // ── Seeding ──────────────────────────────────────────────
+
+    private void seed() throws Exception {
+        System.out.println("Seeding benchmark database with " + rows + " rows per table...");
+        DBUtil.initialize();
+        DatabaseMigration.runMigrations();
+        Connection conn = DBUtil.getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            // Start from the configured scale rather than the demo seed data
+            for (String table : new String[]{"users", "children", "medical_records", "education_records",
+                    "donations", "expenses", "system_logs", "notifications"}) {
+                stmt.execute("DELETE FROM " + table);
+                stmt.execute("DELETE FROM sqlite_sequence WHERE name = '" + table + "'");
+            }
+        }
+        conn.setAutoCommit(false);
+        try {
+            Random random = new Random(rows);
+            seedUsers(conn);
+            seedChildren(conn, random);
+            seedDonations(conn, random);
+            seedExpenses(conn, random);
+            seedRecords(conn, random);
+            seedNotifications(conn, random);
+            seedLogs(conn, random);
+            conn.commit();
+        } finally {
+            conn.setAutoCommit(true);
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("ANALYZE");
+        }
+    }
+
+    private void seedUsers(Connection conn) throws SQLException {
+        String hash = PasswordUtil.hash(PASSWORD);
+        String[] pattern = {"ORGANIZATION_ADMIN",
+                "DONOR", "DONOR", "DONOR", "DONOR", "DONOR", "DONOR", "DONOR", "DONOR", "DONOR", "DONOR",
+                "CAREGIVER", "CAREGIVER", "CAREGIVER", "CAREGIVER", "CAREGIVER", "CAREGIVER", "CAREGIVER",
+                "SUPPORT", "SYSTEM_ADMIN"};
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO users (username, password, email, phone_number, role, approved, organization) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= users; i++) {
+                ps.setString(1, "user" + i);
+                ps.setString(2, hash);
+                ps.setString(3, "user" + i + "@guardianlink.org");
+                ps.setString(4, String.format("555%07d", i));
+                ps.setString(5, pattern[(i - 1) % 20]);
+                ps.setInt(6, i % 7 == 0 ? 0 : 1);
+                ps.setString(7, Organizations.getByIndex(i % Organizations.getCount()));
+                add(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void seedChildren(Connection conn, Random random) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO children (name, age, organization, gender, date_of_birth, status, assigned_caregiver_id, sponsor_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                int age = 2 + random.nextInt(16);
+                ps.setString(1, "Child " + i);
+                ps.setInt(2, age);
+                ps.setString(3, Organizations.getByIndex(random.nextInt(Organizations.getCount())));
+                ps.setString(4, random.nextBoolean() ? "Male" : "Female");
+                ps.setString(5, (2026 - age) + "-" + twoDigits(1 + random.nextInt(12)) + "-" + twoDigits(1 + random.nextInt(28)));
+                ps.setString(6, random.nextInt(10) == 0 ? "Graduated" : "Active");
+                ps.setInt(7, randomCaregiverId(random));
+                if (random.nextInt(10) < 6) {
+                    ps.setInt(8, randomDonorId(random));
+                } else {
+                    ps.setNull(8, java.sql.Types.INTEGER);
+                }
+                add(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void seedDonations(Connection conn, Random random) throws SQLException {
+        String[] purposes = {"Education Support", "Medical Care", "General Welfare", "Food & Nutrition"};
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO donations (donor_id, child_id, amount_paisa, purpose, date, status) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                ps.setInt(1, randomDonorId(random));
+                ps.setInt(2, randomChildId(random));
+                ps.setLong(3, (50 + random.nextInt(100) * 10) * 100L);
+                ps.setString(4, purposes[random.nextInt(purposes.length)]);
+                ps.setString(5, randomDate(random));
+                ps.setString(6, "Completed");
+                add(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void seedExpenses(Connection conn, Random random) throws SQLException {
+        String[] categories = {"Education", "Medical", "Food", "Clothing", "Shelter"};
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO expenses (child_id, category, amount_paisa, description, date) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                ps.setInt(1, randomChildId(random));
+                ps.setString(2, categories[random.nextInt(categories.length)]);
+                ps.setLong(3, (10 + random.nextInt(200)) * 100L);
+                ps.setString(4, "Expense " + i);
+                ps.setString(5, randomDate(random));
+                add(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void seedRecords(Connection conn, Random random) throws SQLException {
+        String[] bloodGroups = {"A+", "A-", "B+", "B-", "O+", "O-", "AB+", "AB-"};
+        try (PreparedStatement medical = conn.prepareStatement(
+                "INSERT INTO medical_records (child_id, blood_group, medical_condition, last_checkup) VALUES (?, ?, ?, ?)");
+             PreparedStatement education = conn.prepareStatement(
+                     "INSERT INTO education_records (child_id, school_name, grade, attendance_percentage) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                medical.setInt(1, i);
+                medical.setString(2, bloodGroups[random.nextInt(bloodGroups.length)]);
+                medical.setString(3, random.nextInt(5) == 0 ? "Mild asthma" : "None");
+                medical.setString(4, randomDate(random));
+                add(medical, i);
+                education.setInt(1, i);
+                education.setString(2, "School " + random.nextInt(500));
+                education.setString(3, "Grade " + (1 + random.nextInt(10)));
+                education.setDouble(4, 60 + random.nextInt(400) / 10.0);
+                add(education, i);
+            }
+            medical.executeBatch();
+            education.executeBatch();
+        }
+    }
+
+    private void seedNotifications(Connection conn, Random random) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO notifications (caregiver_id, message, notification_type, child_name, child_id, timestamp, is_read) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                int childId = randomChildId(random);
+                ps.setInt(1, randomCaregiverId(random));
+                ps.setString(2, "You have been assigned a new child: Child " + childId);
+                ps.setString(3, "ASSIGNMENT");
+                ps.setString(4, "Child " + childId);
+                ps.setInt(5, childId);
+                ps.setString(6, randomDate(random) + " 10:00:00");
+                ps.setBoolean(7, random.nextInt(4) == 0);
+                add(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void seedLogs(Connection conn, Random random) throws SQLException {
+        String[] types = {"User Login", "Data Update", "Security Alert", "System", "User Management"};
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO system_logs (event_type, description, actor, timestamp) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                ps.setString(1, types[random.nextInt(types.length)]);
+                ps.setString(2, "Event " + i);
+                ps.setString(3, randomUsername(random));
+                ps.setString(4, randomDate(random) + " " + twoDigits(random.nextInt(24)) + ":00:00");
+                add(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private static void add(PreparedStatement ps, int i) throws SQLException {
+        ps.addBatch();
+        if (i % BATCH == 0) {
+            ps.executeBatch();
+        }
+    }
+
+    private static String randomDate(Random random) {
+        return (2020 + random.nextInt(7)) + "-" + twoDigits(1 + random.nextInt(12)) + "-" + twoDigits(1 + random.nextInt(28));
+    }
+
+    private static String twoDigits(int n) {
+        return n < 10 ? "0" + n : Integer.toString(n);
+    }
+
+    /**
+     * Returns the number of rows in a table, for sanity checks.
+     */
+    public static int count(String table) throws SQLException {
+        try (Statement stmt = DBUtil.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+}
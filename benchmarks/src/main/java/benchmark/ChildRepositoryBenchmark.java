@@ -0,0 +1,39 @@
+package benchmark;
+
+import model.entity.Child;
+import org.openjdk.jmh.annotations.Benchmark;
+import repository.ChildRepository;
+import repository.JdbcChildRepository;
+
+import java.util.List;
+
+/** Read paths of {@link ChildRepository}. */
+public class ChildRepositoryBenchmark extends SeededBenchmark {
+
+    private final ChildRepository repository = new JdbcChildRepository();
+
+    @Benchmark
+    public List<Child> findAll() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public Child findById() {
+        return repository.findById(db.randomChildId(random));
+    }
+
+    @Benchmark
+    public List<Child> findByCaregiver() {
+        return repository.findByCaregiver(db.randomCaregiverId(random));
+    }
+
+    @Benchmark
+    public List<Child> findBySponsor() {
+        return repository.findBySponsor(db.randomDonorId(random));
+    }
+
+    @Benchmark
+    public List<Child> findUnsponsored() {
+        return repository.findUnsponsored();
+    }
+}
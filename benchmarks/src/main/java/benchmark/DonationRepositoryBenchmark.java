@@ -0,0 +1,45 @@
+package benchmark;
+
+import model.entity.Donation;
+import org.openjdk.jmh.annotations.Benchmark;
+import repository.DonationRepository;
+import repository.JdbcDonationRepository;
+import util.Money;
+
+import java.util.List;
+
+/** Read paths of {@link DonationRepository}. */
+public class DonationRepositoryBenchmark extends SeededBenchmark {
+
+    private final DonationRepository repository = new JdbcDonationRepository();
+
+    @Benchmark
+    public List<Donation> findAll() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public List<Donation> findByDonorId() {
+        return repository.findByDonorId(db.randomDonorId(random));
+    }
+
+    @Benchmark
+    public List<Donation> findByChildId() {
+        return repository.findByChildId(db.randomChildId(random));
+    }
+
+    @Benchmark
+    public Money getTotalByDonorId() {
+        return repository.getTotalByDonorId(db.randomDonorId(random));
+    }
+
+    @Benchmark
+    public Money getTotalByChildId() {
+        return repository.getTotalByChildId(db.randomChildId(random));
+    }
+
+    @Benchmark
+    public int countChildrenByDonorId() {
+        return repository.countChildrenByDonorId(db.randomDonorId(random));
+    }
+}
@@ -0,0 +1,29 @@
+package benchmark;
+
+import model.entity.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import repository.JdbcNotificationRepository;
+import repository.NotificationRepository;
+
+import java.util.List;
+
+/** Read paths of {@link NotificationRepository}. */
+public class NotificationRepositoryBenchmark extends SeededBenchmark {
+
+    private final NotificationRepository repository = new JdbcNotificationRepository();
+
+    @Benchmark
+    public List<Notification> findByCaregiver() {
+        return repository.findByCaregiver(db.randomCaregiverId(random));
+    }
+
+    @Benchmark
+    public List<Notification> findUnreadByCaregiver() {
+        return repository.findUnreadByCaregiver(db.randomCaregiverId(random));
+    }
+
+    @Benchmark
+    public int countUnread() {
+        return repository.countUnread(db.randomCaregiverId(random));
+    }
+}
@@ -0,0 +1,76 @@
+package benchmark;
+
+import model.entity.EducationRecord;
+import model.entity.Expense;
+import model.entity.MedicalRecord;
+import model.entity.SystemLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import repository.EducationRecordRepository;
+import repository.ExpenseRepository;
+import repository.JdbcEducationRecordRepository;
+import repository.JdbcExpenseRepository;
+import repository.JdbcMedicalRecordRepository;
+import repository.JdbcRolePermissionsRepository;
+import repository.JdbcSystemLogRepository;
+import repository.MedicalRecordRepository;
+import repository.RolePermissionsRepository;
+import repository.SystemLogRepository;
+import util.Money;
+
+import java.util.List;
+import java.util.Map;
+
+/** Read paths of the per-child record, expense, log and permission repositories. */
+public class RecordRepositoryBenchmark extends SeededBenchmark {
+
+    private final MedicalRecordRepository medicalRepository = new JdbcMedicalRecordRepository();
+    private final EducationRecordRepository educationRepository = new JdbcEducationRecordRepository();
+    private final ExpenseRepository expenseRepository = new JdbcExpenseRepository();
+    private final SystemLogRepository logRepository = new JdbcSystemLogRepository();
+    private final RolePermissionsRepository permissionsRepository = new JdbcRolePermissionsRepository();
+
+    @Benchmark
+    public List<MedicalRecord> medicalFindByChildId() {
+        return medicalRepository.findByChildId(db.randomChildId(random));
+    }
+
+    @Benchmark
+    public List<EducationRecord> educationFindByChildId() {
+        return educationRepository.findByChildId(db.randomChildId(random));
+    }
+
+    @Benchmark
+    public List<Expense> expenseFindByChildId() {
+        return expenseRepository.findByChildId(db.randomChildId(random));
+    }
+
+    @Benchmark
+    public Money expenseGetTotalByChildId() {
+        return expenseRepository.getTotalByChildId(db.randomChildId(random));
+    }
+
+    @Benchmark
+    public List<SystemLog> logFindAll() {
+        return logRepository.findAll();
+    }
+
+    @Benchmark
+    public List<SystemLog> logFindRecent() {
+        return logRepository.findRecent(50);
+    }
+
+    @Benchmark
+    public int logCount() {
+        return logRepository.count();
+    }
+
+    @Benchmark
+    public Map<String, String> permissionsFindAll() {
+        return permissionsRepository.findAll();
+    }
+
+    @Benchmark
+    public String permissionsGet() {
+        return permissionsRepository.getPermissions("DONOR");
+    }
+}
@@ -0,0 +1,53 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import util.DBUtil;
+
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared setup for benchmarks that read from the seeded database.
+ * The scale is chosen with {@code -p rows=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class SeededBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    protected BenchmarkDatabase db;
+    // Fixed seed: every run asks for the same sequence of ids
+    protected final Random random = new Random(42);
+
+    @Setup
+    public void openDatabase() throws Exception {
+        db = writes() ? BenchmarkDatabase.openCopy(rows) : BenchmarkDatabase.open(rows);
+    }
+
+    @TearDown
+    public void closeDatabase() throws SQLException {
+        DBUtil.getConnection().close();
+    }
+
+    /** Override to run against a scratch copy of the seeded database. */
+    protected boolean writes() {
+        return false;
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import exception.LoginThrottledException;
+import exception.UserNotApprovedException;
+import model.entity.Child;
+import model.entity.Donation;
+import model.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import service.AuthService;
+import service.ChildService;
+import service.DonationService;
+import service.NotificationService;
+import service.UserService;
+import util.Money;
+import util.PasswordUtil;
+
+import java.util.List;
+
+/**
+ * The service calls behind the busiest screens: dashboards, caregiver
+ * assignment, donations and login. Writes go to a scratch copy.
+ */
+public class ServiceBenchmark extends SeededBenchmark {
+
+    private final UserService userService = new UserService();
+    private final ChildService childService = new ChildService();
+    private final DonationService donationService = new DonationService();
+    private final NotificationService notificationService = new NotificationService();
+    private final AuthService authService = new AuthService();
+
+    private String storedHash;
+
+    @Override
+    protected boolean writes() {
+        return true;
+    }
+
+    @Setup
+    public void warmCredentialCache() throws Exception {
+        // user1 is approved; the first login pays for the KDF and fills the cache
+        storedHash = authService.login("user1", BenchmarkDatabase.PASSWORD).getPassword();
+    }
+
+    @Benchmark
+    public List<User> getAllUsers() {
+        return userService.getAllUsers();
+    }
+
+    @Benchmark
+    public List<Child> getChildrenByCaregiver() {
+        return childService.getChildrenByCaregiver(db.randomCaregiverId(random));
+    }
+
+    @Benchmark
+    public List<Child> getUnsponsoredChildren() {
+        return childService.getUnsponsoredChildren();
+    }
+
+    @Benchmark
+    public boolean assignCaregiverToChild() {
+        return childService.assignCaregiverToChild(db.randomChildId(random), db.randomCaregiverId(random), "bench");
+    }
+
+    @Benchmark
+    public boolean donationSave() {
+        return donationService.save(new Donation(db.randomDonorId(random), db.randomChildId(random),
+                Money.ofTaka(500), "Education Support", "2026-01-15"));
+    }
+
+    @Benchmark
+    public long donorDashboardTotals() {
+        int donorId = db.randomDonorId(random);
+        return donationService.getTotalByDonorId(donorId).longValue() + donationService.countChildrenByDonorId(donorId);
+    }
+
+    @Benchmark
+    public int unreadNotificationCount() {
+        return notificationService.getUnreadCount(db.randomCaregiverId(random));
+    }
+
+    @Benchmark
+    public User loginWithCachedCredentials() throws UserNotApprovedException, LoginThrottledException {
+        return authService.login("user1", BenchmarkDatabase.PASSWORD);
+    }
+
+    @Benchmark
+    public boolean passwordVerify() {
+        return PasswordUtil.verify(BenchmarkDatabase.PASSWORD, storedHash);
+    }
+}
@@ -0,0 +1,45 @@
+package benchmark;
+
+import model.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import repository.JdbcUserRepository;
+import repository.UserRepository;
+
+import java.util.List;
+import java.util.Set;
+
+/** Read paths of {@link UserRepository}. */
+public class UserRepositoryBenchmark extends SeededBenchmark {
+
+    private final UserRepository repository = new JdbcUserRepository();
+
+    @Benchmark
+    public User findByUsername() {
+        return repository.findByUsername(db.randomUsername(random));
+    }
+
+    @Benchmark
+    public User findById() {
+        return repository.findById(db.randomDonorId(random));
+    }
+
+    @Benchmark
+    public List<User> findAll() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public List<User> findAllCaregivers() {
+        return repository.findAllCaregivers();
+    }
+
+    @Benchmark
+    public Set<String> findAllUsernames() {
+        return repository.findAllUsernames();
+    }
+
+    @Benchmark
+    public boolean usernameExists() {
+        return repository.usernameExists(db.randomUsername(random));
+    }
+}
@@ -0,0 +1,233 @@
+package benchmark;
+
+import model.entity.Child;
+import model.entity.Donation;
+import model.entity.EducationRecord;
+import model.entity.Expense;
+import model.entity.MedicalRecord;
+import model.entity.Notification;
+import model.entity.SystemLog;
+import model.user.Donor;
+import model.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import repository.ChildRepository;
+import repository.DonationRepository;
+import repository.EducationRecordRepository;
+import repository.ExpenseRepository;
+import repository.JdbcChildRepository;
+import repository.JdbcDonationRepository;
+import repository.JdbcEducationRecordRepository;
+import repository.JdbcExpenseRepository;
+import repository.JdbcMedicalRecordRepository;
+import repository.JdbcNotificationRepository;
+import repository.JdbcRolePermissionsRepository;
+import repository.JdbcSystemLogRepository;
+import repository.JdbcUserRepository;
+import repository.MedicalRecordRepository;
+import repository.NotificationRepository;
+import repository.RolePermissionsRepository;
+import repository.SystemLogRepository;
+import repository.UserRepository;
+import util.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Insert, update and delete paths of every repository.
+ * Runs against a scratch copy so the seeded database stays at its scale.
+ */
+public class WriteBenchmark extends SeededBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ChildRepository childRepository = new JdbcChildRepository();
+    private final DonationRepository donationRepository = new JdbcDonationRepository();
+    private final ExpenseRepository expenseRepository = new JdbcExpenseRepository();
+    private final MedicalRecordRepository medicalRepository = new JdbcMedicalRecordRepository();
+    private final EducationRecordRepository educationRepository = new JdbcEducationRecordRepository();
+    private final NotificationRepository notificationRepository = new JdbcNotificationRepository();
+    private final SystemLogRepository logRepository = new JdbcSystemLogRepository();
+    private final RolePermissionsRepository permissionsRepository = new JdbcRolePermissionsRepository();
+    private final UserRepository userRepository = new JdbcUserRepository();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private String storedHash;
+
+    @Override
+    protected boolean writes() {
+        return true;
+    }
+
+    @Setup
+    public void loadStoredHash() {
+        storedHash = userRepository.findByUsername("user1").getPassword();
+    }
+
+    // ── Children ─────────────────────────────────────────────
+
+    @Benchmark
+    public boolean childSaveThenDelete() {
+        int id = childRepository.save(newChild());
+        return childRepository.deleteChild(id);
+    }
+
+    @Benchmark
+    public int childSaveAll() {
+        List<Child> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(newChild());
+        }
+        return childRepository.saveAll(batch);
+    }
+
+    @Benchmark
+    public boolean childUpdate() {
+        Child child = childRepository.findById(db.randomChildId(random));
+        child.setStatus(child.getStatus());
+        return childRepository.updateChild(child);
+    }
+
+    @Benchmark
+    public boolean childAssignAndRemoveSponsor() {
+        int childId = db.randomChildId(random);
+        childRepository.removeSponsorAssignment(childId);
+        return childRepository.assignSponsor(childId, db.randomDonorId(random)).isUpdated();
+    }
+
+    @Benchmark
+    public boolean childRemoveCaregiverAssignment() {
+        return childRepository.removeCaregiverAssignment(db.randomChildId(random));
+    }
+
+    // ── Donations & expenses ─────────────────────────────────
+
+    @Benchmark
+    public boolean donationSave() {
+        return donationRepository.save(newDonation());
+    }
+
+    @Benchmark
+    public int donationSaveAll() {
+        List<Donation> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(newDonation());
+        }
+        return donationRepository.saveAll(batch);
+    }
+
+    @Benchmark
+    public boolean expenseSave() {
+        return expenseRepository.save(newExpense());
+    }
+
+    @Benchmark
+    public int expenseSaveAll() {
+        List<Expense> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(newExpense());
+        }
+        return expenseRepository.saveAll(batch);
+    }
+
+    // ── Records, notifications, logs ─────────────────────────
+
+    @Benchmark
+    public void medicalSaveAndUpdate() {
+        MedicalRecord record = new MedicalRecord(db.randomChildId(random), "O+", "None", "2026-01-15");
+        medicalRepository.save(record);
+        medicalRepository.update(record);
+    }
+
+    @Benchmark
+    public void educationSaveAndUpdate() {
+        EducationRecord record = new EducationRecord(db.randomChildId(random), "Bench School", "Grade 5", 92.5);
+        educationRepository.save(record);
+        educationRepository.update(record);
+    }
+
+    @Benchmark
+    public boolean notificationSaveReadDelete() {
+        int caregiverId = db.randomCaregiverId(random);
+        int childId = db.randomChildId(random);
+        notificationRepository.save(new Notification(caregiverId, "Benchmark notification", "ASSIGNMENT",
+                "Child " + childId, childId, "2026-01-15 10:00:00"));
+        List<Notification> unread = notificationRepository.findUnreadByCaregiver(caregiverId);
+        int id = unread.get(0).getId();
+        notificationRepository.markAsRead(id);
+        return notificationRepository.deleteById(id);
+    }
+
+    @Benchmark
+    public boolean notificationMarkAllAsRead() {
+        return notificationRepository.markAllAsRead(db.randomCaregiverId(random));
+    }
+
+    @Benchmark
+    public void logSave() {
+        logRepository.save(new SystemLog("Benchmark", "Event " + sequence.incrementAndGet(), "bench", "2026-01-15 10:00:00"));
+    }
+
+    @Benchmark
+    public boolean permissionsUpdate() {
+        return permissionsRepository.updatePermissions("DONOR", permissionsRepository.getPermissions("DONOR"));
+    }
+
+    // ── Users ────────────────────────────────────────────────
+
+    @Benchmark
+    public boolean userUpdateProfileAndApprove() {
+        User user = userRepository.findById(db.randomDonorId(random));
+        userRepository.approveUser(user.getId());
+        return userRepository.updateProfile(user) && userRepository.updateUser(user);
+    }
+
+    @Benchmark
+    public boolean userUpdatePassword() {
+        User user = userRepository.findById(db.randomDonorId(random));
+        return userRepository.updatePassword(user.getId(), user.getPassword());
+    }
+
+    @Benchmark
+    public boolean userSaveThenDelete() {
+        User user = newDonor();
+        userRepository.save(user);
+        return userRepository.deleteUser(userRepository.findByUsername(user.getUsername()).getId());
+    }
+
+    @Benchmark
+    public int userSaveAll() {
+        List<User> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(newDonor());
+        }
+        return userRepository.saveAll(batch);
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private Child newChild() {
+        Child child = new Child("Bench Child " + sequence.incrementAndGet(), 8, "Hope Foundation", "Female", "2018-04-12", "Active");
+        child.setAssignedCaregiverId(db.randomCaregiverId(random));
+        return child;
+    }
+
+    private User newDonor() {
+        // Reuse a seeded hash: hashing cost belongs to the login benchmarks
+        Donor donor = new Donor("bench-" + sequence.incrementAndGet(), storedHash);
+        donor.setEmail("bench@guardianlink.org");
+        donor.setApproved(true);
+        return donor;
+    }
+
+    private Donation newDonation() {
+        return new Donation(db.randomDonorId(random), db.randomChildId(random), Money.ofTaka(500), "Education Support",
+                "2026-01-15");
+    }
+
+    private Expense newExpense() {
+        return new Expense(db.randomChildId(random), "Education", Money.ofTaka(120), "Books", "2026-01-15");
+    }
+}
@@ -0,0 +1,23 @@
+package rowmapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides how a field of a {@link Table} class maps to its column.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Column {
+
+    /** Column name; defaults to the field name in snake_case. */
+    String value() default "";
+
+    /** False for columns the database fills in, such as row versions. */
+    boolean insertable() default true;
+
+    /** String inserted in place of null; empty for none. */
+    String insertDefault() default "";
+}
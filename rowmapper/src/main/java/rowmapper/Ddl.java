@@ -0,0 +1,17 @@
+package rowmapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code static final String} constant holding the CREATE TABLE
+ * statement of a table in its current shape. {@link Table} classes are
+ * checked against these at build time: every mapped column must be declared,
+ * with a type affinity its field can hold.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Ddl {
+}
@@ -0,0 +1,31 @@
+package rowmapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a class to a table. The processor generates {@code <Class>Rows} next
+ * to it, with the column list, a mapper reading columns by index and, unless
+ * {@link #readOnly()}, the INSERT statement and its binder.
+ * <p>
+ * Every non-static, non-transient field (superclass fields first) is a
+ * column; its name is the field name in snake_case unless {@link Column}
+ * says otherwise. Besides primitives, their boxes, strings and enums, a
+ * field may hold a value type with {@code static valueOf(long)} and
+ * {@code longValue()}, stored in an INTEGER column.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Table {
+
+    /** Table name, as declared in a {@link Ddl} statement. */
+    String value();
+
+    /** Generated primary key column, left out of the INSERT. */
+    String key() default "id";
+
+    /** A projection of the table that is only read, never inserted. */
+    boolean readOnly() default false;
+}
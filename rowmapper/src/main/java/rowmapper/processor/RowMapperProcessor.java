@@ -0,0 +1,485 @@
+package rowmapper.processor;
+
+import rowmapper.Column;
+import rowmapper.Ddl;
+import rowmapper.Table;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates {@code <Class>Rows} for every {@link Table} class: the column
+ * list, column positions, a mapper that reads the row by position and the
+ * INSERT statement with its binder. Mapped columns are checked against the
+ * {@link Ddl} statements of the same compilation, so a renamed or retyped
+ * column fails the build instead of the first query.
+ */
+@SupportedAnnotationTypes({"rowmapper.Table", "rowmapper.Ddl"})
+public class RowMapperProcessor extends AbstractProcessor {
+
+    /** How a Java field type is read from and bound to a column. */
+    private enum Kind {
+        INT("rs.getInt(%d)", "ps.setInt(%d, %s)", Schema.Affinity.INTEGER),
+        LONG("rs.getLong(%d)", "ps.setLong(%d, %s)", Schema.Affinity.INTEGER),
+        DOUBLE("rs.getDouble(%d)", "ps.setDouble(%d, %s)", Schema.Affinity.REAL),
+        BOOLEAN("rs.getInt(%d) != 0", "ps.setInt(%d, %s ? 1 : 0)", Schema.Affinity.INTEGER),
+        BOXED_INT("getInteger(rs, %d)", "setInteger(ps, %d, %s)", Schema.Affinity.INTEGER),
+        BOXED_LONG("getLong(rs, %d)", "setLong(ps, %d, %s)", Schema.Affinity.INTEGER),
+        BOXED_DOUBLE("getDouble(rs, %d)", "setDouble(ps, %d, %s)", Schema.Affinity.REAL),
+        STRING("rs.getString(%d)", "ps.setString(%d, %s)", Schema.Affinity.TEXT),
+        ENUM("getEnum(rs, %d, %s.class)", "setEnum(ps, %d, %s)", Schema.Affinity.TEXT),
+        /** A value type stored as a long: {@code static T valueOf(long)} and {@code long longValue()}. */
+        LONG_VALUE("%2$s.valueOf(rs.getLong(%1$d))", "ps.setLong(%d, %s.longValue())", Schema.Affinity.INTEGER);
+
+        final String read;
+        final String bind;
+        final Schema.Affinity affinity;
+
+        Kind(String read, String bind, Schema.Affinity affinity) {
+            this.read = read;
+            this.bind = bind;
+            this.affinity = affinity;
+        }
+
+        /** Column affinities that hold this kind without changing values. */
+        boolean fits(Schema.Affinity column) {
+            return column == affinity || column == Schema.Affinity.NUMERIC
+                    || affinity == Schema.Affinity.TEXT && column == Schema.Affinity.BLOB;
+        }
+    }
+
+    private record Mapping(VariableElement field, String column, Kind kind, String typeName,
+                           ExecutableElement getter, ExecutableElement setter,
+                           boolean insertable, String insertDefault) {
+    }
+
+    private final Schema schema = new Schema();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(Ddl.class)) {
+            Object ddl = element instanceof VariableElement v ? v.getConstantValue() : null;
+            if (!(ddl instanceof String statement)) {
+                error(element, "@Ddl must be on a static final String constant");
+                continue;
+            }
+            try {
+                schema.add(statement);
+            } catch (IllegalArgumentException e) {
+                error(element, "Cannot read @Ddl statement: " + e.getMessage());
+            }
+        }
+        for (TypeElement type : ElementFilter.typesIn(round.getElementsAnnotatedWith(Table.class))) {
+            List<Mapping> mappings = mappings(type);
+            if (mappings != null) {
+                write(type, mappings);
+            }
+        }
+        return true;
+    }
+
+    // ── Analysis ─────────────────────────────────────────────
+
+    /** The columns of a {@link Table} class, or null after reporting what is wrong. */
+    private List<Mapping> mappings(TypeElement type) {
+        Table table = type.getAnnotation(Table.class);
+        Map<String, Schema.Affinity> declared = schema.table(table.value());
+        if (declared == null) {
+            error(type, "No @Ddl statement declares table " + table.value());
+            return null;
+        }
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type));
+        List<Mapping> mappings = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement field : fields(type)) {
+            Column column = field.getAnnotation(Column.class);
+            String name = field.getSimpleName().toString();
+            String columnName = column != null && !column.value().isEmpty() ? column.value() : snakeCase(name);
+            Kind kind = kind(field.asType());
+            if (kind == null) {
+                error(field, "Unsupported column type " + field.asType());
+                valid = false;
+                continue;
+            }
+            Schema.Affinity affinity = declared.get(columnName);
+            if (affinity == null) {
+                error(field, "Table " + table.value() + " has no column " + columnName);
+                valid = false;
+                continue;
+            }
+            if (!kind.fits(affinity)) {
+                error(field, "Column " + table.value() + "." + columnName + " has " + affinity
+                        + " affinity, which does not hold " + field.asType());
+                valid = false;
+                continue;
+            }
+            String insertDefault = column != null ? column.insertDefault() : "";
+            if (!insertDefault.isEmpty() && kind != Kind.STRING) {
+                error(field, "insertDefault is only supported on String columns");
+                valid = false;
+                continue;
+            }
+            mappings.add(new Mapping(field, columnName, kind, typeName(field.asType()),
+                    accessor(methods, field, true), accessor(methods, field, false),
+                    !columnName.equals(table.key()) && (column == null || column.insertable()),
+                    insertDefault));
+        }
+        for (Mapping m : mappings) {
+            if (!table.readOnly() && m.insertable() && m.getter() == null) {
+                error(m.field(), "Inserted column " + m.column() + " needs a public getter");
+                valid = false;
+            }
+            if (constantName(m.column()).matches("TABLE|COLUMNS|INSERT_SQL")) {
+                error(m.field(), "Column " + m.column() + " clashes with a generated constant");
+                valid = false;
+            }
+        }
+        if (valid && constructor(type, mappings) == null && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "Needs a public no-arg constructor or one taking fields by name, with setters for the rest");
+            valid = false;
+        }
+        if (valid && type.getModifiers().contains(Modifier.ABSTRACT)
+                && mappings.stream().anyMatch(m -> m.setter() == null)) {
+            error(type, "Every column of an abstract class needs a public setter");
+            valid = false;
+        }
+        return valid ? mappings : null;
+    }
+
+    /** Instance fields, superclass fields first. */
+    private List<VariableElement> fields(TypeElement type) {
+        Deque<TypeElement> chain = new ArrayDeque<>();
+        for (TypeElement t = type; t != null && !t.getQualifiedName().contentEquals("java.lang.Object"); ) {
+            chain.addFirst(t);
+            TypeMirror superclass = t.getSuperclass();
+            t = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement t : chain) {
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * The constructor the mapper calls: a public no-arg one, else the public
+     * one taking the most fields by name whose remaining fields all have
+     * setters. The returned list names the fields passed to it.
+     */
+    private List<Mapping> constructor(TypeElement type, List<Mapping> mappings) {
+        Map<String, Mapping> byName = mappings.stream()
+                .collect(Collectors.toMap(m -> m.field().getSimpleName().toString(), m -> m));
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(c -> c.getModifiers().contains(Modifier.PUBLIC))
+                .toList();
+        boolean allSettable = mappings.stream().allMatch(m -> m.setter() != null);
+        if (allSettable && constructors.stream().anyMatch(c -> c.getParameters().isEmpty())) {
+            // Convenience constructors may fill in defaults; setters copy the row as stored
+            return List.of();
+        }
+        List<Mapping> best = null;
+        for (ExecutableElement ctor : constructors) {
+            List<Mapping> args = new ArrayList<>();
+            for (VariableElement p : ctor.getParameters()) {
+                Mapping m = byName.get(p.getSimpleName().toString());
+                if (m == null || !processingEnv.getTypeUtils().isSameType(p.asType(), m.field().asType())) {
+                    args = null;
+                    break;
+                }
+                args.add(m);
+            }
+            if (args == null) {
+                continue;
+            }
+            List<Mapping> passed = args;
+            boolean rest = mappings.stream().allMatch(m -> passed.contains(m) || m.setter() != null);
+            if (rest && (best == null || args.size() > best.size())) {
+                best = args;
+            }
+        }
+        return best;
+    }
+
+    private ExecutableElement accessor(List<ExecutableElement> methods, VariableElement field, boolean getter) {
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        List<String> candidates = new ArrayList<>();
+        boolean isPrefixed = name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+        if (getter) {
+            candidates.add("get" + capitalized);
+            candidates.add("is" + capitalized);
+            if (isPrefixed) {
+                candidates.add(name);
+            }
+        } else {
+            candidates.add("set" + capitalized);
+            if (isPrefixed) {
+                candidates.add("set" + name.substring(2));
+            }
+        }
+        for (ExecutableElement method : methods) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)
+                    || !candidates.contains(method.getSimpleName().toString())) {
+                continue;
+            }
+            boolean matches = getter
+                    ? method.getParameters().isEmpty()
+                            && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())
+                    : method.getParameters().size() == 1
+                            && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType());
+            if (matches) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private Kind kind(TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+                return Kind.INT;
+            case LONG:
+                return Kind.LONG;
+            case DOUBLE:
+                return Kind.DOUBLE;
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+            case DECLARED:
+                Element element = ((DeclaredType) type).asElement();
+                if (element.getKind() == ElementKind.ENUM) {
+                    return Kind.ENUM;
+                }
+                return switch (((TypeElement) element).getQualifiedName().toString()) {
+                    case "java.lang.String" -> Kind.STRING;
+                    case "java.lang.Integer" -> Kind.BOXED_INT;
+                    case "java.lang.Long" -> Kind.BOXED_LONG;
+                    case "java.lang.Double" -> Kind.BOXED_DOUBLE;
+                    default -> isLongValue((TypeElement) element) ? Kind.LONG_VALUE : null;
+                };
+            default:
+                return null;
+        }
+    }
+
+    /** True if the type converts to and from a long, like {@code Long} itself. */
+    private boolean isLongValue(TypeElement type) {
+        boolean valueOf = false;
+        boolean longValue = false;
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            List<? extends VariableElement> params = method.getParameters();
+            if (method.getSimpleName().contentEquals("valueOf") && modifiers.contains(Modifier.STATIC)
+                    && params.size() == 1 && params.get(0).asType().getKind() == TypeKind.LONG
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), type.asType())) {
+                valueOf = true;
+            } else if (method.getSimpleName().contentEquals("longValue") && !modifiers.contains(Modifier.STATIC)
+                    && params.isEmpty() && method.getReturnType().getKind() == TypeKind.LONG) {
+                longValue = true;
+            }
+        }
+        return valueOf && longValue;
+    }
+
+    // ── Generation ───────────────────────────────────────────
+
+    private void write(TypeElement type, List<Mapping> mappings) {
+        Table table = type.getAnnotation(Table.class);
+        String packageName = ((PackageElement) enclosingPackage(type)).getQualifiedName().toString();
+        String entity = type.getSimpleName().toString();
+        String className = entity + "Rows";
+        boolean insert = !table.readOnly();
+        List<Mapping> inserted = insert ? mappings.stream().filter(Mapping::insertable).toList() : List.of();
+        Set<Kind> used = EnumSet.noneOf(Kind.class);
+
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(packageName).append(";\n\n");
+        out.append("import java.sql.PreparedStatement;\n");
+        out.append("import java.sql.ResultSet;\n");
+        out.append("import java.sql.SQLException;\n");
+        int typesImport = out.length();
+        out.append("import javax.annotation.processing.Generated;\n\n");
+        out.append("/**\n");
+        out.append(" * Row mapping between {@link ").append(entity).append("} and table {@code ")
+                .append(table.value()).append("}.\n");
+        out.append(" * Generated from the class's fields; columns are read and bound by position.\n");
+        out.append(" */\n");
+        out.append("@Generated(\"").append(RowMapperProcessor.class.getName()).append("\")\n");
+        out.append("public final class ").append(className).append(" {\n\n");
+
+        out.append("    public static final String TABLE = ").append(literal(table.value())).append(";\n\n");
+        out.append("    /** Columns in the order {@link #")
+                .append(type.getModifiers().contains(Modifier.ABSTRACT) ? "fill" : "map").append("} reads them. */\n");
+        out.append("    public static final String COLUMNS = ")
+                .append(literal(mappings.stream().map(Mapping::column).collect(Collectors.joining(", ")))).append(";\n");
+        if (insert) {
+            out.append("\n    public static final String INSERT_SQL = ").append(literal("INSERT INTO " + table.value() + " ("
+                    + inserted.stream().map(Mapping::column).collect(Collectors.joining(", ")) + ") VALUES ("
+                    + inserted.stream().map(m -> "?").collect(Collectors.joining(", ")) + ")")).append(";\n");
+        }
+        out.append('\n');
+        for (int i = 0; i < mappings.size(); i++) {
+            out.append("    public static final int ").append(constantName(mappings.get(i).column()))
+                    .append(" = ").append(i + 1).append(";\n");
+        }
+        out.append("\n    private ").append(className).append("() {\n    }\n");
+
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            out.append("\n    /** Copies the current row, selected with {@link #COLUMNS}, into {@code row}. */\n");
+            out.append("    public static <T extends ").append(entity).append("> T fill(ResultSet rs, T row) throws SQLException {\n");
+            for (int i = 0; i < mappings.size(); i++) {
+                out.append("        row.").append(mappings.get(i).setter().getSimpleName()).append('(')
+                        .append(read(mappings.get(i), i + 1, used)).append(");\n");
+            }
+            out.append("        return row;\n    }\n");
+        } else {
+            List<Mapping> args = constructor(type, mappings);
+            out.append("\n    /** Reads the current row, selected with {@link #COLUMNS}. */\n");
+            out.append("    public static ").append(entity).append(" map(ResultSet rs) throws SQLException {\n");
+            out.append("        ").append(entity).append(" row = new ").append(entity).append('(');
+            out.append(args.stream().map(m -> read(m, mappings.indexOf(m) + 1, used)).collect(Collectors.joining(", ")));
+            out.append(");\n");
+            for (int i = 0; i < mappings.size(); i++) {
+                if (!args.contains(mappings.get(i))) {
+                    out.append("        row.").append(mappings.get(i).setter().getSimpleName()).append('(')
+                            .append(read(mappings.get(i), i + 1, used)).append(");\n");
+                }
+            }
+            out.append("        return row;\n    }\n");
+        }
+
+        if (insert) {
+            out.append("\n    /** Binds the parameters of {@link #INSERT_SQL}. */\n");
+            out.append("    public static void bindInsert(PreparedStatement ps, ").append(entity)
+                    .append(" row) throws SQLException {\n");
+            for (int i = 0; i < inserted.size(); i++) {
+                Mapping m = inserted.get(i);
+                String value = "row." + m.getter().getSimpleName() + "()";
+                if (!m.insertDefault().isEmpty()) {
+                    value = "java.util.Objects.requireNonNullElse(" + value + ", " + literal(m.insertDefault()) + ")";
+                }
+                out.append("        ").append(String.format(m.kind().bind, i + 1, value)).append(";\n");
+                used.add(m.kind());
+            }
+            out.append("    }\n");
+        }
+        helpers(out, used);
+        out.append("}\n");
+        if (used.contains(Kind.BOXED_INT) || used.contains(Kind.BOXED_LONG) || used.contains(Kind.BOXED_DOUBLE)) {
+            out.insert(typesImport, "import java.sql.Types;\n");
+        }
+
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName + "." + className, type).openWriter()) {
+            writer.write(out.toString());
+        } catch (IOException e) {
+            error(type, "Cannot write " + className + ": " + e.getMessage());
+        }
+    }
+
+    private String read(Mapping m, int column, Set<Kind> used) {
+        used.add(m.kind());
+        return m.kind() == Kind.ENUM || m.kind() == Kind.LONG_VALUE
+                ? String.format(m.kind().read, column, m.typeName())
+                : String.format(m.kind().read, column);
+    }
+
+    /** Null-aware reads and binds, emitted only for the kinds a class uses. */
+    private static void helpers(StringBuilder out, Set<Kind> used) {
+        Map<Kind, String[]> boxed = new HashMap<>();
+        boxed.put(Kind.BOXED_INT, new String[]{"Integer", "Int", "int", "INTEGER"});
+        boxed.put(Kind.BOXED_LONG, new String[]{"Long", "Long", "long", "BIGINT"});
+        boxed.put(Kind.BOXED_DOUBLE, new String[]{"Double", "Double", "double", "DOUBLE"});
+        for (Kind kind : List.of(Kind.BOXED_INT, Kind.BOXED_LONG, Kind.BOXED_DOUBLE)) {
+            if (!used.contains(kind)) {
+                continue;
+            }
+            String[] t = boxed.get(kind);
+            out.append("\n    private static ").append(t[0]).append(" get").append(t[0])
+                    .append("(ResultSet rs, int column) throws SQLException {\n");
+            out.append("        ").append(t[2]).append(" value = rs.get").append(t[1]).append("(column);\n");
+            out.append("        return rs.wasNull() ? null : value;\n    }\n");
+            out.append("\n    private static void set").append(t[0]).append("(PreparedStatement ps, int index, ")
+                    .append(t[0]).append(" value) throws SQLException {\n");
+            out.append("        if (value != null) {\n            ps.set").append(t[1]).append("(index, value);\n");
+            out.append("        } else {\n            ps.setNull(index, Types.").append(t[3]).append(");\n        }\n    }\n");
+        }
+        if (used.contains(Kind.ENUM)) {
+            out.append("\n    private static <E extends Enum<E>> E getEnum(ResultSet rs, int column, Class<E> type) throws SQLException {\n");
+            out.append("        String name = rs.getString(column);\n");
+            out.append("        return name != null ? Enum.valueOf(type, name) : null;\n    }\n");
+            out.append("\n    private static void setEnum(PreparedStatement ps, int index, Enum<?> value) throws SQLException {\n");
+            out.append("        ps.setString(index, value != null ? value.name() : null);\n    }\n");
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private String typeName(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static Element enclosingPackage(Element element) {
+        Element e = element;
+        while (e.getKind() != ElementKind.PACKAGE) {
+            e = e.getEnclosingElement();
+        }
+        return e;
+    }
+
+    static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static String constantName(String column) {
+        return column.toUpperCase(Locale.ROOT);
+    }
+
+    private static String literal(String text) {
+        return '"' + text.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private void error(Element element, String message) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,105 @@
+package rowmapper.processor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tables and column affinities read from CREATE TABLE statements, using
+ * SQLite's rules for turning a declared type into an affinity.
+ */
+final class Schema {
+
+    enum Affinity { INTEGER, TEXT, BLOB, REAL, NUMERIC }
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "\\s*CREATE\\s+TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?[\"`\\[]?(\\w+)[\"`\\]]?\\s*\\((.*)\\)\\s*;?\\s*",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    /** Words that start a table constraint rather than a column. */
+    private static final Set<String> TABLE_CONSTRAINTS = Set.of("CONSTRAINT", "PRIMARY", "FOREIGN", "UNIQUE", "CHECK");
+
+    /** Words that end the declared type of a column. */
+    private static final Set<String> COLUMN_CONSTRAINTS = Set.of("CONSTRAINT", "PRIMARY", "NOT", "NULL", "UNIQUE",
+            "CHECK", "DEFAULT", "COLLATE", "REFERENCES", "GENERATED", "AS");
+
+    private final Map<String, Map<String, Affinity>> tables = new HashMap<>();
+
+    /**
+     * Adds the table a CREATE TABLE statement declares.
+     *
+     * @throws IllegalArgumentException if the statement cannot be read
+     */
+    void add(String ddl) {
+        Matcher m = CREATE_TABLE.matcher(ddl);
+        if (!m.matches()) {
+            throw new IllegalArgumentException("not a CREATE TABLE statement");
+        }
+        Map<String, Affinity> columns = new LinkedHashMap<>();
+        for (String definition : splitTopLevel(m.group(2))) {
+            String[] words = definition.trim().split("\\s+");
+            if (words[0].isEmpty() || TABLE_CONSTRAINTS.contains(words[0].toUpperCase(Locale.ROOT))) {
+                continue;
+            }
+            StringBuilder type = new StringBuilder();
+            for (int i = 1; i < words.length && !COLUMN_CONSTRAINTS.contains(words[i].toUpperCase(Locale.ROOT)); i++) {
+                type.append(words[i]).append(' ');
+            }
+            columns.put(unquote(words[0]).toLowerCase(Locale.ROOT), affinity(type.toString()));
+        }
+        if (tables.putIfAbsent(m.group(1).toLowerCase(Locale.ROOT), columns) != null) {
+            throw new IllegalArgumentException("table " + m.group(1) + " is declared twice");
+        }
+    }
+
+    /** Columns of the table, or null if no statement declares it. */
+    Map<String, Affinity> table(String name) {
+        return tables.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    static Affinity affinity(String declaredType) {
+        String type = declaredType.toUpperCase(Locale.ROOT);
+        if (type.contains("INT")) {
+            return Affinity.INTEGER;
+        }
+        if (type.contains("CHAR") || type.contains("CLOB") || type.contains("TEXT")) {
+            return Affinity.TEXT;
+        }
+        if (type.isBlank() || type.contains("BLOB")) {
+            return Affinity.BLOB;
+        }
+        if (type.contains("REAL") || type.contains("FLOA") || type.contains("DOUB")) {
+            return Affinity.REAL;
+        }
+        return Affinity.NUMERIC;
+    }
+
+    private static List<String> splitTopLevel(String body) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(body.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(body.substring(start));
+        return parts;
+    }
+
+    private static String unquote(String name) {
+        return name.replaceAll("^[\"`\\[]|[\"`\\]]$", "");
+    }
+}
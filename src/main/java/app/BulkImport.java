@@ -0,0 +1,164 @@
+package app;
+
+import model.entity.Child;
+import model.entity.Donation;
+import repository.ChildRepository;
+import repository.DonationRepository;
+import repository.JdbcChildRepository;
+import repository.JdbcDonationRepository;
+import service.BulkImportService;
+import service.BulkImportService.ImportResult;
+import service.BulkImportService.Target;
+import util.CsvUtil;
+import util.DBUtil;
+import util.Money;
+import util.Organizations;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Command-line bulk import for onboarding partner NGOs.
+ *
+ * <pre>
+ *   BulkImport &lt;children|donations|users|expenses&gt; &lt;file.csv|file.json&gt;
+ *   BulkImport --benchmark [rows]
+ * </pre>
+ *
+ * The benchmark runs against a scratch database and compares the old
+ * row-by-row inserts with the batched saveAll path and the import pipeline.
+ */
+public class BulkImport {
+
+    public static void main(String[] args) {
+        try {
+            if (args.length >= 1 && args[0].equals("--benchmark")) {
+                benchmark(args.length >= 2 ? Integer.parseInt(args[1]) : 10_000);
+                return;
+            }
+            if (args.length != 2) {
+                System.err.println("Usage: BulkImport <children|donations|users|expenses> <file.csv|file.json>");
+                System.err.println("       BulkImport --benchmark [rows]");
+                System.exit(2);
+            }
+
+            Target target = Target.valueOf(args[0].toUpperCase());
+            DBUtil.initialize();
+            ImportResult result = new BulkImportService().importFile(Paths.get(args[1]), target);
+            System.out.printf("Imported %d of %d %s in %d ms%n",
+                    result.imported(), result.records(), args[0], result.elapsedMillis());
+            if (!result.errors().isEmpty()) {
+                System.out.println("Rejected " + result.errors().size() + " record(s):");
+                result.errors().forEach(err -> System.out.println("  ✗ " + err));
+            }
+        } catch (Exception e) {
+            System.err.println("Bulk import failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    // ── Benchmark ────────────────────────────────────────────
+
+    private static void benchmark(int rows) throws Exception {
+        Path dir = Files.createTempDirectory("guardianlink-bench");
+        System.out.println("=== BULK INSERT BENCHMARK (" + rows + " rows, scratch db in " + dir + ") ===\n");
+
+        List<Child> children = generateChildren(rows);
+        List<Donation> donations = generateDonations(rows);
+        ChildRepository childRepo = new JdbcChildRepository();
+        DonationRepository donationRepo = new JdbcDonationRepository();
+
+        useFreshDatabase(dir.resolve("row-by-row.db"));
+        long t0 = System.nanoTime();
+        for (Child c : children) {
+            childRepo.save(c);
+        }
+        long childRowByRow = System.nanoTime() - t0;
+        t0 = System.nanoTime();
+        for (Donation d : donations) {
+            donationRepo.save(d);
+        }
+        long donationRowByRow = System.nanoTime() - t0;
+
+        useFreshDatabase(dir.resolve("batched.db"));
+        t0 = System.nanoTime();
+        childRepo.saveAll(children);
+        long childBatched = System.nanoTime() - t0;
+        t0 = System.nanoTime();
+        donationRepo.saveAll(donations);
+        long donationBatched = System.nanoTime() - t0;
+
+        useFreshDatabase(dir.resolve("pipeline.db"));
+        String csv = toCsv(children);
+        t0 = System.nanoTime();
+        ImportResult result = new BulkImportService().importCsv(csv, Target.CHILDREN);
+        long pipeline = System.nanoTime() - t0;
+
+        report("children, row-by-row save()", rows, childRowByRow);
+        report("children, saveAll()", rows, childBatched);
+        report("children, CSV import pipeline", result.imported(), pipeline);
+        report("donations, row-by-row save()", rows, donationRowByRow);
+        report("donations, saveAll()", rows, donationBatched);
+        DBUtil.getConnection().close();
+    }
+
+    private static void useFreshDatabase(Path file) throws Exception {
+        DBUtil.useDatabase("jdbc:sqlite:" + file.toAbsolutePath());
+        DBUtil.initialize();
+    }
+
+    private static void report(String label, int rows, long nanos) {
+        double millis = nanos / 1_000_000.0;
+        System.out.printf("%-34s %8.1f ms  %,12.0f rows/s%n", label, millis, rows / (millis / 1000.0));
+    }
+
+    private static List<Child> generateChildren(int rows) {
+        Random random = new Random(42);
+        List<Child> children = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Child c = new Child();
+            c.setName("Child " + i);
+            c.setAge(3 + random.nextInt(15));
+            c.setOrganization(Organizations.getByIndex(random.nextInt(Organizations.getCount())));
+            c.setGender(random.nextBoolean() ? "Male" : "Female");
+            c.setDateOfBirth((2008 + random.nextInt(15)) + "-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10));
+            c.setStatus("Active");
+            children.add(c);
+        }
+        return children;
+    }
+
+    private static List<Donation> generateDonations(int rows) {
+        Random random = new Random(7);
+        List<Donation> donations = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Donation d = new Donation();
+            d.setDonorId(3);
+            d.setChildId(1 + random.nextInt(5));
+            d.setAmount(Money.ofTaka(50 + random.nextInt(500)));
+            d.setPurpose("General Welfare");
+            d.setDate("2025-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10));
+            d.setStatus("Completed");
+            donations.add(d);
+        }
+        return donations;
+    }
+
+    private static String toCsv(List<Child> children) {
+        StringBuilder sb = new StringBuilder("name,age,organization,gender,date_of_birth,status\n");
+        for (Child c : children) {
+            sb.append(CsvUtil.escape(c.getName())).append(',')
+                    .append(c.getAge()).append(',')
+                    .append(CsvUtil.escape(c.getOrganization())).append(',')
+                    .append(c.getGender()).append(',')
+                    .append(c.getDateOfBirth()).append(',')
+                    .append(c.getStatus()).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package app;
+
+import service.SyntheticDataGenerator;
+import service.SyntheticDataGenerator.Config;
+import service.SyntheticDataGenerator.Summary;
+import util.DBUtil;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Command-line generator for realistic, reproducible test data.
+ *
+ * <pre>
+ *   DataGenerator [--children N] [--years N] [--seed N] [--as-of yyyy-MM-dd]
+ *                 [--threads N] [--db file.db] [--reset]
+ * </pre>
+ *
+ * Every other table scales from the number of children: 100,000 children
+ * over 3 years is roughly 4 million rows; 2,000,000 children gives tens of
+ * millions. Existing data is only replaced when {@code --reset} is given.
+ */
+public class DataGenerator {
+
+    public static void main(String[] args) {
+        long seed = 42;
+        int children = 1_000;
+        int years = 3;
+        LocalDate asOf = LocalDate.now();
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        String db = null;
+        boolean reset = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--children" -> children = Integer.parseInt(args[++i].replace("_", ""));
+                    case "--years" -> years = Integer.parseInt(args[++i]);
+                    case "--as-of" -> asOf = LocalDate.parse(args[++i]);
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    case "--db" -> db = args[++i];
+                    case "--reset" -> reset = true;
+                    default -> usage("Unknown option: " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            usage("Invalid arguments: " + e.getMessage());
+        }
+        if (children < 1 || years < 1 || threads < 1) {
+            usage("--children, --years and --threads must be positive");
+        }
+
+        try {
+            // A new database file only holds the demo seed, which is safe to replace
+            boolean newFile = false;
+            if (db != null) {
+                newFile = !db.startsWith("jdbc:") && !Files.exists(Paths.get(db));
+                DBUtil.useDatabase(db.startsWith("jdbc:") ? db : "jdbc:sqlite:" + db);
+            }
+            DatabaseMigration.runMigrations();
+
+            SyntheticDataGenerator generator = new SyntheticDataGenerator();
+            if (!newFile && !reset && generator.hasExistingData()) {
+                System.err.println("The database already contains users. Re-run with --reset to replace all data.");
+                System.exit(1);
+            }
+
+            System.out.printf("%n=== GENERATING DATA (seed %d, %,d children, %d years to %s, %d threads) ===%n%n",
+                    seed, children, years, asOf, threads);
+            Summary summary = generator.generate(new Config(seed, children, years, asOf, threads), System.out::println);
+
+            System.out.printf("%nWrote %,d rows in %.1f s%n", summary.totalRows(), summary.elapsedMillis() / 1000.0);
+            for (Map.Entry<String, Integer> e : summary.rowsByTable().entrySet()) {
+                System.out.printf("  %-18s %,12d%n", e.getKey(), e.getValue());
+            }
+            System.out.println("\nAll accounts use the password '" + SyntheticDataGenerator.DEFAULT_PASSWORD
+                    + "', e.g. sysadmin1, orgadmin1, support1, caregiver1, donor1.");
+        } catch (Exception e) {
+            System.err.println("Data generation failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Usage: DataGenerator [--children N] [--years N] [--seed N] [--as-of yyyy-MM-dd]");
+        System.err.println("                     [--threads N] [--db file.db] [--reset]");
+        System.exit(2);
+    }
+}
@@ -1,5 +1,6 @@
 package app;
 
+import rowmapper.Ddl;
 import util.DBUtil;
 import java.sql.*;
 
@@ -8,6 +9,22 @@ import java.sql.*;
  */
 public class DatabaseMigration {
 
+    @Ddl
+    static final String NOTIFICATIONS_TABLE = """
+            CREATE TABLE notifications (
+                id                INTEGER PRIMARY KEY AUTOINCREMENT,
+                caregiver_id      INTEGER NOT NULL,
+                message           VARCHAR(500) NOT NULL,
+                notification_type VARCHAR(50) NOT NULL,
+                child_name        VARCHAR(255) NOT NULL,
+                child_id          INTEGER NOT NULL,
+                timestamp         DATETIME DEFAULT CURRENT_TIMESTAMP,
+                is_read           INTEGER DEFAULT 0,
+                FOREIGN KEY (caregiver_id) REFERENCES users(id) ON DELETE CASCADE,
+                FOREIGN KEY (child_id) REFERENCES children(id) ON DELETE CASCADE
+            )
+            """;
+
     public static void main(String[] args) {
         try {
             runMigrations();
@@ -39,7 +56,7 @@ public class DatabaseMigration {
         System.out.println("\n3. Checking notifications table...");
         createNotificationsTable(conn);
         
-        // Create index on assigned_caregiver_id
+        // Create the indexes the repositories rely on
         System.out.println("\n4. Creating indexes...");
         createIndexes(conn);
         
@@ -119,20 +136,8 @@ public class DatabaseMigration {
             
             if (!tables.next()) {
                 // Table doesn't exist, create it
-                String sql = "CREATE TABLE notifications (" +
-                        "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                        "caregiver_id INTEGER NOT NULL, " +
-                        "message VARCHAR(500) NOT NULL, " +
-                        "notification_type VARCHAR(50) NOT NULL, " +
-                        "child_name VARCHAR(255) NOT NULL, " +
-                        "child_id INTEGER NOT NULL, " +
-                        "timestamp DATETIME DEFAULT CURRENT_TIMESTAMP, " +
-                        "is_read INTEGER DEFAULT 0, " +
-                        "FOREIGN KEY (caregiver_id) REFERENCES users(id) ON DELETE CASCADE, " +
-                        "FOREIGN KEY (child_id) REFERENCES children(id) ON DELETE CASCADE" +
-                        ")";
                 Statement stmt = conn.createStatement();
-                stmt.execute(sql);
+                stmt.execute(NOTIFICATIONS_TABLE);
                 stmt.close();
                 System.out.println("✓ Created notifications table");
             } else {
@@ -150,27 +155,16 @@ public class DatabaseMigration {
 
     private static void createIndexes(Connection conn) {
         try {
-            // Create index on assigned_caregiver_id in children table
-            String indexSql1 = "CREATE INDEX IF NOT EXISTS idx_assigned_caregiver_id ON children(assigned_caregiver_id)";
-            Statement stmt1 = conn.createStatement();
-            stmt1.execute(indexSql1);
-            stmt1.close();
-            System.out.println("✓ Created index on children.assigned_caregiver_id");
-            
-            // Create index on caregiver_id in notifications table
-            String indexSql2 = "CREATE INDEX IF NOT EXISTS idx_notification_caregiver_id ON notifications(caregiver_id)";
-            Statement stmt2 = conn.createStatement();
-            stmt2.execute(indexSql2);
-            stmt2.close();
-            System.out.println("✓ Created index on notifications.caregiver_id");
-            
-            // Create index on is_read in notifications table
-            String indexSql3 = "CREATE INDEX IF NOT EXISTS idx_notification_is_read ON notifications(is_read)";
-            Statement stmt3 = conn.createStatement();
-            stmt3.execute(indexSql3);
-            stmt3.close();
-            System.out.println("✓ Created index on notifications.is_read");
-            
+            Statement stmt = conn.createStatement();
+            for (String name : DBUtil.RETIRED_INDEXES) {
+                stmt.execute("DROP INDEX IF EXISTS " + name);
+                System.out.println("✓ Dropped retired index " + name);
+            }
+            for (String sql : DBUtil.INDEXES) {
+                stmt.execute(sql);
+                System.out.println("✓ " + sql.substring("CREATE INDEX IF NOT EXISTS ".length()));
+            }
+            stmt.close();
         } catch (SQLException e) {
             if (e.getMessage().contains("already")) {
                 System.out.println("✓ Indexes already exist");
@@ -1,11 +1,18 @@
 package app;
 
+import java.util.Arrays;
+
 /**
  * Non-JavaFX entry point — bypasses the module-path check
  * so the app runs from IntelliJ without VM options.
+ * With {@code --server} it starts the headless API instead of the UI.
  */
 public class Launcher {
     public static void main(String[] args) {
-        Main.main(args);
+        if (Arrays.asList(args).contains("--server")) {
+            Server.main(args);
+        } else {
+            Main.main(args);
+        }
     }
 }
@@ -0,0 +1,180 @@
+package app;
+
+import server.ApiServer;
+import util.DBUtil;
+import util.LatencyHistogram;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load generator for the JSON API. Each simulated client is a virtual thread
+ * that requests the given paths in turn, revalidating with If-None-Match like
+ * a caching client would unless {@code --no-etag} is given.
+ *
+ * <pre>
+ *   LoadTest [--url http://host:8420 | --embedded [--db file.db]] --user NAME --password PW
+ *            [--clients N] [--duration SECONDS] [--paths /api/children,/api/donations?limit=100]
+ *            [--no-etag] [--no-gzip]
+ * </pre>
+ *
+ * With {@code --embedded} the server runs in this JVM on a free port.
+ */
+public class LoadTest {
+
+    private static final String DEFAULT_PATHS = "/api/children?limit=50,/api/donations?limit=50,/api/users/me";
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        boolean embedded = false;
+        String db = null;
+        String user = null;
+        String password = null;
+        int clients = 50;
+        int seconds = 30;
+        String paths = DEFAULT_PATHS;
+        boolean etag = true;
+        boolean gzip = true;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--url" -> url = args[++i];
+                    case "--embedded" -> embedded = true;
+                    case "--db" -> db = args[++i];
+                    case "--user" -> user = args[++i];
+                    case "--password" -> password = args[++i];
+                    case "--clients" -> clients = Integer.parseInt(args[++i]);
+                    case "--duration" -> seconds = Integer.parseInt(args[++i]);
+                    case "--paths" -> paths = args[++i];
+                    case "--no-etag" -> etag = false;
+                    case "--no-gzip" -> gzip = false;
+                    default -> usage("Unknown option: " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            usage("Invalid arguments: " + e.getMessage());
+        }
+        if (user == null || password == null || (url == null) == !embedded || clients < 1 || seconds < 1) {
+            usage("Give --user, --password, --clients/--duration > 0 and exactly one of --url or --embedded");
+        }
+
+        ApiServer server = null;
+        if (embedded) {
+            if (db != null) {
+                DBUtil.useDatabase(db.startsWith("jdbc:") ? db : "jdbc:sqlite:" + db);
+            }
+            DBUtil.initialize();
+            DatabaseMigration.runMigrations();
+            server = new ApiServer(new InetSocketAddress("127.0.0.1", 0));
+            server.start();
+            url = "http://127.0.0.1:" + server.getPort();
+        }
+
+        List<URI> targets = new ArrayList<>();
+        for (String path : paths.split(",")) {
+            targets.add(URI.create(url.replaceAll("/+$", "") + path.trim()));
+        }
+        String authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+
+        Result result = run(targets, authorization, clients, Duration.ofSeconds(seconds), etag, gzip);
+        result.print(clients, seconds);
+
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static Result run(List<URI> targets, String authorization, int clients, Duration duration,
+                              boolean etag, boolean gzip) throws InterruptedException {
+        Result result = new Result();
+        long deadline = System.nanoTime() + duration.toNanos();
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int first = c;
+                executor.submit(() -> {
+                    Map<URI, String> etags = new HashMap<>();
+                    for (int n = first; System.nanoTime() < deadline; n++) {
+                        URI target = targets.get(n % targets.size());
+                        HttpRequest.Builder request = HttpRequest.newBuilder(target)
+                                .timeout(Duration.ofSeconds(30))
+                                .header("Authorization", authorization);
+                        if (gzip) {
+                            request.header("Accept-Encoding", "gzip");
+                        }
+                        String known = etags.get(target);
+                        if (etag && known != null) {
+                            request.header("If-None-Match", known);
+                        }
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<byte[]> response = http.send(request.build(),
+                                    HttpResponse.BodyHandlers.ofByteArray());
+                            result.latency.record(System.nanoTime() - start);
+                            result.bytes.add(response.body().length);
+                            result.statuses.computeIfAbsent(response.statusCode(), s -> new LongAdder()).increment();
+                            response.headers().firstValue("ETag").ifPresent(t -> etags.put(target, t));
+                        } catch (Exception e) {
+                            result.latency.record(System.nanoTime() - start);
+                            if (result.errors.sum() == 0) {
+                                System.err.println("First failure: " + e);
+                            }
+                            result.errors.increment();
+                        }
+                    }
+                });
+            }
+        }
+        return result;
+    }
+
+    private static final class Result {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder errors = new LongAdder();
+
+        void print(int clients, int seconds) {
+            long requests = latency.getCount();
+            System.out.printf("%n%,d requests from %d clients in %d s: %,.0f req/s%n",
+                    requests, clients, seconds, requests / (double) seconds);
+            System.out.printf("latency ms  p50 %.2f  p95 %.2f  p99 %.2f  max %.2f%n",
+                    latency.getPercentileNanos(50) / 1e6, latency.getPercentileNanos(95) / 1e6,
+                    latency.getPercentileNanos(99) / 1e6, latency.getMaxNanos() / 1e6);
+            System.out.printf("received %,.1f KB (%,.0f bytes/request)%n",
+                    bytes.sum() / 1024.0, requests == 0 ? 0 : bytes.sum() / (double) requests);
+            statuses.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                    .forEach(e -> System.out.printf("  HTTP %d  %,d%n", e.getKey(), e.getValue().sum()));
+            if (errors.sum() > 0) {
+                System.out.printf("  failed   %,d%n", errors.sum());
+            }
+        }
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Usage: LoadTest [--url http://host:8420 | --embedded [--db file.db]] --user NAME --password PW");
+        System.err.println("                [--clients N] [--duration SECONDS] [--paths /api/children,...]");
+        System.err.println("                [--no-etag] [--no-gzip]");
+        System.exit(2);
+    }
+}
@@ -3,7 +3,23 @@ package app;
 import controller.AuthController;
 import javafx.application.Application;
 import javafx.stage.Stage;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import repository.Repositories;
+import repository.remote.RemoteClient;
 import util.DBUtil;
+import util.PasswordUtil;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Application entry point — initializes the database and shows the login
@@ -11,19 +27,32 @@ import util.DBUtil;
  */
 public class Main extends Application {
 
+    /**
+     * Runs on the launcher thread before {@link #start}, so the slow startup
+     * work (schema setup, hashing the seed accounts' passwords, calibrating
+     * the password hash) never blocks the FX thread.
+     */
     @Override
-    public void start(Stage primaryStage) {
-        // Initialize database (creates tables + seeds admin on first run)
-        DBUtil.initialize();
-        
-        // Run database migrations (creates notifications table, adds new columns, etc.)
-        try {
-            DatabaseMigration.runMigrations();
-        } catch (Exception e) {
-            System.err.println("Warning: Database migration failed: " + e.getMessage());
-            e.printStackTrace();
+    public void init() {
+        // A remote client keeps no local database
+        if (!Repositories.isRemote()) {
+            // Initialize database (creates tables + seeds admin on first run)
+            DBUtil.initialize();
+
+            // Run database migrations (creates notifications table, adds new columns, etc.)
+            try {
+                DatabaseMigration.runMigrations();
+            } catch (Exception e) {
+                System.err.println("Warning: Database migration failed: " + e.getMessage());
+                e.printStackTrace();
+            }
         }
+        // Sign-up and password changes hash locally even against a server
+        PasswordUtil.calibrate();
+    }
 
+    @Override
+    public void start(Stage primaryStage) {
         // Set initial window size
         primaryStage.setWidth(1200);
         primaryStage.setHeight(800);
@@ -34,7 +63,43 @@ public class Main extends Application {
         new AuthController(primaryStage).show();
     }
 
+    /**
+     * Options: {@code --jfr[=file.jfr]} records a Flight Recorder session
+     * (JDK "profile" settings plus the application events in
+     * {@link util.FlightEvents}) and writes it when the application exits.
+     * {@code --remote http://host:8420} works against a GuardianLink server
+     * (see {@link Server}) instead of the local database.
+     */
     public static void main(String[] args) {
-        launch(args);
+        List<String> fxArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--remote") && i + 1 < args.length) {
+                Repositories.useRemote(new RemoteClient(URI.create(args[++i]),
+                        Duration.ofSeconds(Long.getLong("guardianlink.remote.cacheSeconds",
+                                RemoteClient.DEFAULT_CACHE_TTL.toSeconds()))));
+            } else if (arg.equals("--jfr") || arg.startsWith("--jfr=")) {
+                startFlightRecording(arg.length() > 6 ? Paths.get(arg.substring(6))
+                        : Paths.get("guardianlink-" + LocalDateTime.now().format(
+                                DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr"));
+            } else {
+                fxArgs.add(arg);
+            }
+        }
+        launch(fxArgs.toArray(new String[0]));
+    }
+
+    private static void startFlightRecording(Path destination) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("profile"));
+            recording.setName("GuardianLink");
+            recording.setDestination(destination);
+            recording.setDumpOnExit(true);
+            recording.start();
+            System.out.println("Flight recording started; it will be written to "
+                    + destination.toAbsolutePath() + " on exit");
+        } catch (IOException | ParseException | RuntimeException e) {
+            System.err.println("Warning: could not start flight recording: " + e.getMessage());
+        }
     }
 }
@@ -0,0 +1,266 @@
+package app;
+
+import model.user.Donor;
+import model.user.User;
+import repository.Repositories;
+import util.DBUtil;
+import util.Money;
+import util.QueryMetrics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Runs every repository method against a scratch database and checks the
+ * query plan of each statement it issued. A statement that scans a table,
+ * rather than searching it through an index, fails the check unless its
+ * method is expected to read the whole table.
+ *
+ * <pre>
+ *   QueryPlanCheck [--db guardianlink.db]
+ * </pre>
+ *
+ * With {@code --db} the check runs on a copy of that database, so the
+ * planner sees its statistics; the file itself is never written.
+ * Exits with status 1 if any statement fails, which fails {@code mvn verify}.
+ */
+public class QueryPlanCheck {
+
+    /** Methods whose statements read every row (or the newest rows in index order) by design. */
+    private static final Set<String> FULL_SCANS = Set.of(
+            "ChildRepository.findAll",
+            "ChildRepository.findPage",
+            "ChildRepository.count",
+            "DonationRepository.findAll",
+            "DonationRepository.findPage",
+            "DonationRepository.count",
+            "ExpenseRepository.findAll",
+            "RolePermissionsRepository.findAll",
+            "SystemLogRepository.findAll",
+            "SystemLogRepository.findRecent",
+            "SystemLogRepository.findPage",
+            "SystemLogRepository.count",
+            "TableVersionRepository.findVersions",
+            "UserRepository.countByRoleAndApproval",
+            "UserRepository.findAll",
+            "UserRepository.findAllUsernames",
+            "UserRepository.findPage",
+            "UserRepository.count"
+    );
+
+    public static void main(String[] args) {
+        try {
+            Path db = Files.createTempFile("guardianlink-plans", ".db");
+            if (args.length == 2 && args[0].equals("--db")) {
+                Files.copy(Paths.get(args[1]), db, StandardCopyOption.REPLACE_EXISTING);
+            } else if (args.length != 0) {
+                System.err.println("Usage: QueryPlanCheck [--db FILE]");
+                System.exit(2);
+            }
+            DBUtil.useDatabase("jdbc:sqlite:" + db.toAbsolutePath());
+            DBUtil.initialize();
+            DatabaseMigration.runMigrations();
+
+            int failures = check();
+            DBUtil.getConnection().close();
+            Files.deleteIfExists(db);
+            System.out.println(failures == 0
+                    ? "\nAll repository statements use an index or are expected to scan."
+                    : "\n" + failures + " statement(s) scan a table unexpectedly.");
+            System.exit(failures == 0 ? 0 : 1);
+        } catch (Exception e) {
+            System.err.println("Query plan check failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static int check() throws SQLException {
+        Connection conn = DBUtil.getConnection();
+        int failures = 0;
+
+        System.out.println("\n=== REPOSITORY CALLS ===");
+        QueryMetrics.reset();
+        for (Class<?> type : Repositories.interfaces()) {
+            Object repository = Repositories.jdbc(type);
+            for (Method method : type.getMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                try {
+                    method.invoke(repository, sampleArguments(method));
+                } catch (ReflectiveOperationException e) {
+                    Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+                    System.out.println("✗ " + type.getSimpleName() + "." + method.getName()
+                            + ": could not run (" + cause + ")");
+                    failures++;
+                }
+            }
+        }
+
+        // A repository may leave a result set open; the next statement records it
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SELECT 1");
+        }
+        Map<String, Set<String>> statements = new TreeMap<>();
+        for (QueryMetrics.StatementStats stats : QueryMetrics.snapshot()) {
+            if (stats.callSite().startsWith("repository.")) {
+                statements.computeIfAbsent(methodName(stats.callSite()), k -> new TreeSet<>()).add(stats.sql());
+            }
+        }
+
+        System.out.println("\n=== QUERY PLANS ===");
+        Set<String> partialIndexes = partialIndexes(conn);
+        for (Map.Entry<String, Set<String>> entry : statements.entrySet()) {
+            String name = entry.getKey();
+            for (String sql : entry.getValue()) {
+                List<String> plan = plan(conn, sql);
+                boolean scans = plan.stream()
+                        .anyMatch(step -> step.startsWith("SCAN ") && !isBoundedScan(step, partialIndexes));
+                boolean unexpected = scans && !FULL_SCANS.contains(name);
+                System.out.println((unexpected ? "✗ " : "✓ ") + name + ": " + sql);
+                plan.forEach(step -> System.out.println("      " + step));
+                if (unexpected) {
+                    failures++;
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Turns a call site such as {@code repository.JdbcChildRepository.findById:87}
+     * into the interface method, {@code ChildRepository.findById}.
+     */
+    private static String methodName(String callSite) {
+        String qualified = callSite.substring(0, callSite.lastIndexOf(':'));
+        String method = qualified.substring(qualified.lastIndexOf('.') + 1);
+        String type = qualified.substring(qualified.indexOf('.') + 1, qualified.lastIndexOf('.'));
+        if (method.startsWith("lambda$")) {
+            method = method.split("\\$")[1];
+        }
+        return type.replaceFirst("^Jdbc", "") + "." + method;
+    }
+
+    private static Object[] sampleArguments(Executable executable) throws ReflectiveOperationException {
+        Class<?>[] types = executable.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = sample(types[i]);
+        }
+        return args;
+    }
+
+    /**
+     * A value of the given type for a sample call. Entities are built with
+     * their widest constructor and then have every simple property set, so
+     * NOT NULL columns are satisfied.
+     */
+    private static Object sample(Class<?> type) throws ReflectiveOperationException {
+        if (type == int.class || type == Integer.class) {
+            return 1;
+        }
+        if (type == long.class || type == Long.class) {
+            return 1L;
+        }
+        if (type == double.class || type == Double.class) {
+            return 1.0;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return false;
+        }
+        if (type == String.class) {
+            return "sample";
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (type == Money.class) {
+            return Money.ofTaka(1);
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return List.of();
+        }
+        Class<?> concrete = type == User.class ? Donor.class : type;
+        Constructor<?> constructor = Arrays.stream(concrete.getConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElseThrow(() -> new NoSuchMethodException(concrete.getName() + " has no public constructor"));
+        Object value = constructor.newInstance(sampleArguments(constructor));
+        for (Method setter : concrete.getMethods()) {
+            if (setter.getName().startsWith("set") && setter.getParameterCount() == 1
+                    && !setter.getName().equals("setId") && isSimple(setter.getParameterTypes()[0])) {
+                setter.invoke(value, sample(setter.getParameterTypes()[0]));
+            }
+        }
+        return value;
+    }
+
+    private static boolean isSimple(Class<?> type) {
+        return type.isPrimitive() || type == String.class || type == Integer.class || type == Long.class
+                || type == Double.class || type == Boolean.class;
+    }
+
+    /** The detail lines of EXPLAIN QUERY PLAN; bind parameters are left unset. */
+    private static List<String> plan(Connection conn, String sql) throws SQLException {
+        List<String> steps = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN QUERY PLAN " + sql)) {
+            while (rs.next()) {
+                steps.add(rs.getString("detail"));
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * A scan of a partial index only visits the rows matching its condition,
+     * and the constant row of a scalar subquery is not a table.
+     */
+    private static boolean isBoundedScan(String step, Set<String> partialIndexes) {
+        if (step.equals("SCAN CONSTANT ROW")) {
+            return true;
+        }
+        for (String index : partialIndexes) {
+            if (step.endsWith(" INDEX " + index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> partialIndexes(Connection conn) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT il.name FROM sqlite_master m, pragma_index_list(m.name) il"
+                     + " WHERE m.type = 'table' AND il.partial = 1")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+}
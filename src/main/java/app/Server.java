@@ -0,0 +1,70 @@
+package app;
+
+import server.ApiServer;
+import util.DBUtil;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Headless entry point: serves the JSON API instead of showing the desktop UI.
+ *
+ * <pre>
+ *   Launcher --server [--port N] [--bind address] [--db file.db]
+ * </pre>
+ *
+ * Listens on the loopback interface unless {@code --bind} names another
+ * address (such as {@code 0.0.0.0} for remote desktop clients).
+ */
+public class Server {
+
+    public static void main(String[] args) {
+        int port = ApiServer.DEFAULT_PORT;
+        String bind = "127.0.0.1";
+        String db = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--server" -> { }
+                    case "--port" -> port = Integer.parseInt(args[++i]);
+                    case "--bind" -> bind = args[++i];
+                    case "--db" -> db = args[++i];
+                    default -> usage("Unknown option: " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            usage("Invalid arguments: " + e.getMessage());
+        }
+        InetSocketAddress address = new InetSocketAddress(bind, port);
+        if (address.isUnresolved()) {
+            usage("Unknown bind address: " + bind);
+        }
+
+        try {
+            if (db != null) {
+                DBUtil.useDatabase(db.startsWith("jdbc:") ? db : "jdbc:sqlite:" + db);
+            }
+            DBUtil.initialize();
+            DatabaseMigration.runMigrations();
+
+            ApiServer server = new ApiServer(address);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(2), "api-shutdown"));
+            System.out.println("GuardianLink API listening on http://" + bind + ":" + server.getPort() + "/api/");
+            if (!address.getAddress().isLoopbackAddress()) {
+                // HTTP Basic credentials travel as plain text
+                System.out.println("Warning: listening beyond this machine over plain HTTP;"
+                        + " put a TLS-terminating proxy in front for use outside a trusted network.");
+            }
+        } catch (Exception e) {
+            System.err.println("Server failed to start: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Usage: Launcher --server [--port N] [--bind address] [--db file.db]");
+        System.exit(2);
+    }
+}
@@ -2,6 +2,7 @@ package controller;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -14,17 +15,22 @@ import javafx.scene.text.FontWeight;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import exception.LoginThrottledException;
 import model.entity.Child;
 import model.entity.Donation;
 import model.entity.Notification;
 import model.entity.SystemLog;
 import model.user.User;
+import model.user.UserRef;
 import model.user.UserRole;
 import model.user.SystemAdmin;
 import model.user.OrganizationAdmin;
 import model.user.Donor;
 import model.user.Caregiver;
 import model.user.Support;
+import repository.UpdateResult;
+import repository.UserRepository.Counts;
+import service.AuthService;
 import service.ChildService;
 import service.DonationService;
 import service.NotificationService;
@@ -33,10 +39,27 @@ import service.UserService;
 import service.RolePermissionsService;
 import service.MedicalRecordService;
 import service.EducationRecordService;
+import service.DiagnosticsService;
+import service.AnalyticsService;
+import service.AnalyticsSnapshot;
+import service.ReportCache;
+import service.ReportData;
 import model.entity.MedicalRecord;
 import model.entity.EducationRecord;
 import util.ThemeManager;
+import util.ImageCache;
 import util.PasswordUtil;
+import util.CacheStats;
+import util.DBUtil;
+import util.FlightEvents;
+import util.FxTasks;
+import util.PageLifecycle;
+import util.FxPulseMonitor;
+import util.QueryMetrics;
+import util.Money;
+import util.ColumnOps;
+import util.RenderContext;
+import util.TaskScope;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -45,10 +68,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * System Administrator dashboard — Figma-matched.
- * Sidebar pages: Dashboard, Child Profiles, System Admin, Reports.
+ * Sidebar pages: Dashboard, Child Profiles, Alerts, Reports, System Admin, Diagnostics.
  */
 public class AdminController {
 
@@ -62,7 +87,10 @@ public class AdminController {
     private final RolePermissionsService rolePermissionsService = new RolePermissionsService();
     private final MedicalRecordService medicalRecordService = new MedicalRecordService();
     private final EducationRecordService educationRecordService = new EducationRecordService();
+    private final AnalyticsService analyticsService = new AnalyticsService();
+    private final ReportCache reportCache = ReportCache.getInstance();
     private BorderPane root;
+    private PageLifecycle.Host pages;
     private Scene scene;
     private VBox sidebar;
     private String activePage = "dashboard";
@@ -84,6 +112,12 @@ public class AdminController {
     private static final String CHART4 = "#8b5cf6";
     private static final String CHART5 = "#ec4899";
 
+    /** Donation rows listed in a report preview; the CSV export has them all. */
+    private static final int REPORT_PREVIEW_ROWS = 50;
+
+    /** How long the Reports page waits for its data before showing an error instead. */
+    private static final java.time.Duration REPORT_DEADLINE = java.time.Duration.ofSeconds(20);
+
     // Theme-aware color getters
     private String BG() {
         return ThemeManager.getBg();
@@ -117,26 +151,27 @@ public class AdminController {
     public void show() {
         System.out.println("AdminController: showing dashboard");
         root = new BorderPane();
+        pages = new PageLifecycle.Host(stage, root);
         root.setTop(buildHeader());
         root.setLeft(buildSidebar());
-        root.setCenter(buildDashboardPage());
+        showPage("dashboard", () -> buildDashboardPage());
         root.setStyle("-fx-background-color: " + BG() + ";");
 
         // Auto-refresh timer: refresh the active page every 180 seconds (3 minutes) for real-time
-        // data (but skip if a form is being shown)
+        // data (but skip if a form is being shown); paused while minimized, stopped on logout
         refreshTimer = new Timeline(new KeyFrame(Duration.seconds(180), ev -> {
             if (!isShowingForm) {
                 switch (activePage) {
-                    case "dashboard" -> root.setCenter(buildDashboardPage());
-                    case "children" -> root.setCenter(buildChildrenPage());
-                    case "alerts" -> root.setCenter(buildAlertsPage());
-                    case "reports" -> root.setCenter(buildReportsPage());
-                    case "admin" -> root.setCenter(buildAdminPage());
+                    case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+                    case "children" -> showPage("children", () -> buildChildrenPage());
+                    case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+                    case "reports" -> showPage("reports", () -> buildReportsPage());
+                    case "admin" -> showPage("admin", () -> buildAdminPage());
                 }
             }
         }));
         refreshTimer.setCycleCount(Timeline.INDEFINITE);
-        refreshTimer.play();
+        pages.session().play(refreshTimer);
 
         Scene scene = new Scene(root, 1280, 800);
         this.scene = scene; // Store scene reference for stylesheet management
@@ -144,6 +179,8 @@ public class AdminController {
         // Apply dark mode styles for improved text visibility
         applyDarkModeStylesheet(scene);
         
+        FxPulseMonitor.install(scene);
+
         stage.setScene(scene);
         stage.setTitle("GuardianLink \u2014 System Administrator");
         stage.show();
@@ -161,14 +198,33 @@ public class AdminController {
         root.setLeft(buildSidebar());
         // Refresh current page
         switch (activePage) {
-            case "dashboard" -> root.setCenter(buildDashboardPage());
-            case "children" -> root.setCenter(buildChildrenPage());
-            case "alerts" -> root.setCenter(buildAlertsPage());
-            case "reports" -> root.setCenter(buildReportsPage());
-            case "admin" -> root.setCenter(buildAdminPage());
+            case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+            case "children" -> showPage("children", () -> buildChildrenPage());
+            case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+            case "reports" -> showPage("reports", () -> buildReportsPage());
+            case "admin" -> showPage("admin", () -> buildAdminPage());
+            case "diagnostics" -> showPage("diagnostics", () -> buildDiagnosticsPage());
         }
     }
 
+    /**
+     * Builds and shows a page, recording a Flight Recorder event for the build.
+     * The previous page's lifecycle is disposed first.
+     */
+    private void showPage(String pageId, java.util.function.Supplier<Node> builder) {
+        pages.show(() -> FlightEvents.buildPage("AdminController", pageId, () -> RenderContext.render(builder)));
+    }
+
+    // Queries that several sections of one page need; each runs once per page build
+
+    private java.util.EnumMap<UserRole, Counts> userCounts() {
+        return RenderContext.memoize("UserService.getCountsByRole", userService::getCountsByRole);
+    }
+
+    private java.util.List<SystemLog> recentLogs(int limit) {
+        return RenderContext.memoize("SystemLogService.getRecent", () -> systemLogService.getRecent(limit), limit);
+    }
+
     // ═══════════ HEADER ═══════════
     private HBox buildHeader() {
         HBox header = new HBox();
@@ -219,7 +275,7 @@ public class AdminController {
         
         // Make user box clickable to show profile
         userTypeBox.setStyle(userTypeBox.getStyle() + "; -fx-cursor: hand;");
-        userTypeBox.setOnMouseClicked(e -> root.setCenter(buildProfilePage()));
+        userTypeBox.setOnMouseClicked(e -> showPage("profile", () -> buildProfilePage()));
 
         header.getChildren().addAll(logoIcon, titleBox, spacer, userTypeBox);
         return header;
@@ -233,7 +289,7 @@ public class AdminController {
         
         Button backBtn = new Button("\u2190 Back");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand; -fx-font-size: 13px;");
-        backBtn.setOnAction(e -> root.setCenter(buildDashboardPage()));
+        backBtn.setOnAction(e -> showPage("dashboard", () -> buildDashboardPage()));
         
         VBox card = new VBox(0);
         card.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER() + "; -fx-border-width: 1; -fx-background-radius: 8; -fx-border-radius: 8;");
@@ -253,9 +309,7 @@ public class AdminController {
             photoView.setClip(clip);
             clip.setCenterX(30);
             clip.setCenterY(30);
-            try {
-                photoView.setImage(new javafx.scene.image.Image(new java.io.File(user.getProfilePhoto()).toURI().toString()));
-            } catch (Exception e) {}
+            ImageCache.loadInto(photoView, user.getProfilePhoto(), 60);
             profileIcon = photoView;
         } else {
             Label icon = new Label("👤");
@@ -363,6 +417,7 @@ public class AdminController {
         TextField emailField = new TextField(user.getEmail() != null ? user.getEmail() : "");
         TextField phoneField = new TextField(user.getPhoneNumber() != null ? user.getPhoneNumber() : "");
         TextField orgField = new TextField(user.getOrganization() != null ? user.getOrganization() : "");
+        orgField.setEditable(false); // organization membership is changed by an administrator
         
         Label photoLabel = new Label("Photo:");
         Button changePhotoBtn = new Button("Select Image");
@@ -391,13 +446,12 @@ public class AdminController {
             if (buttonType == ButtonType.OK) {
                 user.setEmail(emailField.getText());
                 user.setPhoneNumber(phoneField.getText());
-                user.setOrganization(orgField.getText());
                 user.setProfilePhoto(newPhotoPath[0]);
                 
                 if (userService.updateProfile(user)) {
                     Alert a = new Alert(Alert.AlertType.INFORMATION, "Profile updated successfully!");
                     a.show();
-                    root.setCenter(buildProfilePage());
+                    showPage("profile", () -> buildProfilePage());
                     root.setTop(buildHeader());
                     return true;
                 } else {
@@ -448,19 +502,22 @@ public class AdminController {
                     a.show();
                     return null;
                 }
-                if (!PasswordUtil.verify(currentPass.getText(), user.getPassword())) {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Current password is incorrect.");
-                    a.show();
-                    return null;
-                }
-                user.setPassword(PasswordUtil.hash(newPass.getText()));
-                if (userService.updateProfile(user)) {
-                    Alert a = new Alert(Alert.AlertType.INFORMATION, "Password updated successfully!");
-                    a.show();
-                } else {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Failed to update password.");
-                    a.show();
-                }
+                String current = currentPass.getText();
+                String next = newPass.getText();
+                // Password hashing is intentionally expensive, so run it off the FX thread
+                FxTasks.runInBackground("change-password", null,
+                        () -> new AuthService().changePassword(user, current, next),
+                        updated -> new Alert(updated ? Alert.AlertType.INFORMATION : Alert.AlertType.ERROR,
+                                updated ? "Password updated successfully!" : "Failed to update password.").show(),
+                        error -> {
+                            boolean expected = error instanceof IllegalArgumentException
+                                    || error instanceof LoginThrottledException;
+                            if (!expected) {
+                                error.printStackTrace();
+                            }
+                            new Alert(Alert.AlertType.ERROR,
+                                    expected ? error.getMessage() : "Failed to update password.").show();
+                        });
             }
             return null;
         });
@@ -488,7 +545,8 @@ public class AdminController {
                 sidebarBtn("Child Profiles", "children"),
                 sidebarBtn("Alerts", "alerts"),
                 sidebarBtn("Reports & Audit", "reports"),
-                sidebarBtn("System Admin", "admin"));
+                sidebarBtn("System Admin", "admin"),
+                sidebarBtn("Diagnostics", "diagnostics"));
         sidebar.getChildren().add(navItems);
 
         Region spacer = new Region();
@@ -541,7 +599,10 @@ public class AdminController {
         logoutBtn.setFont(Font.font("Segoe UI", 13));
         logoutBtn.setStyle("-fx-background-color: " + DESTRUCTIVE
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 8 12; -fx-cursor: hand;");
-        logoutBtn.setOnAction(e -> new AuthController(stage).show());
+        logoutBtn.setOnAction(e -> {
+            FxPulseMonitor.uninstall();
+            new AuthController(stage).show();
+        });
         logoutSection.getChildren().add(logoutBtn);
 
         // Version label
@@ -566,11 +627,12 @@ public class AdminController {
             activePage = pageId;
             refreshSidebar();
             switch (pageId) {
-                case "dashboard" -> root.setCenter(buildDashboardPage());
-                case "children" -> root.setCenter(buildChildrenPage());
-                case "alerts" -> root.setCenter(buildAlertsPage());
-                case "reports" -> root.setCenter(buildReportsPage());
-                case "admin" -> root.setCenter(buildAdminPage());
+                case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+                case "children" -> showPage("children", () -> buildChildrenPage());
+                case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+                case "reports" -> showPage("reports", () -> buildReportsPage());
+                case "admin" -> showPage("admin", () -> buildAdminPage());
+                case "diagnostics" -> showPage("diagnostics", () -> buildDiagnosticsPage());
             }
         });
         return btn;
@@ -608,6 +670,8 @@ public class AdminController {
             return "reports";
         if (text.contains("System"))
             return "admin";
+        if (text.contains("Diagnostics"))
+            return "diagnostics";
         return "";
     }
 
@@ -624,17 +688,36 @@ public class AdminController {
         VBox header = new VBox(4, title, sub);
 
         // Load real-time user stats from database
-        java.util.List<User> allUsers = userService.getAllUsers();
-        int totalUsers = allUsers.size();
-        int activeUsers = (int) allUsers.stream().filter(User::isApproved).count();
+        java.util.EnumMap<UserRole, Counts> userCounts = userCounts();
+        int totalUsers = userCounts.values().stream().mapToInt(Counts::getTotal).sum();
+        int activeUsers = userCounts.values().stream().mapToInt(Counts::getApproved).sum();
+
+        java.nio.file.Path dbFile = DBUtil.getDatabaseFile();
+        long databaseBytes = -1;
+        long walBytes = -1;
+        try {
+            if (dbFile != null && java.nio.file.Files.exists(dbFile)) {
+                databaseBytes = java.nio.file.Files.size(dbFile);
+                java.nio.file.Path wal = dbFile.resolveSibling(dbFile.getFileName() + "-wal");
+                walBytes = java.nio.file.Files.exists(wal) ? java.nio.file.Files.size(wal) : -1;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
 
         // 4 stat cards
         HBox stats = new HBox(16);
         stats.getChildren().addAll(
                 statCard("Total Users", String.valueOf(totalUsers), activeUsers + " active", PRIMARY, SECONDARY),
-                statCard("Database Size", "N/A", "System storage", INFO, MUTED_FG()),
-                statCard("System Health", "100%", "All systems operational", SECONDARY, SECONDARY),
-                statCard("Active Sessions", String.valueOf(activeUsers), "Current active users", WARNING, MUTED_FG()));
+                statCard("Database Size", formatBytes(databaseBytes),
+                        walBytes > 0 ? "+ " + formatBytes(walBytes) + " write-ahead log" : "System storage",
+                        INFO, MUTED_FG()),
+                statCard("Query Latency p95", String.format("%.1f ms", QueryMetrics.overallPercentileMillis(95)),
+                        String.format("%,d statements \u00b7 %,d slow", QueryMetrics.totalCalls(),
+                                QueryMetrics.slowQueryCount()),
+                        SECONDARY, QueryMetrics.slowQueryCount() > 0 ? WARNING : SECONDARY),
+                statCard("Approved Accounts", String.valueOf(activeUsers),
+                        (totalUsers - activeUsers) + " awaiting approval", WARNING, MUTED_FG()));
 
         // 2-column metrics
         HBox metrics = new HBox(16);
@@ -697,12 +780,12 @@ public class AdminController {
         card.getChildren().add(t);
 
         // Load real-time user distribution from database
-        java.util.List<User> allUsers = userService.getAllUsers();
-        int totalUsers = Math.max(1, allUsers.size());
+        java.util.EnumMap<UserRole, Counts> userCounts = userCounts();
+        int totalUsers = Math.max(1, userCounts.values().stream().mapToInt(Counts::getTotal).sum());
 
-        long systemAdminCount = allUsers.stream().filter(u -> u.getRole().toString().equals("SYSTEM_ADMIN")).count();
-        long orgAdminCount = allUsers.stream().filter(u -> u.getRole().toString().equals("ORGANIZATION_ADMIN")).count();
-        long donorCount = allUsers.stream().filter(u -> u.getRole().toString().equals("DONOR")).count();
+        long systemAdminCount = userCounts.getOrDefault(UserRole.SYSTEM_ADMIN, new Counts()).getTotal();
+        long orgAdminCount = userCounts.getOrDefault(UserRole.ORGANIZATION_ADMIN, new Counts()).getTotal();
+        long donorCount = userCounts.getOrDefault(UserRole.DONOR, new Counts()).getTotal();
 
         String[][] data = {
                 { "System Admins", String.valueOf(systemAdminCount),
@@ -752,7 +835,7 @@ public class AdminController {
         t.setTextFill(Color.web(TEXT()));
         card.getChildren().add(t);
 
-        java.util.List<SystemLog> recentLogs = systemLogService.getRecent(5);
+        java.util.List<SystemLog> recentLogs = recentLogs(5);
         if (recentLogs.isEmpty()) {
             Label empty = new Label("No recent activity");
             empty.setFont(Font.font("Segoe UI", 13));
@@ -806,9 +889,9 @@ public class AdminController {
             activePage = targetPage;
             refreshSidebar();
             switch (targetPage) {
-                case "admin" -> root.setCenter(buildAdminPage());
-                case "reports" -> root.setCenter(buildReportsPage());
-                case "alerts" -> root.setCenter(buildAlertsPage());
+                case "admin" -> showPage("admin", () -> buildAdminPage());
+                case "reports" -> showPage("reports", () -> buildReportsPage());
+                case "alerts" -> showPage("alerts", () -> buildAlertsPage());
             }
         });
         return card;
@@ -833,7 +916,7 @@ public class AdminController {
         viewAll.setOnAction(e -> {
             activePage = "reports";
             refreshSidebar();
-            root.setCenter(buildReportsPage());
+            showPage("reports", () -> buildReportsPage());
         });
         hdr.getChildren().addAll(t, sp, viewAll);
 
@@ -853,7 +936,7 @@ public class AdminController {
             grid.add(h, i, 0);
         }
 
-        java.util.List<SystemLog> logs = systemLogService.getRecent(5);
+        java.util.List<SystemLog> logs = recentLogs(5);
         for (int r = 0; r < logs.size(); r++) {
             SystemLog log = logs.get(r);
             String[] rowData = {
@@ -892,6 +975,173 @@ public class AdminController {
         return card;
     }
 
+    // ═══════════ DIAGNOSTICS PAGE ═══════════
+    private ScrollPane buildDiagnosticsPage() {
+        VBox page = new VBox(20);
+        page.setPadding(new Insets(24));
+
+        Label title = new Label("Performance Diagnostics");
+        title.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 20));
+        Label sub = new Label("Live database, JVM, UI and cache statistics — sampled in the background every "
+                + DiagnosticsService.INTERVAL_SECONDS + " seconds");
+        sub.setFont(Font.font("Segoe UI", 13));
+        sub.setTextFill(Color.web(MUTED_FG()));
+        VBox header = new VBox(4, title, sub);
+
+        VBox dbFile = statCard("Database File", "…", "", INFO, MUTED_FG());
+        VBox wal = statCard("Write-Ahead Log", "…", "", INFO, MUTED_FG());
+        VBox pageCache = statCard("Page Cache Coverage", "…", "", PRIMARY, MUTED_FG());
+        VBox queries = statCard("Query Latency p95", "…", "", SECONDARY, MUTED_FG());
+        HBox dbRow = new HBox(16, dbFile, wal, pageCache, queries);
+
+        VBox heap = statCard("Heap Used", "…", "", PRIMARY, MUTED_FG());
+        VBox gc = statCard("Garbage Collection", "…", "", WARNING, MUTED_FG());
+        VBox threads = statCard("Threads", "…", "", INFO, MUTED_FG());
+        VBox fx = statCard("UI Pulses", "…", "", SECONDARY, MUTED_FG());
+        HBox jvmRow = new HBox(16, heap, gc, threads, fx);
+
+        VBox queryCard = new VBox(12);
+        queryCard.setPadding(new Insets(16));
+        queryCard.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER()
+                + "; -fx-border-width: 1; -fx-background-radius: 8; -fx-border-radius: 8;");
+        Label queryTitle = new Label("Slowest Statements (total time)");
+        queryTitle.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 17));
+        GridPane queryGrid = new GridPane();
+        queryCard.getChildren().addAll(queryTitle, queryGrid);
+
+        VBox cacheCard = new VBox(12);
+        cacheCard.setPadding(new Insets(16));
+        cacheCard.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER()
+                + "; -fx-border-width: 1; -fx-background-radius: 8; -fx-border-radius: 8;");
+        Label cacheTitle = new Label("Cache Hit Rates");
+        cacheTitle.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 17));
+        VBox cacheRows = new VBox(10);
+        cacheCard.getChildren().addAll(cacheTitle, cacheRows);
+
+        page.getChildren().addAll(header, dbRow, jvmRow, queryCard, cacheCard);
+        ScrollPane sp = new ScrollPane(page);
+        sp.setFitToWidth(true);
+        sp.setStyle("-fx-background: " + BG() + "; -fx-background-color: " + BG() + ";");
+
+        // Samples arrive on the sampler thread; only the labels are touched on the FX thread.
+        // Sampling runs only while the page is on screen.
+        PageLifecycle.current().subscribe(() -> DiagnosticsService.subscribe(sample -> Platform.runLater(() -> {
+            DiagnosticsService.DatabaseStats db = sample.database();
+            setStat(dbFile, formatBytes(db.fileBytes()),
+                    db.file() != null ? db.file().getFileName() + " · " + db.freePages() + " free pages" : "In-memory");
+            setStat(wal, db.walBytes() >= 0 ? formatBytes(db.walBytes()) : "None",
+                    "journal_mode=" + db.journalMode());
+            setStat(pageCache, String.format("%.0f%%", db.cacheCoverage() * 100),
+                    String.format("%,d cache / %,d pages of %s", db.cachePages(), db.pageCount(),
+                            formatBytes(db.pageSize())));
+            setStat(queries, String.format("%.1f ms", sample.queryP95Millis()),
+                    String.format("%,d statements · %,d slow", sample.queryCount(), sample.slowQueries()));
+
+            DiagnosticsService.JvmStats jvm = sample.jvm();
+            setStat(heap, formatBytes(jvm.heapUsed()),
+                    "of " + formatBytes(jvm.heapCommitted()) + " committed, " + formatBytes(jvm.heapMax()) + " max");
+            setStat(gc, String.format("%.0f/min", jvm.gcPerMinute()),
+                    String.format("%.0f ms/min · %,d total (%,d ms)", jvm.gcMillisPerMinute(), jvm.gcCount(),
+                            jvm.gcMillis()));
+            setStat(threads, String.valueOf(jvm.threads()),
+                    jvm.peakThreads() + " peak · " + jvm.daemonThreads() + " daemon"
+                            + (jvm.processCpu() >= 0 ? String.format(" · CPU %.0f%%", jvm.processCpu() * 100) : ""));
+            setStat(fx, String.format("%.1f/s", sample.pulsesPerSecond()),
+                    String.format("layout p50 %.2f · p95 %.2f · max %.2f ms", sample.fx().p50Millis(),
+                            sample.fx().p95Millis(), sample.fx().maxMillis()));
+
+            fillQueryGrid(queryGrid, sample.topQueries());
+            cacheRows.getChildren().clear();
+            for (CacheStats cache : sample.caches()) {
+                cacheRows.getChildren().add(cacheRow(cache));
+            }
+        })));
+        return sp;
+    }
+
+    private void setStat(VBox card, String value, String detail) {
+        ((Label) card.getChildren().get(1)).setText(value);
+        ((Label) card.getChildren().get(2)).setText(detail);
+    }
+
+    private void fillQueryGrid(GridPane grid, java.util.List<QueryMetrics.StatementStats> stats) {
+        grid.getChildren().clear();
+        String[] cols = { "Call Site", "Calls", "Rows", "p50 ms", "p95 ms", "p99 ms", "Max ms" };
+        for (int i = 0; i < cols.length; i++) {
+            Label h = new Label(cols[i]);
+            h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
+            h.setPadding(new Insets(8, 12, 8, 12));
+            h.setMaxWidth(Double.MAX_VALUE);
+            h.setStyle("-fx-background-color: " + MUTED() + ";");
+            grid.add(h, i, 0);
+        }
+        if (stats.isEmpty()) {
+            Label none = new Label(QueryMetrics.totalCalls() == 0
+                    ? "No statements recorded (instrumentation may be disabled)" : "No statements yet");
+            none.setFont(Font.font("Segoe UI", 12));
+            none.setTextFill(Color.web(MUTED_FG()));
+            none.setPadding(new Insets(12));
+            grid.add(none, 0, 1, cols.length, 1);
+            return;
+        }
+        for (int r = 0; r < stats.size(); r++) {
+            QueryMetrics.StatementStats s = stats.get(r);
+            String[] rowData = {
+                    s.callSite(),
+                    String.format("%,d", s.calls()),
+                    String.format("%,d", s.rows()),
+                    String.format("%.2f", s.p50Millis()),
+                    String.format("%.2f", s.p95Millis()),
+                    String.format("%.2f", s.p99Millis()),
+                    String.format("%.2f", s.maxMillis())
+            };
+            for (int c = 0; c < rowData.length; c++) {
+                Label cell = new Label(rowData[c]);
+                cell.setFont(Font.font(c == 0 ? "Consolas" : "Segoe UI", c == 0 ? 11 : 12));
+                cell.setTextFill(Color.web(c == 0 ? TEXT() : MUTED_FG()));
+                cell.setPadding(new Insets(8, 12, 8, 12));
+                cell.setMaxWidth(Double.MAX_VALUE);
+                cell.setStyle("-fx-border-color: " + BORDER() + "; -fx-border-width: 0 0 1 0;");
+                if (c == 0) {
+                    cell.setTooltip(new Tooltip(s.sql()));
+                }
+                grid.add(cell, c, r + 1);
+            }
+        }
+    }
+
+    private VBox cacheRow(CacheStats cache) {
+        long lookups = cache.hits() + cache.misses();
+        HBox labels = new HBox();
+        Label name = new Label(cache.name());
+        name.setFont(Font.font("Segoe UI", 13));
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        Label ratio = new Label(lookups == 0 ? "No lookups yet"
+                : String.format("%.1f%% of %,d lookups · %,d entries", cache.hitRatio() * 100, lookups,
+                        cache.entries()));
+        ratio.setFont(Font.font("Segoe UI", 12));
+        ratio.setTextFill(Color.web(MUTED_FG()));
+        labels.getChildren().addAll(name, spacer, ratio);
+
+        ProgressBar bar = new ProgressBar(cache.hitRatio());
+        bar.setMaxWidth(Double.MAX_VALUE);
+        bar.setPrefHeight(8);
+        bar.setStyle("-fx-accent: " + SECONDARY + ";");
+        return new VBox(4, labels, bar);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 0) {
+            return "N/A";
+        }
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        int unit = (63 - Long.numberOfLeadingZeros(bytes)) / 10;
+        return String.format("%.1f %sB", bytes / Math.pow(1024, unit), "KMGTPE".charAt(unit - 1));
+    }
+
     // ═══════════ CHILDREN PAGE ═══════════
     private ScrollPane buildChildrenPage() {
         VBox page = new VBox(20);
@@ -920,7 +1170,7 @@ public class AdminController {
         Button addChildBtn = new Button("+ Add Child");
         addChildBtn.setStyle("-fx-background-color: " + PRIMARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 6 16; -fx-font-size: 12px; -fx-cursor: hand;");
-        addChildBtn.setOnAction(e -> root.setCenter(buildAddChildForm()));
+        addChildBtn.setOnAction(e -> showPage("addChildForm", () -> buildAddChildForm()));
         hdr.getChildren().addAll(tl, hdrSpacer, addChildBtn);
 
         GridPane grid = new GridPane();
@@ -984,13 +1234,13 @@ public class AdminController {
             viewLink.setFont(Font.font("Segoe UI", 13));
             viewLink.setTextFill(Color.web(PRIMARY));
             viewLink.setStyle("-fx-text-decoration: none;");
-            viewLink.setOnAction(e -> root.setCenter(buildChildProfileDetailView(childId)));
+            viewLink.setOnAction(e -> showPage("childProfileDetailView", () -> buildChildProfileDetailView(childId)));
 
             Hyperlink editLink = new Hyperlink("Edit");
             editLink.setFont(Font.font("Segoe UI", 13));
             editLink.setTextFill(Color.web(PRIMARY));
             editLink.setStyle("-fx-text-decoration: none;");
-            editLink.setOnAction(e -> root.setCenter(buildEditChildForm(childId)));
+            editLink.setOnAction(e -> showPage("editChildForm", () -> buildEditChildForm(childId)));
 
             Hyperlink deleteLink = new Hyperlink("Delete");
             deleteLink.setFont(Font.font("Segoe UI", 13));
@@ -1006,7 +1256,7 @@ public class AdminController {
                         systemLogService.save(new SystemLog("Data Update",
                                 "Deleted child profile: " + childName, user.getUsername(),
                                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
-                        root.setCenter(buildChildrenPage());
+                        showPage("children", () -> buildChildrenPage());
                     }
                 });
             });
@@ -1119,7 +1369,7 @@ public class AdminController {
                     vd.setStyle("-fx-background-color: " + PRIMARY
                             + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 6 16; -fx-font-size: 12px; -fx-cursor: hand; -fx-font-weight: bold;");
                     final String[] alertData = a;
-                    vd.setOnAction(e -> root.setCenter(buildAlertDetailView(alertData)));
+                    vd.setOnAction(e -> showPage("alertDetailView", () -> buildAlertDetailView(alertData)));
 
                     Button mr = new Button("Mark Resolved");
                     mr.setStyle("-fx-background-color: transparent; -fx-text-fill: " + SECONDARY
@@ -1128,7 +1378,7 @@ public class AdminController {
 
                     mr.setOnAction(e -> {
                         activeAlerts.remove(alertData);
-                        root.setCenter(buildAlertsPage());
+                        showPage("alerts", () -> buildAlertsPage());
                     });
 
                     btns.getChildren().addAll(vd, mr);
@@ -1163,6 +1413,35 @@ public class AdminController {
         sub.setFont(Font.font("Segoe UI", 13));
         sub.setTextFill(Color.web(MUTED_FG()));
 
+        // Load the audit log and the counts side by side; report data is loaded per report
+        java.util.List<SystemLog> allLogs;
+        int donationCount;
+        int childCount;
+        try (TaskScope scope = new TaskScope("reports", REPORT_DEADLINE)) {
+            TaskScope.Subtask<java.util.List<SystemLog>> logsTask = scope.fork(systemLogService::getAll);
+            TaskScope.Subtask<Integer> donationCountTask = scope.fork(donationService::getCount);
+            TaskScope.Subtask<Integer> childCountTask = scope.fork(childService::getCount);
+            scope.join();
+            allLogs = logsTask.get();
+            donationCount = donationCountTask.get();
+            childCount = childCountTask.get();
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            Label error = new Label("Report data could not be loaded: " + cause.getMessage());
+            error.setFont(Font.font("Segoe UI", 13));
+            error.setTextFill(Color.web(DESTRUCTIVE));
+            page.getChildren().addAll(new VBox(4, title, sub), error);
+            ScrollPane sp = new ScrollPane(page);
+            sp.setFitToWidth(true);
+            sp.setStyle("-fx-background: " + BG() + "; -fx-background-color: " + BG() + ";");
+            return sp;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading reports", e);
+        }
+        // Export handlers reach the log through the page, so it is released when the page is left
+        java.util.function.Supplier<java.util.List<SystemLog>> logs = PageLifecycle.current().hold(allLogs);
+
         // Report Generator controls
         VBox genCard = new VBox(16);
         genCard.setPadding(new Insets(16));
@@ -1197,37 +1476,25 @@ public class AdminController {
         HBox.setHgrow(col2, Priority.ALWAYS);
         row1.getChildren().addAll(col1, col2);
 
-        // Load data from DB
-        java.util.List<Donation> allDonations = donationService.getAll();
-        java.util.List<Child> allChildren = childService.getAllChildren();
-        java.util.List<User> allUsersForReport = userService.getAllUsers();
-        java.util.List<SystemLog> allLogs = systemLogService.getAll();
-        java.util.Map<Integer, String> childNames = new java.util.HashMap<>();
-        for (Child ch : allChildren)
-            childNames.put(ch.getId(), ch.getName());
-        java.util.Map<Integer, String> userNames = new java.util.HashMap<>();
-        for (User u : allUsersForReport)
-            userNames.put(u.getId(), u.getUsername());
-
-        double totalDonated = allDonations.stream().mapToDouble(Donation::getAmount).sum();
-
         // Container for the dynamic report preview
         VBox reportPreviewContainer = new VBox();
 
         HBox buttons = new HBox(12);
-        Button genBtn = new Button("\uD83D\uDCC4  Generate Report");
+        Button genBtn = new Button("📄  Generate Report");
         genBtn.setStyle("-fx-background-color: " + PRIMARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 8 16; -fx-font-size: 13px; -fx-cursor: hand;");
         genBtn.setOnAction(e -> {
             systemLogService.save(new SystemLog("Report", "Generated " + rtCombo.getValue(), user.getUsername(),
                     LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
+            ReportData data = reportData(rtCombo.getValue(), drCombo.getValue());
+            if (data == null) {
+                return;
+            }
             reportPreviewContainer.getChildren().clear();
-            reportPreviewContainer.getChildren().add(
-                    buildReportPreview(rtCombo.getValue(), allDonations, allChildren, allUsersForReport,
-                            allLogs, childNames, userNames, totalDonated));
+            reportPreviewContainer.getChildren().add(buildReportPreview(rtCombo.getValue(), data));
             new Alert(Alert.AlertType.INFORMATION, "Report generated successfully: " + rtCombo.getValue()).show();
         });
-        Button csvBtn = new Button("\u2B07  Export to CSV");
+        Button csvBtn = new Button("⬇  Export to CSV");
         csvBtn.setStyle("-fx-background-color: " + SECONDARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 8 16; -fx-font-size: 13px; -fx-cursor: hand;");
         csvBtn.setOnAction(e -> {
@@ -1238,31 +1505,44 @@ public class AdminController {
             String fileName = selectedType.replaceAll("[^a-zA-Z0-9]", "_").toLowerCase() + ".csv";
             fc.setInitialFileName(fileName);
             File file = fc.showSaveDialog(stage);
-            if (file != null) {
-                try (FileWriter fw = new FileWriter(file)) {
+            AnalyticsSnapshot snapshot = file != null ? loadReportSnapshot() : null;
+            if (snapshot != null) {
+                FlightEvents.ReportExport export = new FlightEvents.ReportExport();
+                export.begin();
+                try (java.io.Writer fw = new java.io.BufferedWriter(new FileWriter(file))) {
+                    int[] donationRows = snapshot.donationsBetween(reportStart(drCombo.getValue()), LocalDate.now());
                     switch (selectedType) {
                         case "Donation & Financial Report" -> {
+                            export.rows = donationRows.length;
                             fw.write("Donor,Child,Amount,Date\n");
-                            for (Donation d : allDonations) {
-                                fw.write(String.format("%s,%s,%.0f,%s\n",
-                                        userNames.getOrDefault(d.getDonorId(), "Unknown"),
-                                        childNames.getOrDefault(d.getChildId(), "Unknown"),
-                                        d.getAmount(), d.getDate()));
+                            long[] amount = snapshot.donations().amount();
+                            for (int r : snapshot.newestDonations(donationRows, donationRows.length)) {
+                                fw.append(snapshot.donorName(r)).append(',')
+                                        .append(snapshot.childName(r)).append(',')
+                                        .append(Money.valueOf(amount[r]).toString()).append(',')
+                                        .append(snapshot.donationDate(r)).append('\n');
                             }
                         }
                         case "Child Welfare Summary" -> {
+                            AnalyticsSnapshot.Children children = snapshot.children();
+                            export.rows = children.size();
                             fw.write("ID,Name,Age,Gender,Organization,Status\n");
-                            for (Child ch : allChildren) {
+                            for (int r = 0; r < children.size(); r++) {
+                                String gender = children.genders().decode(children.gender()[r]);
+                                String organization = children.organizations().decode(children.organization()[r]);
+                                String status = children.statuses().decode(children.status()[r]);
                                 fw.write(String.format("CH-%d,%s,%d,%s,%s,%s\n",
-                                        1000 + ch.getId(), ch.getName(), ch.getAge(),
-                                        ch.getGender() != null ? ch.getGender() : "",
-                                        ch.getOrganization() != null ? ch.getOrganization() : "",
-                                        ch.getStatus() != null ? ch.getStatus() : "Active"));
+                                        1000 + children.id()[r], children.name()[r], children.age()[r],
+                                        gender != null ? gender : "",
+                                        organization != null ? organization : "",
+                                        status != null ? status : "Active"));
                             }
                         }
                         case "System Audit Log" -> {
+                            java.util.List<SystemLog> exportLogs = logs.get();
+                            export.rows = exportLogs.size();
                             fw.write("Timestamp,Event Type,Actor,Description\n");
-                            for (SystemLog log : allLogs) {
+                            for (SystemLog log : exportLogs) {
                                 fw.write(String.format("%s,%s,%s,%s\n",
                                         log.getTimestamp() != null ? log.getTimestamp() : "",
                                         log.getEventType() != null ? log.getEventType() : "",
@@ -1272,15 +1552,20 @@ public class AdminController {
                         }
                         case "Performance Analytics" -> {
                             fw.write("Metric,Value\n");
-                            fw.write(String.format("Total Users,%d\n", allUsersForReport.size()));
-                            fw.write(String.format("Active Users,%d\n",
-                                    allUsersForReport.stream().filter(User::isApproved).count()));
-                            fw.write(String.format("Total Children,%d\n", allChildren.size()));
-                            fw.write(String.format("Total Donations,%d\n", allDonations.size()));
-                            fw.write(String.format("Total Donated,%.0f\n", totalDonated));
-                            fw.write(String.format("System Log Entries,%d\n", allLogs.size()));
+                            fw.write(String.format("Total Users,%d\n", snapshot.users().size()));
+                            fw.write(String.format("Active Users,%d\n", countApproved(snapshot)));
+                            fw.write(String.format("Total Children,%d\n", snapshot.children().size()));
+                            fw.write(String.format("Total Donations,%d\n", donationRows.length));
+                            fw.write(String.format("Total Donated,%s\n", snapshot.donationTotal(donationRows)));
+                            fw.write(String.format("System Log Entries,%d\n", logs.get().size()));
+                            export.rows = 6;
                         }
                     }
+                    fw.flush();
+                    export.type = selectedType;
+                    export.format = "CSV";
+                    export.bytes = file.length();
+                    export.commit();
                     systemLogService.save(new SystemLog("Export", "Exported " + selectedType + " CSV",
                             user.getUsername(),
                             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
@@ -1296,20 +1581,21 @@ public class AdminController {
         genCard.getChildren().addAll(genTitle, row1, buttons);
 
         // Build the initial report preview (Donation & Financial by default)
-        reportPreviewContainer.getChildren().add(
-                buildReportPreview("Donation & Financial Report", allDonations, allChildren, allUsersForReport,
-                        allLogs, childNames, userNames, totalDonated));
+        ReportData initialReport = reportData(rtCombo.getValue(), drCombo.getValue());
+        if (initialReport != null) {
+            reportPreviewContainer.getChildren().add(buildReportPreview(rtCombo.getValue(), initialReport));
+        }
 
         // Quick stats at bottom
         int totalLogCount = systemLogService.getCount();
         HBox qStats = new HBox(16);
         qStats.getChildren().addAll(
-                statCard("Reports Generated", String.valueOf(systemLogService.getRecent(100).stream()
+                statCard("Reports Generated", String.valueOf(allLogs.stream().limit(100)
                         .filter(l -> l.getEventType() != null && l.getEventType().equals("Report")).count()),
                         "All time", PRIMARY, MUTED_FG()),
-                statCard("Total Donations", String.valueOf(allDonations.size()), "Records", SECONDARY, SECONDARY),
+                statCard("Total Donations", String.valueOf(donationCount), "Records", SECONDARY, SECONDARY),
                 statCard("Audit Entries", String.valueOf(totalLogCount), "Total logged events", PRIMARY, MUTED_FG()),
-                statCard("Children", String.valueOf(allChildren.size()), "In system", PRIMARY, MUTED_FG()));
+                statCard("Children", String.valueOf(childCount), "In system", PRIMARY, MUTED_FG()));
 
         // ── Event Logs Section ──
         VBox eventLogsCard = new VBox(0);
@@ -1398,14 +1684,158 @@ public class AdminController {
     }
 
     /**
-     * Builds the dynamic report preview card based on the selected report type.
+     * The content of a report, from the report cache while the tables it
+     * reads are unchanged, otherwise computed from freshly loaded data.
+     * Returns null, after an alert, if the data could not be loaded.
+     */
+    private ReportData reportData(String reportType, String dateRange) {
+        java.util.List<String> tables = switch (reportType) {
+            case "Donation & Financial Report" -> java.util.List.of("donations", "users", "children");
+            case "Child Welfare Summary" -> java.util.List.of("children");
+            case "System Audit Log" -> java.util.List.of("system_logs");
+            default -> java.util.List.of("users", "children", "donations", "system_logs");
+        };
+        String json = reportCache.get(reportType, dateRange, "all", tables, () -> {
+            boolean audit = reportType.equals("System Audit Log");
+            AnalyticsSnapshot snapshot = audit ? null : loadReportSnapshot();
+            if (!audit && snapshot == null) {
+                return null;
+            }
+            boolean needsLogs = audit || reportType.equals("Performance Analytics");
+            java.util.List<SystemLog> logs = needsLogs ? systemLogService.getAll() : java.util.List.of();
+            return computeReport(reportType, dateRange, snapshot, logs).toJson();
+        });
+        return json != null ? ReportData.fromJson(json) : null;
+    }
+
+    /** A fresh analytics snapshot, or null after an alert if it could not be loaded in time. */
+    private AnalyticsSnapshot loadReportSnapshot() {
+        try {
+            return analyticsService.loadSnapshot(REPORT_DEADLINE);
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            new Alert(Alert.AlertType.ERROR, "Report data could not be loaded: " + cause.getMessage()).show();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Computes a report's summary figures and rows. Donation figures cover
+     * the selected date range; all figures come from the snapshot's columns.
+     * Summary rows are (label, value, accent colour or "").
      */
-    private VBox buildReportPreview(String reportType, java.util.List<Donation> allDonations,
-            java.util.List<Child> allChildren, java.util.List<User> allUsers,
-            java.util.List<SystemLog> allLogs,
-            java.util.Map<Integer, String> childNames, java.util.Map<Integer, String> userNames,
-            double totalDonated) {
+    private ReportData computeReport(String reportType, String dateRange, AnalyticsSnapshot snapshot,
+            java.util.List<SystemLog> allLogs) {
+        ReportData data = new ReportData();
+        switch (reportType) {
+            case "Donation & Financial Report" -> {
+                int[] donationRows = snapshot.donationsBetween(reportStart(dateRange), LocalDate.now());
+                data.addRow("summary", "Total Donations", snapshot.donationTotal(donationRows).format(), "")
+                        .addRow("summary", "Total Records", String.valueOf(donationRows.length), "")
+                        .addRow("summary", "Children Covered",
+                                String.valueOf(snapshot.donationsByChild(donationRows).nonEmpty()), SECONDARY);
+
+                int[] newest = snapshot.newestDonations(donationRows, REPORT_PREVIEW_ROWS);
+                long[] amount = snapshot.donations().amount();
+                for (int row : newest) {
+                    data.addRow("donations", snapshot.donorName(row), snapshot.childName(row),
+                            Money.valueOf(amount[row]).format(), snapshot.donationDate(row));
+                }
+                if (newest.length < donationRows.length) {
+                    data.addRow("note", "Showing the newest " + newest.length + " of " + donationRows.length
+                            + " donations. Export to CSV for the full list.");
+                }
 
+                // Top donors and purposes, ranked by amount
+                ColumnOps.Groups byDonor = snapshot.donationsByDonor(donationRows);
+                ColumnOps.Groups byPurpose = snapshot.donationsByPurpose(donationRows);
+                int[] topDonors = ColumnOps.topK(ColumnOps.select(byDonor.size(), g -> byDonor.counts()[g] > 0),
+                        g -> byDonor.sums()[g], 5);
+                int[] purposes = ColumnOps.topK(ColumnOps.select(byPurpose.size(), g -> byPurpose.counts()[g] > 0),
+                        g -> byPurpose.sums()[g], byPurpose.size());
+                for (int g : topDonors) {
+                    data.addRow("breakdown", "Top Donor", snapshot.users().username()[g],
+                            String.valueOf(byDonor.counts()[g]), Money.valueOf(byDonor.sums()[g]).format());
+                }
+                for (int g : purposes) {
+                    data.addRow("breakdown", "Purpose", snapshot.donations().purposes().decode(g),
+                            String.valueOf(byPurpose.counts()[g]), Money.valueOf(byPurpose.sums()[g]).format());
+                }
+            }
+            case "Child Welfare Summary" -> {
+                AnalyticsSnapshot.Children children = snapshot.children();
+                int[] status = children.status();
+                int activeCode = children.statuses().code("Active");
+                int activeCount = ColumnOps.select(children.size(),
+                        r -> status[r] < 0 || status[r] == activeCode).length;
+                int[] organization = children.organization();
+                java.util.BitSet organizations = new java.util.BitSet();
+                for (int r = 0; r < children.size(); r++) {
+                    String name = children.organizations().decode(organization[r]);
+                    if (name != null && !name.isEmpty()) {
+                        organizations.set(organization[r]);
+                    }
+                }
+                data.addRow("summary", "Total Children", String.valueOf(children.size()), "")
+                        .addRow("summary", "Active", String.valueOf(activeCount), SECONDARY)
+                        .addRow("summary", "Organizations", String.valueOf(organizations.cardinality()), PRIMARY);
+                for (int r = 0; r < children.size(); r++) {
+                    String gender = children.genders().decode(children.gender()[r]);
+                    String org = children.organizations().decode(organization[r]);
+                    String childStatus = children.statuses().decode(status[r]);
+                    data.addRow("children", "CH-" + (1000 + children.id()[r]), children.name()[r],
+                            String.valueOf(children.age()[r]),
+                            gender != null ? gender : "",
+                            org != null ? org : "",
+                            childStatus != null ? childStatus : "Active");
+                }
+            }
+            case "System Audit Log" -> {
+                long reportCount = allLogs.stream()
+                        .filter(l -> l.getEventType() != null && l.getEventType().equals("Report")).count();
+                long exportCount = allLogs.stream()
+                        .filter(l -> l.getEventType() != null && l.getEventType().equals("Export")).count();
+                data.addRow("summary", "Total Entries", String.valueOf(allLogs.size()), "")
+                        .addRow("summary", "Reports Generated", String.valueOf(reportCount), PRIMARY)
+                        .addRow("summary", "Exports", String.valueOf(exportCount), SECONDARY);
+                for (SystemLog log : allLogs.subList(0, Math.min(allLogs.size(), 50))) {
+                    data.addRow("logs",
+                            log.getTimestamp() != null ? log.getTimestamp() : "",
+                            log.getEventType() != null ? log.getEventType() : "",
+                            log.getActor() != null ? log.getActor() : "",
+                            log.getDescription() != null ? log.getDescription() : "");
+                }
+            }
+            case "Performance Analytics" -> {
+                int[] donationRows = snapshot.donationsBetween(reportStart(dateRange), LocalDate.now());
+                Money totalDonated = snapshot.donationTotal(donationRows);
+                int totalUsers = snapshot.users().size();
+                int activeUsers = countApproved(snapshot);
+                data.addRow("summary", "Total Users", String.valueOf(totalUsers), "")
+                        .addRow("summary", "Active Users", String.valueOf(activeUsers), SECONDARY)
+                        .addRow("summary", "Children in System", String.valueOf(snapshot.children().size()), PRIMARY)
+                        .addRow("summary", "Donation Records", String.valueOf(donationRows.length), WARNING);
+                data.addRow("metrics", "User Approval Rate",
+                                totalUsers > 0 ? (activeUsers * 100 / totalUsers) + "%" : "N/A", "Good")
+                        .addRow("metrics", "Total Donations Received", totalDonated.format(), "Good")
+                        .addRow("metrics", "Average Donation",
+                                donationRows.length == 0 ? Money.ZERO.format()
+                                        : totalDonated.dividedBy(donationRows.length).format(),
+                                "Good")
+                        .addRow("metrics", "System Log Entries", String.valueOf(allLogs.size()), "Normal")
+                        .addRow("metrics", "Database Health", "Operational", "Good");
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Builds the dynamic report preview card based on the selected report type.
+     */
+    private VBox buildReportPreview(String reportType, ReportData data) {
         VBox reportCard = new VBox(0);
         reportCard.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER()
                 + "; -fx-border-width: 1; -fx-background-radius: 8; -fx-border-radius: 8;");
@@ -1419,52 +1849,32 @@ public class AdminController {
         rHdr.getChildren().add(rTitle);
         reportCard.getChildren().add(rHdr);
 
+        HBox summaryStats = new HBox(16);
+        summaryStats.setPadding(new Insets(16));
+        for (String[] s : data.rows("summary")) {
+            VBox sBox = new VBox(4);
+            sBox.setPadding(new Insets(12));
+            sBox.setStyle("-fx-background-color: " + MUTED() + "; -fx-background-radius: 4;");
+            HBox.setHgrow(sBox, Priority.ALWAYS);
+            Label sl = new Label(s[0]);
+            sl.setFont(Font.font("Segoe UI", 11));
+            sl.setTextFill(Color.web(MUTED_FG()));
+            Label sv = new Label(s[1]);
+            sv.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 20));
+            sv.setTextFill(Color.web(TEXT()));
+            if (!s[2].isEmpty())
+                sv.setTextFill(Color.web(s[2]));
+            sBox.getChildren().addAll(sl, sv);
+            summaryStats.getChildren().add(sBox);
+        }
+        reportCard.getChildren().add(summaryStats);
+
         switch (reportType) {
             case "Donation & Financial Report" -> {
-                HBox summaryStats = new HBox(16);
-                summaryStats.setPadding(new Insets(16));
-                String totalStr = String.format("\u09F3%,.0f", totalDonated);
-                for (String[] s : new String[][] {
-                        { "Total Donations", totalStr, null },
-                        { "Total Records", String.valueOf(allDonations.size()), null },
-                        { "Children Covered", String.valueOf(childNames.size()), SECONDARY }
-                }) {
-                    VBox sBox = new VBox(4);
-                    sBox.setPadding(new Insets(12));
-                    sBox.setStyle("-fx-background-color: " + MUTED() + "; -fx-background-radius: 4;");
-                    HBox.setHgrow(sBox, Priority.ALWAYS);
-                    Label sl = new Label(s[0]);
-                    sl.setFont(Font.font("Segoe UI", 11));
-                    sl.setTextFill(Color.web(MUTED_FG()));
-                    Label sv = new Label(s[1]);
-                    sv.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 20));
-                    sv.setTextFill(Color.web(TEXT()));
-                    if (s[2] != null)
-                        sv.setTextFill(Color.web(s[2]));
-                    sBox.getChildren().addAll(sl, sv);
-                    summaryStats.getChildren().add(sBox);
-                }
-                reportCard.getChildren().add(summaryStats);
-
-                GridPane donGrid = new GridPane();
-                String[] donCols = { "Donor", "Child", "Amount", "Date" };
-                for (int i = 0; i < donCols.length; i++) {
-                    Label h = new Label(donCols[i]);
-                    h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
-                    h.setPadding(new Insets(8, 12, 8, 12));
-                    h.setStyle("-fx-background-color: " + MUTED() + ";");
-                    h.setMaxWidth(Double.MAX_VALUE);
-                    h.setTextFill(Color.web(TEXT()));
-                    donGrid.add(h, i, 0);
-                }
-                for (int r = 0; r < allDonations.size(); r++) {
-                    Donation don = allDonations.get(r);
-                    String[] rowData = {
-                            userNames.getOrDefault(don.getDonorId(), "Donor #" + don.getDonorId()),
-                            childNames.getOrDefault(don.getChildId(), "Child #" + don.getChildId()),
-                            String.format("\u09F3%,.0f", don.getAmount()),
-                            don.getDate() != null ? don.getDate() : ""
-                    };
+                GridPane donGrid = reportGrid("Donor", "Child", "Amount", "Date");
+                java.util.List<String[]> donations = data.rows("donations");
+                for (int r = 0; r < donations.size(); r++) {
+                    String[] rowData = donations.get(r);
                     for (int c = 0; c < rowData.length; c++) {
                         Label cell = new Label(rowData[c]);
                         cell.setFont(Font.font("Segoe UI", 13));
@@ -1481,56 +1891,41 @@ public class AdminController {
                     }
                 }
                 reportCard.getChildren().add(donGrid);
-            }
-            case "Child Welfare Summary" -> {
-                int activeCount = (int) allChildren.stream()
-                        .filter(ch -> ch.getStatus() == null || ch.getStatus().equals("Active")).count();
-                HBox summaryStats = new HBox(16);
-                summaryStats.setPadding(new Insets(16));
-                for (String[] s : new String[][] {
-                        { "Total Children", String.valueOf(allChildren.size()), null },
-                        { "Active", String.valueOf(activeCount), SECONDARY },
-                        { "Organizations", String.valueOf(allChildren.stream()
-                                .map(Child::getOrganization).filter(o -> o != null && !o.isEmpty())
-                                .distinct().count()), PRIMARY }
-                }) {
-                    VBox sBox = new VBox(4);
-                    sBox.setPadding(new Insets(12));
-                    sBox.setStyle("-fx-background-color: " + MUTED() + "; -fx-background-radius: 4;");
-                    HBox.setHgrow(sBox, Priority.ALWAYS);
-                    Label sl = new Label(s[0]);
-                    sl.setFont(Font.font("Segoe UI", 11));
-                    sl.setTextFill(Color.web(MUTED_FG()));
-                    Label sv = new Label(s[1]);
-                    sv.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 20));
-                    sv.setTextFill(Color.web(TEXT()));
-                    if (s[2] != null)
-                        sv.setTextFill(Color.web(s[2]));
-                    sBox.getChildren().addAll(sl, sv);
-                    summaryStats.getChildren().add(sBox);
+                String note = data.value("note");
+                if (note != null) {
+                    Label more = new Label(note);
+                    more.setFont(Font.font("Segoe UI", 12));
+                    more.setTextFill(Color.web(MUTED_FG()));
+                    more.setPadding(new Insets(8, 12, 8, 12));
+                    reportCard.getChildren().add(more);
                 }
-                reportCard.getChildren().add(summaryStats);
-
-                GridPane childGrid = new GridPane();
-                String[] cols = { "Child ID", "Name", "Age", "Gender", "Organization", "Status" };
-                for (int i = 0; i < cols.length; i++) {
-                    Label h = new Label(cols[i]);
-                    h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
-                    h.setPadding(new Insets(8, 12, 8, 12));
-                    h.setStyle("-fx-background-color: " + MUTED() + ";");
-                    h.setMaxWidth(Double.MAX_VALUE);
-                    h.setTextFill(Color.web(TEXT()));
-                    childGrid.add(h, i, 0);
+
+                java.util.List<String[]> ranked = data.rows("breakdown");
+                if (!ranked.isEmpty()) {
+                    GridPane rankGrid = reportGrid("Breakdown", "Name", "Donations", "Amount");
+                    rankGrid.setPadding(new Insets(16, 0, 0, 0));
+                    for (int r = 0; r < ranked.size(); r++) {
+                        for (int c = 0; c < ranked.get(r).length; c++) {
+                            Label cell = new Label(ranked.get(r)[c]);
+                            cell.setFont(Font.font("Segoe UI", 13));
+                            cell.setTextFill(Color.web(c == 0 ? MUTED_FG() : TEXT()));
+                            cell.setPadding(new Insets(8, 12, 8, 12));
+                            cell.setStyle("-fx-border-color: " + BORDER() + "; -fx-border-width: 0 0 1 0;");
+                            if (c == 3) {
+                                cell.setTextFill(Color.web(SECONDARY));
+                                cell.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 13));
+                            }
+                            rankGrid.add(cell, c, r + 1);
+                        }
+                    }
+                    reportCard.getChildren().add(rankGrid);
                 }
-                for (int r = 0; r < allChildren.size(); r++) {
-                    Child ch = allChildren.get(r);
-                    String[] rowData = {
-                            "CH-" + (1000 + ch.getId()), ch.getName(),
-                            String.valueOf(ch.getAge()),
-                            ch.getGender() != null ? ch.getGender() : "",
-                            ch.getOrganization() != null ? ch.getOrganization() : "",
-                            ch.getStatus() != null ? ch.getStatus() : "Active"
-                    };
+            }
+            case "Child Welfare Summary" -> {
+                GridPane childGrid = reportGrid("Child ID", "Name", "Age", "Gender", "Organization", "Status");
+                java.util.List<String[]> children = data.rows("children");
+                for (int r = 0; r < children.size(); r++) {
+                    String[] rowData = children.get(r);
                     for (int c = 0; c < rowData.length; c++) {
                         Label cell = new Label(rowData[c]);
                         cell.setFont(Font.font(c == 0 ? "Consolas" : "Segoe UI", c == 0 ? 12 : 13));
@@ -1556,54 +1951,10 @@ public class AdminController {
                 reportCard.getChildren().add(childGrid);
             }
             case "System Audit Log" -> {
-                HBox summaryStats = new HBox(16);
-                summaryStats.setPadding(new Insets(16));
-                long reportCount = allLogs.stream()
-                        .filter(l -> l.getEventType() != null && l.getEventType().equals("Report")).count();
-                long exportCount = allLogs.stream()
-                        .filter(l -> l.getEventType() != null && l.getEventType().equals("Export")).count();
-                for (String[] s : new String[][] {
-                        { "Total Entries", String.valueOf(allLogs.size()), null },
-                        { "Reports Generated", String.valueOf(reportCount), PRIMARY },
-                        { "Exports", String.valueOf(exportCount), SECONDARY }
-                }) {
-                    VBox sBox = new VBox(4);
-                    sBox.setPadding(new Insets(12));
-                    sBox.setStyle("-fx-background-color: " + MUTED() + "; -fx-background-radius: 4;");
-                    HBox.setHgrow(sBox, Priority.ALWAYS);
-                    Label sl = new Label(s[0]);
-                    sl.setFont(Font.font("Segoe UI", 11));
-                    sl.setTextFill(Color.web(MUTED_FG()));
-                    Label sv = new Label(s[1]);
-                    sv.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 20));
-                    sv.setTextFill(Color.web(TEXT()));
-                    if (s[2] != null)
-                        sv.setTextFill(Color.web(s[2]));
-                    sBox.getChildren().addAll(sl, sv);
-                    summaryStats.getChildren().add(sBox);
-                }
-                reportCard.getChildren().add(summaryStats);
-
-                GridPane logGrid = new GridPane();
-                String[] cols = { "Timestamp", "Event Type", "Actor", "Description" };
-                for (int i = 0; i < cols.length; i++) {
-                    Label h = new Label(cols[i]);
-                    h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
-                    h.setPadding(new Insets(8, 12, 8, 12));
-                    h.setStyle("-fx-background-color: " + MUTED() + ";");
-                    h.setMaxWidth(Double.MAX_VALUE);
-                    h.setTextFill(Color.web(TEXT()));
-                    logGrid.add(h, i, 0);
-                }
-                int limit = Math.min(allLogs.size(), 50);
-                for (int r = 0; r < limit; r++) {
-                    SystemLog log = allLogs.get(r);
-                    String[] rowData = {
-                            log.getTimestamp() != null ? log.getTimestamp() : "",
-                            log.getEventType() != null ? log.getEventType() : "",
-                            log.getActor() != null ? log.getActor() : "",
-                            log.getDescription() != null ? log.getDescription() : ""
-                    };
+                GridPane logGrid = reportGrid("Timestamp", "Event Type", "Actor", "Description");
+                java.util.List<String[]> logs = data.rows("logs");
+                for (int r = 0; r < logs.size(); r++) {
+                    String[] rowData = logs.get(r);
                     for (int c = 0; c < rowData.length; c++) {
                         Label cell = new Label(rowData[c]);
                         cell.setFont(Font.font(c == 0 ? "Consolas" : "Segoe UI", c == 0 ? 11 : 13));
@@ -1616,66 +1967,18 @@ public class AdminController {
                 reportCard.getChildren().add(logGrid);
             }
             case "Performance Analytics" -> {
-                int totalUsers = allUsers.size();
-                int activeUsers = (int) allUsers.stream().filter(User::isApproved).count();
-                HBox summaryStats = new HBox(16);
-                summaryStats.setPadding(new Insets(16));
-                for (String[] s : new String[][] {
-                        { "Total Users", String.valueOf(totalUsers), null },
-                        { "Active Users", String.valueOf(activeUsers), SECONDARY },
-                        { "Children in System", String.valueOf(allChildren.size()), PRIMARY },
-                        { "Donation Records", String.valueOf(allDonations.size()), WARNING }
-                }) {
-                    VBox sBox = new VBox(4);
-                    sBox.setPadding(new Insets(12));
-                    sBox.setStyle("-fx-background-color: " + MUTED() + "; -fx-background-radius: 4;");
-                    HBox.setHgrow(sBox, Priority.ALWAYS);
-                    Label sl = new Label(s[0]);
-                    sl.setFont(Font.font("Segoe UI", 11));
-                    sl.setTextFill(Color.web(MUTED_FG()));
-                    Label sv = new Label(s[1]);
-                    sv.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 20));
-                    sv.setTextFill(Color.web(TEXT()));
-                    if (s[2] != null)
-                        sv.setTextFill(Color.web(s[2]));
-                    sBox.getChildren().addAll(sl, sv);
-                    summaryStats.getChildren().add(sBox);
-                }
-                reportCard.getChildren().add(summaryStats);
-
                 // Performance metrics table
-                GridPane perfGrid = new GridPane();
-                String[] cols = { "Metric", "Value", "Status" };
-                for (int i = 0; i < cols.length; i++) {
-                    Label h = new Label(cols[i]);
-                    h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
-                    h.setPadding(new Insets(8, 12, 8, 12));
-                    h.setStyle("-fx-background-color: " + MUTED() + ";");
-                    h.setMaxWidth(Double.MAX_VALUE);
-                    h.setTextFill(Color.web(TEXT()));
-                    perfGrid.add(h, i, 0);
-                }
-                String[][] metrics = {
-                        { "User Approval Rate",
-                                totalUsers > 0 ? (activeUsers * 100 / totalUsers) + "%" : "N/A", "Good" },
-                        { "Total Donations Received",
-                                String.format("\u09F3%,.0f", totalDonated), "Good" },
-                        { "Average Donation",
-                                allDonations.isEmpty() ? "\u09F30"
-                                        : String.format("\u09F3%,.0f", totalDonated / allDonations.size()),
-                                "Good" },
-                        { "System Log Entries", String.valueOf(allLogs.size()), "Normal" },
-                        { "Database Health", "Operational", "Good" }
-                };
-                for (int r = 0; r < metrics.length; r++) {
-                    for (int c = 0; c < metrics[r].length; c++) {
-                        Label cell = new Label(metrics[r][c]);
+                GridPane perfGrid = reportGrid("Metric", "Value", "Status");
+                java.util.List<String[]> metrics = data.rows("metrics");
+                for (int r = 0; r < metrics.size(); r++) {
+                    for (int c = 0; c < metrics.get(r).length; c++) {
+                        Label cell = new Label(metrics.get(r)[c]);
                         cell.setFont(Font.font("Segoe UI", c == 0 ? FontWeight.MEDIUM : FontWeight.NORMAL, 13));
                         cell.setTextFill(Color.web(TEXT()));
                         cell.setPadding(new Insets(10, 12, 10, 12));
                         cell.setStyle("-fx-border-color: " + BORDER() + "; -fx-border-width: 0 0 1 0;");
                         if (c == 2) {
-                            Label badge = new Label(metrics[r][c]);
+                            Label badge = new Label(metrics.get(r)[c]);
                             badge.setFont(Font.font("Segoe UI", 11));
                             badge.setStyle("-fx-background-color: " + SECONDARY + "1A; -fx-text-fill: " + SECONDARY
                                     + "; -fx-background-radius: 4; -fx-padding: 2 8;");
@@ -1695,6 +1998,37 @@ public class AdminController {
         return reportCard;
     }
 
+    /** An empty report table with the given column headers in row 0. */
+    private GridPane reportGrid(String... columns) {
+        GridPane grid = new GridPane();
+        for (int i = 0; i < columns.length; i++) {
+            Label h = new Label(columns[i]);
+            h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
+            h.setPadding(new Insets(8, 12, 8, 12));
+            h.setStyle("-fx-background-color: " + MUTED() + ";");
+            h.setMaxWidth(Double.MAX_VALUE);
+            h.setTextFill(Color.web(TEXT()));
+            grid.add(h, i, 0);
+        }
+        return grid;
+    }
+
+    /** First day covered by a report's Date Range choice. */
+    private static LocalDate reportStart(String dateRange) {
+        LocalDate today = LocalDate.now();
+        return switch (dateRange) {
+            case "Last 7 Days" -> today.minusDays(7);
+            case "Last 3 Months" -> today.minusMonths(3);
+            case "Last Year" -> today.minusYears(1);
+            default -> today.minusDays(30);
+        };
+    }
+
+    private static int countApproved(AnalyticsSnapshot snapshot) {
+        boolean[] approved = snapshot.users().approved();
+        return ColumnOps.select(snapshot.users().size(), r -> approved[r]).length;
+    }
+
     // ═══════════ ADMIN (USER MANAGEMENT) PAGE ═══════════
     private ScrollPane buildAdminPage() {
         return buildAdminPage("");
@@ -1712,8 +2046,9 @@ public class AdminController {
 
         // Load users from database
         java.util.List<User> dbUsers = userService.getAllUsers();
-        int totalUsers = dbUsers.size();
-        int pendingUsers = (int) dbUsers.stream().filter(u -> !u.isApproved()).count();
+        java.util.EnumMap<UserRole, Counts> userCounts = userCounts();
+        int totalUsers = userCounts.values().stream().mapToInt(Counts::getTotal).sum();
+        int pendingUsers = userCounts.values().stream().mapToInt(Counts::getPending).sum();
         int activeUsers = totalUsers - pendingUsers;
 
         HBox stats = new HBox(16);
@@ -1745,14 +2080,14 @@ public class AdminController {
                 + "; -fx-border-width: 1; -fx-border-radius: 4; -fx-background-radius: 4; -fx-padding: 6 12; -fx-font-size: 12px;");
         search.setOnKeyReleased(e -> {
             if (e.getCode().toString().equals("ENTER") || search.getText().isEmpty()) {
-                root.setCenter(buildAdminPage(search.getText()));
+                showPage("admin", () -> buildAdminPage(search.getText()));
             }
         });
 
         Button addUser = new Button("+ Add User");
         addUser.setStyle("-fx-background-color: " + PRIMARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 6 16; -fx-font-size: 12px; -fx-cursor: hand;");
-        addUser.setOnAction(e -> root.setCenter(buildAddUserForm(null)));
+        addUser.setOnAction(e -> showPage("addUserForm", () -> buildAddUserForm(null)));
         hdr.getChildren().addAll(tl, sp1, search, addUser);
 
         GridPane grid = new GridPane();
@@ -1824,7 +2159,7 @@ public class AdminController {
                     + "; -fx-padding: 4; -fx-cursor: hand;");
 
             final int userIdToEdit = dbUser.getId();
-            edit.setOnAction(e -> root.setCenter(buildAddUserForm(dbUser)));
+            edit.setOnAction(e -> showPage("addUserForm", () -> buildAddUserForm(dbUser)));
 
             Button del = new Button("\u2716");
             del.setStyle("-fx-background-color: transparent; -fx-text-fill: " + DESTRUCTIVE
@@ -1832,7 +2167,7 @@ public class AdminController {
             final int userIdToDelete = dbUser.getId();
             del.setOnAction(e -> {
                 userService.deleteUser(userIdToDelete);
-                root.setCenter(buildAdminPage(searchQuery));
+                showPage("admin", () -> buildAdminPage(searchQuery));
             });
 
             actions.getChildren().addAll(edit, del);
@@ -1846,7 +2181,7 @@ public class AdminController {
                 final int userIdToApprove = dbUser.getId();
                 approve.setOnAction(e -> {
                     userService.approveUser(userIdToApprove);
-                    root.setCenter(buildAdminPage(searchQuery));
+                    showPage("admin", () -> buildAdminPage(searchQuery));
                 });
                 actions.getChildren().add(0, approve);
             }
@@ -1872,12 +2207,8 @@ public class AdminController {
         rolesContent.setPadding(new Insets(16));
 
         // Load real-time user counts from database
-        java.util.List<User> allUsers = userService.getAllUsers();
         java.util.Map<String, Long> roleCounts = new java.util.HashMap<>();
-        for (User u : allUsers) {
-            String roleName = u.getRole().toString();
-            roleCounts.put(roleName, roleCounts.getOrDefault(roleName, 0L) + 1);
-        }
+        userCounts.forEach((role, counts) -> roleCounts.put(role.name(), (long) counts.getTotal()));
 
         // Load role permissions from database
         java.util.Map<String, String> rolePermissions = rolePermissionsService.getAllPermissions();
@@ -1908,7 +2239,7 @@ public class AdminController {
             Button ep = new Button("Edit Permissions");
             ep.setStyle("-fx-background-color: " + PRIMARY
                     + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 6 12; -fx-font-size: 12px; -fx-cursor: hand;");
-            ep.setOnAction(e -> root.setCenter(buildEditPermissionsView(roleName, rolePermissions.get(roleName))));
+            ep.setOnAction(e -> showPage("editPermissionsView", () -> buildEditPermissionsView(roleName, rolePermissions.get(roleName))));
             roleHdr.getChildren().addAll(roleInfo, rsp, ep);
 
             FlowPane perms = new FlowPane(8, 8);
@@ -1942,7 +2273,7 @@ public class AdminController {
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
         backBtn.setOnAction(e -> {
             isShowingForm = false;
-            root.setCenter(buildAdminPage());
+            showPage("admin", () -> buildAdminPage());
         });
 
         Label title = new Label(userToEdit == null ? "Add New User" : "Edit User");
@@ -2156,21 +2487,20 @@ public class AdminController {
                     return;
                 }
 
-                // Create new user based on selected role
-                String hashedPassword = PasswordUtil.hash(password);
+                // Create new user based on selected role; the password is hashed in the background
                 User newUser = null;
                 String selectedRole = finalRoleCombo.getValue();
 
                 if (selectedRole.equals("System Admin")) {
-                    newUser = new SystemAdmin(username, hashedPassword);
+                    newUser = new SystemAdmin(username, null);
                 } else if (selectedRole.equals("Organization Admin")) {
-                    newUser = new OrganizationAdmin(username, hashedPassword);
+                    newUser = new OrganizationAdmin(username, null);
                 } else if (selectedRole.equals("Donor")) {
-                    newUser = new Donor(username, hashedPassword);
+                    newUser = new Donor(username, null);
                 } else if (selectedRole.equals("Caregiver")) {
-                    newUser = new Caregiver(username, hashedPassword);
+                    newUser = new Caregiver(username, null);
                 } else if (selectedRole.equals("Support")) {
-                    newUser = new Support(username, hashedPassword);
+                    newUser = new Support(username, null);
                 }
 
                 if (newUser != null) {
@@ -2181,14 +2511,23 @@ public class AdminController {
                         newUser.setOrganization(orgCombo.getValue());
                     }
                     
-                    boolean created = userService.createUser(newUser);
-                    if (created) {
-                        isShowingForm = false;
-                        root.setCenter(buildAdminPage());
-                    } else {
-                        errorLabel.setText("Username already exists or failed to create user");
+                    User created = newUser;
+                    FxTasks.runInBackground("create-user", submit, () -> {
+                        created.setPassword(PasswordUtil.hash(password));
+                        return userService.createUser(created);
+                    }, ok -> {
+                        if (ok) {
+                            isShowingForm = false;
+                            showPage("admin", () -> buildAdminPage());
+                        } else {
+                            errorLabel.setText("Username already exists or failed to create user");
+                            errorLabel.setVisible(true);
+                        }
+                    }, error -> {
+                        errorLabel.setText("Failed to create user");
                         errorLabel.setVisible(true);
-                    }
+                        error.printStackTrace();
+                    });
                 }
             } else {
                 // Updating existing user
@@ -2201,18 +2540,30 @@ public class AdminController {
                 }
 
                 // Update password only if new password is provided
-                if (!password.isEmpty()) {
-                    if (!password.equals(confirmPass)) {
-                        errorLabel.setText("Passwords do not match");
+                if (!password.isEmpty() && !password.equals(confirmPass)) {
+                    errorLabel.setText("Passwords do not match");
+                    errorLabel.setVisible(true);
+                    return;
+                }
+
+                FxTasks.runInBackground("update-user", submit, () -> {
+                    if (!password.isEmpty()) {
+                        userToEdit.setPassword(PasswordUtil.hash(password));
+                    }
+                    return userService.updateUserIfCurrent(userToEdit);
+                }, result -> {
+                    if (result == UpdateResult.CONFLICT) {
+                        errorLabel.setText("This user was changed by someone else while you were editing. Go back and open it again.");
                         errorLabel.setVisible(true);
                         return;
                     }
-                    userToEdit.setPassword(PasswordUtil.hash(password));
-                }
-
-                userService.updateUser(userToEdit);
-                isShowingForm = false;
-                root.setCenter(buildAdminPage());
+                    isShowingForm = false;
+                    showPage("admin", () -> buildAdminPage());
+                }, error -> {
+                    errorLabel.setText("Failed to update user");
+                    errorLabel.setVisible(true);
+                    error.printStackTrace();
+                });
             }
         });
 
@@ -2230,7 +2581,7 @@ public class AdminController {
 
         Button backBtn = new Button("\u2190 Back to System Admin");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildAdminPage()));
+        backBtn.setOnAction(e -> showPage("admin", () -> buildAdminPage()));
 
         Label title = new Label("Edit Permissions: " + roleName);
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
@@ -2274,7 +2625,7 @@ public class AdminController {
             rolePermissionsService.updatePermissions(roleName, sb.toString());
 
             // Return to admin page and refresh to show updated permissions
-            root.setCenter(buildAdminPage());
+            showPage("admin", () -> buildAdminPage());
         });
 
         page.getChildren().addAll(backBtn, title, new Label("Select the permissions for this role:"), permsList, save);
@@ -2297,7 +2648,7 @@ public class AdminController {
 
         Button backBtn = new Button("\u2190 Back to Profiles");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildChildrenPage()));
+        backBtn.setOnAction(e -> showPage("children", () -> buildChildrenPage()));
 
         Label title = new Label("Child Profile: " + name);
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
@@ -2313,25 +2664,18 @@ public class AdminController {
         StackPane avatar = new StackPane();
         avatar.setPrefSize(64, 64);
         avatar.setStyle("-fx-background-color: " + PRIMARY + "1A; -fx-background-radius: 32;");
+        // Letter stays underneath as a placeholder until the photo has been decoded
+        Label avatarLetter = new Label(name.substring(0, 1));
+        avatarLetter.setTextFill(Color.web(PRIMARY));
+        avatarLetter.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
+        avatar.getChildren().add(avatarLetter);
         if (child.getPhotoPath() != null && !child.getPhotoPath().isEmpty()) {
-            try {
-                javafx.scene.image.Image img = new javafx.scene.image.Image("file:" + child.getPhotoPath(), 64, 64, true, true);
-                javafx.scene.image.ImageView iv = new javafx.scene.image.ImageView(img);
-                iv.setFitWidth(64); iv.setFitHeight(64);
-                javafx.scene.shape.Circle clip = new javafx.scene.shape.Circle(32, 32, 32);
-                iv.setClip(clip);
-                avatar.getChildren().add(iv);
-            } catch (Exception ignored) {
-                Label avatarLetter = new Label(name.substring(0, 1));
-                avatarLetter.setTextFill(Color.web(PRIMARY));
-                avatarLetter.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
-                avatar.getChildren().add(avatarLetter);
-            }
-        } else {
-            Label avatarLetter = new Label(name.substring(0, 1));
-            avatarLetter.setTextFill(Color.web(PRIMARY));
-            avatarLetter.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
-            avatar.getChildren().add(avatarLetter);
+            javafx.scene.image.ImageView iv = new javafx.scene.image.ImageView();
+            iv.setFitWidth(64); iv.setFitHeight(64);
+            javafx.scene.shape.Circle clip = new javafx.scene.shape.Circle(32, 32, 32);
+            iv.setClip(clip);
+            avatar.getChildren().add(iv);
+            ImageCache.loadInto(iv, child.getPhotoPath(), 64);
         }
 
         VBox info = new VBox(4);
@@ -2378,7 +2722,7 @@ public class AdminController {
 
         editBtn.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER()
                 + "; -fx-border-radius: 4; -fx-padding: 8 16; -fx-cursor: hand; -fx-text-fill: " + TEXT() + ";");
-        editBtn.setOnAction(e -> root.setCenter(buildEditChildForm(childId)));
+        editBtn.setOnAction(e -> showPage("editChildForm", () -> buildEditChildForm(childId)));
         delBtn.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + DESTRUCTIVE
                 + "; -fx-border-radius: 4; -fx-padding: 8 16; -fx-cursor: hand; -fx-text-fill: " + DESTRUCTIVE + ";");
         delBtn.setOnAction(e -> {
@@ -2391,7 +2735,7 @@ public class AdminController {
                     systemLogService.save(new SystemLog("Data Update",
                             "Deleted child profile: " + name, user.getUsername(),
                             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
-                    root.setCenter(buildChildrenPage());
+                    showPage("children", () -> buildChildrenPage());
                 }
             });
         });
@@ -2411,7 +2755,7 @@ public class AdminController {
         Button backBtn = new Button("\u2190 Back to Alerts");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + util.ThemeManager.PRIMARY
                 + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildAlertsPage()));
+        backBtn.setOnAction(e -> showPage("alerts", () -> buildAlertsPage()));
 
         Label title = new Label("Alert Detail: " + alert[1]);
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
@@ -2445,7 +2789,7 @@ public class AdminController {
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 10 20; -fx-font-weight: bold; -fx-cursor: hand;");
         resolve.setOnAction(e -> {
             activeAlerts.remove(alert);
-            root.setCenter(buildAlertsPage());
+            showPage("alerts", () -> buildAlertsPage());
         });
         
         buttons.getChildren().add(resolve);
@@ -2502,7 +2846,7 @@ public class AdminController {
                         successAlert.setContentText("Donor " + donorUser.getUsername() + " has been notified about the subscription renewal.");
                         successAlert.showAndWait();
                         
-                        root.setCenter(buildAlertsPage());
+                        showPage("alerts", () -> buildAlertsPage());
                     }
                 } catch (Exception ex) {
                     Alert errorAlert = new Alert(Alert.AlertType.ERROR);
@@ -2533,7 +2877,7 @@ public class AdminController {
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
         backBtn.setOnAction(e -> {
             isShowingForm = false;
-            root.setCenter(buildChildrenPage());
+            showPage("children", () -> buildChildrenPage());
         });
 
         Label title = new Label("Add New Child");
@@ -2609,10 +2953,10 @@ public class AdminController {
         caregiverBox.setMaxWidth(Double.MAX_VALUE);
         
         // Populate with available caregivers
-        java.util.List<User> allCaregivers = childService.getAllCaregivers();
+        java.util.List<UserRef> allCaregivers = childService.getCaregiverRefs();
         java.util.Map<String, Integer> caregiverMap = new java.util.HashMap<>();
         caregiverBox.getItems().add("-- No Assignment --");
-        for (User cg : allCaregivers) {
+        for (UserRef cg : allCaregivers) {
             String displayName = cg.getUsername() + " (ID: " + cg.getId() + ")";
             caregiverBox.getItems().add(displayName);
             caregiverMap.put(displayName, cg.getId());
@@ -2711,7 +3055,7 @@ public class AdminController {
                     Alert success = new Alert(Alert.AlertType.INFORMATION, "Child added successfully!");
                     success.showAndWait();
                     isShowingForm = false;
-                    root.setCenter(buildChildrenPage());
+                    showPage("children", () -> buildChildrenPage());
                 } else {
                     validationError.setText("⚠ Failed to save child to database. Please try again.");
                     validationError.setVisible(true);
@@ -2755,7 +3099,7 @@ public class AdminController {
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
         backBtn.setOnAction(e -> {
             isShowingForm = false;
-            root.setCenter(buildChildProfileDetailView(childId));
+            showPage("childProfileDetailView", () -> buildChildProfileDetailView(childId));
         });
 
         Label title = new Label("Edit Child: " + child.getName());
@@ -2828,10 +3172,10 @@ public class AdminController {
         caregiverBox.setMaxWidth(Double.MAX_VALUE);
         
         // Populate with available caregivers
-        java.util.List<User> allCaregivers = childService.getAllCaregivers();
+        java.util.List<UserRef> allCaregivers = childService.getCaregiverRefs();
         java.util.Map<String, Integer> caregiverMap = new java.util.HashMap<>();
         caregiverBox.getItems().add("-- No Assignment --");
-        for (User cg : allCaregivers) {
+        for (UserRef cg : allCaregivers) {
             String displayName = cg.getUsername() + " (ID: " + cg.getId() + ")";
             caregiverBox.getItems().add(displayName);
             caregiverMap.put(displayName, cg.getId());
@@ -2987,8 +3331,15 @@ public class AdminController {
                 child.setDateOfBirth(dobPicker.getValue() != null ? dobPicker.getValue().toString() : "");
                 child.setStatus(statusBox.getValue());
                 child.setPhotoPath(newPhotoPath[0]);
-                
-                // Handle caregiver changes
+
+                // Save the form fields only if nobody changed the child since the form opened
+                if (childService.updateChildIfCurrent(child) == UpdateResult.CONFLICT) {
+                    validationError.setText("⚠ This child was changed by someone else while you were editing. Go back and open it again.");
+                    validationError.setVisible(true);
+                    return;
+                }
+
+                // Handle caregiver changes (the service notifies the caregiver)
                 if (previousCaregiverId != null && newCaregiverId == null) {
                     // Caregiver was removed
                     childService.removeCaregiverFromChild(childId, user.getUsername());
@@ -3000,12 +3351,8 @@ public class AdminController {
                     systemLogService.save(new SystemLog("Caregiver Assignment",
                             "Assigned child " + name + " to caregiver ID " + newCaregiverId, user.getUsername(),
                             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
-                } else {
-                    child.setAssignedCaregiverId(newCaregiverId);
                 }
                 
-                childService.updateChild(child);
-                
                 // Save medical record
                 String bloodGroup = medicalBloodGroup.getValue() != null ? medicalBloodGroup.getValue() : "";
                 String medCondition = medicalCondition.getText().trim();
@@ -3052,7 +3399,7 @@ public class AdminController {
                 Alert success = new Alert(Alert.AlertType.INFORMATION, "Child updated successfully!");
                 success.showAndWait();
                 isShowingForm = false;
-                root.setCenter(buildChildProfileDetailView(childId));
+                showPage("childProfileDetailView", () -> buildChildProfileDetailView(childId));
             } catch (Exception ex) {
                 validationError.setText("⚠ Error updating child: " + ex.getMessage());
                 validationError.setVisible(true);
@@ -3158,45 +3505,31 @@ public class AdminController {
         java.time.LocalDate today = java.time.LocalDate.now();
         java.time.LocalDate sevenDaysFromNow = today.plusDays(7);
         
-        java.util.List<Donation> allDonations = donationService.getAll();
-        if (allDonations == null || allDonations.isEmpty()) {
-            return subscriptionAlerts;
-        }
-        
-        for (Donation donation : allDonations) {
-            if (donation.isRecurring() && donation.getEndDate() != null && !donation.getEndDate().isEmpty()) {
-                try {
-                    java.time.LocalDate endDate = java.time.LocalDate.parse(donation.getEndDate());
-                    
-                    // If subscription ends within 7 days
-                    if (!endDate.isBefore(today) && !endDate.isAfter(sevenDaysFromNow)) {
-                        Child child = childService.getChildById(donation.getChildId());
-                        Donor donor = (Donor) userService.findById(donation.getDonorId());
-                        
-                        if (child != null && donor != null) {
-                            long daysUntilExpiry = java.time.temporal.ChronoUnit.DAYS.between(today, endDate);
-                            String title = "Subscription Ending Soon";
-                            String id = "ALT-SUB-" + donation.getId();
-                            String timestamp = daysUntilExpiry + " day(s) remaining";
-                            String description = "Child " + child.getName() + " (CH-" + child.getId() + 
-                                ") subscription ending in " + daysUntilExpiry + " day(s). Donor: " + donor.getUsername();
-                            String childId = "CH-" + child.getId();
-                            
-                            subscriptionAlerts.add(new String[]{
-                                "critical",
-                                title,
-                                id,
-                                timestamp,
-                                description,
-                                childId,
-                                String.valueOf(donation.getId()),
-                                String.valueOf(donation.getDonorId())
-                            });
-                        }
-                    }
-                } catch (Exception e) {
-                    // Skip invalid date formats
-                }
+        // Recurring donations ending within 7 days, found through the end_day index
+        for (Donation donation : donationService.getRecurringEndingBetween(today, sevenDaysFromNow)) {
+            java.time.LocalDate endDate = java.time.LocalDate.parse(donation.getEndDate().substring(0, 10));
+            Child child = childService.getChildById(donation.getChildId());
+            Donor donor = (Donor) userService.findById(donation.getDonorId());
+
+            if (child != null && donor != null) {
+                long daysUntilExpiry = java.time.temporal.ChronoUnit.DAYS.between(today, endDate);
+                String title = "Subscription Ending Soon";
+                String id = "ALT-SUB-" + donation.getId();
+                String timestamp = daysUntilExpiry + " day(s) remaining";
+                String description = "Child " + child.getName() + " (CH-" + child.getId() + 
+                    ") subscription ending in " + daysUntilExpiry + " day(s). Donor: " + donor.getUsername();
+                String childId = "CH-" + child.getId();
+                
+                subscriptionAlerts.add(new String[]{
+                    "critical",
+                    title,
+                    id,
+                    timestamp,
+                    description,
+                    childId,
+                    String.valueOf(donation.getId()),
+                    String.valueOf(donation.getDonorId())
+                });
             }
         }
         
@@ -2,6 +2,8 @@ package controller;
 
 import exception.UserNotApprovedException;
 import exception.InvalidContactException;
+import exception.LoginThrottledException;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -15,6 +17,7 @@ import model.user.*;
 import service.AuthService;
 import service.UserService;
 import util.PasswordUtil;
+import util.FxTasks;
 import util.ContactValidator;
 
 /**
@@ -147,7 +150,7 @@ public class AuthController {
                 PRIMARY));
         signInBtn.setOnMouseEntered(e -> signInBtn.setStyle(signInBtn.getStyle().replace(PRIMARY, "#1d4ed8")));
         signInBtn.setOnMouseExited(e -> signInBtn.setStyle(signInBtn.getStyle().replace("#1d4ed8", PRIMARY)));
-        signInBtn.setOnAction(e -> handleLogin(loginUserField.getText(), loginPassField.getText(), errorLabel));
+        signInBtn.setOnAction(e -> handleLogin(loginUserField.getText(), loginPassField.getText(), errorLabel, signInBtn));
         loginPassField.setOnAction(e -> signInBtn.fire());
 
         // Divider
@@ -567,16 +570,25 @@ public class AuthController {
                 // Validate email and phone number
                 ContactValidator.validateContact(email, phoneNumber);
 
-                Donor donor = new Donor(username, PasswordUtil.hash(password));
+                Donor donor = new Donor(username, null);
                 donor.setEmail(email);
                 donor.setPhoneNumber(phoneNumber);
                 donor.setOrganization(organization);
                 donor.setApproved(true); // Auto-approve for easy login
-                if (userService.createUser(donor)) {
-                    showSuccessPage("Donor");
-                } else {
-                    errorLabel.setText("Username already exists. Please choose a different one.");
-                }
+                // Password hashing is intentionally expensive, so run it off the FX thread
+                FxTasks.runInBackground("sign-up", registerBtn, () -> {
+                    donor.setPassword(PasswordUtil.hash(password));
+                    return userService.createUser(donor);
+                }, created -> {
+                    if (created) {
+                        showSuccessPage("Donor");
+                    } else {
+                        errorLabel.setText("Username already exists. Please choose a different one.");
+                    }
+                }, error -> {
+                    errorLabel.setText("Registration failed. Please try again.");
+                    error.printStackTrace();
+                });
             } catch (InvalidContactException ex) {
                 errorLabel.setText(ex.getMessage());
             }
@@ -778,16 +790,25 @@ public class AuthController {
                 // Validate email and phone number
                 ContactValidator.validateContact(email, phoneNumber);
 
-                Caregiver caregiver = new Caregiver(username, PasswordUtil.hash(password));
+                Caregiver caregiver = new Caregiver(username, null);
                 caregiver.setEmail(email);
                 caregiver.setPhoneNumber(phoneNumber);
                 caregiver.setOrganization(organization);
                 caregiver.setApproved(true); // Auto-approve for easy login
-                if (userService.createUser(caregiver)) {
-                    showSuccessPage("Caregiver");
-                } else {
-                    errorLabel.setText("Username already exists. Please choose a different one.");
-                }
+                // Password hashing is intentionally expensive, so run it off the FX thread
+                FxTasks.runInBackground("sign-up", registerBtn, () -> {
+                    caregiver.setPassword(PasswordUtil.hash(password));
+                    return userService.createUser(caregiver);
+                }, created -> {
+                    if (created) {
+                        showSuccessPage("Caregiver");
+                    } else {
+                        errorLabel.setText("Username already exists. Please choose a different one.");
+                    }
+                }, error -> {
+                    errorLabel.setText("Registration failed. Please try again.");
+                    error.printStackTrace();
+                });
             } catch (InvalidContactException ex) {
                 errorLabel.setText(ex.getMessage());
             }
@@ -980,15 +1001,24 @@ public class AuthController {
                 // Validate email and phone number
                 ContactValidator.validateContact(email, phoneNumber);
 
-                Support support = new Support(username, PasswordUtil.hash(password));
+                Support support = new Support(username, null);
                 support.setEmail(email);
                 support.setPhoneNumber(phoneNumber);
                 support.setApproved(true); // Auto-approve for easy login
-                if (userService.createUser(support)) {
-                    showSuccessPage("Support");
-                } else {
-                    errorLabel.setText("Username already exists. Please choose a different one.");
-                }
+                // Password hashing is intentionally expensive, so run it off the FX thread
+                FxTasks.runInBackground("sign-up", registerBtn, () -> {
+                    support.setPassword(PasswordUtil.hash(password));
+                    return userService.createUser(support);
+                }, created -> {
+                    if (created) {
+                        showSuccessPage("Support");
+                    } else {
+                        errorLabel.setText("Username already exists. Please choose a different one.");
+                    }
+                }, error -> {
+                    errorLabel.setText("Registration failed. Please try again.");
+                    error.printStackTrace();
+                });
             } catch (InvalidContactException ex) {
                 errorLabel.setText(ex.getMessage());
             }
@@ -1090,8 +1120,7 @@ public class AuthController {
         alert.showAndWait();
     }
 
-    private void handleLogin(String username, String password, Label errorLabel) {
-        System.out.println("Login attempt for user: " + username);
+    private void handleLogin(String username, String password, Label errorLabel, Button signInBtn) {
         errorLabel.setText("");
 
         if (username == null || username.trim().isEmpty()) {
@@ -1103,8 +1132,23 @@ public class AuthController {
             return;
         }
 
-        try {
-            User user = authService.login(username.trim(), password);
+        // Password hashing is intentionally expensive, so verify credentials off the FX thread
+        String trimmedUsername = username.trim();
+        Task<User> loginTask = new Task<>() {
+            @Override
+            protected User call() throws Exception {
+                return authService.login(trimmedUsername, password, AuthService.LOCAL_SOURCE,
+                        progress -> updateMessage(progress.getMessage()));
+            }
+        };
+        String signInText = signInBtn.getText();
+        signInBtn.setDisable(true);
+        signInBtn.textProperty().bind(loginTask.messageProperty());
+        loginTask.setOnSucceeded(e -> {
+            signInBtn.textProperty().unbind();
+            signInBtn.setText(signInText);
+            signInBtn.setDisable(false);
+            User user = loginTask.getValue();
 
             // Navigate based on user role
             switch (user.getRole()) {
@@ -1115,11 +1159,24 @@ public class AuthController {
                 case SUPPORT -> new SupportController(stage, user).show(); // Redirect to Support Dashboard
                 default -> errorLabel.setText("Unknown user role.");
             }
-        } catch (UserNotApprovedException e) {
-            errorLabel.setText(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            errorLabel.setText(e.getMessage());
-        }
+        });
+        loginTask.setOnFailed(e -> {
+            signInBtn.textProperty().unbind();
+            signInBtn.setText(signInText);
+            signInBtn.setDisable(false);
+            Throwable error = loginTask.getException();
+            if (error instanceof UserNotApprovedException || error instanceof LoginThrottledException
+                    || error instanceof IllegalArgumentException) {
+                errorLabel.setText(error.getMessage());
+            } else {
+                errorLabel.setText("Login failed. Please try again.");
+                error.printStackTrace();
+            }
+        });
+
+        Thread loginThread = new Thread(loginTask, "login");
+        loginThread.setDaemon(true);
+        loginThread.start();
     }
 
     private void styleInput(TextField field) {
@@ -13,9 +13,11 @@ import javafx.stage.Stage;
 import javafx.animation.Timeline;
 import javafx.animation.KeyFrame;
 import javafx.util.Duration;
+import exception.LoginThrottledException;
 import model.entity.Child;
 import model.entity.SystemLog;
 import model.user.User;
+import service.AuthService;
 import service.ChildService;
 import service.SystemLogService;
 import model.entity.MedicalRecord;
@@ -23,6 +25,10 @@ import model.entity.EducationRecord;
 import service.MedicalRecordService;
 import service.EducationRecordService;
 import util.ThemeManager;
+import util.ImageCache;
+import util.FlightEvents;
+import util.FxTasks;
+import util.PageLifecycle;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -39,6 +45,7 @@ public class CaregiverController {
     private final Stage stage;
     private final User user;
     private BorderPane root;
+    private PageLifecycle.Host pages;
     private Scene scene;
     private VBox sidebar;
     private String activePage = "dashboard";
@@ -87,9 +94,10 @@ public class CaregiverController {
 
     public void show() {
         root = new BorderPane();
+        pages = new PageLifecycle.Host(stage, root);
         root.setTop(buildHeader());
         root.setLeft(buildSidebar());
-        root.setCenter(buildDashboardPage());
+        showPage("dashboard", () -> buildDashboardPage());
         root.setStyle("-fx-background-color: " + BG() + ";");
         scene = new Scene(root, 1280, 800);
         
@@ -112,13 +120,21 @@ public class CaregiverController {
         root.setTop(buildHeader());
         root.setLeft(buildSidebar());
         switch (activePage) {
-            case "dashboard" -> root.setCenter(buildDashboardPage());
-            case "children" -> root.setCenter(buildChildrenPage());
-            case "alerts" -> root.setCenter(buildAlertsPage());
-            case "reports" -> root.setCenter(buildReportsPage());
+            case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+            case "children" -> showPage("children", () -> buildChildrenPage());
+            case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+            case "reports" -> showPage("reports", () -> buildReportsPage());
         }
     }
 
+    /**
+     * Builds and shows a page, recording a Flight Recorder event for the build.
+     * The previous page's lifecycle is disposed first.
+     */
+    private void showPage(String pageId, java.util.function.Supplier<Node> builder) {
+        pages.show(() -> FlightEvents.buildPage("CaregiverController", pageId, builder));
+    }
+
     // ═══════════ HEADER ═══════════
     private HBox buildHeader() {
         HBox header = new HBox();
@@ -164,7 +180,7 @@ public class CaregiverController {
         
         // Make user box clickable to show profile
         userTypeBox.setStyle(userTypeBox.getStyle() + "; -fx-cursor: hand;");
-        userTypeBox.setOnMouseClicked(e -> root.setCenter(buildProfilePage()));
+        userTypeBox.setOnMouseClicked(e -> showPage("profile", () -> buildProfilePage()));
         
         header.getChildren().addAll(logoIcon, titleBox, spacer, userTypeBox);
         return header;
@@ -178,7 +194,7 @@ public class CaregiverController {
         
         Button backBtn = new Button("\u2190 Back");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand; -fx-font-size: 13px;");
-        backBtn.setOnAction(e -> root.setCenter(buildDashboardPage()));
+        backBtn.setOnAction(e -> showPage("dashboard", () -> buildDashboardPage()));
         
         VBox card = new VBox(0);
         card.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER() + "; -fx-border-width: 1; -fx-background-radius: 8; -fx-border-radius: 8;");
@@ -198,9 +214,7 @@ public class CaregiverController {
             photoView.setClip(clip);
             clip.setCenterX(30);
             clip.setCenterY(30);
-            try {
-                photoView.setImage(new javafx.scene.image.Image(new java.io.File(user.getProfilePhoto()).toURI().toString()));
-            } catch (Exception e) {}
+            ImageCache.loadInto(photoView, user.getProfilePhoto(), 60);
             profileIcon = photoView;
         } else {
             Label icon = new Label("👤");
@@ -308,6 +322,7 @@ public class CaregiverController {
         TextField emailField = new TextField(user.getEmail() != null ? user.getEmail() : "");
         TextField phoneField = new TextField(user.getPhoneNumber() != null ? user.getPhoneNumber() : "");
         TextField orgField = new TextField(user.getOrganization() != null ? user.getOrganization() : "");
+        orgField.setEditable(false); // organization membership is changed by an administrator
         
         Label photoLabel = new Label("Photo:");
         Button changePhotoBtn = new Button("Select Image");
@@ -336,14 +351,13 @@ public class CaregiverController {
             if (buttonType == ButtonType.OK) {
                 user.setEmail(emailField.getText());
                 user.setPhoneNumber(phoneField.getText());
-                user.setOrganization(orgField.getText());
                 user.setProfilePhoto(newPhotoPath[0]);
                 
                 UserService userService = new UserService();
                 if (userService.updateProfile(user)) {
                     Alert a = new Alert(Alert.AlertType.INFORMATION, "Profile updated successfully!");
                     a.show();
-                    root.setCenter(buildProfilePage());
+                    showPage("profile", () -> buildProfilePage());
                     root.setTop(buildHeader());
                     return true;
                 } else {
@@ -394,20 +408,22 @@ public class CaregiverController {
                     a.show();
                     return null;
                 }
-                if (!util.PasswordUtil.verify(currentPass.getText(), user.getPassword())) {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Current password is incorrect.");
-                    a.show();
-                    return null;
-                }
-                user.setPassword(util.PasswordUtil.hash(newPass.getText()));
-                UserService userService = new UserService();
-                if (userService.updateProfile(user)) {
-                    Alert a = new Alert(Alert.AlertType.INFORMATION, "Password updated successfully!");
-                    a.show();
-                } else {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Failed to update password.");
-                    a.show();
-                }
+                String current = currentPass.getText();
+                String next = newPass.getText();
+                // Password hashing is intentionally expensive, so run it off the FX thread
+                FxTasks.runInBackground("change-password", null,
+                        () -> new AuthService().changePassword(user, current, next),
+                        updated -> new Alert(updated ? Alert.AlertType.INFORMATION : Alert.AlertType.ERROR,
+                                updated ? "Password updated successfully!" : "Failed to update password.").show(),
+                        error -> {
+                            boolean expected = error instanceof IllegalArgumentException
+                                    || error instanceof LoginThrottledException;
+                            if (!expected) {
+                                error.printStackTrace();
+                            }
+                            new Alert(Alert.AlertType.ERROR,
+                                    expected ? error.getMessage() : "Failed to update password.").show();
+                        });
             }
             return null;
         });
@@ -604,10 +620,10 @@ public class CaregiverController {
             activePage = pageId;
             refreshSidebar();
             switch (pageId) {
-                case "dashboard" -> root.setCenter(buildDashboardPage());
-                case "children" -> root.setCenter(buildChildrenPage());
-                case "alerts" -> root.setCenter(buildAlertsPage());
-                case "reports" -> root.setCenter(buildReportsPage());
+                case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+                case "children" -> showPage("children", () -> buildChildrenPage());
+                case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+                case "reports" -> showPage("reports", () -> buildReportsPage());
             }
         });
         return btn;
@@ -701,19 +717,19 @@ public class CaregiverController {
         qaViewChildren.setOnMouseClicked(e -> {
             activePage = "children";
             refreshSidebar();
-            root.setCenter(buildChildrenPage());
+            showPage("children", () -> buildChildrenPage());
         });
         VBox qaSubmitReport = createQuickActionCard("Submit Report", "Log daily activities");
         qaSubmitReport.setOnMouseClicked(e -> {
             activePage = "reports";
             refreshSidebar();
-            root.setCenter(buildReportsPage());
+            showPage("reports", () -> buildReportsPage());
         });
         VBox qaViewAlerts = createQuickActionCard("View Alerts", "Check notifications");
         qaViewAlerts.setOnMouseClicked(e -> {
             activePage = "alerts";
             refreshSidebar();
-            root.setCenter(buildAlertsPage());
+            showPage("alerts", () -> buildAlertsPage());
         });
         qaCards.getChildren().addAll(qaViewChildren, qaSubmitReport, qaViewAlerts);
 
@@ -794,13 +810,10 @@ public class CaregiverController {
         // Initial update
         updateDashboard.run();
         
-        // Set up auto-refresh every 30 seconds
+        // Auto-refresh every 30 seconds while the dashboard is on screen
         Timeline refreshTimeline = new Timeline(new KeyFrame(Duration.seconds(30), event -> updateDashboard.run()));
         refreshTimeline.setCycleCount(Timeline.INDEFINITE);
-        refreshTimeline.play();
-        
-        // Store timeline in scene so it doesn't get garbage collected
-        page.setUserData(refreshTimeline);
+        PageLifecycle.current().play(refreshTimeline);
 
         return wrapScroll(page);
     }
@@ -879,7 +892,7 @@ public class CaregiverController {
                 Button view = new Button("View Details");
                 styleBtn(view, PRIMARY);
                 final int childId = c.getId();
-                view.setOnAction(e -> root.setCenter(buildChildDetailPage(childId)));
+                view.setOnAction(e -> showPage("childDetail", () -> buildChildDetailPage(childId)));
 
                 row.getChildren().addAll(avatar, info, statusBadge, r, view);
                 list.getChildren().add(row);
@@ -904,7 +917,7 @@ public class CaregiverController {
 
         Button backBtn = new Button("\u2190 Back to My Children");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildChildrenPage()));
+        backBtn.setOnAction(e -> showPage("children", () -> buildChildrenPage()));
 
         Label title = new Label("Child Profile: " + child.getName());
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
@@ -921,25 +934,18 @@ public class CaregiverController {
         StackPane avatar = new StackPane();
         avatar.setPrefSize(64, 64);
         avatar.setStyle("-fx-background-color: " + PRIMARY + "1A; -fx-background-radius: 32;");
+        // Letter stays underneath as a placeholder until the photo has been decoded
+        Label avatarLetter = new Label(child.getName().substring(0, 1));
+        avatarLetter.setTextFill(Color.web(PRIMARY));
+        avatarLetter.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
+        avatar.getChildren().add(avatarLetter);
         if (child.getPhotoPath() != null && !child.getPhotoPath().isEmpty()) {
-            try {
-                javafx.scene.image.Image img = new javafx.scene.image.Image("file:" + child.getPhotoPath(), 64, 64, true, true);
-                javafx.scene.image.ImageView iv = new javafx.scene.image.ImageView(img);
-                iv.setFitWidth(64); iv.setFitHeight(64);
-                javafx.scene.shape.Circle clip = new javafx.scene.shape.Circle(32, 32, 32);
-                iv.setClip(clip);
-                avatar.getChildren().add(iv);
-            } catch (Exception ignored) {
-                Label avatarLetter = new Label(child.getName().substring(0, 1));
-                avatarLetter.setTextFill(Color.web(PRIMARY));
-                avatarLetter.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
-                avatar.getChildren().add(avatarLetter);
-            }
-        } else {
-            Label avatarLetter = new Label(child.getName().substring(0, 1));
-            avatarLetter.setTextFill(Color.web(PRIMARY));
-            avatarLetter.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
-            avatar.getChildren().add(avatarLetter);
+            javafx.scene.image.ImageView iv = new javafx.scene.image.ImageView();
+            iv.setFitWidth(64); iv.setFitHeight(64);
+            javafx.scene.shape.Circle clip = new javafx.scene.shape.Circle(32, 32, 32);
+            iv.setClip(clip);
+            avatar.getChildren().add(iv);
+            ImageCache.loadInto(iv, child.getPhotoPath(), 64);
         }
 
         VBox info = new VBox(4);
@@ -1197,7 +1203,7 @@ public class CaregiverController {
             Alert a = new Alert(Alert.AlertType.INFORMATION, "Report submitted successfully!");
             a.showAndWait();
             // Page will rebuild with form cleared automatically
-            root.setCenter(buildReportsPage());
+            showPage("reports", () -> buildReportsPage());
         });
 
         content.getChildren().addAll(validationError, formTitle, l1, datePicker, l2, summary, submit);
@@ -10,29 +10,43 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
+import exception.LoginThrottledException;
 import model.entity.Child;
 import model.entity.Donation;
 import model.entity.Notification;
 import model.entity.SystemLog;
 import model.user.User;
+import repository.UpdateResult;
+import service.AuthService;
 import service.ChildService;
 import service.DonationService;
 import service.NotificationService;
 import service.SystemLogService;
 import service.MedicalRecordService;
 import service.EducationRecordService;
+import service.ReportCache;
 import model.entity.MedicalRecord;
 import model.entity.EducationRecord;
 import util.ThemeManager;
+import util.ImageCache;
+import util.FlightEvents;
+import util.FxTasks;
+import util.PageLifecycle;
 import javafx.stage.FileChooser;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
 import util.FAQs;
+import util.Money;
+import util.TaskScope;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import service.UserService;
 
 /**
@@ -44,6 +58,7 @@ public class DonorController {
     private final Stage stage;
     private final User user;
     private BorderPane root;
+    private PageLifecycle.Host pages;
     private Scene scene;
     private VBox sidebar;
     private String activePage = "dashboard";
@@ -54,6 +69,10 @@ public class DonorController {
     private final SystemLogService systemLogService = new SystemLogService();
     private final MedicalRecordService medicalRecordService = new MedicalRecordService();
     private final EducationRecordService educationRecordService = new EducationRecordService();
+    private final ReportCache reportCache = ReportCache.getInstance();
+
+    /** How long a generated report may take to load its data. */
+    private static final java.time.Duration REPORT_DEADLINE = java.time.Duration.ofSeconds(20);
 
     private static final String PRIMARY = ThemeManager.PRIMARY;
     private static final String SECONDARY = ThemeManager.SECONDARY;
@@ -93,9 +112,10 @@ public class DonorController {
 
     public void show() {
         root = new BorderPane();
+        pages = new PageLifecycle.Host(stage, root);
         root.setTop(buildHeader());
         root.setLeft(buildSidebar());
-        root.setCenter(buildDashboardPage());
+        showPage("dashboard", () -> buildDashboardPage());
         root.setStyle("-fx-background-color: " + BG() + ";");
         scene = new Scene(root, 1280, 800);
         
@@ -119,15 +139,23 @@ public class DonorController {
         root.setLeft(buildSidebar());
         // Refresh current page
         switch (activePage) {
-            case "dashboard" -> root.setCenter(buildDashboardPage());
-            case "sponsorship" -> root.setCenter(buildSponsorshipPage());
-            case "donations" -> root.setCenter(buildDonationsPage());
-            case "alerts" -> root.setCenter(buildAlertsPage());
-            case "inquiries" -> root.setCenter(buildInquiriesPage());
-            case "reports" -> root.setCenter(buildReportsPage());
+            case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+            case "sponsorship" -> showPage("sponsorship", () -> buildSponsorshipPage());
+            case "donations" -> showPage("donations", () -> buildDonationsPage());
+            case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+            case "inquiries" -> showPage("inquiries", () -> buildInquiriesPage());
+            case "reports" -> showPage("reports", () -> buildReportsPage());
         }
     }
 
+    /**
+     * Builds and shows a page, recording a Flight Recorder event for the build.
+     * The previous page's lifecycle is disposed first.
+     */
+    private void showPage(String pageId, java.util.function.Supplier<Node> builder) {
+        pages.show(() -> FlightEvents.buildPage("DonorController", pageId, builder));
+    }
+
     // ═══════════ HEADER ═══════════
     private HBox buildHeader() {
         HBox header = new HBox();
@@ -178,7 +206,7 @@ public class DonorController {
         
         // Make user box clickable to show profile
         userTypeBox.setStyle(userTypeBox.getStyle() + "; -fx-cursor: hand;");
-        userTypeBox.setOnMouseClicked(e -> root.setCenter(buildProfilePage()));
+        userTypeBox.setOnMouseClicked(e -> showPage("profile", () -> buildProfilePage()));
 
         header.getChildren().addAll(logoIcon, titleBox, spacer, userTypeBox);
         return header;
@@ -192,7 +220,7 @@ public class DonorController {
         
         Button backBtn = new Button("\u2190 Back");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand; -fx-font-size: 13px;");
-        backBtn.setOnAction(e -> root.setCenter(buildDashboardPage()));
+        backBtn.setOnAction(e -> showPage("dashboard", () -> buildDashboardPage()));
         
         VBox card = new VBox(0);
         card.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER() + "; -fx-border-width: 1; -fx-background-radius: 8; -fx-border-radius: 8;");
@@ -212,9 +240,7 @@ public class DonorController {
             photoView.setClip(clip);
             clip.setCenterX(30);
             clip.setCenterY(30);
-            try {
-                photoView.setImage(new javafx.scene.image.Image(new java.io.File(user.getProfilePhoto()).toURI().toString()));
-            } catch (Exception e) {}
+            ImageCache.loadInto(photoView, user.getProfilePhoto(), 60);
             profileIcon = photoView;
         } else {
             Label icon = new Label("👤");
@@ -322,6 +348,7 @@ public class DonorController {
         TextField emailField = new TextField(user.getEmail() != null ? user.getEmail() : "");
         TextField phoneField = new TextField(user.getPhoneNumber() != null ? user.getPhoneNumber() : "");
         TextField orgField = new TextField(user.getOrganization() != null ? user.getOrganization() : "");
+        orgField.setEditable(false); // organization membership is changed by an administrator
         
         Label photoLabel = new Label("Photo:");
         Button changePhotoBtn = new Button("Select Image");
@@ -350,14 +377,13 @@ public class DonorController {
             if (buttonType == ButtonType.OK) {
                 user.setEmail(emailField.getText());
                 user.setPhoneNumber(phoneField.getText());
-                user.setOrganization(orgField.getText());
                 user.setProfilePhoto(newPhotoPath[0]);
                 
                 UserService userService = new UserService();
                 if (userService.updateProfile(user)) {
                     Alert a = new Alert(Alert.AlertType.INFORMATION, "Profile updated successfully!");
                     a.show();
-                    root.setCenter(buildProfilePage());
+                    showPage("profile", () -> buildProfilePage());
                     root.setTop(buildHeader());
                     return true;
                 } else {
@@ -408,20 +434,22 @@ public class DonorController {
                     a.show();
                     return null;
                 }
-                if (!util.PasswordUtil.verify(currentPass.getText(), user.getPassword())) {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Current password is incorrect.");
-                    a.show();
-                    return null;
-                }
-                user.setPassword(util.PasswordUtil.hash(newPass.getText()));
-                UserService userService = new UserService();
-                if (userService.updateProfile(user)) {
-                    Alert a = new Alert(Alert.AlertType.INFORMATION, "Password updated successfully!");
-                    a.show();
-                } else {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Failed to update password.");
-                    a.show();
-                }
+                String current = currentPass.getText();
+                String next = newPass.getText();
+                // Password hashing is intentionally expensive, so run it off the FX thread
+                FxTasks.runInBackground("change-password", null,
+                        () -> new AuthService().changePassword(user, current, next),
+                        updated -> new Alert(updated ? Alert.AlertType.INFORMATION : Alert.AlertType.ERROR,
+                                updated ? "Password updated successfully!" : "Failed to update password.").show(),
+                        error -> {
+                            boolean expected = error instanceof IllegalArgumentException
+                                    || error instanceof LoginThrottledException;
+                            if (!expected) {
+                                error.printStackTrace();
+                            }
+                            new Alert(Alert.AlertType.ERROR,
+                                    expected ? error.getMessage() : "Failed to update password.").show();
+                        });
             }
             return null;
         });
@@ -539,12 +567,12 @@ public class DonorController {
             activePage = pageId;
             refreshSidebar();
             switch (pageId) {
-                case "dashboard" -> root.setCenter(buildDashboardPage());
-                case "sponsorship" -> root.setCenter(buildSponsorshipPage());
-                case "donations" -> root.setCenter(buildDonationsPage());
-                case "alerts" -> root.setCenter(buildAlertsPage());
-                case "inquiries" -> root.setCenter(buildInquiriesPage());
-                case "reports" -> root.setCenter(buildReportsPage());
+                case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+                case "sponsorship" -> showPage("sponsorship", () -> buildSponsorshipPage());
+                case "donations" -> showPage("donations", () -> buildDonationsPage());
+                case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+                case "inquiries" -> showPage("inquiries", () -> buildInquiriesPage());
+                case "reports" -> showPage("reports", () -> buildReportsPage());
             }
         });
         return btn;
@@ -633,11 +661,11 @@ public class DonorController {
         // Fetch fresh data every time (real-time)
         List<Child> allChildren = childService.getChildrenBySponsor(user.getId());
         List<Donation> myDonations = donationService.getByDonorId(user.getId());
-        double totalDonated = myDonations.stream().mapToDouble(Donation::getAmount).sum();
+        Money totalDonated = Money.sum(myDonations, Donation::getAmount);
         HBox stats = new HBox(16);
         stats.getChildren().addAll(
                 statCard("Sponsored Children", String.valueOf(allChildren.size()), "Active sponsorships", PRIMARY),
-                statCard("Total Donated", String.format("\u09F3%,.0f", totalDonated), "All time", SECONDARY),
+                statCard("Total Donated", totalDonated.format(), "All time", SECONDARY),
                 statCard("Donations", String.valueOf(myDonations.size()), "Total records", SECONDARY),
                 statCard("Impact Score", "92", "Excellent rating", SECONDARY));
 
@@ -656,28 +684,20 @@ public class DonorController {
             StackPane avatar = new StackPane();
             avatar.setPrefSize(56, 56);
             avatar.setStyle("-fx-background-color: " + PRIMARY + "1A; -fx-background-radius: 28;");
+            // Initials stay underneath as a placeholder until the photo has been decoded
+            String initStr = ch.getName().length() >= 2 ? ch.getName().substring(0, 2).toUpperCase() : ch.getName().toUpperCase();
+            Label initials = new Label(initStr);
+            initials.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 18));
+            initials.setTextFill(Color.web(PRIMARY));
+            avatar.getChildren().add(initials);
             if (ch.getPhotoPath() != null && !ch.getPhotoPath().isEmpty()) {
-                try {
-                    javafx.scene.image.Image img = new javafx.scene.image.Image("file:" + ch.getPhotoPath(), 56, 56, true, true);
-                    javafx.scene.image.ImageView iv = new javafx.scene.image.ImageView(img);
-                    iv.setFitWidth(56);
-                    iv.setFitHeight(56);
-                    javafx.scene.shape.Circle clip = new javafx.scene.shape.Circle(28, 28, 28);
-                    iv.setClip(clip);
-                    avatar.getChildren().add(iv);
-                } catch (Exception ex) {
-                    String initStr = ch.getName().length() >= 2 ? ch.getName().substring(0, 2).toUpperCase() : ch.getName().toUpperCase();
-                    Label initials = new Label(initStr);
-                    initials.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 18));
-                    initials.setTextFill(Color.web(PRIMARY));
-                    avatar.getChildren().add(initials);
-                }
-            } else {
-                String initStr = ch.getName().length() >= 2 ? ch.getName().substring(0, 2).toUpperCase() : ch.getName().toUpperCase();
-                Label initials = new Label(initStr);
-                initials.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 18));
-                initials.setTextFill(Color.web(PRIMARY));
-                avatar.getChildren().add(initials);
+                javafx.scene.image.ImageView iv = new javafx.scene.image.ImageView();
+                iv.setFitWidth(56);
+                iv.setFitHeight(56);
+                javafx.scene.shape.Circle clip = new javafx.scene.shape.Circle(28, 28, 28);
+                iv.setClip(clip);
+                avatar.getChildren().add(iv);
+                ImageCache.loadInto(iv, ch.getPhotoPath(), 56);
             }
 
             Label name = new Label(ch.getName());
@@ -688,14 +708,14 @@ public class DonorController {
             age.setFont(Font.font("Segoe UI", 11));
             age.setTextFill(Color.web(MUTED_FG()));
 
-            double childTotal = donationService.getTotalByChildId(ch.getId());
+            Money childTotal = donationService.getTotalByChildId(ch.getId());
             HBox walletRow = new HBox();
             Label wl = new Label("Total Received:");
             wl.setFont(Font.font("Segoe UI", 11));
             wl.setTextFill(Color.web(MUTED_FG()));
             Region sp2 = new Region();
             HBox.setHgrow(sp2, Priority.ALWAYS);
-            Label wv = new Label(String.format("\u09F3%,.0f", childTotal));
+            Label wv = new Label(childTotal.format());
             wv.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 14));
             wv.setTextFill(Color.web(SECONDARY));
             walletRow.getChildren().addAll(wl, sp2, wv);
@@ -707,7 +727,7 @@ public class DonorController {
             final String[] finalC = { String.valueOf(ch.getId()), ch.getName(), String.valueOf(ch.getAge()),
                     ch.getGender() != null ? ch.getGender() : "N/A",
                     ch.getOrganization() != null ? ch.getOrganization() : "N/A" };
-            viewBtn.setOnAction(e -> root.setCenter(buildChildDetailView(finalC)));
+            viewBtn.setOnAction(e -> showPage("childDetailView", () -> buildChildDetailView(finalC)));
 
             card.getChildren().addAll(avatar, name, age, walletRow, viewBtn);
             childCards.getChildren().add(card);
@@ -731,7 +751,7 @@ public class DonorController {
         viewAll.setOnAction(e -> {
             activePage = "donations";
             refreshSidebar();
-            root.setCenter(buildDonationsPage());
+            showPage("donations", () -> buildDonationsPage());
         });
         donHdr.getChildren().addAll(donTitle, dsp, viewAll);
 
@@ -751,7 +771,7 @@ public class DonorController {
             Child donChild = childService.getChildById(don.getChildId());
             String childName = donChild != null ? donChild.getName() : "Child #" + don.getChildId();
             String[] rowData = { don.getDate() != null ? don.getDate() : "", childName,
-                    String.format("\u09F3%,.0f", don.getAmount()),
+                    don.getAmount().format(),
                     don.getPurpose() != null ? don.getPurpose() : "",
                     don.getStatus() != null ? don.getStatus() : "Completed" };
             for (int c = 0; c < rowData.length; c++) {
@@ -800,7 +820,7 @@ public class DonorController {
         HBox.setHgrow(spacer, Priority.ALWAYS);
         Button refreshBtn = new Button("🔄 Refresh");
         refreshBtn.setStyle("-fx-background-color: transparent; -fx-border-color: " + PRIMARY + "; -fx-text-fill: " + PRIMARY + "; -fx-border-radius: 4; -fx-cursor: hand; -fx-padding: 6 12;");
-        refreshBtn.setOnAction(e -> root.setCenter(buildSponsorshipPage())); // Rebuild with fresh data
+        refreshBtn.setOnAction(e -> showPage("sponsorship", () -> buildSponsorshipPage())); // Rebuild with fresh data
         titlebar.getChildren().addAll(title, spacer, refreshBtn);
         
         Label sub = new Label("Track donations and fund utilization");
@@ -808,12 +828,12 @@ public class DonorController {
         sub.setTextFill(Color.web(MUTED_FG()));
 
         List<Donation> spDonations = donationService.getAll();
-        double spTotal = spDonations.stream().mapToDouble(Donation::getAmount).sum();
+        Money spTotal = Money.sum(spDonations, Donation::getAmount);
         HBox stats = new HBox(16);
         
         List<Child> sponsoredChildren = childService.getChildrenBySponsor(user.getId());
         stats.getChildren().addAll(
-                statCard("Total Received (Org)", String.format("\u09F3%,.0f", spTotal), "All time", SECONDARY),
+                statCard("Total Received (Org)", spTotal.format(), "All time", SECONDARY),
                 statCard("Total Donations (Org)", String.valueOf(spDonations.size()), "Records", MUTED_FG()),
                 statCard("Your Sponsored", String.valueOf(sponsoredChildren.size()), "Actively Supported", PRIMARY),
                 statCard("Active Sponsor", "You", "Since joining", MUTED_FG()));
@@ -828,11 +848,11 @@ public class DonorController {
         fundCard.getChildren().add(fundTitle);
 
         String[][] funds = {
-                { "Education", String.format("\u09F3%,.0f", spTotal * 0.50), "50", "#2563eb" },
-                { "Medical Care", String.format("\u09F3%,.0f", spTotal * 0.25), "25", "#16a34a" },
-                { "Food & Nutrition", String.format("\u09F3%,.0f", spTotal * 0.15), "15", "#f59e0b" },
-                { "Clothing", String.format("\u09F3%,.0f", spTotal * 0.075), "7.5", "#8b5cf6" },
-                { "Other", String.format("\u09F3%,.0f", spTotal * 0.025), "2.5", "#ec4899" },
+                { "Education", spTotal.times(0.50).format(), "50", "#2563eb" },
+                { "Medical Care", spTotal.times(0.25).format(), "25", "#16a34a" },
+                { "Food & Nutrition", spTotal.times(0.15).format(), "15", "#f59e0b" },
+                { "Clothing", spTotal.times(0.075).format(), "7.5", "#8b5cf6" },
+                { "Other", spTotal.times(0.025).format(), "2.5", "#ec4899" },
         };
         for (String[] f : funds) {
             VBox row = new VBox(4);
@@ -863,7 +883,7 @@ public class DonorController {
         Button makeDon = new Button("\uD83D\uDCB2  Make a Donation");
         makeDon.setStyle("-fx-background-color: " + SECONDARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 10 24; -fx-font-size: 14px; -fx-cursor: hand;");
-        makeDon.setOnAction(e -> root.setCenter(buildDonationForm(null)));
+        makeDon.setOnAction(e -> showPage("donationForm", () -> buildDonationForm(null)));
 
         // --- DEDICATED SPONSORSHIP SECTION ---
         VBox sponsorshipCardsContainer = new VBox(20);
@@ -895,7 +915,7 @@ public class DonorController {
                 unSponsor.setOnAction(e -> {
                     childService.removeSponsorFromChild(ch.getId());
                     systemLogService.save(new model.entity.SystemLog("Sponsorship Removal", "Donor " + user.getUsername() + " unsponsored child CH-" + ch.getId(), user.getUsername(), java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
-                    root.setCenter(buildSponsorshipPage()); // Refresh
+                    showPage("sponsorship", () -> buildSponsorshipPage()); // Refresh
                 });
                 scard.getChildren().addAll(n, o, unSponsor);
                 mySpCards.getChildren().add(scard);
@@ -929,10 +949,17 @@ public class DonorController {
                 Button adoptBtn = new Button("\u2764\uFE0F Sponsor Child");
                 adoptBtn.setStyle("-fx-background-color: " + PRIMARY + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-cursor: hand;");
                 adoptBtn.setOnAction(e -> {
+                    UpdateResult result = childService.assignSponsorToChild(ch.getId(), user.getId());
+                    if (!result.isUpdated()) {
+                        new Alert(Alert.AlertType.ERROR, result == UpdateResult.CONFLICT
+                                ? "CH-" + ch.getId() + " has just been sponsored by another donor."
+                                : "Failed to sponsor CH-" + ch.getId() + ".").show();
+                        showPage("sponsorship", () -> buildSponsorshipPage()); // Refresh
+                        return;
+                    }
                     ch.setSponsorId(user.getId());
-                    childService.updateChild(ch);
                     systemLogService.save(new model.entity.SystemLog("Sponsorship Added", "Donor " + user.getUsername() + " sponsored child CH-" + ch.getId(), user.getUsername(), java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
-                    root.setCenter(buildSponsorshipPage()); // Refresh
+                    showPage("sponsorship", () -> buildSponsorshipPage()); // Refresh
                 });
                 ucard.getChildren().addAll(n, o, adoptBtn);
                 unSpCards.getChildren().add(ucard);
@@ -959,10 +986,10 @@ public class DonorController {
         sub.setTextFill(Color.web(MUTED_FG()));
 
         List<Donation> donDonations = donationService.getByDonorId(user.getId());
-        double donTotal = donDonations.stream().mapToDouble(Donation::getAmount).sum();
+        Money donTotal = Money.sum(donDonations, Donation::getAmount);
         HBox stats = new HBox(16);
         stats.getChildren().addAll(
-                statCard("Total Donated", String.format("\u09F3%,.0f", donTotal), "By you", SECONDARY),
+                statCard("Total Donated", donTotal.format(), "By you", SECONDARY),
                 statCard("Donations", String.valueOf(donDonations.size()), "Your records", SECONDARY),
                 statCard("Children Helped", String.valueOf(childService.getChildrenBySponsor(user.getId()).size()), "Actively sponsoring",
                         PRIMARY),
@@ -983,6 +1010,8 @@ public class DonorController {
         Button exportBtn = new Button("Export to CSV");
         exportBtn.setStyle("-fx-background-color: " + SECONDARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 6 16; -fx-font-size: 12px; -fx-cursor: hand;");
+        // Released with the page rather than kept alive by the handler
+        java.util.function.Supplier<List<Donation>> donations = PageLifecycle.current().hold(donDonations);
         exportBtn.setOnAction(e -> {
             FileChooser fc = new FileChooser();
             fc.setTitle("Export Donations to CSV");
@@ -990,23 +1019,32 @@ public class DonorController {
             fc.setInitialFileName("donations.csv");
             java.io.File file = fc.showSaveDialog(stage);
             if (file != null) {
+                FlightEvents.ReportExport export = new FlightEvents.ReportExport();
+                export.begin();
+                List<Donation> exported = donations.get();
                 try (java.io.PrintWriter pw = new java.io.PrintWriter(file)) {
                     pw.println("Date,Child,Amount,Time,Status");
-                    for (Donation don : donDonations) {
+                    for (Donation don : exported) {
                         Child c = childService.getChildById(don.getChildId());
                         String cName = c != null ? c.getName() : "Child #" + don.getChildId();
                         String time = "";
                         if (don.getDate() != null && don.getDate().length() >= 16) {
                             time = don.getDate().substring(11, 16);
                         }
-                        pw.printf("%s,%s,%.0f,%s,%s%n",
+                        pw.printf("%s,%s,%s,%s,%s%n",
                                 don.getDate() != null ? don.getDate().substring(0, 10) : "",
                                 cName,
                                 don.getAmount(),
                                 time,
                                 don.getStatus() != null ? don.getStatus() : "Completed");
                     }
-                    showAlert("Success", "Exported " + donDonations.size() + " records to " + file.getName());
+                    pw.flush();
+                    export.type = "Donation History";
+                    export.format = "CSV";
+                    export.rows = exported.size();
+                    export.bytes = file.length();
+                    export.commit();
+                    showAlert("Success", "Exported " + exported.size() + " records to " + file.getName());
                 } catch (Exception ex) {
                     showAlert("Error", "Failed to export: " + ex.getMessage());
                 }
@@ -1033,7 +1071,7 @@ public class DonorController {
                 time = don.getDate().substring(11, 16); // Extract HH:mm from date
             }
             return new String[] { don.getDate() != null ? don.getDate().substring(0, 10) : "", cName,
-                    String.format("\u09F3%,.0f", don.getAmount()),
+                    don.getAmount().format(),
                     time,
                     don.getStatus() != null ? don.getStatus() : "Completed" };
         }).toArray(String[][]::new);
@@ -1072,7 +1110,7 @@ public class DonorController {
         Button makeDon = new Button("\uD83D\uDCB2  Make a New Donation");
         makeDon.setStyle("-fx-background-color: " + SECONDARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 10 24; -fx-font-size: 14px; -fx-cursor: hand;");
-        makeDon.setOnAction(e -> root.setCenter(buildDonationForm(null)));
+        makeDon.setOnAction(e -> showPage("donationForm", () -> buildDonationForm(null)));
 
         page.getChildren().addAll(new VBox(4, title, sub), stats, tableCard, makeDon);
         return wrapScroll(page);
@@ -1170,7 +1208,7 @@ public class DonorController {
                     final Notification notifData = n;
                     markRead.setOnAction(e -> {
                         notificationService.markNotificationAsRead(n.getId());
-                        root.setCenter(buildAlertsPage());
+                        showPage("alerts", () -> buildAlertsPage());
                     });
                     btns.getChildren().add(markRead);
                 }
@@ -1184,7 +1222,7 @@ public class DonorController {
                 delete.setOnAction(e -> {
                     // Just mark as read to dismiss
                     notificationService.markNotificationAsRead(n.getId());
-                    root.setCenter(buildAlertsPage());
+                    showPage("alerts", () -> buildAlertsPage());
                 });
                 btns.getChildren().add(delete);
                 
@@ -1207,7 +1245,7 @@ public class DonorController {
                     + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 8 20; -fx-font-size: 13px; -fx-cursor: hand; -fx-font-weight: bold;");
             markAllRead.setOnAction(e -> {
                 notificationService.markAllNotificationsAsRead(user.getId());
-                root.setCenter(buildAlertsPage());
+                showPage("alerts", () -> buildAlertsPage());
             });
             notificationsList.getChildren().add(0, markAllRead);
         }
@@ -1266,8 +1304,10 @@ public class DonorController {
         genBtn.setOnAction(e -> {
             String reportType = rtCombo.getValue();
             String dateRange = drCombo.getValue();
-            List<Donation> donations = filterDonationsByDateRange(donationService.getByDonorId(user.getId()), dateRange);
-            String reportContent = generateReportContent(reportType, donations, dateRange);
+            String reportContent = generateReportContent(reportType, dateRange);
+            if (reportContent == null) {
+                return;
+            }
             exportReportToTXT(reportContent, reportType);
             systemLogService.save(new SystemLog("Report", "Generated " + reportType + " (" + dateRange + ")", user.getUsername(),
                     LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
@@ -1278,8 +1318,10 @@ public class DonorController {
         pdfBtn.setOnAction(e -> {
             String reportType = rtCombo.getValue();
             String dateRange = drCombo.getValue();
-            List<Donation> donations = filterDonationsByDateRange(donationService.getByDonorId(user.getId()), dateRange);
-            String reportContent = generateReportContent(reportType, donations, dateRange);
+            String reportContent = generateReportContent(reportType, dateRange);
+            if (reportContent == null) {
+                return;
+            }
             exportReportToPDF(reportContent, reportType);
             systemLogService.save(new SystemLog("Export", "Exported " + reportType + " to PDF", user.getUsername(),
                     LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
@@ -1292,12 +1334,12 @@ public class DonorController {
         qStats_title.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 17));
         qStats_title.setTextFill(Color.web(TEXT()));
         List<Donation> rpDonations = donationService.getAll();
-        double rpTotal = rpDonations.stream().mapToDouble(Donation::getAmount).sum();
+        Money rpTotal = Money.sum(rpDonations, Donation::getAmount);
         HBox qStats = new HBox(16);
         qStats.getChildren().addAll(
-                statCard("Total Donated", String.format("\u09F3%,.0f", rpTotal), "All time", SECONDARY),
+                statCard("Total Donated", rpTotal.format(), "All time", SECONDARY),
                 statCard("Donations", String.valueOf(rpDonations.size()), "Records", MUTED_FG()),
-                statCard("Children Helped", String.valueOf(childService.getAllChildren().size()), "Active", PRIMARY),
+                statCard("Children Helped", String.valueOf(childService.getCount()), "Active", PRIMARY),
                 statCard("Impact Score", "92", "Excellent", SECONDARY));
 
         page.getChildren().addAll(new VBox(4, title, sub), genCard, qStats_title, qStats);
@@ -1311,7 +1353,7 @@ public class DonorController {
 
         Button backBtn = new Button("\u2190 Back to Sponsorship");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildSponsorshipPage()));
+        backBtn.setOnAction(e -> showPage("sponsorship", () -> buildSponsorshipPage()));
 
         Label title = new Label("Make a Donation");
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 24));
@@ -1498,9 +1540,9 @@ public class DonorController {
                 validationError.setVisible(true);
                 return;
             }
-            double amount;
+            Money amount;
             try {
-                amount = Double.parseDouble(amtText);
+                amount = Money.parse(amtText);
             } catch (NumberFormatException ex) {
                 validationError.setText("⚠ Amount must be a valid number.");
                 validationError.setVisible(true);
@@ -1543,7 +1585,7 @@ public class DonorController {
             Alert success = new Alert(Alert.AlertType.INFORMATION, 
                 (isRecurring ? "Subscription created" : "Donation submitted") + " successfully!");
             success.showAndWait();
-            root.setCenter(buildSponsorshipPage()); // Return to sponsorship page with fresh data
+            showPage("sponsorship", () -> buildSponsorshipPage()); // Return to sponsorship page with fresh data
         });
 
         // ═══ PAYMENT METHOD SECTION ═══
@@ -1655,7 +1697,7 @@ public class DonorController {
             Button sponsorBtn = new Button("Go to Sponsorship");
             sponsorBtn.setStyle("-fx-background-color: " + PRIMARY
                     + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 10 24; -fx-font-size: 13px; -fx-cursor: hand;");
-            sponsorBtn.setOnAction(e -> root.setCenter(buildSponsorshipPage()));
+            sponsorBtn.setOnAction(e -> showPage("sponsorship", () -> buildSponsorshipPage()));
             
             VBox noChildCard = new VBox(16);
             noChildCard.setPadding(new Insets(32));
@@ -1681,7 +1723,7 @@ public class DonorController {
 
         Button backBtn = new Button("\u2190 Back to Dashboard");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildDashboardPage()));
+        backBtn.setOnAction(e -> showPage("dashboard", () -> buildDashboardPage()));
 
         Label title = new Label("Child Detail: " + child[1]);
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
@@ -1750,7 +1792,7 @@ public class DonorController {
         Button donate = new Button("Make a Donation");
         donate.setStyle("-fx-background-color: " + SECONDARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 10 20; -fx-font-weight: bold; -fx-cursor: hand;");
-        donate.setOnAction(e -> root.setCenter(buildDonationForm(child[1])));
+        donate.setOnAction(e -> showPage("donationForm", () -> buildDonationForm(child[1])));
 
         // ═══════════ MEDICAL RECORD SECTION (READ-ONLY) ═══════════
         VBox medSection = new VBox(12);
@@ -1880,6 +1922,7 @@ public class DonorController {
         successMsg.setFont(Font.font("Segoe UI", 12));
         successMsg.setVisible(false);
 
+        PageLifecycle lifecycle = PageLifecycle.current();
         submitBtn.setOnAction(e -> {
             String subject = subjectField.getText().trim();
             String message = messageArea.getText().trim();
@@ -1908,10 +1951,9 @@ public class DonorController {
             categoryBox.setValue("General");
 
             // Auto-hide success message after 4 seconds
-            javafx.animation.Timeline timeline = new javafx.animation.Timeline(
+            lifecycle.play(new javafx.animation.Timeline(
                     new javafx.animation.KeyFrame(javafx.util.Duration.seconds(4), evt -> successMsg.setVisible(false))
-            );
-            timeline.play();
+            ));
         });
 
         formCard.getChildren().addAll(formTitle, subjectField, messageArea, tagBox, submitBtn, successMsg);
@@ -2009,7 +2051,7 @@ public class DonorController {
     }
 
     // ═══════════ REPORT GENERATION HELPERS ═══════════
-    private List<Donation> filterDonationsByDateRange(List<Donation> donations, String dateRange) {
+    private List<Donation> donationsInDateRange(String dateRange) {
         LocalDate now = LocalDate.now();
         LocalDate startDate = switch (dateRange) {
             case "Last 30 Days" -> now.minusDays(30);
@@ -2017,16 +2059,23 @@ public class DonorController {
             case "Last Year" -> now.minusYears(1);
             default -> LocalDate.ofEpochDay(0); // All time
         };
-        
-        return donations.stream()
-            .filter(d -> {
-                LocalDate donationDate = LocalDate.parse(d.getDate().substring(0, 10));
-                return donationDate.isAfter(startDate) || donationDate.isEqual(startDate);
-            })
-            .toList();
+        return donationService.getByDonorBetween(user.getId(), startDate, LocalDate.MAX);
     }
 
-    private String generateReportContent(String reportType, List<Donation> donations, String dateRange) {
+    /**
+     * The full report text: a header for this run and the report body,
+     * which is served from the report cache while the tables it reads are
+     * unchanged. Returns null if the body could not be generated.
+     */
+    private String generateReportContent(String reportType, String dateRange) {
+        List<String> tables = reportType.equals("Impact Report")
+                ? List.of("donations", "children", "medical_records", "education_records")
+                : List.of("donations", "children");
+        String body = reportCache.get(reportType, dateRange, "donor:" + user.getId(), tables,
+                () -> generateReportBody(reportType, dateRange));
+        if (body == null) {
+            return null;
+        }
         StringBuilder sb = new StringBuilder();
         sb.append("GUARDIANLINK DONOR REPORT\n\n");
         
@@ -2034,64 +2083,117 @@ public class DonorController {
         sb.append("Date Range: ").append(dateRange).append("\n");
         sb.append("Donor: ").append(user.getUsername()).append("\n");
         sb.append("Generated: ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("\n\n");
-        
+        return sb.append(body).toString();
+    }
+
+    /**
+     * Loads a report's data, one subtask per independent query, then formats
+     * it. Returns null, after telling the user, if the data could not be
+     * loaded within {@link #REPORT_DEADLINE}.
+     */
+    private String generateReportBody(String reportType, String dateRange) {
+        boolean impact = reportType.equals("Impact Report");
+        List<Donation> donations;
+        Map<Integer, String> childNames = new HashMap<>();
+        List<Child> sponsoredChildren = List.of();
+        int medicalRecords = 0;
+        int educationRecords = 0;
+        try (TaskScope scope = new TaskScope("donor-report", REPORT_DEADLINE)) {
+            TaskScope.Subtask<List<Donation>> donationsTask = scope.fork(() -> donationsInDateRange(dateRange));
+            TaskScope.Subtask<List<Child>> sponsoredTask = impact
+                    ? scope.fork(() -> childService.getChildrenBySponsor(user.getId()))
+                    : null;
+            scope.join();
+            donations = donationsTask.get();
+
+            // Second wave: lookups that depend on the first
+            if (impact) {
+                sponsoredChildren = sponsoredTask.get();
+                if (!sponsoredChildren.isEmpty()) {
+                    int firstChildId = sponsoredChildren.get(0).getId();
+                    TaskScope.Subtask<Integer> medicalTask =
+                            scope.fork(() -> medicalRecordService.getRecordsByChildId(firstChildId).size());
+                    TaskScope.Subtask<Integer> educationTask =
+                            scope.fork(() -> educationRecordService.getRecordsByChildId(firstChildId).size());
+                    scope.join();
+                    medicalRecords = medicalTask.get();
+                    educationRecords = educationTask.get();
+                }
+            } else {
+                Map<Integer, TaskScope.Subtask<Child>> childTasks = new HashMap<>();
+                for (Donation d : donations) {
+                    if (d.getChildId() > 0) {
+                        childTasks.computeIfAbsent(d.getChildId(),
+                                id -> scope.fork(() -> childService.getChildById(id)));
+                    }
+                }
+                scope.join();
+                childTasks.forEach((id, task) -> {
+                    Child child = task.get();
+                    if (child != null) {
+                        childNames.put(id, child.getName());
+                    }
+                });
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            showAlert("Report Failed", "The report could not be generated: " + cause.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
         switch (reportType) {
             case "Donation Summary":
-                sb.append(generateDonationSummary(donations));
+                sb.append(generateDonationSummary(donations, childNames));
                 break;
             case "Impact Report":
-                sb.append(generateImpactReport(donations));
+                sb.append(generateImpactReport(donations, sponsoredChildren, medicalRecords, educationRecords));
                 break;
             case "Tax Receipt":
-                sb.append(generateTaxReceipt(donations));
+                sb.append(generateTaxReceipt(donations, childNames));
                 break;
         }
         
         return sb.toString();
     }
 
-    private String generateDonationSummary(List<Donation> donations) {
+    private String generateDonationSummary(List<Donation> donations, Map<Integer, String> childNames) {
         StringBuilder sb = new StringBuilder();
         sb.append("DONATION SUMMARY\n\n");
         
-        double totalAmount = donations.stream().mapToDouble(Donation::getAmount).sum();
-        double avgAmount = donations.isEmpty() ? 0 : totalAmount / donations.size();
+        Money totalAmount = Money.sum(donations, Donation::getAmount);
+        Money avgAmount = donations.isEmpty() ? Money.ZERO : totalAmount.dividedBy(donations.size());
         
-        sb.append("Total Donations: ").append(String.format("৳%,.2f", totalAmount)).append("\n");
+        sb.append("Total Donations: ").append(totalAmount.formatExact()).append("\n");
         sb.append("Number of Donations: ").append(donations.size()).append("\n");
-        sb.append("Average Donation: ").append(String.format("৳%,.2f", avgAmount)).append("\n\n");
+        sb.append("Average Donation: ").append(avgAmount.formatExact()).append("\n\n");
         
         sb.append("DONATION DETAILS\n");
         sb.append(String.format("%-12s %-20s %-15s\n", "Date", "Child", "Amount"));
         
         for (Donation d : donations) {
-            String childName = "General";
-            if (d.getChildId() > 0) {
-                Child child = childService.getChildById(d.getChildId());
-                if (child != null) {
-                    childName = child.getName();
-                }
-            }
+            String childName = childNames.getOrDefault(d.getChildId(), "General");
             sb.append(String.format("%-12s %-20s %-15s\n", 
                 d.getDate().substring(0, 10),
                 childName.length() > 19 ? childName.substring(0, 19) : childName,
-                String.format("৳%,.2f", d.getAmount())));
+                d.getAmount().formatExact()));
         }
         
         return sb.toString();
     }
 
-    private String generateImpactReport(List<Donation> donations) {
+    private String generateImpactReport(List<Donation> donations, List<Child> sponsoredChildren,
+                                        int medicalRecords, int educationRecords) {
         StringBuilder sb = new StringBuilder();
         sb.append("IMPACT REPORT\n\n");
         
-        double totalDonated = donations.stream().mapToDouble(Donation::getAmount).sum();
-        List<Child> sponsoredChildren = childService.getChildrenBySponsor(user.getId());
-        int medicalRecords = sponsoredChildren.isEmpty() ? 0 : medicalRecordService.getRecordsByChildId(sponsoredChildren.get(0).getId()).size();
-        int educationRecords = sponsoredChildren.isEmpty() ? 0 : educationRecordService.getRecordsByChildId(sponsoredChildren.get(0).getId()).size();
+        Money totalDonated = Money.sum(donations, Donation::getAmount);
         
         sb.append("IMPACT METRICS\n");
-        sb.append("Total Amount Donated: ").append(String.format("৳%,.2f", totalDonated)).append("\n");
+        sb.append("Total Amount Donated: ").append(totalDonated.formatExact()).append("\n");
         sb.append("Number of Donations: ").append(donations.size()).append("\n");
         sb.append("Children Sponsored: ").append(sponsoredChildren.size()).append("\n");
         sb.append("Medical Records Supported: ").append(medicalRecords).append("\n");
@@ -2109,7 +2211,7 @@ public class DonorController {
         return sb.toString();
     }
 
-    private String generateTaxReceipt(List<Donation> donations) {
+    private String generateTaxReceipt(List<Donation> donations, Map<Integer, String> childNames) {
         StringBuilder sb = new StringBuilder();
         sb.append("OFFICIAL TAX RECEIPT\n\n");
         
@@ -2117,10 +2219,10 @@ public class DonorController {
         sb.append("Tax ID: GDL-").append(user.getId()).append("\n");
         sb.append("Receipt Date: ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))).append("\n\n");
         
-        double totalAmount = donations.stream().mapToDouble(Donation::getAmount).sum();
+        Money totalAmount = Money.sum(donations, Donation::getAmount);
         
         sb.append("DONATION RECEIPT\n");
-        sb.append("Total Charitable Donations: ").append(String.format("৳%,.2f", totalAmount)).append("\n");
+        sb.append("Total Charitable Donations: ").append(totalAmount.formatExact()).append("\n");
         sb.append("Number of Donations: ").append(donations.size()).append("\n\n");
         
         sb.append("\nTAX INFORMATION\n");
@@ -2132,17 +2234,11 @@ public class DonorController {
         sb.append(String.format("%-12s %-20s %-15s\n", "Date", "Recipient", "Amount"));
         
         for (Donation d : donations) {
-            String childName = "General Fund";
-            if (d.getChildId() > 0) {
-                Child child = childService.getChildById(d.getChildId());
-                if (child != null) {
-                    childName = child.getName();
-                }
-            }
+            String childName = childNames.getOrDefault(d.getChildId(), "General Fund");
             sb.append(String.format("%-12s %-20s %-15s\n", 
                 d.getDate().substring(0, 10),
                 childName.length() > 19 ? childName.substring(0, 19) : childName,
-                String.format("৳%,.2f", d.getAmount())));
+                d.getAmount().formatExact()));
         }
         
         sb.append("\nThis is an official receipt for tax purposes.\n");
@@ -2207,8 +2303,16 @@ public class DonorController {
         
         java.io.File file = fileChooser.showSaveDialog(stage);
         if (file != null) {
+            FlightEvents.ReportExport export = new FlightEvents.ReportExport();
+            export.begin();
             try (java.io.FileWriter writer = new java.io.FileWriter(file)) {
                 writer.write(reportContent);
+                writer.flush();
+                export.type = reportType;
+                export.format = "TXT";
+                export.rows = reportContent.lines().count();
+                export.bytes = file.length();
+                export.commit();
                 showAlert("Success", "Report exported to:\n" + file.getAbsolutePath());
             } catch (java.io.IOException e) {
                 showAlert("Error", "Failed to export report: " + e.getMessage());
@@ -2227,6 +2331,8 @@ public class DonorController {
         
         java.io.File file = fileChooser.showSaveDialog(stage);
         if (file != null) {
+            FlightEvents.ReportExport export = new FlightEvents.ReportExport();
+            export.begin();
             try (java.io.FileOutputStream fos = new java.io.FileOutputStream(file)) {
                 StringBuilder pdf = new StringBuilder();
                 
@@ -2305,6 +2411,11 @@ public class DonorController {
                 byte[] pdfBytes = pdf.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8);
                 fos.write(pdfBytes);
                 fos.flush();
+                export.type = reportType;
+                export.format = "PDF";
+                export.rows = lines.length;
+                export.bytes = pdfBytes.length;
+                export.commit();
                 
                 showAlert("Success", "PDF Report exported to:\n" + file.getAbsolutePath());
             } catch (java.io.IOException e) {
@@ -14,11 +14,15 @@ import javafx.scene.text.FontWeight;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import exception.LoginThrottledException;
 import model.entity.Child;
 import model.entity.Donation;
 import model.entity.Expense;
 import model.entity.SystemLog;
 import model.user.User;
+import model.user.UserRef;
+import repository.UpdateResult;
+import service.AuthService;
 import service.ChildService;
 import service.DonationService;
 import service.ExpenseService;
@@ -26,9 +30,16 @@ import service.SystemLogService;
 import service.UserService;
 import service.MedicalRecordService;
 import service.EducationRecordService;
+import service.ReportCache;
+import service.ReportData;
 import model.entity.MedicalRecord;
 import model.entity.EducationRecord;
 import util.ThemeManager;
+import util.ImageCache;
+import util.FlightEvents;
+import util.FxTasks;
+import util.PageLifecycle;
+import util.Money;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -47,6 +58,7 @@ public class OrgAdminController {
     private final Stage stage;
     private final User user;
     private BorderPane root;
+    private PageLifecycle.Host pages;
     private Scene scene;
     private VBox sidebar;
     private String activePage = "dashboard";
@@ -60,6 +72,7 @@ public class OrgAdminController {
     private final UserService userService = new UserService();
     private final MedicalRecordService medicalRecordService = new MedicalRecordService();
     private final EducationRecordService educationRecordService = new EducationRecordService();
+    private final ReportCache reportCache = ReportCache.getInstance();
 
     private Child selectedChild; // currently selected child for profile tabs
 
@@ -100,26 +113,27 @@ public class OrgAdminController {
 
     public void show() {
         root = new BorderPane();
+        pages = new PageLifecycle.Host(stage, root);
         root.setTop(buildHeader());
         root.setLeft(buildSidebar());
-        root.setCenter(buildDashboardPage());
+        showPage("dashboard", () -> buildDashboardPage());
         root.setStyle("-fx-background-color: " + BG() + ";");
 
         // Auto-refresh timer: refresh the active page every 30 seconds for real-time
-        // data (but skip if a form is being shown)
+        // data (but skip if a form is being shown); paused while minimized, stopped on logout
         refreshTimer = new Timeline(new KeyFrame(Duration.seconds(30), ev -> {
             if (!isShowingForm) {
                 switch (activePage) {
-                    case "dashboard" -> root.setCenter(buildDashboardPage());
-                    case "children" -> root.setCenter(buildChildrenPage());
-                    case "sponsorship" -> root.setCenter(buildSponsorshipPage());
-                    case "alerts" -> root.setCenter(buildAlertsPage());
-                    case "reports" -> root.setCenter(buildReportsPage());
+                    case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+                    case "children" -> showPage("children", () -> buildChildrenPage());
+                    case "sponsorship" -> showPage("sponsorship", () -> buildSponsorshipPage());
+                    case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+                    case "reports" -> showPage("reports", () -> buildReportsPage());
                 }
             }
         }));
         refreshTimer.setCycleCount(Timeline.INDEFINITE);
-        refreshTimer.play();
+        pages.session().play(refreshTimer);
 
         scene = new Scene(root, 1280, 800);
         
@@ -143,14 +157,22 @@ public class OrgAdminController {
         root.setLeft(buildSidebar());
         // Refresh current page
         switch (activePage) {
-            case "dashboard" -> root.setCenter(buildDashboardPage());
-            case "children" -> root.setCenter(buildChildrenPage());
-            case "sponsorship" -> root.setCenter(buildSponsorshipPage());
-            case "alerts" -> root.setCenter(buildAlertsPage());
-            case "reports" -> root.setCenter(buildReportsPage());
+            case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+            case "children" -> showPage("children", () -> buildChildrenPage());
+            case "sponsorship" -> showPage("sponsorship", () -> buildSponsorshipPage());
+            case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+            case "reports" -> showPage("reports", () -> buildReportsPage());
         }
     }
 
+    /**
+     * Builds and shows a page, recording a Flight Recorder event for the build.
+     * The previous page's lifecycle is disposed first.
+     */
+    private void showPage(String pageId, java.util.function.Supplier<Node> builder) {
+        pages.show(() -> FlightEvents.buildPage("OrgAdminController", pageId, builder));
+    }
+
     // ═══════════ HEADER ═══════════
     private HBox buildHeader() {
         HBox header = new HBox();
@@ -201,7 +223,7 @@ public class OrgAdminController {
         
         // Make user box clickable to show profile
         userTypeBox.setStyle(userTypeBox.getStyle() + "; -fx-cursor: hand;");
-        userTypeBox.setOnMouseClicked(e -> root.setCenter(buildProfilePage()));
+        userTypeBox.setOnMouseClicked(e -> showPage("profile", () -> buildProfilePage()));
 
         header.getChildren().addAll(logoIcon, titleBox, spacer, userTypeBox);
         return header;
@@ -215,7 +237,7 @@ public class OrgAdminController {
         
         Button backBtn = new Button("\u2190 Back");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand; -fx-font-size: 13px;");
-        backBtn.setOnAction(e -> root.setCenter(buildDashboardPage()));
+        backBtn.setOnAction(e -> showPage("dashboard", () -> buildDashboardPage()));
         
         VBox card = new VBox(0);
         card.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER() + "; -fx-border-width: 1; -fx-background-radius: 8; -fx-border-radius: 8;");
@@ -235,9 +257,7 @@ public class OrgAdminController {
             photoView.setClip(clip);
             clip.setCenterX(30);
             clip.setCenterY(30);
-            try {
-                photoView.setImage(new javafx.scene.image.Image(new java.io.File(user.getProfilePhoto()).toURI().toString()));
-            } catch (Exception e) {}
+            ImageCache.loadInto(photoView, user.getProfilePhoto(), 60);
             profileIcon = photoView;
         } else {
             Label icon = new Label("👤");
@@ -346,6 +366,7 @@ public class OrgAdminController {
         TextField emailField = new TextField(user.getEmail() != null ? user.getEmail() : "");
         TextField phoneField = new TextField(user.getPhoneNumber() != null ? user.getPhoneNumber() : "");
         TextField orgField = new TextField(user.getOrganization() != null ? user.getOrganization() : "");
+        orgField.setEditable(false); // organization membership is changed by an administrator
         
         Label photoLabel = new Label("Photo:");
         Button changePhotoBtn = new Button("Select Image");
@@ -374,13 +395,12 @@ public class OrgAdminController {
             if (buttonType == ButtonType.OK) {
                 user.setEmail(emailField.getText());
                 user.setPhoneNumber(phoneField.getText());
-                user.setOrganization(orgField.getText());
                 user.setProfilePhoto(newPhotoPath[0]);
                 
                 if (userService.updateProfile(user)) {
                     Alert a = new Alert(Alert.AlertType.INFORMATION, "Profile updated successfully!");
                     a.show();
-                    root.setCenter(buildProfilePage());
+                    showPage("profile", () -> buildProfilePage());
                     root.setTop(buildHeader());
                     return true;
                 } else {
@@ -431,19 +451,22 @@ public class OrgAdminController {
                     a.show();
                     return null;
                 }
-                if (!util.PasswordUtil.verify(currentPass.getText(), user.getPassword())) {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Current password is incorrect.");
-                    a.show();
-                    return null;
-                }
-                user.setPassword(util.PasswordUtil.hash(newPass.getText()));
-                if (userService.updateProfile(user)) {
-                    Alert a = new Alert(Alert.AlertType.INFORMATION, "Password updated successfully!");
-                    a.show();
-                } else {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Failed to update password.");
-                    a.show();
-                }
+                String current = currentPass.getText();
+                String next = newPass.getText();
+                // Password hashing is intentionally expensive, so run it off the FX thread
+                FxTasks.runInBackground("change-password", null,
+                        () -> new AuthService().changePassword(user, current, next),
+                        updated -> new Alert(updated ? Alert.AlertType.INFORMATION : Alert.AlertType.ERROR,
+                                updated ? "Password updated successfully!" : "Failed to update password.").show(),
+                        error -> {
+                            boolean expected = error instanceof IllegalArgumentException
+                                    || error instanceof LoginThrottledException;
+                            if (!expected) {
+                                error.printStackTrace();
+                            }
+                            new Alert(Alert.AlertType.ERROR,
+                                    expected ? error.getMessage() : "Failed to update password.").show();
+                        });
             }
             return null;
         });
@@ -547,11 +570,11 @@ public class OrgAdminController {
             activePage = pageId;
             refreshSidebar();
             switch (pageId) {
-                case "dashboard" -> root.setCenter(buildDashboardPage());
-                case "children" -> root.setCenter(buildChildrenPage());
-                case "sponsorship" -> root.setCenter(buildSponsorshipPage());
-                case "alerts" -> root.setCenter(buildAlertsPage());
-                case "reports" -> root.setCenter(buildReportsPage());
+                case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+                case "children" -> showPage("children", () -> buildChildrenPage());
+                case "sponsorship" -> showPage("sponsorship", () -> buildSponsorshipPage());
+                case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+                case "reports" -> showPage("reports", () -> buildReportsPage());
             }
         });
         return btn;
@@ -648,14 +671,86 @@ public class OrgAdminController {
         alert.showAndWait();
     }
 
+    private boolean hasOrganization() {
+        return user.getOrganization() != null && !user.getOrganization().isEmpty();
+    }
+
     private List<Child> getChildrenForOrganization() {
-        List<Child> allChildren = childService.getAllChildren();
-        if (user.getOrganization() == null || user.getOrganization().isEmpty()) {
+        if (!hasOrganization()) {
+            return new java.util.ArrayList<>();
+        }
+        return childService.getChildrenByOrganization(user.getOrganization());
+    }
+
+    private int countChildrenForOrganization() {
+        return hasOrganization() ? childService.getCountByOrganization(user.getOrganization()) : 0;
+    }
+
+    private List<Donation> getDonationsForOrganization() {
+        if (!hasOrganization()) {
+            return new java.util.ArrayList<>();
+        }
+        return donationService.getByOrganization(user.getOrganization());
+    }
+
+    /**
+     * The rows and summary line of an organization report, from the report
+     * cache while the tables it reads are unchanged.
+     */
+    private ReportData orgReportData(String reportType, String dateRange) {
+        List<String> tables = switch (reportType) {
+            case "Child Welfare Summary" -> List.of("children");
+            case "Donation & Financial Report" -> List.of("donations", "children");
+            default -> List.of("system_logs");
+        };
+        String scope = "organization:" + (hasOrganization() ? user.getOrganization() : "");
+        return ReportData.fromJson(reportCache.get(reportType, dateRange, scope, tables,
+                () -> computeOrgReport(reportType).toJson()));
+    }
+
+    private ReportData computeOrgReport(String reportType) {
+        ReportData data = new ReportData();
+        if ("Child Welfare Summary".equals(reportType)) {
+            List<Child> children = getChildrenForOrganization();
+            for (Child c : children) {
+                data.addRow("rows", "CH-" + String.format("%04d", c.getId()), c.getName(),
+                        String.valueOf(c.getAge()),
+                        c.getGender() != null ? c.getGender() : "N/A",
+                        c.getStatus() != null ? c.getStatus() : "Active",
+                        c.getOrganization() != null ? c.getOrganization() : "N/A");
+            }
+            data.addRow("summary", "Total Children: " + children.size());
+        } else if ("Donation & Financial Report".equals(reportType)) {
+            List<Donation> donations = getDonationsForOrganization();
+            for (Donation d : donations) {
+                data.addRow("rows", d.getDate() != null ? d.getDate() : "",
+                        String.valueOf(d.getDonorId()),
+                        "CH-" + String.format("%04d", d.getChildId()),
+                        d.getAmount().format(),
+                        d.getPurpose() != null ? d.getPurpose() : "",
+                        d.getStatus() != null ? d.getStatus() : "");
+            }
+            data.addRow("summary", "Total Donations: " + donations.size()
+                    + " | Total Amount: " + Money.sum(donations, Donation::getAmount).format());
+        } else {
+            // System Audit Log
+            List<SystemLog> logs = systemLogService.getAll();
+            for (SystemLog log : logs) {
+                data.addRow("rows", log.getTimestamp() != null ? log.getTimestamp() : "",
+                        log.getEventType() != null ? log.getEventType() : "",
+                        log.getDescription() != null ? log.getDescription() : "",
+                        log.getActor() != null ? log.getActor() : "");
+            }
+            data.addRow("summary", "Total Events: " + logs.size());
+        }
+        return data;
+    }
+
+    private List<Expense> getExpensesForOrganization() {
+        if (!hasOrganization()) {
             return new java.util.ArrayList<>();
         }
-        return allChildren.stream()
-                .filter(c -> user.getOrganization().equals(c.getOrganization()))
-                .collect(java.util.stream.Collectors.toList());
+        return expenseService.getByOrganization(user.getOrganization());
     }
 
     private VBox buildChildrenTableFromDB(String heading) {
@@ -742,7 +837,7 @@ public class OrgAdminController {
                 selectedChild = viewChild;
                 activePage = "children";
                 refreshSidebar();
-                root.setCenter(buildChildProfileView(viewChild));
+                showPage("childProfileView", () -> buildChildProfileView(viewChild));
             });
             grid.add(link, 5, row);
 
@@ -775,7 +870,7 @@ public class OrgAdminController {
         sub.setFont(Font.font("Segoe UI", 13));
         sub.setTextFill(Color.web(MUTED_FG()));
 
-        int totalChildren = getChildrenForOrganization().size();
+        int totalChildren = countChildrenForOrganization();
         HBox stats = new HBox(16);
         stats.getChildren().addAll(
                 statCard("Total Children", String.valueOf(totalChildren), "+" + totalChildren + " registered",
@@ -792,14 +887,14 @@ public class OrgAdminController {
 
         // Add Child Profile card
         VBox addChildCard = createQuickActionCard("Add Child Profile", "Register new child");
-        addChildCard.setOnMouseClicked(e -> showAddChildDialog());
+        addChildCard.setOnMouseClicked(e -> showPage("addChildForm", () -> buildAddChildForm()));
 
         // View Alerts card
         VBox viewAlertsCard = createQuickActionCard("View Alerts", "Check pending alerts");
         viewAlertsCard.setOnMouseClicked(e -> {
             activePage = "alerts";
             refreshSidebar();
-            root.setCenter(buildAlertsPage());
+            showPage("alerts", () -> buildAlertsPage());
         });
 
         // Generate Report card
@@ -807,7 +902,7 @@ public class OrgAdminController {
         genReportCard.setOnMouseClicked(e -> {
             activePage = "reports";
             refreshSidebar();
-            root.setCenter(buildReportsPage());
+            showPage("reports", () -> buildReportsPage());
         });
 
         qaCards.getChildren().addAll(addChildCard, viewAlertsCard, genReportCard);
@@ -892,7 +987,7 @@ public class OrgAdminController {
         Button addChildBtn = new Button("+ Add Child Profile");
         addChildBtn.setStyle("-fx-background-color: " + PRIMARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 8 16; -fx-font-size: 13px; -fx-cursor: hand;");
-        addChildBtn.setOnAction(e -> showAddChildDialog());
+        addChildBtn.setOnAction(e -> showPage("addChildForm", () -> buildAddChildForm()));
 
         HBox topRow = new HBox();
         topRow.setAlignment(Pos.CENTER_LEFT);
@@ -1013,7 +1108,7 @@ public class OrgAdminController {
                     + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 4 10; -fx-cursor: hand;");
             viewBtn.setOnAction(e -> {
                 selectedChild = currentChild;
-                root.setCenter(buildChildProfileView(currentChild));
+                showPage("childProfileView", () -> buildChildProfileView(currentChild));
             });
 
             Button editBtn = new Button("Edit");
@@ -1022,7 +1117,7 @@ public class OrgAdminController {
                     + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 4 10; -fx-cursor: hand;");
             editBtn.setOnAction(e -> {
                 selectedChild = currentChild;
-                root.setCenter(buildEditChildForm(currentChild));
+                showPage("editChildForm", () -> buildEditChildForm(currentChild));
             });
 
             Button deleteBtn = new Button("Delete");
@@ -1042,7 +1137,7 @@ public class OrgAdminController {
                                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
                         showAlert("Deleted", "Child '" + currentChild.getName() + "' removed.");
                         selectedChild = null;
-                        root.setCenter(buildChildrenPage());
+                        showPage("children", () -> buildChildrenPage());
                     }
                 });
             });
@@ -1275,7 +1370,7 @@ public class OrgAdminController {
 
         Button backBtn = new Button("\u2190 Back to Children");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildChildrenPage()));
+        backBtn.setOnAction(e -> showPage("children", () -> buildChildrenPage()));
 
         // Profile header
         VBox profileHeader = new VBox(8);
@@ -1288,33 +1383,23 @@ public class OrgAdminController {
         StackPane avatar = new StackPane();
         avatar.setPrefSize(80, 80);
         avatar.setStyle("-fx-background-color: " + PRIMARY + "1A; -fx-background-radius: 40;");
+        // Initials stay underneath as a placeholder until the photo has been decoded
+        String initStr = child.getName().length() >= 2
+                ? child.getName().substring(0, 2).toUpperCase()
+                : child.getName().toUpperCase();
+        Label initials = new Label(initStr);
+        initials.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 24));
+        initials.setTextFill(Color.web(PRIMARY));
+        avatar.getChildren().add(initials);
         if (child.getPhotoPath() != null && !child.getPhotoPath().isEmpty()) {
-            try {
-                javafx.scene.image.Image img = new javafx.scene.image.Image("file:" + child.getPhotoPath());
-                javafx.scene.image.ImageView iv = new javafx.scene.image.ImageView(img);
-                iv.setFitWidth(80);
-                iv.setFitHeight(80);
-                iv.setPreserveRatio(true);
-                javafx.scene.shape.Circle clip = new javafx.scene.shape.Circle(40, 40, 40);
-                iv.setClip(clip);
-                avatar.getChildren().add(iv);
-            } catch (Exception e) {
-                String initStr = child.getName().length() >= 2
-                        ? child.getName().substring(0, 2).toUpperCase()
-                        : child.getName().toUpperCase();
-                Label initials = new Label(initStr);
-                initials.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 24));
-                initials.setTextFill(Color.web(PRIMARY));
-                avatar.getChildren().add(initials);
-            }
-        } else {
-            String initStr = child.getName().length() >= 2
-                    ? child.getName().substring(0, 2).toUpperCase()
-                    : child.getName().toUpperCase();
-            Label initials = new Label(initStr);
-            initials.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 24));
-            initials.setTextFill(Color.web(PRIMARY));
-            avatar.getChildren().add(initials);
+            javafx.scene.image.ImageView iv = new javafx.scene.image.ImageView();
+            iv.setFitWidth(80);
+            iv.setFitHeight(80);
+            iv.setPreserveRatio(true);
+            javafx.scene.shape.Circle clip = new javafx.scene.shape.Circle(40, 40, 40);
+            iv.setClip(clip);
+            avatar.getChildren().add(iv);
+            ImageCache.loadInto(iv, child.getPhotoPath(), 80);
         }
 
         VBox info = new VBox(4);
@@ -1336,7 +1421,7 @@ public class OrgAdminController {
         Button editBtn = new Button("\u270F\uFE0F Edit");
         editBtn.setStyle("-fx-background-color: " + SECONDARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 8 16; -fx-font-size: 13px; -fx-cursor: hand;");
-        editBtn.setOnAction(e -> root.setCenter(buildEditChildForm(child)));
+        editBtn.setOnAction(e -> showPage("editChildForm", () -> buildEditChildForm(child)));
 
         Button deleteBtn = new Button("\u274C Delete");
         deleteBtn.setStyle("-fx-background-color: " + DESTRUCTIVE
@@ -1351,7 +1436,7 @@ public class OrgAdminController {
                             "Deleted child: " + child.getName(), user.getUsername(),
                             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
                     selectedChild = null;
-                    root.setCenter(buildChildrenPage());
+                    showPage("children", () -> buildChildrenPage());
                 }
             });
         });
@@ -1387,7 +1472,7 @@ public class OrgAdminController {
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
         backBtn.setOnAction(e -> {
             isShowingForm = false;
-            root.setCenter(buildChildrenPage());
+            showPage("children", () -> buildChildrenPage());
         });
 
         Label title = new Label("Edit Child Profile: " + child.getName());
@@ -1449,10 +1534,10 @@ public class OrgAdminController {
                 + TEXT() + ";");
         
         // Populate with available caregivers
-        List<User> allCaregivers = childService.getAllCaregivers();
+        List<UserRef> allCaregivers = childService.getCaregiverRefs();
         java.util.Map<String, Integer> caregiverMap = new java.util.HashMap<>();
         caregiverBox.getItems().add("-- No Assignment --");
-        for (User cg : allCaregivers) {
+        for (UserRef cg : allCaregivers) {
             String displayName = cg.getUsername() + " (ID: " + cg.getId() + ")";
             caregiverBox.getItems().add(displayName);
             caregiverMap.put(displayName, cg.getId());
@@ -1485,10 +1570,10 @@ public class OrgAdminController {
                 + TEXT() + ";");
         
         // Populate with available Donors
-        List<User> allDonors = userService.getAllUsers().stream().filter(u -> u.getRole() == model.user.UserRole.DONOR).toList();
+        List<UserRef> allDonors = userService.getUserRefsByRole(model.user.UserRole.DONOR);
         java.util.Map<String, Integer> sponsorMap = new java.util.HashMap<>();
         sponsorBox.getItems().add("-- No Assignment --");
-        for (User sp : allDonors) {
+        for (UserRef sp : allDonors) {
             String displayName = sp.getUsername() + " (ID: " + sp.getId() + ")";
             sponsorBox.getItems().add(displayName);
             sponsorMap.put(displayName, sp.getId());
@@ -1578,7 +1663,21 @@ public class OrgAdminController {
                 child.setStatus(((ComboBox<String>) statusField.getChildren().get(1)).getValue());
                 child.setPhotoPath(newPhotoPath[0]);
                 
-                // Handle caregiver changes
+                // Handle sponsor changes
+                String selectedSponsor = sponsorBox.getValue();
+                if (!selectedSponsor.equals("-- No Assignment --")) {
+                    child.setSponsorId(sponsorMap.get(selectedSponsor));
+                } else {
+                    child.setSponsorId(null);
+                }
+                
+                // Save the form fields only if nobody changed the child since the form opened
+                if (childService.updateChildIfCurrent(child) == UpdateResult.CONFLICT) {
+                    showAlert("Warning", "This child was changed by someone else while you were editing. Go back and open it again.");
+                    return;
+                }
+
+                // Handle caregiver changes (the service notifies the caregiver)
                 if (previousCaregiverId != null && newCaregiverId == null) {
                     // Caregiver was removed
                     childService.removeCaregiverFromChild(child.getId(), user.getUsername());
@@ -1590,20 +1689,8 @@ public class OrgAdminController {
                     systemLogService.save(new SystemLog("Caregiver Assignment",
                             "Assigned child " + name + " to caregiver ID " + newCaregiverId, user.getUsername(),
                             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
-                } else {
-                    child.setAssignedCaregiverId(newCaregiverId);
-                }
-                
-                // Handle sponsor changes
-                String selectedSponsor = sponsorBox.getValue();
-                if (!selectedSponsor.equals("-- No Assignment --")) {
-                    child.setSponsorId(sponsorMap.get(selectedSponsor));
-                } else {
-                    child.setSponsorId(null);
                 }
                 
-                childService.updateChild(child);
-                
                 // Save medical record
                 String bloodGroup = ((TextField) medicalBloodGroup.getChildren().get(1)).getText().trim();
                 String medCondition = ((TextField) medicalCondition.getChildren().get(1)).getText().trim();
@@ -1648,7 +1735,7 @@ public class OrgAdminController {
                 showAlert("Success", "Child profile updated successfully.");
                 selectedChild = child;
                 isShowingForm = false;
-                root.setCenter(buildChildrenPage());
+                showPage("children", () -> buildChildrenPage());
             } catch (Exception ex) {
                 showAlert("⚠ Error", "Error updating child: " + ex.getMessage());
                 ex.printStackTrace();
@@ -1662,8 +1749,8 @@ public class OrgAdminController {
         return wrapScroll(page);
     }
 
-    // ═══════════ ADD CHILD DIALOG ═══════════
-    private void showAddChildDialog() {
+    // ═══════════ ADD CHILD FORM ═══════════
+    private ScrollPane buildAddChildForm() {
         // Set form flag to prevent auto-refresh
         isShowingForm = true;
         
@@ -1674,7 +1761,7 @@ public class OrgAdminController {
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
         backBtn.setOnAction(e -> {
             isShowingForm = false;
-            root.setCenter(buildChildrenPage());
+            showPage("children", () -> buildChildrenPage());
         });
 
         Label title = new Label("Add New Child Profile");
@@ -1747,10 +1834,10 @@ public class OrgAdminController {
                 + TEXT() + ";");
         
         // Populate with available caregivers
-        List<User> allCaregivers = childService.getAllCaregivers();
+        List<UserRef> allCaregivers = childService.getCaregiverRefs();
         java.util.Map<String, Integer> caregiverMap = new java.util.HashMap<>();
         caregiverBox.getItems().add("-- No Assignment --");
-        for (User cg : allCaregivers) {
+        for (UserRef cg : allCaregivers) {
             String displayName = cg.getUsername() + " (ID: " + cg.getId() + ")";
             caregiverBox.getItems().add(displayName);
             caregiverMap.put(displayName, cg.getId());
@@ -1771,10 +1858,10 @@ public class OrgAdminController {
                 + TEXT() + ";");
         
         // Populate with available Donors
-        List<User> allDonors = userService.getAllUsers().stream().filter(u -> u.getRole() == model.user.UserRole.DONOR).toList();
+        List<UserRef> allDonors = userService.getUserRefsByRole(model.user.UserRole.DONOR);
         java.util.Map<String, Integer> sponsorMap = new java.util.HashMap<>();
         sponsorBox.getItems().add("-- No Assignment --");
-        for (User sp : allDonors) {
+        for (UserRef sp : allDonors) {
             String displayName = sp.getUsername() + " (ID: " + sp.getId() + ")";
             sponsorBox.getItems().add(displayName);
             sponsorMap.put(displayName, sp.getId());
@@ -1840,13 +1927,13 @@ public class OrgAdminController {
                 showAlert("Error", "Failed to save child to database.");
             }
             isShowingForm = false;
-            root.setCenter(buildChildrenPage());
+            showPage("children", () -> buildChildrenPage());
         });
 
         card.getChildren().addAll(nameField, ageField, genderField, dobField, orgField, photoField, statusField,
                 caregiverField, sponsorField, new Separator(), saveBtn);
         page.getChildren().addAll(backBtn, title, card);
-        root.setCenter(wrapScroll(page));
+        return wrapScroll(page);
     }
 
     // ═══════════ SPONSORSHIP PAGE ═══════════
@@ -1861,14 +1948,14 @@ public class OrgAdminController {
         sub.setFont(Font.font("Segoe UI", 13));
         sub.setTextFill(Color.web(MUTED_FG()));
 
-        List<Donation> allDonations = donationService.getAll();
-        double totalReceived = allDonations.stream().mapToDouble(Donation::getAmount).sum();
-        String totalRecvStr = String.format("\u09F3%,.0f", totalReceived);
+        List<Donation> orgDonations = getDonationsForOrganization();
+        Money totalReceived = Money.sum(orgDonations, Donation::getAmount);
+        String totalRecvStr = totalReceived.format();
         HBox stats = new HBox(16);
         stats.getChildren().addAll(
                 statCard("Total Received", totalRecvStr, "All time", SECONDARY),
-                statCard("Total Donations", String.valueOf(allDonations.size()), "Records", MUTED_FG()),
-                statCard("Children Covered", String.valueOf(getChildrenForOrganization().size()), "All time",
+                statCard("Total Donations", String.valueOf(orgDonations.size()), "Records", MUTED_FG()),
+                statCard("Children Covered", String.valueOf(countChildrenForOrganization()), "All time",
                         MUTED_FG()),
                 statCard("System Logs", String.valueOf(systemLogService.getCount()), "Entries", MUTED_FG()));
 
@@ -1883,17 +1970,17 @@ public class OrgAdminController {
         fundCard.getChildren().add(fundTitle);
 
         // Dynamic fund utilization based on actual total
-        double edu = totalReceived * 0.50;
-        double med = totalReceived * 0.25;
-        double food = totalReceived * 0.15;
-        double cloth = totalReceived * 0.075;
-        double other = totalReceived * 0.025;
+        Money edu = totalReceived.times(0.50);
+        Money med = totalReceived.times(0.25);
+        Money food = totalReceived.times(0.15);
+        Money cloth = totalReceived.times(0.075);
+        Money other = totalReceived.times(0.025);
         String[][] funds = {
-                { "Education", String.format("\u09F3%,.0f", edu), "50", "#2563eb" },
-                { "Medical Care", String.format("\u09F3%,.0f", med), "25", "#16a34a" },
-                { "Food & Nutrition", String.format("\u09F3%,.0f", food), "15", "#f59e0b" },
-                { "Clothing", String.format("\u09F3%,.0f", cloth), "7.5", "#8b5cf6" },
-                { "Other", String.format("\u09F3%,.0f", other), "2.5", "#ec4899" },
+                { "Education", edu.format(), "50", "#2563eb" },
+                { "Medical Care", med.format(), "25", "#16a34a" },
+                { "Food & Nutrition", food.format(), "15", "#f59e0b" },
+                { "Clothing", cloth.format(), "7.5", "#8b5cf6" },
+                { "Other", other.format(), "2.5", "#ec4899" },
         };
         for (String[] f : funds) {
             VBox row = new VBox(4);
@@ -1948,7 +2035,7 @@ public class OrgAdminController {
             txGrid.add(h, i, 0);
         }
         int txRow = 1;
-        for (Donation don : allDonations) {
+        for (Donation don : orgDonations) {
             Label dateL = new Label(don.getDate() != null ? don.getDate() : "");
             dateL.setFont(Font.font("Segoe UI", 12));
             dateL.setTextFill(Color.web(TEXT()));
@@ -1967,7 +2054,7 @@ public class OrgAdminController {
             childL.setPadding(new Insets(8, 16, 8, 16));
             childL.setStyle("-fx-border-color: " + BORDER() + "; -fx-border-width: 0 0 1 0;");
 
-            Label amtL = new Label(String.format("\u09F3%,.0f", don.getAmount()));
+            Label amtL = new Label(don.getAmount().format());
             amtL.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 12));
             amtL.setTextFill(Color.web(SECONDARY));
             amtL.setPadding(new Insets(8, 16, 8, 16));
@@ -1991,7 +2078,7 @@ public class OrgAdminController {
             txGrid.add(stW, 4, txRow);
             txRow++;
         }
-        if (allDonations.isEmpty()) {
+        if (orgDonations.isEmpty()) {
             Label noTx = new Label("No transactions yet.");
             noTx.setTextFill(Color.web(MUTED_FG()));
             noTx.setPadding(new Insets(16));
@@ -2005,12 +2092,12 @@ public class OrgAdminController {
         Button recDon = new Button("\uD83D\uDCB2  Record Donation");
         recDon.setStyle("-fx-background-color: " + SECONDARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 8 16; -fx-font-size: 13px; -fx-cursor: hand;");
-        recDon.setOnAction(e -> root.setCenter(buildRecordDonationPage()));
+        recDon.setOnAction(e -> showPage("recordDonation", () -> buildRecordDonationPage()));
 
         Button recExp = new Button("\uD83D\uDCC9  Record Expense");
         recExp.setStyle("-fx-background-color: " + PRIMARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 8 16; -fx-font-size: 13px; -fx-cursor: hand;");
-        recExp.setOnAction(e -> root.setCenter(buildRecordExpensePage()));
+        recExp.setOnAction(e -> showPage("recordExpense", () -> buildRecordExpensePage()));
         actions.getChildren().addAll(recDon, recExp);
 
         page.getChildren().addAll(new VBox(4, title, sub), stats, fundCard, actions, txHistCard);
@@ -2039,18 +2126,8 @@ public class OrgAdminController {
             expGrid.add(h, i, 0);
         }
 
-        // Load all expenses from each child
-        List<Expense> allExpenses = new java.util.ArrayList<>();
-        for (Child ch : getChildrenForOrganization()) {
-            allExpenses.addAll(expenseService.getByChildId(ch.getId()));
-        }
-        allExpenses.sort((a, b) -> {
-            if (a.getDate() == null)
-                return 1;
-            if (b.getDate() == null)
-                return -1;
-            return b.getDate().compareTo(a.getDate());
-        });
+        // Expenses of this organization's children, newest first
+        List<Expense> allExpenses = getExpensesForOrganization();
 
         int expRow = 1;
         for (Expense exp : allExpenses) {
@@ -2073,7 +2150,7 @@ public class OrgAdminController {
             eCatL.setPadding(new Insets(8, 16, 8, 16));
             eCatL.setStyle(cellBorder);
 
-            Label eAmtL = new Label(String.format("\u09F3%,.0f", exp.getAmount()));
+            Label eAmtL = new Label(exp.getAmount().format());
             eAmtL.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 12));
             eAmtL.setTextFill(Color.web(DESTRUCTIVE));
             eAmtL.setPadding(new Insets(8, 16, 8, 16));
@@ -2172,7 +2249,7 @@ public class OrgAdminController {
                     selectedChild = linkChild;
                     activePage = "children";
                     refreshSidebar();
-                    root.setCenter(buildChildProfileView(linkChild));
+                    showPage("childProfileView", () -> buildChildProfileView(linkChild));
                 });
                 actionW.getChildren().add(link);
             }
@@ -2305,7 +2382,7 @@ public class OrgAdminController {
                         + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 6 16;"
                         + " -fx-font-size: 12px; -fx-cursor: hand; -fx-font-weight: bold;");
                 final String[] alertData = a;
-                vd.setOnAction(e -> root.setCenter(buildAlertDetailView(alertData)));
+                vd.setOnAction(e -> showPage("alertDetailView", () -> buildAlertDetailView(alertData)));
 
                 Button mr = new Button("Mark Resolved");
                 mr.setStyle("-fx-background-color: transparent; -fx-text-fill: " + SECONDARY
@@ -2313,7 +2390,7 @@ public class OrgAdminController {
                         + "; -fx-border-radius: 4; -fx-padding: 6 16;"
                         + " -fx-font-size: 12px; -fx-cursor: hand; -fx-font-weight: bold;");
                 // Mark resolved: navigate back (auto-refresh will reflect change)
-                mr.setOnAction(e -> root.setCenter(buildAlertsPage()));
+                mr.setOnAction(e -> showPage("alerts", () -> buildAlertsPage()));
                 btns.getChildren().addAll(vd, mr);
 
                 info2.getChildren().addAll(aTitle, aId, aDesc, btns);
@@ -2397,15 +2474,15 @@ public class OrgAdminController {
 
             // Alert: High expense for a single child (over 10,000 total)
             List<Expense> childExpenses = expenseService.getByChildId(child.getId());
-            double totalExpense = childExpenses.stream().mapToDouble(Expense::getAmount).sum();
-            if (totalExpense > 10000) {
+            Money totalExpense = Money.sum(childExpenses, Expense::getAmount);
+            if (totalExpense.compareTo(Money.ofTaka(10_000)) > 0) {
                 result.add(new String[]{
                     "critical",
                     "High Cumulative Expense",
                     "ALT-" + String.format("%03d", alertId++),
                     now,
-                    child.getName() + " (" + childCode + ") has accumulated \u09F3"
-                        + String.format("%,.0f", totalExpense) + " in expenses.",
+                    child.getName() + " (" + childCode + ") has accumulated "
+                        + totalExpense.format() + " in expenses.",
                     childCode
                 });
             }
@@ -2491,95 +2568,37 @@ public class OrgAdminController {
             systemLogService.save(new SystemLog("Report", "Generated " + selectedType, user.getUsername(),
                     LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
 
-            if ("Child Welfare Summary".equals(selectedType)) {
-                List<Child> children = getChildrenForOrganization();
-                Label rpTitle = new Label("Child Welfare Summary — " + drCombo.getValue());
-                rpTitle.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 15));
-                rpTitle.setTextFill(Color.web(TEXT()));
-                GridPane rg = new GridPane();
-                String[] rcols = { "Child ID", "Name", "Age", "Gender", "Status", "Organization" };
-                for (int i = 0; i < rcols.length; i++) {
-                    Label h = new Label(rcols[i]);
-                    h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
-                    h.setPadding(new Insets(6, 12, 6, 12));
-                    h.setStyle("-fx-background-color: " + CARD() + ";");
-                    h.setTextFill(Color.web(TEXT()));
-                    rg.add(h, i, 0);
-                }
-                int rr = 1;
-                for (Child c : children) {
-                    rg.add(cellLabel("CH-" + String.format("%04d", c.getId())), 0, rr);
-                    rg.add(cellLabel(c.getName()), 1, rr);
-                    rg.add(cellLabel(String.valueOf(c.getAge())), 2, rr);
-                    rg.add(cellLabel(c.getGender() != null ? c.getGender() : "N/A"), 3, rr);
-                    rg.add(cellLabel(c.getStatus() != null ? c.getStatus() : "Active"), 4, rr);
-                    rg.add(cellLabel(c.getOrganization() != null ? c.getOrganization() : "N/A"), 5, rr);
-                    rr++;
-                }
-                Label summary = new Label("Total Children: " + children.size());
-                summary.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 13));
-                summary.setTextFill(Color.web(SECONDARY));
-                reportPreview.getChildren().addAll(rpTitle, rg, summary);
-            } else if ("Donation & Financial Report".equals(selectedType)) {
-                List<Donation> donations = donationService.getAll();
-                double totalD = donations.stream().mapToDouble(Donation::getAmount).sum();
-                Label rpTitle = new Label("Donation & Financial Report — " + drCombo.getValue());
-                rpTitle.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 15));
-                rpTitle.setTextFill(Color.web(TEXT()));
-                GridPane rg = new GridPane();
-                String[] rcols = { "Date", "Donor ID", "Child ID", "Amount", "Purpose", "Status" };
-                for (int i = 0; i < rcols.length; i++) {
-                    Label h = new Label(rcols[i]);
-                    h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
-                    h.setPadding(new Insets(6, 12, 6, 12));
-                    h.setStyle("-fx-background-color: " + CARD() + ";");
-                    h.setTextFill(Color.web(TEXT()));
-                    rg.add(h, i, 0);
-                }
-                int rr = 1;
-                for (Donation d : donations) {
-                    rg.add(cellLabel(d.getDate() != null ? d.getDate() : ""), 0, rr);
-                    rg.add(cellLabel(String.valueOf(d.getDonorId())), 1, rr);
-                    rg.add(cellLabel("CH-" + String.format("%04d", d.getChildId())), 2, rr);
-                    rg.add(cellLabel(String.format("\u09F3%,.0f", d.getAmount())), 3, rr);
-                    rg.add(cellLabel(d.getPurpose() != null ? d.getPurpose() : ""), 4, rr);
-                    rg.add(cellLabel(d.getStatus() != null ? d.getStatus() : ""), 5, rr);
-                    rr++;
-                }
-                Label summary = new Label("Total Donations: " + donations.size()
-                        + " | Total Amount: " + String.format("\u09F3%,.0f", totalD));
-                summary.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 13));
-                summary.setTextFill(Color.web(SECONDARY));
-                reportPreview.getChildren().addAll(rpTitle, rg, summary);
-            } else {
-                // System Audit Log
-                List<SystemLog> logs = systemLogService.getAll();
-                Label rpTitle = new Label("System Audit Log — " + drCombo.getValue());
-                rpTitle.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 15));
-                rpTitle.setTextFill(Color.web(TEXT()));
-                GridPane rg = new GridPane();
-                String[] rcols = { "Timestamp", "Action", "Details", "User" };
-                for (int i = 0; i < rcols.length; i++) {
-                    Label h = new Label(rcols[i]);
-                    h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
-                    h.setPadding(new Insets(6, 12, 6, 12));
-                    h.setStyle("-fx-background-color: " + CARD() + ";");
-                    h.setTextFill(Color.web(TEXT()));
-                    rg.add(h, i, 0);
-                }
-                int rr = 1;
-                for (SystemLog log : logs) {
-                    rg.add(cellLabel(log.getTimestamp() != null ? log.getTimestamp() : ""), 0, rr);
-                    rg.add(cellLabel(log.getEventType() != null ? log.getEventType() : ""), 1, rr);
-                    rg.add(cellLabel(log.getDescription() != null ? log.getDescription() : ""), 2, rr);
-                    rg.add(cellLabel(log.getActor() != null ? log.getActor() : ""), 3, rr);
-                    rr++;
+            ReportData data = orgReportData(selectedType, drCombo.getValue());
+            Label rpTitle = new Label(selectedType + " — " + drCombo.getValue());
+            rpTitle.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 15));
+            rpTitle.setTextFill(Color.web(TEXT()));
+            GridPane rg = new GridPane();
+            String[] rcols = switch (selectedType) {
+                case "Child Welfare Summary" -> new String[] { "Child ID", "Name", "Age", "Gender", "Status",
+                        "Organization" };
+                case "Donation & Financial Report" -> new String[] { "Date", "Donor ID", "Child ID", "Amount",
+                        "Purpose", "Status" };
+                default -> new String[] { "Timestamp", "Action", "Details", "User" };
+            };
+            for (int i = 0; i < rcols.length; i++) {
+                Label h = new Label(rcols[i]);
+                h.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 11));
+                h.setPadding(new Insets(6, 12, 6, 12));
+                h.setStyle("-fx-background-color: " + CARD() + ";");
+                h.setTextFill(Color.web(TEXT()));
+                rg.add(h, i, 0);
+            }
+            int rr = 1;
+            for (String[] row : data.rows("rows")) {
+                for (int c = 0; c < row.length; c++) {
+                    rg.add(cellLabel(row[c]), c, rr);
                 }
-                Label summary = new Label("Total Events: " + logs.size());
-                summary.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 13));
-                summary.setTextFill(Color.web(SECONDARY));
-                reportPreview.getChildren().addAll(rpTitle, rg, summary);
+                rr++;
             }
+            Label summary = new Label(data.value("summary"));
+            summary.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 13));
+            summary.setTextFill(Color.web(SECONDARY));
+            reportPreview.getChildren().addAll(rpTitle, rg, summary);
         });
 
         Button csvBtn = new Button("Export to CSV");
@@ -2592,11 +2611,14 @@ public class OrgAdminController {
             fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
             File file = fc.showSaveDialog(stage);
             if (file != null) {
+                FlightEvents.ReportExport export = new FlightEvents.ReportExport();
+                export.begin();
                 try (FileWriter fw = new FileWriter(file)) {
                     String selectedType = rtCombo.getValue();
                     if ("Child Welfare Summary".equals(selectedType)) {
                         fw.write("Child ID,Name,Age,Gender,Status,Organization\n");
                         for (Child c : getChildrenForOrganization()) {
+                            export.rows++;
                             fw.write(String.format("%d,%s,%d,%s,%s,%s\n",
                                     c.getId(), c.getName(), c.getAge(),
                                     c.getGender() != null ? c.getGender() : "",
@@ -2605,8 +2627,9 @@ public class OrgAdminController {
                         }
                     } else if ("Donation & Financial Report".equals(selectedType)) {
                         fw.write("Date,Donor ID,Child ID,Amount,Purpose,Status\n");
-                        for (Donation d : donationService.getAll()) {
-                            fw.write(String.format("%s,%d,%d,%.0f,%s,%s\n",
+                        for (Donation d : getDonationsForOrganization()) {
+                            export.rows++;
+                            fw.write(String.format("%s,%d,%d,%s,%s,%s\n",
                                     d.getDate() != null ? d.getDate() : "",
                                     d.getDonorId(), d.getChildId(), d.getAmount(),
                                     d.getPurpose() != null ? d.getPurpose() : "",
@@ -2615,6 +2638,7 @@ public class OrgAdminController {
                     } else {
                         fw.write("Timestamp,Action,Details,User\n");
                         for (SystemLog log : systemLogService.getAll()) {
+                            export.rows++;
                             fw.write(String.format("%s,%s,%s,%s\n",
                                     log.getTimestamp() != null ? log.getTimestamp() : "",
                                     log.getEventType() != null ? log.getEventType() : "",
@@ -2622,6 +2646,11 @@ public class OrgAdminController {
                                     log.getActor() != null ? log.getActor() : ""));
                         }
                     }
+                    fw.flush();
+                    export.type = selectedType;
+                    export.format = "CSV";
+                    export.bytes = file.length();
+                    export.commit();
                     systemLogService.save(new SystemLog("Export",
                             "Exported " + selectedType + " to CSV", user.getUsername(),
                             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
@@ -2783,7 +2812,7 @@ public class OrgAdminController {
 
         Button backBtn = new Button("\u2190 Back to Alerts");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildAlertsPage()));
+        backBtn.setOnAction(e -> showPage("alerts", () -> buildAlertsPage()));
 
         Label title = new Label("Alert Detail: " + alert[1]);
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
@@ -2814,7 +2843,7 @@ public class OrgAdminController {
         Button resolve = new Button("Mark as Resolved");
         resolve.setStyle("-fx-background-color: " + SECONDARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 10 20; -fx-font-weight: bold; -fx-cursor: hand;");
-        resolve.setOnAction(e -> root.setCenter(buildAlertsPage()));
+        resolve.setOnAction(e -> showPage("alerts", () -> buildAlertsPage()));
 
         card.getChildren().addAll(type, title, desc, new Separator(), details, resolve);
         page.getChildren().addAll(backBtn, card);
@@ -2827,7 +2856,7 @@ public class OrgAdminController {
 
         Button backBtn = new Button("\u2190 Back to Sponsorship");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildSponsorshipPage()));
+        backBtn.setOnAction(e -> showPage("sponsorship", () -> buildSponsorshipPage()));
 
         Label title = new Label("Record Donation");
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
@@ -2865,9 +2894,9 @@ public class OrgAdminController {
                 showAlert("Warning", "Amount is required.");
                 return;
             }
-            double amount;
+            Money amount;
             try {
-                amount = Double.parseDouble(amtText);
+                amount = Money.parse(amtText);
             } catch (NumberFormatException ex) {
                 showAlert("Warning", "Amount must be a number.");
                 return;
@@ -2884,7 +2913,7 @@ public class OrgAdminController {
                     "Recorded donation of " + amtText, user.getUsername(),
                     LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
             showAlert("Success", "Donation recorded successfully!");
-            root.setCenter(buildSponsorshipPage());
+            showPage("sponsorship", () -> buildSponsorshipPage());
         });
 
         card.getChildren().addAll(donorField, amountField, categoryField, new Separator(), save);
@@ -2899,7 +2928,7 @@ public class OrgAdminController {
 
         Button backBtn = new Button("\u2190 Back to Sponsorship");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildSponsorshipPage()));
+        backBtn.setOnAction(e -> showPage("sponsorship", () -> buildSponsorshipPage()));
 
         Label title = new Label("Record Expense");
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
@@ -2979,9 +3008,9 @@ public class OrgAdminController {
                 showAlert("Warning", "Amount is required.");
                 return;
             }
-            double amount;
+            Money amount;
             try {
-                amount = Double.parseDouble(amtText);
+                amount = Money.parse(amtText);
             } catch (NumberFormatException ex) {
                 showAlert("Warning", "Amount must be a valid number.");
                 return;
@@ -3000,7 +3029,7 @@ public class OrgAdminController {
                     user.getUsername(),
                     LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
             showAlert("Success", "Expense recorded successfully!");
-            root.setCenter(buildSponsorshipPage());
+            showPage("sponsorship", () -> buildSponsorshipPage());
         });
 
         card.getChildren().addAll(childInfoBox, categoryField, amountField, new Separator(), save);
@@ -10,8 +10,10 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
+import exception.LoginThrottledException;
 import model.entity.SystemLog;
 import model.user.User;
+import service.AuthService;
 import service.SystemLogService;
 import service.DonationService;
 import service.ChildService;
@@ -21,8 +23,14 @@ import service.EducationRecordService;
 import service.NotificationService;
 import model.entity.Donation;
 import model.entity.Child;
+import model.entity.ChildSummary;
 import model.entity.Notification;
 import util.ThemeManager;
+import util.ImageCache;
+import util.FlightEvents;
+import util.FxTasks;
+import util.PageLifecycle;
+import util.Money;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -38,6 +46,7 @@ public class SupportController {
     private final Stage stage;
     private final User user;
     private BorderPane root;
+    private PageLifecycle.Host pages;
     private Scene scene;
     private VBox sidebar;
     private String activePage = "dashboard";
@@ -88,9 +97,10 @@ public class SupportController {
 
     public void show() {
         root = new BorderPane();
+        pages = new PageLifecycle.Host(stage, root);
         root.setTop(buildHeader());
         root.setLeft(buildSidebar());
-        root.setCenter(buildDashboardPage());
+        showPage("dashboard", () -> buildDashboardPage());
         root.setStyle("-fx-background-color: " + BG() + ";");
         scene = new Scene(root, 1280, 800);
         
@@ -113,14 +123,22 @@ public class SupportController {
         root.setTop(buildHeader());
         root.setLeft(buildSidebar());
         switch (activePage) {
-            case "dashboard" -> root.setCenter(buildDashboardPage());
-            case "alerts" -> root.setCenter(buildAlertsPage());
-            case "donors" -> root.setCenter(buildDonorInquiriesPage());
-            case "caregivers" -> root.setCenter(buildCaregiverSupportPage());
-            case "reports" -> root.setCenter(buildReportsPage());
+            case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+            case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+            case "donors" -> showPage("donorInquiries", () -> buildDonorInquiriesPage());
+            case "caregivers" -> showPage("caregiverSupport", () -> buildCaregiverSupportPage());
+            case "reports" -> showPage("reports", () -> buildReportsPage());
         }
     }
 
+    /**
+     * Builds and shows a page, recording a Flight Recorder event for the build.
+     * The previous page's lifecycle is disposed first.
+     */
+    private void showPage(String pageId, java.util.function.Supplier<Node> builder) {
+        pages.show(() -> FlightEvents.buildPage("SupportController", pageId, builder));
+    }
+
     // ═══════════ HEADER ═══════════
     private HBox buildHeader() {
         HBox header = new HBox();
@@ -164,7 +182,7 @@ public class SupportController {
         
         // Make user box clickable to show profile
         userBox.setStyle(userBox.getStyle() + "; -fx-cursor: hand;");
-        userBox.setOnMouseClicked(e -> root.setCenter(buildProfilePage()));
+        userBox.setOnMouseClicked(e -> showPage("profile", () -> buildProfilePage()));
 
         header.getChildren().addAll(logoIcon, titleBox, spacer, userBox);
         return header;
@@ -178,7 +196,7 @@ public class SupportController {
         
         Button backBtn = new Button("\u2190 Back");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand; -fx-font-size: 13px;");
-        backBtn.setOnAction(e -> root.setCenter(buildDashboardPage()));
+        backBtn.setOnAction(e -> showPage("dashboard", () -> buildDashboardPage()));
         
         VBox card = new VBox(0);
         card.setStyle("-fx-background-color: " + CARD() + "; -fx-border-color: " + BORDER() + "; -fx-border-width: 1; -fx-background-radius: 8; -fx-border-radius: 8;");
@@ -198,9 +216,7 @@ public class SupportController {
             photoView.setClip(clip);
             clip.setCenterX(30);
             clip.setCenterY(30);
-            try {
-                photoView.setImage(new javafx.scene.image.Image(new java.io.File(user.getProfilePhoto()).toURI().toString()));
-            } catch (Exception e) {}
+            ImageCache.loadInto(photoView, user.getProfilePhoto(), 60);
             profileIcon = photoView;
         } else {
             Label icon = new Label("👤");
@@ -308,6 +324,7 @@ public class SupportController {
         TextField emailField = new TextField(user.getEmail() != null ? user.getEmail() : "");
         TextField phoneField = new TextField(user.getPhoneNumber() != null ? user.getPhoneNumber() : "");
         TextField orgField = new TextField(user.getOrganization() != null ? user.getOrganization() : "");
+        orgField.setEditable(false); // organization membership is changed by an administrator
         
         Label photoLabel = new Label("Photo:");
         Button changePhotoBtn = new Button("Select Image");
@@ -336,14 +353,13 @@ public class SupportController {
             if (buttonType == ButtonType.OK) {
                 user.setEmail(emailField.getText());
                 user.setPhoneNumber(phoneField.getText());
-                user.setOrganization(orgField.getText());
                 user.setProfilePhoto(newPhotoPath[0]);
                 
                 UserService userService = new UserService();
                 if (userService.updateProfile(user)) {
                     Alert a = new Alert(Alert.AlertType.INFORMATION, "Profile updated successfully!");
                     a.show();
-                    root.setCenter(buildProfilePage());
+                    showPage("profile", () -> buildProfilePage());
                     root.setTop(buildHeader());
                     return true;
                 } else {
@@ -394,20 +410,22 @@ public class SupportController {
                     a.show();
                     return null;
                 }
-                if (!util.PasswordUtil.verify(currentPass.getText(), user.getPassword())) {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Current password is incorrect.");
-                    a.show();
-                    return null;
-                }
-                user.setPassword(util.PasswordUtil.hash(newPass.getText()));
-                UserService userService = new UserService();
-                if (userService.updateProfile(user)) {
-                    Alert a = new Alert(Alert.AlertType.INFORMATION, "Password updated successfully!");
-                    a.show();
-                } else {
-                    Alert a = new Alert(Alert.AlertType.ERROR, "Failed to update password.");
-                    a.show();
-                }
+                String current = currentPass.getText();
+                String next = newPass.getText();
+                // Password hashing is intentionally expensive, so run it off the FX thread
+                FxTasks.runInBackground("change-password", null,
+                        () -> new AuthService().changePassword(user, current, next),
+                        updated -> new Alert(updated ? Alert.AlertType.INFORMATION : Alert.AlertType.ERROR,
+                                updated ? "Password updated successfully!" : "Failed to update password.").show(),
+                        error -> {
+                            boolean expected = error instanceof IllegalArgumentException
+                                    || error instanceof LoginThrottledException;
+                            if (!expected) {
+                                error.printStackTrace();
+                            }
+                            new Alert(Alert.AlertType.ERROR,
+                                    expected ? error.getMessage() : "Failed to update password.").show();
+                        });
             }
             return null;
         });
@@ -498,11 +516,11 @@ public class SupportController {
             activePage = pageId;
             refreshSidebar();
             switch (pageId) {
-                case "dashboard" -> root.setCenter(buildDashboardPage());
-                case "alerts" -> root.setCenter(buildAlertsPage());
-                case "donors" -> root.setCenter(buildDonorInquiriesPage());
-                case "caregivers" -> root.setCenter(buildCaregiverSupportPage());
-                case "reports" -> root.setCenter(buildReportsPage());
+                case "dashboard" -> showPage("dashboard", () -> buildDashboardPage());
+                case "alerts" -> showPage("alerts", () -> buildAlertsPage());
+                case "donors" -> showPage("donorInquiries", () -> buildDonorInquiriesPage());
+                case "caregivers" -> showPage("caregiverSupport", () -> buildCaregiverSupportPage());
+                case "reports" -> showPage("reports", () -> buildReportsPage());
             }
         });
         return btn;
@@ -627,19 +645,19 @@ public class SupportController {
         qaAlerts.setOnMouseClicked(e -> {
             activePage = "alerts";
             refreshSidebar();
-            root.setCenter(buildAlertsPage());
+            showPage("alerts", () -> buildAlertsPage());
         });
         VBox qaIncident = createQuickActionCard("Create Incident", "Report a new incident");
         qaIncident.setOnMouseClicked(e -> {
             activePage = "reports";
             refreshSidebar();
-            root.setCenter(buildNewIncidentForm());
+            showPage("newIncidentForm", () -> buildNewIncidentForm());
         });
         VBox qaReports = createQuickActionCard("View Reports", "See incident history");
         qaReports.setOnMouseClicked(e -> {
             activePage = "reports";
             refreshSidebar();
-            root.setCenter(buildReportsPage());
+            showPage("reports", () -> buildReportsPage());
         });
         qaCards.getChildren().addAll(qaAlerts, qaIncident, qaReports);
 
@@ -798,7 +816,7 @@ public class SupportController {
         Button createBtn = new Button("+ Create New Incident Report");
         createBtn.setStyle("-fx-background-color: " + PRIMARY
                 + "; -fx-text-fill: white; -fx-background-radius: 4; -fx-padding: 10 20; -fx-font-weight: bold; -fx-cursor: hand;");
-        createBtn.setOnAction(e -> root.setCenter(buildNewIncidentForm()));
+        createBtn.setOnAction(e -> showPage("newIncidentForm", () -> buildNewIncidentForm()));
 
         // Incident history table
         VBox tableCard = new VBox(0);
@@ -886,7 +904,7 @@ public class SupportController {
 
         Button backBtn = new Button("\u2190 Back to Incident Reports");
         backBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: " + PRIMARY + "; -fx-cursor: hand;");
-        backBtn.setOnAction(e -> root.setCenter(buildReportsPage()));
+        backBtn.setOnAction(e -> showPage("reports", () -> buildReportsPage()));
 
         Label title = new Label("Create New Incident Report");
         title.setFont(Font.font("Segoe UI", FontWeight.BOLD, 22));
@@ -945,7 +963,7 @@ public class SupportController {
                     LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
             Alert success = new Alert(Alert.AlertType.INFORMATION, "Incident report submitted successfully!");
             success.showAndWait();
-            root.setCenter(buildReportsPage());
+            showPage("reports", () -> buildReportsPage());
         });
 
         formCard.getChildren().addAll(catLabel, category, sevLabel, severity, descLabel, descArea, validationError, new Separator(),
@@ -1047,7 +1065,7 @@ public class SupportController {
 
                 // Donation stats
                 List<Donation> donations = donationService.getByDonorId(donor.getId());
-                double totalDonated = donationService.getTotalByDonorId(donor.getId());
+                Money totalDonated = donationService.getTotalByDonorId(donor.getId());
                 int childrenSupported = donationService.countChildrenByDonorId(donor.getId());
 
                 HBox stats = new HBox(16);
@@ -1055,7 +1073,7 @@ public class SupportController {
                 Label stat1 = new Label("Donations: " + donations.size());
                 stat1.setFont(Font.font("Segoe UI", 12));
                 stat1.setTextFill(Color.web(PRIMARY));
-                Label stat2 = new Label("Total: $" + String.format("%.2f", totalDonated));
+                Label stat2 = new Label("Total: " + totalDonated.formatExact());
                 stat2.setFont(Font.font("Segoe UI", FontWeight.BOLD, 12));
                 stat2.setTextFill(Color.web(SECONDARY));
                 Label stat3 = new Label("Children: " + childrenSupported);
@@ -1118,7 +1136,7 @@ public class SupportController {
         if (donations.isEmpty()) {
             content.getChildren().add(new Label("No donations from this donor yet."));
         } else {
-            double totalAmount = 0;
+            Money totalAmount = Money.ZERO;
             for (Donation d : donations) {
                 Child child = childService.getChildById(d.getChildId());
                 String childName = child != null ? child.getName() : "Unknown (ID: " + d.getChildId() + ")";
@@ -1131,7 +1149,7 @@ public class SupportController {
                 cName.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 12));
                 cName.setTextFill(Color.web(TEXT()));
 
-                Label amount = new Label("Amount: $" + String.format("%.2f", d.getAmount()));
+                Label amount = new Label("Amount: " + d.getAmount().formatExact());
                 amount.setFont(Font.font("Segoe UI", FontWeight.BOLD, 12));
                 amount.setTextFill(Color.web(SECONDARY));
 
@@ -1146,11 +1164,11 @@ public class SupportController {
                 donationItem.getChildren().addAll(cName, amount, purpose, date);
                 content.getChildren().add(donationItem);
 
-                totalAmount += d.getAmount();
+                totalAmount = totalAmount.plus(d.getAmount());
             }
 
             Separator sep = new Separator();
-            Label totalLabel = new Label("Total Donated: $" + String.format("%.2f", totalAmount));
+            Label totalLabel = new Label("Total Donated: " + totalAmount.formatExact());
             totalLabel.setFont(Font.font("Segoe UI", FontWeight.BOLD, 13));
             totalLabel.setTextFill(Color.web(PRIMARY));
 
@@ -1358,9 +1376,7 @@ public class SupportController {
                 cName.setTextFill(Color.web(TEXT()));
 
                 // Get assigned children
-                List<Child> assignedChildren = childService.getAllChildren().stream()
-                        .filter(c -> c.getAssignedCaregiverId() != null && c.getAssignedCaregiverId().equals(caregiver.getId()))
-                        .toList();
+                List<ChildSummary> assignedChildren = childService.getChildSummariesByCaregiver(caregiver.getId());
 
                 Label childCount = new Label("👶 Assigned Children: " + assignedChildren.size());
                 childCount.setFont(Font.font("Segoe UI", FontWeight.MEDIUM, 13));
@@ -1375,7 +1391,7 @@ public class SupportController {
                     noChildren.setTextFill(Color.web(MUTED_FG()));
                     childrenList.getChildren().add(noChildren);
                 } else {
-                    for (Child child : assignedChildren) {
+                    for (ChildSummary child : assignedChildren) {
                         VBox childItem = new VBox(4);
                         childItem.setPadding(new Insets(8));
                         childItem.setStyle("-fx-background-color: " + MUTED() + "; -fx-border-radius: 4; -fx-background-radius: 4;");
@@ -0,0 +1,18 @@
+package exception;
+
+/**
+ * Thrown by API handlers to end a request with an HTTP error status.
+ */
+public class ApiException extends Exception {
+
+    private final int status;
+
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,19 @@
+package exception;
+
+/**
+ * Thrown when too many failed login attempts were made for a username
+ * or from a source within the throttling window.
+ */
+public class LoginThrottledException extends Exception {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,9 +1,13 @@
 package model.entity;
 
+import rowmapper.Column;
+import rowmapper.Table;
+
 /**
  * Represents a child managed by an organization.
  * Extended with gender, date of birth, and status.
  */
+@Table("children")
 public class Child {
 
     private int id;
@@ -12,10 +16,13 @@ public class Child {
     private String organization;
     private String gender;
     private String dateOfBirth;
+    @Column(insertDefault = "Active")
     private String status; // Active, Graduated, Inactive
     private Integer assignedCaregiverId; // ID of the assigned caregiver (nullable)
     private Integer sponsorId; // ID of the dedicated donor (nullable)
     private String photoPath; // System path to the uploaded photo
+    @Column(insertable = false)
+    private int version; // Row version as loaded; updates succeed only if it is still current
 
     // ── Constructors ──────────────────────────────────────────
 
@@ -120,6 +127,14 @@ public class Child {
         this.photoPath = photoPath;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return name + " (age " + age + ") — " + organization;
@@ -0,0 +1,67 @@
+package model.entity;
+
+import rowmapper.Table;
+
+/**
+ * The columns of a child that list pages show: ID, name, age and status.
+ * Loaded by projection queries instead of the full {@link Child} row.
+ */
+@Table(value = "children", readOnly = true)
+public class ChildSummary {
+
+    private int id;
+    private String name;
+    private int age;
+    private String status;
+
+    // ── Constructors ──────────────────────────────────────────
+
+    public ChildSummary() {
+    }
+
+    public ChildSummary(int id, String name, int age, String status) {
+        this.id = id;
+        this.name = name;
+        this.age = age;
+        this.status = status;
+    }
+
+    // ── Getters & Setters ─────────────────────────────────────
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (age " + age + ")";
+    }
+}
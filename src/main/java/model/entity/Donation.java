@@ -1,14 +1,20 @@
 package model.entity;
 
+import rowmapper.Column;
+import rowmapper.Table;
+import util.Money;
+
 /**
  * Represents a donation made by a donor to a child.
  */
+@Table("donations")
 public class Donation {
 
     private int id;
     private int donorId;
     private int childId;
-    private double amount;
+    @Column("amount_paisa")
+    private Money amount = Money.ZERO;
     private String purpose;
     private String date;
     private String status;
@@ -21,7 +27,7 @@ public class Donation {
         this.isRecurring = false;
     }
 
-    public Donation(int donorId, int childId, double amount, String purpose, String date) {
+    public Donation(int donorId, int childId, Money amount, String purpose, String date) {
         this.donorId = donorId;
         this.childId = childId;
         this.amount = amount;
@@ -31,7 +37,7 @@ public class Donation {
         this.isRecurring = false;
     }
 
-    public Donation(int donorId, int childId, double amount, String purpose, String date, boolean isRecurring, String endDate, String frequency) {
+    public Donation(int donorId, int childId, Money amount, String purpose, String date, boolean isRecurring, String endDate, String frequency) {
         this.donorId = donorId;
         this.childId = childId;
         this.amount = amount;
@@ -69,11 +75,11 @@ public class Donation {
         this.childId = childId;
     }
 
-    public double getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(double amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
@@ -1,9 +1,12 @@
 package model.entity;
 
+import rowmapper.Table;
+
 /**
  * Represents an education record associated with a child.
  * Uses proper encapsulation — getters only where setters aren't needed.
  */
+@Table("education_records")
 public class EducationRecord {
 
     private int id;
@@ -1,21 +1,27 @@
 package model.entity;
 
+import rowmapper.Column;
+import rowmapper.Table;
+import util.Money;
+
 /**
  * Represents an expense recorded against a child's welfare fund.
  */
+@Table("expenses")
 public class Expense {
 
     private int id;
     private int childId;
     private String category;
-    private double amount;
+    @Column("amount_paisa")
+    private Money amount = Money.ZERO;
     private String description;
     private String date;
 
     public Expense() {
     }
 
-    public Expense(int childId, String category, double amount, String description, String date) {
+    public Expense(int childId, String category, Money amount, String description, String date) {
         this.childId = childId;
         this.category = category;
         this.amount = amount;
@@ -49,11 +55,11 @@ public class Expense {
         this.category = category;
     }
 
-    public double getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(double amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
@@ -1,9 +1,12 @@
 package model.entity;
 
+import rowmapper.Table;
+
 /**
  * Represents a medical record associated with a child.
  * Uses proper encapsulation — getters only where setters aren't needed.
  */
+@Table("medical_records")
 public class MedicalRecord {
 
     private int id;
@@ -1,8 +1,11 @@
 package model.entity;
 
+import rowmapper.Table;
+
 /**
  * Represents a notification for caregiver assignments and changes.
  */
+@Table("notifications")
 public class Notification {
 
     private int id;
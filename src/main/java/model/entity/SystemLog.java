@@ -1,8 +1,11 @@
 package model.entity;
 
+import rowmapper.Table;
+
 /**
  * Represents a system log entry for audit trails and activity tracking.
  */
+@Table("system_logs")
 public class SystemLog {
 
     private int id;
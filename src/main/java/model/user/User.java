@@ -1,9 +1,13 @@
 package model.user;
 
+import rowmapper.Column;
+import rowmapper.Table;
+
 /**
  * Abstract base class for all users in the system.
  * Demonstrates OOP inheritance — concrete subclasses define specific roles.
  */
+@Table("users")
 public abstract class User {
 
     private int id;
@@ -15,6 +19,8 @@ public abstract class User {
     private boolean approved;
     private String organization; // Organization assignment for caregivers and other roles
     private String profilePhoto; // File path to user's profile photo
+    @Column(insertable = false)
+    private int version; // Row version as loaded; updates succeed only if it is still current
 
     // ── Constructors ──────────────────────────────────────────
 
@@ -102,6 +108,14 @@ public abstract class User {
         this.profilePhoto = profilePhoto;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return role + " [" + username + "] approved=" + approved;
@@ -0,0 +1,47 @@
+package model.user;
+
+import rowmapper.Table;
+
+/**
+ * A reference to a user by ID and username, for pickers and labels that do
+ * not need the rest of the account.
+ */
+@Table(value = "users", readOnly = true)
+public class UserRef {
+
+    private int id;
+    private String username;
+
+    // ── Constructors ──────────────────────────────────────────
+
+    public UserRef() {
+    }
+
+    public UserRef(int id, String username) {
+        this.id = id;
+        this.username = username;
+    }
+
+    // ── Getters & Setters ─────────────────────────────────────
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    @Override
+    public String toString() {
+        return username + " (ID: " + id + ")";
+    }
+}
@@ -1,308 +1,146 @@
 package repository;
 
 import model.entity.Child;
-import util.DBUtil;
+import model.entity.ChildSummary;
 
-import java.sql.*;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Data-access layer for the children table.
  * Updated to support extended child fields.
  */
-public class ChildRepository {
+public interface ChildRepository {
 
     /**
      * Returns all children from the database.
      */
-    public List<Child> findAll() {
-        List<Child> children = new ArrayList<>();
-        String sql = "SELECT * FROM children";
-        try {
-            Statement stmt = DBUtil.getConnection().createStatement();
-            ResultSet rs = stmt.executeQuery(sql);
-            while (rs.next()) {
-                children.add(mapRow(rs));
-            }
-            rs.close();
-            stmt.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return children;
-    }
+    List<Child> findAll();
+
+    /**
+     * Returns one page of children, ordered by ID.
+     */
+    List<Child> findPage(int offset, int limit);
+
+    /**
+     * Returns the number of children.
+     */
+    int count();
 
     /**
      * Finds a single child by ID, or returns null.
      */
-    public Child findById(int id) {
-        String sql = "SELECT * FROM children WHERE id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, id);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) {
-                return mapRow(rs);
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return null;
-    }
+    Child findById(int id);
 
     /**
      * Inserts a new child into the database and returns the generated ID.
      */
-    public int save(Child child) {
-        String sql = "INSERT INTO children (name, age, organization, gender, date_of_birth, status, assigned_caregiver_id, sponsor_id, photo_path) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            ps.setString(1, child.getName());
-            ps.setInt(2, child.getAge());
-            ps.setString(3, child.getOrganization());
-            ps.setString(4, child.getGender());
-            ps.setString(5, child.getDateOfBirth());
-            ps.setString(6, child.getStatus() != null ? child.getStatus() : "Active");
-            if (child.getAssignedCaregiverId() != null) {
-                ps.setInt(7, child.getAssignedCaregiverId());
-            } else {
-                ps.setNull(7, java.sql.Types.INTEGER);
-            }
-            if (child.getSponsorId() != null) {
-                ps.setInt(8, child.getSponsorId());
-            } else {
-                ps.setNull(8, java.sql.Types.INTEGER);
-            }
-            ps.setString(9, child.getPhotoPath());
-            ps.executeUpdate();
-            ResultSet generatedKeys = ps.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                int id = generatedKeys.getInt(1);
-                ps.close();
-                return id;
-            }
-            ps.close();
-            return -1;
-        } catch (SQLException e) {
-            // If the column doesn't exist, try without it
-            String fallbackSql = "INSERT INTO children (name, age, organization, gender, date_of_birth, status) VALUES (?, ?, ?, ?, ?, ?)";
-            try {
-                PreparedStatement ps = DBUtil.getConnection().prepareStatement(fallbackSql, Statement.RETURN_GENERATED_KEYS);
-                ps.setString(1, child.getName());
-                ps.setInt(2, child.getAge());
-                ps.setString(3, child.getOrganization());
-                ps.setString(4, child.getGender());
-                ps.setString(5, child.getDateOfBirth());
-                ps.setString(6, child.getStatus() != null ? child.getStatus() : "Active");
-                ps.executeUpdate();
-                ResultSet generatedKeys = ps.getGeneratedKeys();
-                if (generatedKeys.next()) {
-                    int id = generatedKeys.getInt(1);
-                    ps.close();
-                    return id;
-                }
-                ps.close();
-                return -1;
-            } catch (SQLException fallbackError) {
-                fallbackError.printStackTrace();
-                return -1;
-            }
-        }
-    }
+    int save(Child child);
 
     /**
-     * Updates an existing child record.
+     * Inserts many children using batched statements in chunked transactions.
+     *
+     * @return the number of children inserted
      */
-    public boolean updateChild(Child child) {
-        String sql = "UPDATE children SET name = ?, age = ?, organization = ?, gender = ?, date_of_birth = ?, status = ?, assigned_caregiver_id = ?, sponsor_id = ?, photo_path = ? WHERE id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setString(1, child.getName());
-            ps.setInt(2, child.getAge());
-            ps.setString(3, child.getOrganization());
-            ps.setString(4, child.getGender());
-            ps.setString(5, child.getDateOfBirth());
-            ps.setString(6, child.getStatus());
-            if (child.getAssignedCaregiverId() != null) {
-                ps.setInt(7, child.getAssignedCaregiverId());
-            } else {
-                ps.setNull(7, java.sql.Types.INTEGER);
-            }
-            if (child.getSponsorId() != null) {
-                ps.setInt(8, child.getSponsorId());
-            } else {
-                ps.setNull(8, java.sql.Types.INTEGER);
-            }
-            ps.setString(9, child.getPhotoPath());
-            ps.setInt(10, child.getId());
-            int rows = ps.executeUpdate();
-            ps.close();
-            return rows > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
+    int saveAll(List<Child> children);
+
+    /**
+     * Updates an existing child record if it has not changed since it was loaded.
+     *
+     * @return false on a version conflict as well as on failure
+     * @see #updateChildIfCurrent(Child)
+     */
+    boolean updateChild(Child child);
+
+    /**
+     * Writes every column of the child only if the stored version still equals
+     * the child's, then advances the version on both.
+     */
+    UpdateResult updateChildIfCurrent(Child child);
 
     /**
      * Deletes a child by ID.
      */
-    public boolean deleteChild(int id) {
-        String sql = "DELETE FROM children WHERE id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, id);
-            int rows = ps.executeUpdate();
-            ps.close();
-            return rows > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
+    boolean deleteChild(int id);
 
     /**
      * Finds all children assigned to a specific caregiver.
      */
-    public List<Child> findByCaregiver(int caregiverId) {
-        List<Child> children = new ArrayList<>();
-        String sql = "SELECT * FROM children WHERE assigned_caregiver_id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, caregiverId);
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                children.add(mapRow(rs));
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return children;
-    }
+    List<Child> findByCaregiver(int caregiverId);
+
+    /**
+     * Sets the caregiver of a child without rewriting its other columns.
+     */
+    boolean assignCaregiver(int childId, int caregiverId);
 
     /**
      * Removes caregiver assignment from a child (sets to null).
      */
-    public boolean removeCaregiverAssignment(int childId) {
-        String sql = "UPDATE children SET assigned_caregiver_id = NULL WHERE id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, childId);
-            int rows = ps.executeUpdate();
-            ps.close();
-            return rows > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
+    boolean removeCaregiverAssignment(int childId);
 
     /**
      * Finds all children assigned to a specific sponsor.
      */
-    public List<Child> findBySponsor(int sponsorId) {
-        List<Child> children = new ArrayList<>();
-        String sql = "SELECT * FROM children WHERE sponsor_id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, sponsorId);
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                children.add(mapRow(rs));
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return children;
-    }
+    List<Child> findBySponsor(int sponsorId);
 
     /**
      * Finds all children that do not have a sponsor assigned.
      */
-    public List<Child> findUnsponsored() {
-        List<Child> children = new ArrayList<>();
-        String sql = "SELECT * FROM children WHERE sponsor_id IS NULL";
-        try {
-            Statement stmt = DBUtil.getConnection().createStatement();
-            ResultSet rs = stmt.executeQuery(sql);
-            while (rs.next()) {
-                children.add(mapRow(rs));
-            }
-            rs.close();
-            stmt.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return children;
-    }
+    List<Child> findUnsponsored();
 
     /**
-     * Removes sponsor assignment from a child (sets to null).
+     * Returns one page of the children a sponsor supports, ordered by ID.
+     */
+    List<Child> findPageBySponsor(int sponsorId, int offset, int limit);
+
+    /**
+     * Returns the number of children a sponsor supports.
+     */
+    int countBySponsor(int sponsorId);
+
+    /**
+     * Returns one page of the children assigned to a caregiver, ordered by ID.
+     */
+    List<Child> findPageByCaregiver(int caregiverId, int offset, int limit);
+
+    /**
+     * Returns the number of children assigned to a caregiver.
      */
-    public boolean removeSponsorAssignment(int childId) {
-        String sql = "UPDATE children SET sponsor_id = NULL WHERE id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, childId);
-            int rows = ps.executeUpdate();
-            ps.close();
-            return rows > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
+    int countByCaregiver(int caregiverId);
 
     /**
-     * Maps a ResultSet row to a Child object.
+     * Returns one page of the children without a sponsor, ordered by ID.
      */
-    private Child mapRow(ResultSet rs) throws SQLException {
-        Child child = new Child();
-        child.setId(rs.getInt("id"));
-        child.setName(rs.getString("name"));
-        child.setAge(rs.getInt("age"));
-        child.setOrganization(rs.getString("organization"));
-        child.setGender(rs.getString("gender"));
-        child.setDateOfBirth(rs.getString("date_of_birth"));
-        child.setStatus(rs.getString("status"));
-        
-        // Handle assigned caregiver ID (nullable and may not exist in all systems)
-        try {
-            Object caregiverId = rs.getObject("assigned_caregiver_id");
-            if (caregiverId != null) {
-                child.setAssignedCaregiverId((Integer) caregiverId);
-            }
-        } catch (SQLException e) {
-            // Column doesn't exist, skip it
-        }
+    List<Child> findUnsponsoredPage(int offset, int limit);
 
-        // Handle assigned sponsor ID
-        try {
-            Object sponsorIdObj = rs.getObject("sponsor_id");
-            if (sponsorIdObj != null) {
-                child.setSponsorId((Integer) sponsorIdObj);
-            }
-        } catch (SQLException e) {
-            // Column doesn't exist, skip it
-        }
+    /**
+     * Returns the number of children without a sponsor.
+     */
+    int countUnsponsored();
 
-        // Handle photo path
-        try {
-            String photoPath = rs.getString("photo_path");
-            if (photoPath != null) {
-                child.setPhotoPath(photoPath);
-            }
-        } catch (SQLException e) {
-            // Column doesn't exist, skip it
-        }
-        
-        return child;
-    }
+    /**
+     * Finds all children registered with an organization.
+     */
+    List<Child> findByOrganization(String organization);
+
+    /**
+     * Returns the number of children registered with an organization.
+     */
+    int countByOrganization(String organization);
+
+    /**
+     * Returns the ID, name, age and status of the children assigned to a caregiver.
+     */
+    List<ChildSummary> findSummariesByCaregiver(int caregiverId);
+
+    /**
+     * Sets the sponsor of a child without rewriting its other columns, only
+     * if the child has no sponsor yet; a child someone else already sponsors
+     * is reported as {@link UpdateResult#CONFLICT}.
+     */
+    UpdateResult assignSponsor(int childId, int sponsorId);
+
+    /**
+     * Removes sponsor assignment from a child (sets to null).
+     */
+    boolean removeSponsorAssignment(int childId);
 }
@@ -1,179 +1,112 @@
 package repository;
 
 import model.entity.Donation;
-import util.DBUtil;
+import util.Money;
 
-import java.sql.*;
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * Data-access layer for the donations table.
  */
-public class DonationRepository {
+public interface DonationRepository {
 
     /**
      * Returns all donations.
      */
-    public List<Donation> findAll() {
-        List<Donation> donations = new ArrayList<>();
-        String sql = "SELECT * FROM donations ORDER BY date DESC";
-        try {
-            Statement stmt = DBUtil.getConnection().createStatement();
-            ResultSet rs = stmt.executeQuery(sql);
-            while (rs.next()) {
-                donations.add(mapRow(rs));
-            }
-            rs.close();
-            stmt.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return donations;
-    }
+    List<Donation> findAll();
+
+    /**
+     * Returns one page of donations, ordered by ID.
+     */
+    List<Donation> findPage(int offset, int limit);
+
+    /**
+     * Returns the number of donations.
+     */
+    int count();
 
     /**
      * Returns all donations by a specific donor.
      */
-    public List<Donation> findByDonorId(int donorId) {
-        List<Donation> donations = new ArrayList<>();
-        String sql = "SELECT * FROM donations WHERE donor_id = ? ORDER BY date DESC";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, donorId);
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                donations.add(mapRow(rs));
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return donations;
-    }
+    List<Donation> findByDonorId(int donorId);
+
+    /**
+     * Returns the donations by a donor dated from {@code from} to {@code to}
+     * inclusive, newest first.
+     */
+    List<Donation> findByDonorBetween(int donorId, LocalDate from, LocalDate to);
+
+    /**
+     * Returns the recurring donations whose subscription ends from
+     * {@code from} to {@code to} inclusive, soonest first.
+     */
+    List<Donation> findRecurringEndingBetween(LocalDate from, LocalDate to);
 
     /**
      * Returns all donations for a specific child.
      */
-    public List<Donation> findByChildId(int childId) {
-        List<Donation> donations = new ArrayList<>();
-        String sql = "SELECT * FROM donations WHERE child_id = ? ORDER BY date DESC";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, childId);
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                donations.add(mapRow(rs));
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return donations;
-    }
+    List<Donation> findByChildId(int childId);
+
+    /**
+     * Returns one page of a donor's donations, newest first.
+     */
+    List<Donation> findPageByDonorId(int donorId, int offset, int limit);
+
+    /**
+     * Returns the number of donations by a donor.
+     */
+    int countByDonorId(int donorId);
+
+    /**
+     * Returns one page of the donations for a child, newest first.
+     */
+    List<Donation> findPageByChildId(int childId, int offset, int limit);
+
+    /**
+     * Returns the number of donations for a child.
+     */
+    int countByChildId(int childId);
+
+    /**
+     * Returns one page of a donor's donations for one child, newest first.
+     */
+    List<Donation> findPageByDonorAndChild(int donorId, int childId, int offset, int limit);
+
+    /**
+     * Returns the number of a donor's donations for one child.
+     */
+    int countByDonorAndChild(int donorId, int childId);
+
+    /**
+     * Returns all donations to children of an organization, newest first.
+     */
+    List<Donation> findByOrganization(String organization);
 
     /**
      * Returns the total donation amount by a specific donor.
      */
-    public double getTotalByDonorId(int donorId) {
-        String sql = "SELECT COALESCE(SUM(amount), 0) FROM donations WHERE donor_id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, donorId);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) {
-                double total = rs.getDouble(1);
-                rs.close();
-                ps.close();
-                return total;
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return 0;
-    }
+    Money getTotalByDonorId(int donorId);
 
     /**
      * Returns the total donation amount for a specific child.
      */
-    public double getTotalByChildId(int childId) {
-        String sql = "SELECT COALESCE(SUM(amount), 0) FROM donations WHERE child_id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, childId);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) {
-                double total = rs.getDouble(1);
-                rs.close();
-                ps.close();
-                return total;
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return 0;
-    }
+    Money getTotalByChildId(int childId);
 
     /**
      * Returns the count of distinct children sponsored by a donor.
      */
-    public int countChildrenByDonorId(int donorId) {
-        String sql = "SELECT COUNT(DISTINCT child_id) FROM donations WHERE donor_id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, donorId);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) {
-                int count = rs.getInt(1);
-                rs.close();
-                ps.close();
-                return count;
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return 0;
-    }
+    int countChildrenByDonorId(int donorId);
 
     /**
      * Inserts a new donation.
      */
-    public boolean save(Donation donation) {
-        String sql = "INSERT INTO donations (donor_id, child_id, amount, purpose, date, status) VALUES (?, ?, ?, ?, ?, ?)";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, donation.getDonorId());
-            ps.setInt(2, donation.getChildId());
-            ps.setDouble(3, donation.getAmount());
-            ps.setString(4, donation.getPurpose());
-            ps.setString(5, donation.getDate());
-            ps.setString(6, donation.getStatus());
-            ps.executeUpdate();
-            ps.close();
-            return true;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
-
-    private Donation mapRow(ResultSet rs) throws SQLException {
-        Donation d = new Donation();
-        d.setId(rs.getInt("id"));
-        d.setDonorId(rs.getInt("donor_id"));
-        d.setChildId(rs.getInt("child_id"));
-        d.setAmount(rs.getDouble("amount"));
-        d.setPurpose(rs.getString("purpose"));
-        d.setDate(rs.getString("date"));
-        d.setStatus(rs.getString("status"));
-        return d;
-    }
+    boolean save(Donation donation);
+
+    /**
+     * Inserts many donations using batched statements in chunked transactions.
+     *
+     * @return the number of donations inserted
+     */
+    int saveAll(List<Donation> donations);
 }
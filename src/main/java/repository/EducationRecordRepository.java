@@ -1,77 +1,33 @@
 package repository;
 
 import model.entity.EducationRecord;
-import util.DBUtil;
 
-import java.sql.*;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Data-access layer for the education_records table.
  */
-public class EducationRecordRepository {
+public interface EducationRecordRepository {
 
     /**
      * Finds all education records for a given child.
      */
-    public List<EducationRecord> findByChildId(int childId) {
-        List<EducationRecord> records = new ArrayList<>();
-        String sql = "SELECT * FROM education_records WHERE child_id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, childId);
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                EducationRecord record = new EducationRecord(
-                        rs.getInt("child_id"),
-                        rs.getString("school_name"),
-                        rs.getString("grade"),
-                        rs.getDouble("attendance_percentage"));
-                record.setId(rs.getInt("id"));
-                records.add(record);
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return records;
-    }
+    List<EducationRecord> findByChildId(int childId);
 
     /**
      * Inserts a new education record.
      */
-    public void save(EducationRecord record) {
-        String sql = "INSERT INTO education_records (child_id, school_name, grade, attendance_percentage) VALUES (?, ?, ?, ?)";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, record.getChildId());
-            ps.setString(2, record.getSchoolName());
-            ps.setString(3, record.getGrade());
-            ps.setDouble(4, record.getAttendancePercentage());
-            ps.executeUpdate();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-    }
+    void save(EducationRecord record);
+
+    /**
+     * Inserts many education records using batched statements in chunked transactions.
+     *
+     * @return the number of education records inserted
+     */
+    int saveAll(List<EducationRecord> records);
 
     /**
      * Updates an existing education record by ID.
      */
-    public void update(EducationRecord record) {
-        String sql = "UPDATE education_records SET school_name = ?, grade = ?, attendance_percentage = ? WHERE id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setString(1, record.getSchoolName());
-            ps.setString(2, record.getGrade());
-            ps.setDouble(3, record.getAttendancePercentage());
-            ps.setInt(4, record.getId());
-            ps.executeUpdate();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-    }
+    void update(EducationRecord record);
 }
@@ -0,0 +1,566 @@
+package repository;
+
+import model.entity.Child;
+import model.entity.ChildRows;
+import model.entity.ChildSummary;
+import model.entity.ChildSummaryRows;
+import util.BatchExecutor;
+import util.DBUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ChildRepository} backed by the local SQLite database.
+ */
+public class JdbcChildRepository implements ChildRepository {
+
+    /**
+     * Returns all children from the database.
+     */
+    @Override
+    public List<Child> findAll() {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Returns one page of children, ordered by ID.
+     */
+    @Override
+    public List<Child> findPage(int offset, int limit) {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children ORDER BY id LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, limit);
+            ps.setInt(2, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Returns the number of children.
+     */
+    @Override
+    public int count() {
+        String sql = "SELECT COUNT(*) FROM children";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            stmt.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Finds a single child by ID, or returns null.
+     */
+    @Override
+    public Child findById(int id) {
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, id);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                return ChildRows.map(rs);
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Inserts a new child into the database and returns the generated ID.
+     */
+    @Override
+    public int save(Child child) {
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(ChildRows.INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ChildRows.bindInsert(ps, child);
+            ps.executeUpdate();
+            ResultSet generatedKeys = ps.getGeneratedKeys();
+            if (generatedKeys.next()) {
+                int id = generatedKeys.getInt(1);
+                ps.close();
+                return id;
+            }
+            ps.close();
+            return -1;
+        } catch (SQLException e) {
+            // If the column doesn't exist, try without it
+            String fallbackSql = "INSERT INTO children (name, age, organization, gender, date_of_birth, status) VALUES (?, ?, ?, ?, ?, ?)";
+            try {
+                PreparedStatement ps = DBUtil.getConnection().prepareStatement(fallbackSql, Statement.RETURN_GENERATED_KEYS);
+                ps.setString(1, child.getName());
+                ps.setInt(2, child.getAge());
+                ps.setString(3, child.getOrganization());
+                ps.setString(4, child.getGender());
+                ps.setString(5, child.getDateOfBirth());
+                ps.setString(6, child.getStatus() != null ? child.getStatus() : "Active");
+                ps.executeUpdate();
+                ResultSet generatedKeys = ps.getGeneratedKeys();
+                if (generatedKeys.next()) {
+                    int id = generatedKeys.getInt(1);
+                    ps.close();
+                    return id;
+                }
+                ps.close();
+                return -1;
+            } catch (SQLException fallbackError) {
+                fallbackError.printStackTrace();
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Inserts many children using batched statements in chunked transactions.
+     *
+     * @return the number of children inserted
+     */
+    @Override
+    public int saveAll(List<Child> children) {
+        try {
+            return BatchExecutor.executeInChunks(ChildRows.INSERT_SQL, children, ChildRows::bindInsert);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Updates an existing child record if it has not changed since it was loaded.
+     */
+    @Override
+    public boolean updateChild(Child child) {
+        return updateChildIfCurrent(child).isUpdated();
+    }
+
+    /**
+     * Writes every column of the child only if the stored version still equals
+     * the child's, then advances the version on both.
+     */
+    @Override
+    public UpdateResult updateChildIfCurrent(Child child) {
+        String sql = "UPDATE children SET name = ?, age = ?, organization = ?, gender = ?, date_of_birth = ?, status = ?, assigned_caregiver_id = ?, sponsor_id = ?, photo_path = ?, version = version + 1 WHERE id = ? AND version = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, child.getName());
+            ps.setInt(2, child.getAge());
+            ps.setString(3, child.getOrganization());
+            ps.setString(4, child.getGender());
+            ps.setString(5, child.getDateOfBirth());
+            ps.setString(6, child.getStatus());
+            if (child.getAssignedCaregiverId() != null) {
+                ps.setInt(7, child.getAssignedCaregiverId());
+            } else {
+                ps.setNull(7, java.sql.Types.INTEGER);
+            }
+            if (child.getSponsorId() != null) {
+                ps.setInt(8, child.getSponsorId());
+            } else {
+                ps.setNull(8, java.sql.Types.INTEGER);
+            }
+            ps.setString(9, child.getPhotoPath());
+            ps.setInt(10, child.getId());
+            ps.setInt(11, child.getVersion());
+            int rows = ps.executeUpdate();
+            ps.close();
+            if (rows > 0) {
+                child.setVersion(child.getVersion() + 1);
+                return UpdateResult.UPDATED;
+            }
+            return findById(child.getId()) != null ? UpdateResult.CONFLICT : UpdateResult.NOT_FOUND;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return UpdateResult.FAILED;
+        }
+    }
+
+    /**
+     * Deletes a child by ID.
+     */
+    @Override
+    public boolean deleteChild(int id) {
+        String sql = "DELETE FROM children WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, id);
+            int rows = ps.executeUpdate();
+            ps.close();
+            return rows > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Finds all children assigned to a specific caregiver.
+     */
+    @Override
+    public List<Child> findByCaregiver(int caregiverId) {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children WHERE assigned_caregiver_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Sets the caregiver of a child without rewriting its other columns.
+     */
+    @Override
+    public boolean assignCaregiver(int childId, int caregiverId) {
+        String sql = "UPDATE children SET assigned_caregiver_id = ?, version = version + 1 WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ps.setInt(2, childId);
+            int rows = ps.executeUpdate();
+            ps.close();
+            return rows > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Removes caregiver assignment from a child (sets to null).
+     */
+    @Override
+    public boolean removeCaregiverAssignment(int childId) {
+        String sql = "UPDATE children SET assigned_caregiver_id = NULL, version = version + 1 WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            int rows = ps.executeUpdate();
+            ps.close();
+            return rows > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Finds all children assigned to a specific sponsor.
+     */
+    @Override
+    public List<Child> findBySponsor(int sponsorId) {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children WHERE sponsor_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, sponsorId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Finds all children that do not have a sponsor assigned.
+     */
+    @Override
+    public List<Child> findUnsponsored() {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children WHERE sponsor_id IS NULL";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Returns one page of the children a sponsor supports, ordered by ID.
+     */
+    @Override
+    public List<Child> findPageBySponsor(int sponsorId, int offset, int limit) {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children WHERE sponsor_id = ? ORDER BY id LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, sponsorId);
+            ps.setInt(2, limit);
+            ps.setInt(3, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Returns the number of children a sponsor supports.
+     */
+    @Override
+    public int countBySponsor(int sponsorId) {
+        String sql = "SELECT COUNT(*) FROM children WHERE sponsor_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, sponsorId);
+            ResultSet rs = ps.executeQuery();
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            ps.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns one page of the children assigned to a caregiver, ordered by ID.
+     */
+    @Override
+    public List<Child> findPageByCaregiver(int caregiverId, int offset, int limit) {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children WHERE assigned_caregiver_id = ? ORDER BY id LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ps.setInt(2, limit);
+            ps.setInt(3, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Returns the number of children assigned to a caregiver.
+     */
+    @Override
+    public int countByCaregiver(int caregiverId) {
+        String sql = "SELECT COUNT(*) FROM children WHERE assigned_caregiver_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ResultSet rs = ps.executeQuery();
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            ps.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns one page of the children without a sponsor, ordered by ID.
+     */
+    @Override
+    public List<Child> findUnsponsoredPage(int offset, int limit) {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children WHERE sponsor_id IS NULL ORDER BY id LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, limit);
+            ps.setInt(2, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Returns the number of children without a sponsor.
+     */
+    @Override
+    public int countUnsponsored() {
+        String sql = "SELECT COUNT(*) FROM children WHERE sponsor_id IS NULL";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ResultSet rs = ps.executeQuery();
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            ps.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Finds all children registered with an organization.
+     */
+    @Override
+    public List<Child> findByOrganization(String organization) {
+        List<Child> children = new ArrayList<>();
+        String sql = "SELECT " + ChildRows.COLUMNS + " FROM children WHERE organization = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, organization);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                children.add(ChildRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return children;
+    }
+
+    /**
+     * Returns the number of children registered with an organization.
+     */
+    @Override
+    public int countByOrganization(String organization) {
+        String sql = "SELECT COUNT(*) FROM children WHERE organization = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, organization);
+            ResultSet rs = ps.executeQuery();
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            ps.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the ID, name, age and status of the children assigned to a caregiver.
+     */
+    @Override
+    public List<ChildSummary> findSummariesByCaregiver(int caregiverId) {
+        List<ChildSummary> summaries = new ArrayList<>();
+        String sql = "SELECT " + ChildSummaryRows.COLUMNS + " FROM children WHERE assigned_caregiver_id = ? ORDER BY id";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                summaries.add(ChildSummaryRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return summaries;
+    }
+
+    /**
+     * Sets the sponsor of a child without rewriting its other columns, only
+     * if the child has no sponsor yet; a child someone else already sponsors
+     * is reported as {@link UpdateResult#CONFLICT}.
+     */
+    @Override
+    public UpdateResult assignSponsor(int childId, int sponsorId) {
+        String sql = "UPDATE children SET sponsor_id = ?, version = version + 1 WHERE id = ? AND sponsor_id IS NULL";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, sponsorId);
+            ps.setInt(2, childId);
+            int rows = ps.executeUpdate();
+            ps.close();
+            if (rows > 0) {
+                return UpdateResult.UPDATED;
+            }
+            return findById(childId) != null ? UpdateResult.CONFLICT : UpdateResult.NOT_FOUND;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return UpdateResult.FAILED;
+        }
+    }
+
+    /**
+     * Removes sponsor assignment from a child (sets to null).
+     */
+    @Override
+    public boolean removeSponsorAssignment(int childId) {
+        String sql = "UPDATE children SET sponsor_id = NULL, version = version + 1 WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            int rows = ps.executeUpdate();
+            ps.close();
+            return rows > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package repository;
+
+import model.entity.Donation;
+import model.entity.DonationRows;
+import util.BatchExecutor;
+import util.DBUtil;
+import util.Money;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link DonationRepository} backed by the local SQLite database.
+ */
+public class JdbcDonationRepository implements DonationRepository {
+
+    /**
+     * Returns all donations.
+     */
+    @Override
+    public List<Donation> findAll() {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations ORDER BY date DESC";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns one page of donations, ordered by ID.
+     */
+    @Override
+    public List<Donation> findPage(int offset, int limit) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations ORDER BY id LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, limit);
+            ps.setInt(2, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns the number of donations.
+     */
+    @Override
+    public int count() {
+        String sql = "SELECT COUNT(*) FROM donations";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            stmt.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns all donations by a specific donor.
+     */
+    @Override
+    public List<Donation> findByDonorId(int donorId) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations WHERE donor_id = ? ORDER BY date_day DESC";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, donorId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns the donations by a donor dated from {@code from} to {@code to}
+     * inclusive, newest first.
+     */
+    @Override
+    public List<Donation> findByDonorBetween(int donorId, LocalDate from, LocalDate to) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations"
+                + " WHERE donor_id = ? AND date_day BETWEEN ? AND ? ORDER BY date_day DESC";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, donorId);
+            ps.setLong(2, from.toEpochDay());
+            ps.setLong(3, to.toEpochDay());
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns the recurring donations whose subscription ends from
+     * {@code from} to {@code to} inclusive, soonest first.
+     */
+    @Override
+    public List<Donation> findRecurringEndingBetween(LocalDate from, LocalDate to) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations"
+                + " WHERE is_recurring = 1 AND end_day BETWEEN ? AND ? ORDER BY end_day";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setLong(1, from.toEpochDay());
+            ps.setLong(2, to.toEpochDay());
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns all donations for a specific child.
+     */
+    @Override
+    public List<Donation> findByChildId(int childId) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations WHERE child_id = ? ORDER BY date_day DESC";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns one page of a donor's donations, newest first.
+     */
+    @Override
+    public List<Donation> findPageByDonorId(int donorId, int offset, int limit) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations WHERE donor_id = ? ORDER BY date_day DESC, id DESC LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, donorId);
+            ps.setInt(2, limit);
+            ps.setInt(3, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns the number of donations by a donor.
+     */
+    @Override
+    public int countByDonorId(int donorId) {
+        String sql = "SELECT COUNT(*) FROM donations WHERE donor_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, donorId);
+            ResultSet rs = ps.executeQuery();
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            ps.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns one page of the donations for a child, newest first.
+     */
+    @Override
+    public List<Donation> findPageByChildId(int childId, int offset, int limit) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations WHERE child_id = ? ORDER BY date_day DESC, id DESC LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            ps.setInt(2, limit);
+            ps.setInt(3, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns the number of donations for a child.
+     */
+    @Override
+    public int countByChildId(int childId) {
+        String sql = "SELECT COUNT(*) FROM donations WHERE child_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            ResultSet rs = ps.executeQuery();
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            ps.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns one page of a donor's donations for one child, newest first.
+     */
+    @Override
+    public List<Donation> findPageByDonorAndChild(int donorId, int childId, int offset, int limit) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations WHERE donor_id = ? AND child_id = ? ORDER BY date_day DESC, id DESC LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, donorId);
+            ps.setInt(2, childId);
+            ps.setInt(3, limit);
+            ps.setInt(4, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns the number of a donor's donations for one child.
+     */
+    @Override
+    public int countByDonorAndChild(int donorId, int childId) {
+        String sql = "SELECT COUNT(*) FROM donations WHERE donor_id = ? AND child_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, donorId);
+            ps.setInt(2, childId);
+            ResultSet rs = ps.executeQuery();
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            ps.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns all donations to children of an organization, newest first.
+     */
+    @Override
+    public List<Donation> findByOrganization(String organization) {
+        List<Donation> donations = new ArrayList<>();
+        String sql = "SELECT " + DonationRows.COLUMNS + " FROM donations"
+                + " WHERE child_id IN (SELECT id FROM children WHERE organization = ?) ORDER BY date DESC";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, organization);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                donations.add(DonationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return donations;
+    }
+
+    /**
+     * Returns the total donation amount by a specific donor.
+     */
+    @Override
+    public Money getTotalByDonorId(int donorId) {
+        String sql = "SELECT COALESCE(SUM(amount_paisa), 0) FROM donations WHERE donor_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, donorId);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                Money total = Money.valueOf(rs.getLong(1));
+                rs.close();
+                ps.close();
+                return total;
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return Money.ZERO;
+    }
+
+    /**
+     * Returns the total donation amount for a specific child.
+     */
+    @Override
+    public Money getTotalByChildId(int childId) {
+        String sql = "SELECT COALESCE(SUM(amount_paisa), 0) FROM donations WHERE child_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                Money total = Money.valueOf(rs.getLong(1));
+                rs.close();
+                ps.close();
+                return total;
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return Money.ZERO;
+    }
+
+    /**
+     * Returns the count of distinct children sponsored by a donor.
+     */
+    @Override
+    public int countChildrenByDonorId(int donorId) {
+        String sql = "SELECT COUNT(DISTINCT child_id) FROM donations WHERE donor_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, donorId);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                int count = rs.getInt(1);
+                rs.close();
+                ps.close();
+                return count;
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Inserts a new donation.
+     */
+    @Override
+    public boolean save(Donation donation) {
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(DonationRows.INSERT_SQL);
+            DonationRows.bindInsert(ps, donation);
+            ps.executeUpdate();
+            ps.close();
+            return true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Inserts many donations using batched statements in chunked transactions.
+     *
+     * @return the number of donations inserted
+     */
+    @Override
+    public int saveAll(List<Donation> donations) {
+        try {
+            return BatchExecutor.executeInChunks(DonationRows.INSERT_SQL, donations, DonationRows::bindInsert);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+}
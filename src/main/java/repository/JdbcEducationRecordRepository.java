@@ -0,0 +1,87 @@
+package repository;
+
+import model.entity.EducationRecord;
+import model.entity.EducationRecordRows;
+import util.BatchExecutor;
+import util.DBUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link EducationRecordRepository} backed by the local SQLite database.
+ */
+public class JdbcEducationRecordRepository implements EducationRecordRepository {
+
+    /**
+     * Finds all education records for a given child.
+     */
+    @Override
+    public List<EducationRecord> findByChildId(int childId) {
+        List<EducationRecord> records = new ArrayList<>();
+        String sql = "SELECT " + EducationRecordRows.COLUMNS + " FROM education_records WHERE child_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                records.add(EducationRecordRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return records;
+    }
+
+    /**
+     * Inserts a new education record.
+     */
+    @Override
+    public void save(EducationRecord record) {
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(EducationRecordRows.INSERT_SQL);
+            EducationRecordRows.bindInsert(ps, record);
+            ps.executeUpdate();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Inserts many education records using batched statements in chunked transactions.
+     *
+     * @return the number of education records inserted
+     */
+    @Override
+    public int saveAll(List<EducationRecord> records) {
+        try {
+            return BatchExecutor.executeInChunks(EducationRecordRows.INSERT_SQL, records, EducationRecordRows::bindInsert);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Updates an existing education record by ID.
+     */
+    @Override
+    public void update(EducationRecord record) {
+        String sql = "UPDATE education_records SET school_name = ?, grade = ?, attendance_percentage = ? WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, record.getSchoolName());
+            ps.setString(2, record.getGrade());
+            ps.setDouble(3, record.getAttendancePercentage());
+            ps.setInt(4, record.getId());
+            ps.executeUpdate();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package repository;
+
+import model.entity.Expense;
+import model.entity.ExpenseRows;
+import util.BatchExecutor;
+import util.DBUtil;
+import util.Money;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ExpenseRepository} backed by the local SQLite database.
+ */
+public class JdbcExpenseRepository implements ExpenseRepository {
+
+    /**
+     * Returns all expenses.
+     */
+    @Override
+    public List<Expense> findAll() {
+        List<Expense> expenses = new ArrayList<>();
+        String sql = "SELECT " + ExpenseRows.COLUMNS + " FROM expenses ORDER BY date DESC";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                expenses.add(ExpenseRows.map(rs));
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return expenses;
+    }
+
+    /**
+     * Returns all expenses for a specific child.
+     */
+    @Override
+    public List<Expense> findByChildId(int childId) {
+        List<Expense> expenses = new ArrayList<>();
+        String sql = "SELECT " + ExpenseRows.COLUMNS + " FROM expenses WHERE child_id = ? ORDER BY date_day DESC";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                expenses.add(ExpenseRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return expenses;
+    }
+
+    /**
+     * Returns all expenses for children of an organization, newest first.
+     */
+    @Override
+    public List<Expense> findByOrganization(String organization) {
+        List<Expense> expenses = new ArrayList<>();
+        String sql = "SELECT " + ExpenseRows.COLUMNS + " FROM expenses"
+                + " WHERE child_id IN (SELECT id FROM children WHERE organization = ?) ORDER BY date DESC";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, organization);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                expenses.add(ExpenseRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return expenses;
+    }
+
+    /**
+     * Returns total expenses for a specific child.
+     */
+    @Override
+    public Money getTotalByChildId(int childId) {
+        String sql = "SELECT COALESCE(SUM(amount_paisa), 0) FROM expenses WHERE child_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                Money total = Money.valueOf(rs.getLong(1));
+                rs.close();
+                ps.close();
+                return total;
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return Money.ZERO;
+    }
+
+    /**
+     * Inserts a new expense.
+     */
+    @Override
+    public boolean save(Expense expense) {
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(ExpenseRows.INSERT_SQL);
+            ExpenseRows.bindInsert(ps, expense);
+            ps.executeUpdate();
+            ps.close();
+            return true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Inserts many expenses using batched statements in chunked transactions.
+     *
+     * @return the number of expenses inserted
+     */
+    @Override
+    public int saveAll(List<Expense> expenses) {
+        try {
+            return BatchExecutor.executeInChunks(ExpenseRows.INSERT_SQL, expenses, ExpenseRows::bindInsert);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+}
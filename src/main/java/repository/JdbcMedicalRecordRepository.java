@@ -0,0 +1,87 @@
+package repository;
+
+import model.entity.MedicalRecord;
+import model.entity.MedicalRecordRows;
+import util.BatchExecutor;
+import util.DBUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link MedicalRecordRepository} backed by the local SQLite database.
+ */
+public class JdbcMedicalRecordRepository implements MedicalRecordRepository {
+
+    /**
+     * Finds all medical records for a given child.
+     */
+    @Override
+    public List<MedicalRecord> findByChildId(int childId) {
+        List<MedicalRecord> records = new ArrayList<>();
+        String sql = "SELECT " + MedicalRecordRows.COLUMNS + " FROM medical_records WHERE child_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, childId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                records.add(MedicalRecordRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return records;
+    }
+
+    /**
+     * Inserts a new medical record.
+     */
+    @Override
+    public void save(MedicalRecord record) {
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(MedicalRecordRows.INSERT_SQL);
+            MedicalRecordRows.bindInsert(ps, record);
+            ps.executeUpdate();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Inserts many medical records using batched statements in chunked transactions.
+     *
+     * @return the number of medical records inserted
+     */
+    @Override
+    public int saveAll(List<MedicalRecord> records) {
+        try {
+            return BatchExecutor.executeInChunks(MedicalRecordRows.INSERT_SQL, records, MedicalRecordRows::bindInsert);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Updates an existing medical record by ID.
+     */
+    @Override
+    public void update(MedicalRecord record) {
+        String sql = "UPDATE medical_records SET blood_group = ?, medical_condition = ?, last_checkup = ? WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, record.getBloodGroup());
+            ps.setString(2, record.getMedicalCondition());
+            ps.setString(3, record.getLastCheckup());
+            ps.setInt(4, record.getId());
+            ps.executeUpdate();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package repository;
+
+import model.entity.Notification;
+import model.entity.NotificationRows;
+import util.BatchExecutor;
+import util.DBUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link NotificationRepository} backed by the local SQLite database.
+ */
+public class JdbcNotificationRepository implements NotificationRepository {
+
+    /**
+     * Saves a new notification to the database.
+     */
+    @Override
+    public boolean save(Notification notification) {
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(NotificationRows.INSERT_SQL);
+            NotificationRows.bindInsert(ps, notification);
+            int rows = ps.executeUpdate();
+            ps.close();
+            return rows > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Inserts many notifications using batched statements in chunked transactions.
+     *
+     * @return the number of notifications inserted
+     */
+    @Override
+    public int saveAll(List<Notification> notifications) {
+        try {
+            return BatchExecutor.executeInChunks(NotificationRows.INSERT_SQL, notifications, NotificationRows::bindInsert);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Retrieves all notifications for a specific caregiver.
+     */
+    @Override
+    public List<Notification> findByCaregiver(int caregiverId) {
+        List<Notification> notifications = new ArrayList<>();
+        String sql = "SELECT " + NotificationRows.COLUMNS + " FROM notifications WHERE caregiver_id = ? ORDER BY timestamp DESC";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                notifications.add(NotificationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return notifications;
+    }
+
+    /**
+     * Retrieves unread notifications for a caregiver.
+     */
+    @Override
+    public List<Notification> findUnreadByCaregiver(int caregiverId) {
+        List<Notification> notifications = new ArrayList<>();
+        String sql = "SELECT " + NotificationRows.COLUMNS + " FROM notifications WHERE caregiver_id = ? AND is_read = false ORDER BY timestamp DESC";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                notifications.add(NotificationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return notifications;
+    }
+
+    /**
+     * Retrieves one page of a caregiver's notifications, newest first.
+     */
+    @Override
+    public List<Notification> findPageByCaregiver(int caregiverId, int offset, int limit) {
+        List<Notification> notifications = new ArrayList<>();
+        String sql = "SELECT " + NotificationRows.COLUMNS + " FROM notifications WHERE caregiver_id = ? ORDER BY timestamp DESC, id DESC LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ps.setInt(2, limit);
+            ps.setInt(3, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                notifications.add(NotificationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return notifications;
+    }
+
+    /**
+     * Counts all notifications for a caregiver.
+     */
+    @Override
+    public int countByCaregiver(int caregiverId) {
+        String sql = "SELECT COUNT(*) FROM notifications WHERE caregiver_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ResultSet rs = ps.executeQuery();
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            ps.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Retrieves one page of a caregiver's unread notifications, newest first.
+     */
+    @Override
+    public List<Notification> findUnreadPageByCaregiver(int caregiverId, int offset, int limit) {
+        List<Notification> notifications = new ArrayList<>();
+        String sql = "SELECT " + NotificationRows.COLUMNS + " FROM notifications WHERE caregiver_id = ? AND is_read = false ORDER BY timestamp DESC, id DESC LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ps.setInt(2, limit);
+            ps.setInt(3, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                notifications.add(NotificationRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return notifications;
+    }
+
+    /**
+     * Marks a notification as read.
+     */
+    @Override
+    public boolean markAsRead(int notificationId) {
+        String sql = "UPDATE notifications SET is_read = true WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, notificationId);
+            int rows = ps.executeUpdate();
+            ps.close();
+            return rows > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Marks all notifications for a caregiver as read.
+     */
+    @Override
+    public boolean markAllAsRead(int caregiverId) {
+        String sql = "UPDATE notifications SET is_read = true WHERE caregiver_id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            int rows = ps.executeUpdate();
+            ps.close();
+            return rows > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Deletes a notification by ID.
+     */
+    @Override
+    public boolean deleteById(int notificationId) {
+        String sql = "DELETE FROM notifications WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, notificationId);
+            int rows = ps.executeUpdate();
+            ps.close();
+            return rows > 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Counts unread notifications for a caregiver.
+     */
+    @Override
+    public int countUnread(int caregiverId) {
+        String sql = "SELECT COUNT(*) FROM notifications WHERE caregiver_id = ? AND is_read = false";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, caregiverId);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+}
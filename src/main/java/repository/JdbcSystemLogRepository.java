@@ -0,0 +1,136 @@
+package repository;
+
+import model.entity.SystemLog;
+import model.entity.SystemLogRows;
+import util.BatchExecutor;
+import util.DBUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SystemLogRepository} backed by the local SQLite database.
+ */
+public class JdbcSystemLogRepository implements SystemLogRepository {
+
+    /**
+     * Returns all system logs, most recent first.
+     */
+    @Override
+    public List<SystemLog> findAll() {
+        List<SystemLog> logs = new ArrayList<>();
+        String sql = "SELECT " + SystemLogRows.COLUMNS + " FROM system_logs ORDER BY timestamp DESC";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                logs.add(SystemLogRows.map(rs));
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return logs;
+    }
+
+    /**
+     * Returns the most recent N log entries.
+     */
+    @Override
+    public List<SystemLog> findRecent(int limit) {
+        List<SystemLog> logs = new ArrayList<>();
+        String sql = "SELECT " + SystemLogRows.COLUMNS + " FROM system_logs ORDER BY timestamp DESC LIMIT ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, limit);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                logs.add(SystemLogRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return logs;
+    }
+
+    /**
+     * Returns one page of system logs, most recent first.
+     */
+    @Override
+    public List<SystemLog> findPage(int offset, int limit) {
+        List<SystemLog> logs = new ArrayList<>();
+        String sql = "SELECT " + SystemLogRows.COLUMNS + " FROM system_logs ORDER BY timestamp DESC, id DESC LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, limit);
+            ps.setInt(2, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                logs.add(SystemLogRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return logs;
+    }
+
+    /**
+     * Returns the total count of system logs.
+     */
+    @Override
+    public int count() {
+        String sql = "SELECT COUNT(*) FROM system_logs";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            if (rs.next()) {
+                int c = rs.getInt(1);
+                rs.close();
+                stmt.close();
+                return c;
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Inserts a new system log entry.
+     */
+    @Override
+    public void save(SystemLog log) {
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(SystemLogRows.INSERT_SQL);
+            SystemLogRows.bindInsert(ps, log);
+            ps.executeUpdate();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Inserts many log entries using batched statements in chunked transactions.
+     *
+     * @return the number of log entries inserted
+     */
+    @Override
+    public int saveAll(List<SystemLog> logs) {
+        try {
+            return BatchExecutor.executeInChunks(SystemLogRows.INSERT_SQL, logs, SystemLogRows::bindInsert);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package repository;
+
+import util.DBUtil;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link TableVersionRepository} backed by the local SQLite database.
+ */
+public class JdbcTableVersionRepository implements TableVersionRepository {
+
+    /**
+     * Returns the change count of every versioned table, by table name.
+     */
+    @Override
+    public Map<String, Long> findVersions() {
+        Map<String, Long> versions = new HashMap<>();
+        String sql = "SELECT table_name, version FROM table_versions";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                versions.put(rs.getString(1), rs.getLong(2));
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,451 @@
+package repository;
+
+import model.user.*;
+import util.BatchExecutor;
+import util.DBUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link UserRepository} backed by the local SQLite database.
+ */
+public class JdbcUserRepository implements UserRepository {
+
+    /**
+     * Finds a user by username, or returns null if not found.
+     */
+    @Override
+    public User findByUsername(String username) {
+        String sql = "SELECT " + UserRows.COLUMNS + " FROM users WHERE username = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, username);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                return mapRow(rs);
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Returns all users in the database.
+     */
+    @Override
+    public List<User> findAll() {
+        List<User> users = new ArrayList<>();
+        String sql = "SELECT " + UserRows.COLUMNS + " FROM users";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                users.add(mapRow(rs));
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return users;
+    }
+
+    /**
+     * Returns one page of users, ordered by ID.
+     */
+    @Override
+    public List<User> findPage(int offset, int limit) {
+        List<User> users = new ArrayList<>();
+        String sql = "SELECT " + UserRows.COLUMNS + " FROM users ORDER BY id LIMIT ? OFFSET ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, limit);
+            ps.setInt(2, offset);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                users.add(mapRow(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return users;
+    }
+
+    /**
+     * Returns the number of users.
+     */
+    @Override
+    public int count() {
+        String sql = "SELECT COUNT(*) FROM users";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            int c = rs.next() ? rs.getInt(1) : 0;
+            rs.close();
+            stmt.close();
+            return c;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * Inserts a new user into the database.
+     * 
+     * @return true if saved successfully, false otherwise
+     */
+    @Override
+    public boolean save(User user) {
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(UserRows.INSERT_SQL);
+            UserRows.bindInsert(ps, user);
+            int rowsAffected = ps.executeUpdate();
+            ps.close();
+            return rowsAffected > 0;
+        } catch (SQLException e) {
+            System.err.println("Failed to save user: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Inserts many users using batched statements in chunked transactions.
+     *
+     * @return the number of users inserted
+     */
+    @Override
+    public int saveAll(List<User> users) {
+        try {
+            return BatchExecutor.executeInChunks(UserRows.INSERT_SQL, users, UserRows::bindInsert);
+        } catch (SQLException e) {
+            System.err.println("Failed to save users: " + e.getMessage());
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the usernames of all users, without loading full rows.
+     */
+    @Override
+    public Set<String> findAllUsernames() {
+        Set<String> usernames = new HashSet<>();
+        String sql = "SELECT username FROM users";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                usernames.add(rs.getString(1));
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return usernames;
+    }
+
+    /**
+     * Checks if a username already exists.
+     */
+    @Override
+    public boolean usernameExists(String username) {
+        String sql = "SELECT EXISTS (SELECT 1 FROM users WHERE username = ?)";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, username);
+            ResultSet rs = ps.executeQuery();
+            boolean exists = rs.next() && rs.getInt(1) == 1;
+            rs.close();
+            ps.close();
+            return exists;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return false;
+    }
+
+    /**
+     * Approves a user by setting approved = 1.
+     */
+    @Override
+    public void approveUser(int userId) {
+        String sql = "UPDATE users SET approved = 1, version = version + 1 WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, userId);
+            ps.executeUpdate();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Deletes a user by their database ID.
+     * 
+     * @return true if deleted successfully, false otherwise
+     */
+    @Override
+    public boolean deleteUser(int userId) {
+        String sql = "DELETE FROM users WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, userId);
+            int rowsAffected = ps.executeUpdate();
+            ps.close();
+            return rowsAffected > 0;
+        } catch (SQLException e) {
+            System.err.println("Failed to delete user: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Updates an existing user's information (including password and email if
+     * changed), if the user has not changed since it was loaded.
+     * 
+     * @return true if updated successfully, false otherwise
+     */
+    @Override
+    public boolean updateUser(User user) {
+        return updateUserIfCurrent(user).isUpdated();
+    }
+
+    /**
+     * Writes the account columns only if the stored version still equals the
+     * user's, then advances the version on both.
+     */
+    @Override
+    public UpdateResult updateUserIfCurrent(User user) {
+        String sql = "UPDATE users SET username = ?, password = ?, email = ?, phone_number = ?, organization = ?, profile_photo = ?, approved = ?, version = version + 1 WHERE id = ? AND version = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, user.getUsername());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getEmail());
+            ps.setString(4, user.getPhoneNumber());
+            ps.setString(5, user.getOrganization());
+            ps.setString(6, user.getProfilePhoto());
+            ps.setInt(7, user.isApproved() ? 1 : 0);
+            ps.setInt(8, user.getId());
+            ps.setInt(9, user.getVersion());
+            return compareAndSetResult(ps, user);
+        } catch (SQLException e) {
+            System.err.println("Failed to update user: " + e.getMessage());
+            e.printStackTrace();
+            return UpdateResult.FAILED;
+        }
+    }
+
+    /**
+     * Updates an existing user's profile information, if the user has not
+     * changed since it was loaded.
+     */
+    @Override
+    public boolean updateProfile(User user) {
+        return updateProfileIfCurrent(user).isUpdated();
+    }
+
+    /**
+     * Writes the profile columns only if the stored version still equals the
+     * user's, then advances the version on both. Only email, phone and photo
+     * are written: the password is changed through {@link #updatePassword},
+     * and role, approval and organization by an administrator.
+     */
+    @Override
+    public UpdateResult updateProfileIfCurrent(User user) {
+        String sql = "UPDATE users SET email = ?, phone_number = ?, profile_photo = ?, version = version + 1 WHERE id = ? AND version = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, user.getEmail());
+            ps.setString(2, user.getPhoneNumber());
+            ps.setString(3, user.getProfilePhoto());
+            ps.setInt(4, user.getId());
+            ps.setInt(5, user.getVersion());
+            return compareAndSetResult(ps, user);
+        } catch (SQLException e) {
+            System.err.println("Failed to update profile: " + e.getMessage());
+            e.printStackTrace();
+            return UpdateResult.FAILED;
+        }
+    }
+
+    /**
+     * Replaces only the stored password hash of a user. Hash upgrades are not
+     * edits, so the version is left alone.
+     *
+     * @return true if updated successfully, false otherwise
+     */
+    @Override
+    public boolean updatePassword(int userId, String passwordHash) {
+        String sql = "UPDATE users SET password = ? WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, passwordHash);
+            ps.setInt(2, userId);
+            int rowsAffected = ps.executeUpdate();
+            ps.close();
+            return rowsAffected > 0;
+        } catch (SQLException e) {
+            System.err.println("Failed to update password: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Finds a user by their database ID.
+     */
+    @Override
+    public User findById(int userId) {
+        String sql = "SELECT " + UserRows.COLUMNS + " FROM users WHERE id = ?";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setInt(1, userId);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                User user = mapRow(rs);
+                rs.close();
+                ps.close();
+                return user;
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Finds all caregivers in the system (approved).
+     */
+    @Override
+    public List<User> findAllCaregivers() {
+        List<User> caregivers = new ArrayList<>();
+        String sql = "SELECT " + UserRows.COLUMNS + " FROM users WHERE role = ? AND approved = 1";
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, UserRole.CAREGIVER.name());
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                caregivers.add(mapRow(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return caregivers;
+    }
+
+    /**
+     * Returns the ID and username of every user with the given role, ordered
+     * by username.
+     */
+    @Override
+    public List<UserRef> findRefsByRole(UserRole role) {
+        return findRefs("SELECT " + UserRefRows.COLUMNS + " FROM users WHERE role = ? ORDER BY username", role);
+    }
+
+    /**
+     * Returns the ID and username of every approved caregiver, ordered by username.
+     */
+    @Override
+    public List<UserRef> findCaregiverRefs() {
+        return findRefs("SELECT " + UserRefRows.COLUMNS + " FROM users WHERE role = ? AND approved = 1 ORDER BY username", UserRole.CAREGIVER);
+    }
+
+    /**
+     * Returns the number of approved and pending users of each role, from one
+     * grouped query. Every role has an entry, zero if it has no users.
+     */
+    @Override
+    public EnumMap<UserRole, Counts> countByRoleAndApproval() {
+        EnumMap<UserRole, Counts> counts = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            counts.put(role, new Counts());
+        }
+        String sql = "SELECT role, approved, COUNT(*) FROM users GROUP BY role, approved";
+        try {
+            Statement stmt = DBUtil.getConnection().createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                Counts c = counts.get(UserRole.valueOf(rs.getString(1)));
+                if (rs.getInt(2) == 1) {
+                    c.setApproved(c.getApproved() + rs.getInt(3));
+                } else {
+                    c.setPending(c.getPending() + rs.getInt(3));
+                }
+            }
+            rs.close();
+            stmt.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return counts;
+    }
+
+    // ── Helper ─────────────────────────────────────────────────
+
+    /**
+     * Runs a {@link UserRefRows#COLUMNS} query for one role.
+     */
+    private List<UserRef> findRefs(String sql, UserRole role) {
+        List<UserRef> refs = new ArrayList<>();
+        try {
+            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
+            ps.setString(1, role.name());
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                refs.add(UserRefRows.map(rs));
+            }
+            rs.close();
+            ps.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return refs;
+    }
+
+    /**
+     * Runs a version-checked update and tells a conflict from a missing row.
+     */
+    private UpdateResult compareAndSetResult(PreparedStatement ps, User user) throws SQLException {
+        int rowsAffected = ps.executeUpdate();
+        ps.close();
+        if (rowsAffected > 0) {
+            user.setVersion(user.getVersion() + 1);
+            return UpdateResult.UPDATED;
+        }
+        return findById(user.getId()) != null ? UpdateResult.CONFLICT : UpdateResult.NOT_FOUND;
+    }
+
+    /**
+     * Maps a row selected with {@link UserRows#COLUMNS} to the User subclass of its role.
+     */
+    private User mapRow(ResultSet rs) throws SQLException {
+        User user = switch (UserRole.valueOf(rs.getString(UserRows.ROLE))) {
+            case SYSTEM_ADMIN -> new SystemAdmin();
+            case ORGANIZATION_ADMIN -> new OrganizationAdmin();
+            case DONOR -> new Donor();
+            case CAREGIVER -> new Caregiver();
+            case SUPPORT -> new Support();
+        };
+        return UserRows.fill(rs, user);
+    }
+}
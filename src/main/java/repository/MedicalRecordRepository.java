@@ -1,77 +1,33 @@
 package repository;
 
 import model.entity.MedicalRecord;
-import util.DBUtil;
 
-import java.sql.*;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Data-access layer for the medical_records table.
  */
-public class MedicalRecordRepository {
+public interface MedicalRecordRepository {
 
     /**
      * Finds all medical records for a given child.
      */
-    public List<MedicalRecord> findByChildId(int childId) {
-        List<MedicalRecord> records = new ArrayList<>();
-        String sql = "SELECT * FROM medical_records WHERE child_id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, childId);
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                MedicalRecord record = new MedicalRecord(
-                        rs.getInt("child_id"),
-                        rs.getString("blood_group"),
-                        rs.getString("medical_condition"),
-                        rs.getString("last_checkup"));
-                record.setId(rs.getInt("id"));
-                records.add(record);
-            }
-            rs.close();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return records;
-    }
+    List<MedicalRecord> findByChildId(int childId);
 
     /**
      * Inserts a new medical record.
      */
-    public void save(MedicalRecord record) {
-        String sql = "INSERT INTO medical_records (child_id, blood_group, medical_condition, last_checkup) VALUES (?, ?, ?, ?)";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setInt(1, record.getChildId());
-            ps.setString(2, record.getBloodGroup());
-            ps.setString(3, record.getMedicalCondition());
-            ps.setString(4, record.getLastCheckup());
-            ps.executeUpdate();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-    }
+    void save(MedicalRecord record);
+
+    /**
+     * Inserts many medical records using batched statements in chunked transactions.
+     *
+     * @return the number of medical records inserted
+     */
+    int saveAll(List<MedicalRecord> records);
 
     /**
      * Updates an existing medical record by ID.
      */
-    public void update(MedicalRecord record) {
-        String sql = "UPDATE medical_records SET blood_group = ?, medical_condition = ?, last_checkup = ? WHERE id = ?";
-        try {
-            PreparedStatement ps = DBUtil.getConnection().prepareStatement(sql);
-            ps.setString(1, record.getBloodGroup());
-            ps.setString(2, record.getMedicalCondition());
-            ps.setString(3, record.getLastCheckup());
-            ps.setInt(4, record.getId());
-            ps.executeUpdate();
-            ps.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-    }
+    void update(MedicalRecord record);
 }
@@ -0,0 +1,141 @@
+package repository;
+
+import repository.remote.RemoteClient;
+import util.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Hands out the repositories the services use. By default they are the JDBC
+ * implementations over the local database; after {@link #useRemote} every
+ * repository becomes a client of a GuardianLink server instead.
+ * <p>
+ * Services look their repositories up once when constructed, so switch
+ * before any service is created.
+ */
+public final class Repositories {
+
+    private static final Map<Class<?>, Supplier<?>> JDBC = new LinkedHashMap<>();
+
+    static {
+        JDBC.put(ChildRepository.class, JdbcChildRepository::new);
+        JDBC.put(DonationRepository.class, JdbcDonationRepository::new);
+        JDBC.put(EducationRecordRepository.class, JdbcEducationRecordRepository::new);
+        JDBC.put(ExpenseRepository.class, JdbcExpenseRepository::new);
+        JDBC.put(MedicalRecordRepository.class, JdbcMedicalRecordRepository::new);
+        JDBC.put(NotificationRepository.class, JdbcNotificationRepository::new);
+        JDBC.put(RolePermissionsRepository.class, JdbcRolePermissionsRepository::new);
+        JDBC.put(SystemLogRepository.class, JdbcSystemLogRepository::new);
+        JDBC.put(TableVersionRepository.class, JdbcTableVersionRepository::new);
+        JDBC.put(UserRepository.class, JdbcUserRepository::new);
+    }
+
+    private static final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+    private static volatile RemoteClient remote;
+
+    private Repositories() {
+    }
+
+    public static ChildRepository children() {
+        return get(ChildRepository.class);
+    }
+
+    public static DonationRepository donations() {
+        return get(DonationRepository.class);
+    }
+
+    public static EducationRecordRepository educationRecords() {
+        return get(EducationRecordRepository.class);
+    }
+
+    public static ExpenseRepository expenses() {
+        return get(ExpenseRepository.class);
+    }
+
+    public static MedicalRecordRepository medicalRecords() {
+        return get(MedicalRecordRepository.class);
+    }
+
+    public static NotificationRepository notifications() {
+        return get(NotificationRepository.class);
+    }
+
+    public static RolePermissionsRepository rolePermissions() {
+        return get(RolePermissionsRepository.class);
+    }
+
+    public static SystemLogRepository systemLogs() {
+        return get(SystemLogRepository.class);
+    }
+
+    public static TableVersionRepository tableVersions() {
+        return get(TableVersionRepository.class);
+    }
+
+    public static UserRepository users() {
+        return get(UserRepository.class);
+    }
+
+    /**
+     * Returns the repository of the given interface in the current mode.
+     *
+     * @throws IllegalArgumentException if the type is not a repository interface
+     */
+    public static <T> T get(Class<T> type) {
+        if (!JDBC.containsKey(type)) {
+            throw new IllegalArgumentException("Not a repository interface: " + type.getName());
+        }
+        return type.cast(instances.computeIfAbsent(type, t -> {
+            RemoteClient client = remote;
+            return client != null ? client.proxy(t) : JDBC.get(t).get();
+        }));
+    }
+
+    /**
+     * Returns the JDBC implementation regardless of mode; used by the server
+     * to execute remote calls against its own database.
+     */
+    public static <T> T jdbc(Class<T> type) {
+        Supplier<?> factory = JDBC.get(type);
+        if (factory == null) {
+            throw new IllegalArgumentException("Not a repository interface: " + type.getName());
+        }
+        return type.cast(factory.get());
+    }
+
+    /** All repository interfaces. */
+    public static Set<Class<?>> interfaces() {
+        return JDBC.keySet();
+    }
+
+    /**
+     * Runs service-level work that spans several repository calls. Locally it
+     * is one transaction on the shared connection; against a server each call
+     * commits on its own and the callback receives no connection.
+     */
+    public static <T> T inTransaction(TransactionTemplate.TransactionCallback<T> work) throws SQLException {
+        return remote != null ? work.doInTransaction(null) : TransactionTemplate.inTransaction(work);
+    }
+
+    /**
+     * Routes every repository through the given server client.
+     */
+    public static synchronized void useRemote(RemoteClient client) {
+        remote = client;
+        instances.clear();
+    }
+
+    public static boolean isRemote() {
+        return remote != null;
+    }
+
+    /** The server client, or null when running against the local database. */
+    public static RemoteClient remote() {
+        return remote;
+    }
+}
@@ -0,0 +1,15 @@
+package repository;
+
+import java.util.Map;
+
+/**
+ * Data-access layer for the table_versions table.
+ */
+public interface TableVersionRepository {
+
+    /**
+     * Returns the change count of every versioned table, by table name.
+     * A table's count grows with each insert, update and delete on it.
+     */
+    Map<String, Long> findVersions();
+}
@@ -0,0 +1,19 @@
+package repository;
+
+/**
+ * Outcome of a compare-and-set update against a versioned row.
+ */
+public enum UpdateResult {
+    /** The row was written and its version advanced. */
+    UPDATED,
+    /** Someone else changed the row since it was loaded; nothing was written. */
+    CONFLICT,
+    /** No row has that ID any more. */
+    NOT_FOUND,
+    /** The database reported an error. */
+    FAILED;
+
+    public boolean isUpdated() {
+        return this == UPDATED;
+    }
+}
@@ -0,0 +1,399 @@
+package repository.remote;
+
+import exception.LoginThrottledException;
+import exception.UserNotApprovedException;
+import model.user.User;
+import repository.UserRepository;
+import util.CacheStats;
+import util.JsonUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Client side of the remote repositories: every repository interface is
+ * implemented by a proxy whose calls go to {@code POST /api/rpc} on a
+ * GuardianLink server.
+ * <ul>
+ *   <li><b>Batching</b> — calls queue up while a request is in flight and
+ *       the next request carries all of them, so concurrent callers share
+ *       round trips without any added delay for a lone caller.</li>
+ *   <li><b>Read cache</b> — read results are kept for a short time and then
+ *       revalidated by ETag; a write through a repository drops that
+ *       repository's cached reads.</li>
+ *   <li><b>Optimistic concurrency</b> — children and users carry a row
+ *       version that the server's compare-and-set updates check and advance;
+ *       the new version is copied back into the caller's entity. Other
+ *       entities remember the fingerprint of the state they were read in, and
+ *       the server rejects an update if the row has changed since, which the
+ *       caller sees as the usual {@code false} failure result.</li>
+ * </ul>
+ * Transport or server failures are printed and the call returns false, 0,
+ * null or an empty collection, as the JDBC repositories do on SQL errors.
+ */
+public class RemoteClient {
+
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(5);
+
+    private static final int MAX_BATCH = 64;
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI rpcUri;
+    private final URI passwordUri;
+    private final Duration cacheTtl;
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final LinkedBlockingQueue<Call> queue = new LinkedBlockingQueue<>();
+    private final Map<String, CachedRead> cache = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> writeCounts = new ConcurrentHashMap<>();
+    private final Map<Object, String> fingerprints = Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile String authorization;
+
+    /** One queued repository call. */
+    private record Call(Map<String, Object> request, CompletableFuture<Map<?, ?>> result) {
+    }
+
+    /** A cached read result, as received, with its tag and time of validation. */
+    private record CachedRead(String repository, Object json, String etag, long validatedNanos) {
+    }
+
+    /**
+     * @param baseUri  server root, e.g. {@code http://host:8420}
+     * @param cacheTtl how long a read is served from the cache before it is revalidated
+     */
+    public RemoteClient(URI baseUri, Duration cacheTtl) {
+        String root = baseUri.toString().replaceAll("/+$", "");
+        this.rpcUri = URI.create(root + "/api/rpc");
+        this.passwordUri = URI.create(root + "/api/users/me/password");
+        this.cacheTtl = cacheTtl;
+        Thread.ofVirtual().name("remote-repository-sender").start(this::sendLoop);
+    }
+
+    /**
+     * Signs in to the server; later calls are made as this user.
+     *
+     * @return the user, without password hash
+     * @throws LoginThrottledException  if the server is throttling this account or client
+     * @throws UserNotApprovedException if the account is not approved yet
+     * @throws IllegalArgumentException if the credentials are wrong
+     * @throws UncheckedIOException     if the server cannot be reached
+     */
+    public User authenticate(String username, String password)
+            throws UserNotApprovedException, LoginThrottledException {
+        String credentials = credentials(username, password);
+        Map<String, Object> request = callRequest(UserRepository.class, "findByUsername",
+                List.of(username), null, null);
+        HttpResponse<byte[]> response = post(List.of(request), credentials);
+        String message = errorMessage(response);
+        switch (response.statusCode()) {
+            case 200 -> { }
+            case 401 -> throw new IllegalArgumentException(message);
+            case 403 -> throw new UserNotApprovedException(message);
+            case 429 -> throw new LoginThrottledException(message,
+                    response.headers().firstValueAsLong("Retry-After").orElse(60));
+            default -> throw new UncheckedIOException(new IOException("Server answered " + response.statusCode()
+                    + ": " + message));
+        }
+        Map<?, ?> result = (Map<?, ?>) results(response).get(0);
+        authorization = credentials;
+        return (User) RpcCodec.decode(result.get("value"), User.class);
+    }
+
+    /**
+     * Changes the signed-in user's password. The server checks the current
+     * password and hashes the new one; later calls are made with the new one.
+     *
+     * @return false if the server could not store it
+     * @throws LoginThrottledException  if the server is throttling this account or client
+     * @throws IllegalArgumentException if the current password is wrong
+     * @throws UncheckedIOException     if the server cannot be reached
+     */
+    public boolean changePassword(String username, String currentPassword, String newPassword)
+            throws LoginThrottledException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(passwordUri)
+                .timeout(CALL_TIMEOUT)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(JsonUtil.write(
+                        Map.of("currentPassword", currentPassword, "newPassword", newPassword))));
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        HttpResponse<byte[]> response = send(request.build());
+        String message = errorMessage(response);
+        switch (response.statusCode()) {
+            case 200 -> {
+                authorization = credentials(username, newPassword);
+                return true;
+            }
+            case 400, 401 -> throw new IllegalArgumentException(message);
+            case 429 -> throw new LoginThrottledException(message,
+                    response.headers().firstValueAsLong("Retry-After").orElse(60));
+            default -> {
+                System.err.println("Password change failed: server answered " + response.statusCode() + ": " + message);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns a repository implementation that calls the server.
+     */
+    public <T> T proxy(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> method.getDeclaringClass() == Object.class
+                        ? objectMethod(type, proxy, method, args)
+                        : invoke(type, method, args == null ? new Object[0] : args)));
+    }
+
+    /** Hit/miss counts of the read cache. */
+    public CacheStats cacheStats() {
+        return new CacheStats("Remote reads", hits.sum(), misses.sum(), cache.size());
+    }
+
+    // ── Calls ────────────────────────────────────────────────
+
+    private Object invoke(Class<?> type, Method method, Object[] args) {
+        List<Object> encodedArgs = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            encodedArgs.add(RpcCodec.encode(arg));
+        }
+        String repository = type.getSimpleName();
+        boolean read = RpcCodec.isRead(method);
+        String key = repository + "." + method.getName() + JsonUtil.write(encodedArgs);
+
+        CachedRead cached = read ? cache.get(key) : null;
+        if (cached != null && System.nanoTime() - cached.validatedNanos() < cacheTtl.toNanos()) {
+            hits.increment();
+            return decodeResult(method, cached.json());
+        }
+
+        // Only cache a read if no write to the same repository was queued while it was in flight
+        AtomicLong writes = writeCounts.computeIfAbsent(repository, r -> new AtomicLong());
+        long writesBefore = writes.get();
+        Map<String, Object> request = callRequest(type, method.getName(), encodedArgs,
+                cached != null ? cached.etag() : null, read ? null : expectedFingerprint(args));
+        Map<?, ?> result;
+        try {
+            Call call = new Call(request, new CompletableFuture<>());
+            if (!read) {
+                // Counted when queued: calls are executed in queue order, so reads queued earlier may be stale
+                writes.incrementAndGet();
+            }
+            queue.add(call);
+            result = call.result().get(CALL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return RpcCodec.defaultValue(method.getGenericReturnType());
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("Remote " + repository + "." + method.getName() + " failed: "
+                    + (e.getCause() != null ? e.getCause() : e));
+            return RpcCodec.defaultValue(method.getGenericReturnType());
+        } finally {
+            if (!read) {
+                cache.values().removeIf(c -> c.repository().equals(repository));
+            }
+        }
+
+        if (result.containsKey("error")) {
+            System.err.println("Remote " + repository + "." + method.getName() + " failed: " + result.get("error"));
+            return RpcCodec.defaultValue(method.getGenericReturnType());
+        }
+        if (Boolean.TRUE.equals(result.get("conflict"))) {
+            System.err.println("Remote " + repository + "." + method.getName()
+                    + " rejected: the record was changed by someone else since it was loaded");
+            return RpcCodec.defaultValue(method.getGenericReturnType());
+        }
+        if (!read) {
+            if (result.get("versions") instanceof List<?> versions) {
+                for (int i = 0; i < args.length && i < versions.size(); i++) {
+                    if (versions.get(i) instanceof Number version) {
+                        RpcCodec.setVersion(args[i], version.intValue());
+                    }
+                }
+            }
+            return decodeResult(method, result.get("value"));
+        }
+        if (Boolean.TRUE.equals(result.get("notModified")) && cached != null) {
+            hits.increment();
+            if (writes.get() == writesBefore) {
+                cache.put(key, new CachedRead(repository, cached.json(), cached.etag(), System.nanoTime()));
+            }
+            return decodeResult(method, cached.json());
+        }
+        misses.increment();
+        Object json = result.get("value");
+        if (writes.get() == writesBefore) {
+            cache.put(key, new CachedRead(repository, json, (String) result.get("etag"), System.nanoTime()));
+        }
+        return decodeResult(method, json);
+    }
+
+    /** Decodes a fresh copy (callers may mutate it) and remembers each entity's fingerprint. */
+    private Object decodeResult(Method method, Object json) {
+        Object value = RpcCodec.decode(json, method.getGenericReturnType());
+        if (value instanceof Collection<?> items) {
+            for (Object item : items) {
+                remember(item);
+            }
+        } else {
+            remember(value);
+        }
+        return value;
+    }
+
+    private void remember(Object value) {
+        // Versioned entities are checked by the repository itself
+        if (RpcCodec.isEntity(value) && RpcCodec.versionOf(value) == null) {
+            fingerprints.put(value, RpcCodec.fingerprint(value));
+        }
+    }
+
+    private String expectedFingerprint(Object[] args) {
+        for (Object arg : args) {
+            String fingerprint = arg != null ? fingerprints.get(arg) : null;
+            if (fingerprint != null) {
+                return fingerprint;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Object> callRequest(Class<?> type, String method, List<Object> args,
+                                                   String etag, String ifMatch) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("repository", type.getSimpleName());
+        request.put("method", method);
+        request.put("args", args);
+        if (etag != null) {
+            request.put("etag", etag);
+        }
+        if (ifMatch != null) {
+            request.put("ifMatch", ifMatch);
+        }
+        return request;
+    }
+
+    // ── Transport ────────────────────────────────────────────
+
+    /** Sends whatever has queued up as one request, one request at a time. */
+    private void sendLoop() {
+        List<Call> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            List<Map<String, Object>> requests = new ArrayList<>(batch.size());
+            for (Call call : batch) {
+                requests.add(call.request());
+            }
+            try {
+                HttpResponse<byte[]> response = post(requests, authorization);
+                if (response.statusCode() != 200) {
+                    throw new IOException("Server answered " + response.statusCode() + ": " + errorMessage(response));
+                }
+                List<?> results = results(response);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result().complete((Map<?, ?>) results.get(i));
+                }
+            } catch (IOException | RuntimeException e) {
+                for (Call call : batch) {
+                    call.result().completeExceptionally(e);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private HttpResponse<byte[]> post(List<Map<String, Object>> calls, String credentials) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(rpcUri)
+                .timeout(CALL_TIMEOUT)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .header("Accept-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofString(JsonUtil.write(Map.of("calls", calls))));
+        if (credentials != null) {
+            request.header("Authorization", credentials);
+        }
+        return send(request.build());
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted", e));
+        }
+    }
+
+    private static String credentials(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<?> results(HttpResponse<byte[]> response) {
+        return (List<?>) ((Map<?, ?>) JsonUtil.parse(body(response))).get("results");
+    }
+
+    private static String errorMessage(HttpResponse<byte[]> response) {
+        try {
+            Object error = ((Map<?, ?>) JsonUtil.parse(body(response))).get("error");
+            return error != null ? error.toString() : "";
+        } catch (RuntimeException e) {
+            return "";
+        }
+    }
+
+    private static String body(HttpResponse<byte[]> response) {
+        byte[] bytes = response.body();
+        if (response.headers().firstValue("Content-Encoding").orElse("").equalsIgnoreCase("gzip")) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Object objectMethod(Class<?> type, Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> "Remote" + type.getSimpleName();
+        };
+    }
+}
@@ -0,0 +1,374 @@
+package repository.remote;
+
+import model.user.Caregiver;
+import model.user.Donor;
+import model.user.OrganizationAdmin;
+import model.user.Support;
+import model.user.SystemAdmin;
+import model.user.User;
+import model.user.UserRole;
+import repository.UpdateResult;
+import util.JsonUtil;
+import util.Money;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts repository arguments and results to and from the JSON trees of
+ * {@link JsonUtil}. Entities travel as objects of their bean properties
+ * (a getter with a matching setter), in name order so equal entities always
+ * encode to the same text; users are rebuilt as the subclass of their role.
+ * Dates travel as ISO-8601 strings and money as its whole number of paisa.
+ */
+public final class RpcCodec {
+
+    /** Property never sent from the server to clients. */
+    public static final String SECRET_PROPERTY = "password";
+
+    /** Row version property of entities with compare-and-set updates. */
+    public static final String VERSION_PROPERTY = "version";
+
+    private static final Map<Class<?>, List<Property>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private record Property(String name, Method getter, Method setter) {
+    }
+
+    private RpcCodec() {
+    }
+
+    /**
+     * True for methods that only read: {@code find*}, {@code get*}, {@code count*} and {@code *Exists}.
+     */
+    public static boolean isRead(Method method) {
+        String name = method.getName();
+        return name.startsWith("find") || name.startsWith("get") || name.startsWith("count")
+                || name.endsWith("Exists");
+    }
+
+    /**
+     * Encodes a value as a JSON tree.
+     *
+     * @throws IllegalArgumentException if the value has no JSON form
+     */
+    public static Object encode(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Number) {
+            return value;
+        }
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        if (value instanceof LocalDate date) {
+            return date.toString();
+        }
+        if (value instanceof Money money) {
+            return money.longValue();
+        }
+        if (value instanceof Collection<?> items) {
+            List<Object> list = new ArrayList<>(items.size());
+            for (Object item : items) {
+                list.add(encode(item));
+            }
+            return list;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> object = new LinkedHashMap<>();
+            map.forEach((k, v) -> object.put(String.valueOf(k), encode(v)));
+            return object;
+        }
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (Property p : properties(value.getClass())) {
+            try {
+                object.put(p.name(), encode(p.getter().invoke(value)));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException("Cannot read " + p.name() + " of " + value.getClass().getName(), e);
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Decodes a JSON tree into the given (possibly generic) type.
+     *
+     * @throws IllegalArgumentException if the tree does not fit the type
+     */
+    public static Object decode(Object json, Type type) {
+        Class<?> raw = rawClass(type);
+        if (raw == void.class || raw == Void.class) {
+            return null;
+        }
+        if (json == null) {
+            return raw.isPrimitive() ? defaultValue(raw) : null;
+        }
+        if (raw == String.class) {
+            return json.toString();
+        }
+        if (raw == int.class || raw == Integer.class) {
+            return ((Number) json).intValue();
+        }
+        if (raw == long.class || raw == Long.class) {
+            return ((Number) json).longValue();
+        }
+        if (raw == double.class || raw == Double.class) {
+            return ((Number) json).doubleValue();
+        }
+        if (raw == boolean.class || raw == Boolean.class) {
+            return json;
+        }
+        if (raw.isEnum()) {
+            return enumValue(raw, json.toString());
+        }
+        if (raw == LocalDate.class) {
+            return LocalDate.parse(json.toString());
+        }
+        if (raw == Money.class) {
+            return Money.valueOf(((Number) json).longValue());
+        }
+        if (List.class.isAssignableFrom(raw) || Set.class.isAssignableFrom(raw)) {
+            Type element = typeArgument(type, 0);
+            Collection<Object> items = Set.class.isAssignableFrom(raw) ? new LinkedHashSet<>() : new ArrayList<>();
+            for (Object item : (List<?>) json) {
+                items.add(decode(item, element));
+            }
+            return items;
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            Type keyType = typeArgument(type, 0);
+            Type valueType = typeArgument(type, 1);
+            Map<Object, Object> map = raw == EnumMap.class ? newEnumMap(rawClass(keyType)) : new LinkedHashMap<>();
+            ((Map<?, ?>) json).forEach((k, v) -> map.put(decode(k, keyType), decode(v, valueType)));
+            return map;
+        }
+        return decodeEntity((Map<?, ?>) json, raw);
+    }
+
+    /**
+     * Removes {@link #SECRET_PROPERTY} from every object in the tree.
+     */
+    public static Object withoutSecrets(Object json) {
+        if (json instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> {
+                if (!SECRET_PROPERTY.equals(k)) {
+                    copy.put((String) k, withoutSecrets(v));
+                }
+            });
+            return copy;
+        }
+        if (json instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(withoutSecrets(item));
+            }
+            return copy;
+        }
+        return json;
+    }
+
+    /**
+     * Identifies the state of an entity as the server would send it (secrets
+     * left out); two reads of an unchanged row give the same fingerprint.
+     */
+    public static String fingerprint(Object entity) {
+        return digest(JsonUtil.write(withoutSecrets(encode(entity))));
+    }
+
+    /** Short hex SHA-256 of the text. */
+    public static String digest(String text) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * True if values of the class are encoded as property objects.
+     */
+    public static boolean isEntity(Object value) {
+        return value != null && !properties(value.getClass()).isEmpty();
+    }
+
+    /**
+     * Returns the row version of a versioned entity, or null for other values.
+     */
+    public static Integer versionOf(Object value) {
+        Property p = value != null ? property(value.getClass(), VERSION_PROPERTY) : null;
+        if (p == null) {
+            return null;
+        }
+        try {
+            return (Integer) p.getter().invoke(value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Cannot read version of " + value.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Sets the row version of a versioned entity; other values are left alone.
+     */
+    public static void setVersion(Object value, int version) {
+        Property p = value != null ? property(value.getClass(), VERSION_PROPERTY) : null;
+        if (p != null) {
+            try {
+                p.setter().invoke(value, version);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException("Cannot set version of " + value.getClass().getName(), e);
+            }
+        }
+    }
+
+    /** The zero value a failed call returns, as the JDBC repositories do. */
+    public static Object defaultValue(Type genericType) {
+        Class<?> type = rawClass(genericType);
+        if (type == UpdateResult.class) {
+            return UpdateResult.FAILED;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        if (type == Money.class) {
+            return Money.ZERO;
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return new ArrayList<>();
+        }
+        if (Set.class.isAssignableFrom(type)) {
+            return new LinkedHashSet<>();
+        }
+        if (type == EnumMap.class) {
+            return newEnumMap(rawClass(typeArgument(genericType, 0)));
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return new LinkedHashMap<>();
+        }
+        return null;
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private static Object decodeEntity(Map<?, ?> json, Class<?> type) {
+        Object entity = newInstance(type, json);
+        for (Property p : properties(entity.getClass())) {
+            if (json.containsKey(p.name())) {
+                try {
+                    p.setter().invoke(entity, decode(json.get(p.name()), p.setter().getGenericParameterTypes()[0]));
+                } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
+                    throw new IllegalArgumentException("Cannot set " + p.name() + " of " + type.getName(), e);
+                }
+            }
+        }
+        return entity;
+    }
+
+    private static Object newInstance(Class<?> type, Map<?, ?> json) {
+        if (type == User.class) {
+            UserRole role = UserRole.valueOf(String.valueOf(json.get("role")));
+            return switch (role) {
+                case SYSTEM_ADMIN -> new SystemAdmin();
+                case ORGANIZATION_ADMIN -> new OrganizationAdmin();
+                case DONOR -> new Donor();
+                case CAREGIVER -> new Caregiver();
+                case SUPPORT -> new Support();
+            };
+        }
+        if (Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException("Cannot instantiate " + type.getName());
+        }
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No public no-arg constructor on " + type.getName(), e);
+        }
+    }
+
+    private static List<Property> properties(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, t -> {
+            if (t.isPrimitive() || t.isEnum() || t.getName().startsWith("java.")) {
+                return List.of();
+            }
+            Map<String, Property> found = new TreeMap<>();
+            for (Method getter : t.getMethods()) {
+                String name = getter.getName();
+                int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+                if (prefix == 0 || name.length() == prefix || getter.getParameterCount() != 0
+                        || getter.getDeclaringClass() == Object.class || Modifier.isStatic(getter.getModifiers())) {
+                    continue;
+                }
+                String suffix = name.substring(prefix);
+                try {
+                    Method setter = t.getMethod("set" + suffix, getter.getReturnType());
+                    String property = Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+                    found.put(property, new Property(property, getter, setter));
+                } catch (NoSuchMethodException e) {
+                    // Derived value, not state
+                }
+            }
+            return List.copyOf(found.values());
+        });
+    }
+
+    private static Property property(Class<?> type, String name) {
+        for (Property p : properties(type)) {
+            if (p.name().equals(name)) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class<?> c) {
+            return c;
+        }
+        if (type instanceof ParameterizedType p) {
+            return (Class<?>) p.getRawType();
+        }
+        throw new IllegalArgumentException("Unsupported type " + type);
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType p) {
+            return p.getActualTypeArguments()[index];
+        }
+        throw new IllegalArgumentException("Raw collection type " + type + " cannot be decoded");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Object, Object> newEnumMap(Class<?> keyType) {
+        return new EnumMap(keyType);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(Class<?> type, String name) {
+        return Enum.valueOf((Class<? extends Enum>) type, name);
+    }
+}
@@ -0,0 +1,105 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import exception.ApiException;
+import model.user.User;
+import model.user.UserRole;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One API call: method, path segments below the resource, query parameters
+ * and the authenticated user (null for public endpoints).
+ */
+record ApiRequest(HttpExchange exchange, String method, List<String> path, Map<String, String> query, User user) {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    /** Offset and size of a requested page. */
+    record Page(int offset, int limit) {
+    }
+
+    static ApiRequest of(HttpExchange exchange, String prefix, User user) {
+        String rawPath = exchange.getRequestURI().getPath();
+        List<String> segments = new ArrayList<>();
+        for (String s : rawPath.substring(Math.min(prefix.length(), rawPath.length())).split("/")) {
+            if (!s.isEmpty()) {
+                segments.add(URLDecoder.decode(s, StandardCharsets.UTF_8));
+            }
+        }
+        Map<String, String> query = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+                String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                query.put(key, value);
+            }
+        }
+        return new ApiRequest(exchange, exchange.getRequestMethod(), segments, query, user);
+    }
+
+    /**
+     * Returns the {@code offset} and {@code limit} parameters, with the limit capped.
+     */
+    Page page() throws ApiException {
+        int offset = intParam("offset", 0);
+        int limit = intParam("limit", DEFAULT_PAGE_SIZE);
+        if (offset < 0 || limit < 1) {
+            throw new ApiException(400, "offset must be >= 0 and limit >= 1");
+        }
+        return new Page(offset, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    int intParam(String name, int defaultValue) throws ApiException {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, name + " must be an integer");
+        }
+    }
+
+    Integer optionalInt(String name) throws ApiException {
+        return query.containsKey(name) ? intParam(name, 0) : null;
+    }
+
+    /**
+     * Parses the path segment at the index as an ID, or 404s.
+     */
+    int idAt(int index) throws ApiException {
+        try {
+            return Integer.parseInt(path.get(index));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new ApiException(404, "Not found");
+        }
+    }
+
+    boolean hasRole(UserRole... roles) {
+        return user != null && Arrays.asList(roles).contains(user.getRole());
+    }
+
+    void requireRole(UserRole... roles) throws ApiException {
+        if (!hasRole(roles)) {
+            throw new ApiException(403, "Not permitted for role " + (user != null ? user.getRole() : "anonymous"));
+        }
+    }
+
+    void requireMethod(String... allowed) throws ApiException {
+        if (!Arrays.asList(allowed).contains(method)) {
+            exchange.getResponseHeaders().set("Allow", String.join(", ", allowed));
+            throw new ApiException(405, "Method " + method + " not allowed");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import exception.ApiException;
+import exception.LoginThrottledException;
+import exception.UserNotApprovedException;
+import model.user.User;
+import service.AuthService;
+import util.QueryMetrics;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Headless JSON API over the existing services, on the JDK HTTP server with
+ * one virtual thread per request. Every endpoint except {@code /api/health}
+ * needs HTTP Basic credentials of an approved account; repeat requests are
+ * verified from the credential cache rather than the password KDF.
+ *
+ * <pre>
+ *   GET /api/health
+ *   GET /api/children[/{id}]   ?offset&limit [&sponsorId | &caregiverId | &unsponsored=true]
+ *   GET /api/donations         ?offset&limit [&donorId] [&childId]
+ *   GET /api/notifications     ?caregiverId [&unread=true]     /unread-count
+ *   GET /api/users[/{id}|/me]  ?offset&limit
+ *   POST /api/users/me/password  {"currentPassword","newPassword"}
+ *   GET /api/logs              ?offset&limit
+ *   POST /api/rpc              batched repository calls for remote desktop clients
+ * </pre>
+ *
+ * Lists are returned as {@code {"offset","limit","total","items"}}. The RPC
+ * endpoint also takes anonymous calls, which it restricts to signing up.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_PORT = 8420;
+
+    private final HttpServer http;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AuthService authService = new AuthService();
+
+    public ApiServer(InetSocketAddress address) throws IOException {
+        http = HttpServer.create(address, 0);
+        http.setExecutor(executor);
+        http.createContext("/api/health", exchange -> dispatch(exchange, "/api/health", false, this::health));
+        route("/api/children", new ChildResource());
+        route("/api/donations", new DonationResource());
+        route("/api/notifications", new NotificationResource());
+        route("/api/users", new UserResource());
+        route("/api/logs", new SystemLogResource());
+        RpcResource rpc = new RpcResource();
+        http.createContext("/api/rpc", exchange -> dispatch(exchange, "/api/rpc", false, rpc));
+    }
+
+    public void start() {
+        http.start();
+    }
+
+    /**
+     * Stops accepting requests, waiting up to the delay for running ones to finish.
+     */
+    public void stop(int delaySeconds) {
+        http.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return http.getAddress().getPort();
+    }
+
+    private void route(String prefix, Resource resource) {
+        http.createContext(prefix, exchange -> dispatch(exchange, prefix, true, resource));
+    }
+
+    private void dispatch(HttpExchange exchange, String prefix, boolean authenticated, Resource resource) {
+        try {
+            try {
+                boolean hasCredentials = exchange.getRequestHeaders().containsKey("Authorization");
+                User user = authenticated || hasCredentials ? authenticate(exchange) : null;
+                String body = resource.handle(ApiRequest.of(exchange, prefix, user));
+                HttpSupport.sendJson(exchange, 200, body);
+            } catch (ApiException e) {
+                HttpSupport.sendError(exchange, e.getStatus(), e.getMessage());
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                HttpSupport.sendError(exchange, 500, "Internal server error");
+            }
+        } catch (IOException e) {
+            // Client went away mid-response
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private User authenticate(HttpExchange exchange) throws ApiException {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.regionMatches(true, 0, "Basic ", 0, 6)) {
+            throw unauthorized(exchange, "Authentication required");
+        }
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(header.substring(6).trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw unauthorized(exchange, "Malformed credentials");
+        }
+        int colon = credentials.indexOf(':');
+        if (colon < 0) {
+            throw unauthorized(exchange, "Malformed credentials");
+        }
+        String source = exchange.getRemoteAddress().getAddress().getHostAddress();
+        try {
+            return authService.login(credentials.substring(0, colon), credentials.substring(colon + 1), source,
+                    progress -> { });
+        } catch (LoginThrottledException e) {
+            exchange.getResponseHeaders().set("Retry-After", String.valueOf(e.getRetryAfterSeconds()));
+            throw new ApiException(429, e.getMessage());
+        } catch (UserNotApprovedException e) {
+            throw new ApiException(403, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw unauthorized(exchange, e.getMessage());
+        }
+    }
+
+    private static ApiException unauthorized(HttpExchange exchange, String message) {
+        exchange.getResponseHeaders().set("WWW-Authenticate", "Basic realm=\"GuardianLink\", charset=\"UTF-8\"");
+        return new ApiException(401, message);
+    }
+
+    private String health(ApiRequest request) {
+        return String.format(Locale.ROOT, "{\"status\":\"ok\",\"queries\":%d,\"queryP95Millis\":%.2f}",
+                QueryMetrics.totalCalls(), QueryMetrics.overallPercentileMillis(95));
+    }
+}
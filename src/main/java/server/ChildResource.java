@@ -0,0 +1,44 @@
+package server;
+
+import exception.ApiException;
+import model.entity.Child;
+import service.ChildService;
+
+/**
+ * {@code /api/children}: paged list (optionally by sponsor, caregiver or
+ * unsponsored only) and single child by ID. Readable by every role.
+ */
+class ChildResource implements Resource {
+
+    private final ChildService childService = new ChildService();
+
+    @Override
+    public String handle(ApiRequest request) throws ApiException {
+        request.requireMethod("GET");
+        if (!request.path().isEmpty()) {
+            Child child = childService.getChildById(request.idAt(0));
+            if (child == null) {
+                throw new ApiException(404, "Child not found");
+            }
+            return EntityJson.child(child);
+        }
+
+        ApiRequest.Page page = request.page();
+        Integer sponsorId = request.optionalInt("sponsorId");
+        Integer caregiverId = request.optionalInt("caregiverId");
+        if (sponsorId != null) {
+            return EntityJson.page(childService.getPageBySponsor(sponsorId, page.offset(), page.limit()),
+                    EntityJson::child, page.offset(), page.limit(), childService.getCountBySponsor(sponsorId));
+        }
+        if (caregiverId != null) {
+            return EntityJson.page(childService.getPageByCaregiver(caregiverId, page.offset(), page.limit()),
+                    EntityJson::child, page.offset(), page.limit(), childService.getCountByCaregiver(caregiverId));
+        }
+        if ("true".equals(request.query().get("unsponsored"))) {
+            return EntityJson.page(childService.getUnsponsoredPage(page.offset(), page.limit()), EntityJson::child,
+                    page.offset(), page.limit(), childService.getUnsponsoredCount());
+        }
+        return EntityJson.page(childService.getPage(page.offset(), page.limit()), EntityJson::child,
+                page.offset(), page.limit(), childService.getCount());
+    }
+}
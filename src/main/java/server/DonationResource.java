@@ -0,0 +1,43 @@
+package server;
+
+import exception.ApiException;
+import model.user.UserRole;
+import service.DonationService;
+
+/**
+ * {@code /api/donations}: paged list, optionally by donor or child. Donors
+ * only ever see their own donations; caregivers have no access.
+ */
+class DonationResource implements Resource {
+
+    private final DonationService donationService = new DonationService();
+
+    @Override
+    public String handle(ApiRequest request) throws ApiException {
+        request.requireMethod("GET");
+        request.requireRole(UserRole.SYSTEM_ADMIN, UserRole.ORGANIZATION_ADMIN, UserRole.SUPPORT, UserRole.DONOR);
+        if (!request.path().isEmpty()) {
+            throw new ApiException(404, "Not found");
+        }
+
+        ApiRequest.Page page = request.page();
+        Integer donorId = request.hasRole(UserRole.DONOR) ? Integer.valueOf(request.user().getId())
+                : request.optionalInt("donorId");
+        Integer childId = request.optionalInt("childId");
+        if (donorId != null && childId != null) {
+            return EntityJson.page(donationService.getPageByDonorAndChild(donorId, childId, page.offset(),
+                            page.limit()), EntityJson::donation, page.offset(), page.limit(),
+                    donationService.getCountByDonorAndChild(donorId, childId));
+        }
+        if (donorId != null) {
+            return EntityJson.page(donationService.getPageByDonorId(donorId, page.offset(), page.limit()),
+                    EntityJson::donation, page.offset(), page.limit(), donationService.getCountByDonorId(donorId));
+        }
+        if (childId != null) {
+            return EntityJson.page(donationService.getPageByChildId(childId, page.offset(), page.limit()),
+                    EntityJson::donation, page.offset(), page.limit(), donationService.getCountByChildId(childId));
+        }
+        return EntityJson.page(donationService.getPage(page.offset(), page.limit()), EntityJson::donation,
+                page.offset(), page.limit(), donationService.getCount());
+    }
+}
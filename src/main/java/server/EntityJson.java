@@ -0,0 +1,146 @@
+package server;
+
+import model.entity.Child;
+import model.entity.Donation;
+import model.entity.Notification;
+import model.entity.SystemLog;
+import model.user.User;
+import util.JsonUtil;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * JSON representations of the entities served by the API. Password hashes
+ * are never written.
+ */
+final class EntityJson {
+
+    private EntityJson() {
+    }
+
+    static String child(Child c) {
+        return new ObjectWriter()
+                .field("id", c.getId())
+                .field("name", c.getName())
+                .field("age", c.getAge())
+                .field("organization", c.getOrganization())
+                .field("gender", c.getGender())
+                .field("dateOfBirth", c.getDateOfBirth())
+                .field("status", c.getStatus())
+                .field("assignedCaregiverId", c.getAssignedCaregiverId())
+                .field("sponsorId", c.getSponsorId())
+                .toString();
+    }
+
+    static String donation(Donation d) {
+        return new ObjectWriter()
+                .field("id", d.getId())
+                .field("donorId", d.getDonorId())
+                .field("childId", d.getChildId())
+                .field("amount", d.getAmount().toTaka())
+                .field("purpose", d.getPurpose())
+                .field("date", d.getDate())
+                .field("status", d.getStatus())
+                .field("recurring", d.isRecurring())
+                .field("endDate", d.getEndDate())
+                .field("frequency", d.getFrequency())
+                .toString();
+    }
+
+    static String notification(Notification n) {
+        return new ObjectWriter()
+                .field("id", n.getId())
+                .field("caregiverId", n.getCaregiverId())
+                .field("message", n.getMessage())
+                .field("type", n.getNotificationType())
+                .field("childName", n.getChildName())
+                .field("childId", n.getChildId())
+                .field("timestamp", n.getTimestamp())
+                .field("read", n.isRead())
+                .toString();
+    }
+
+    static String user(User u) {
+        return new ObjectWriter()
+                .field("id", u.getId())
+                .field("username", u.getUsername())
+                .field("email", u.getEmail())
+                .field("phoneNumber", u.getPhoneNumber())
+                .field("role", u.getRole() != null ? u.getRole().name() : null)
+                .field("approved", u.isApproved())
+                .field("organization", u.getOrganization())
+                .toString();
+    }
+
+    static String systemLog(SystemLog l) {
+        return new ObjectWriter()
+                .field("id", l.getId())
+                .field("eventType", l.getEventType())
+                .field("description", l.getDescription())
+                .field("actor", l.getActor())
+                .field("timestamp", l.getTimestamp())
+                .toString();
+    }
+
+    /**
+     * Wraps one page of items with its position in the full collection.
+     */
+    static <T> String page(List<T> items, Function<T, String> mapper, int offset, int limit, long total) {
+        StringBuilder sb = new StringBuilder(64 + items.size() * 160);
+        sb.append("{\"offset\":").append(offset)
+                .append(",\"limit\":").append(limit)
+                .append(",\"total\":").append(total)
+                .append(",\"items\":[");
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(mapper.apply(items.get(i)));
+        }
+        return sb.append("]}").toString();
+    }
+
+    // ── Writer ───────────────────────────────────────────────
+
+    /** Appends the fields of one flat JSON object. */
+    static final class ObjectWriter {
+        private final StringBuilder sb = new StringBuilder(160).append('{');
+
+        ObjectWriter field(String name, String value) {
+            return raw(name, JsonUtil.quote(value));
+        }
+
+        ObjectWriter field(String name, Number value) {
+            return raw(name, value == null ? "null" : numberText(value));
+        }
+
+        ObjectWriter field(String name, boolean value) {
+            return raw(name, String.valueOf(value));
+        }
+
+        private ObjectWriter raw(String name, String json) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append(JsonUtil.quote(name)).append(':').append(json);
+            return this;
+        }
+
+        private static String numberText(Number value) {
+            if (value instanceof Double d) {
+                return d == Math.rint(d) && !Double.isInfinite(d) ? String.valueOf(d.longValue()) : d.toString();
+            }
+            if (value instanceof BigDecimal b) {
+                return b.stripTrailingZeros().toPlainString();
+            }
+            return value.toString();
+        }
+
+        @Override
+        public String toString() {
+            return sb + "}";
+        }
+    }
+}
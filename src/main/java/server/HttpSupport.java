@@ -0,0 +1,145 @@
+package server;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import exception.ApiException;
+import util.JsonUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response writing for the API: JSON bodies with strong ETags, conditional
+ * GETs answered with 304, gzip for larger bodies when the client accepts it,
+ * and request bodies read up to a size limit.
+ */
+final class HttpSupport {
+
+    private static final int GZIP_MIN_BYTES = 1024;
+    /** Largest request body read; a bulk import of several thousand rows fits well within it. */
+    static final int MAX_BODY_BYTES = 8 * 1024 * 1024;
+    private static final String GZIP_SUFFIX = "-gz";
+
+    private HttpSupport() {
+    }
+
+    /**
+     * Sends a JSON body. Successful GET responses carry an ETag and are
+     * answered with 304 Not Modified if the client already has that version.
+     */
+    static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        headers.set("Vary", "Accept-Encoding");
+
+        boolean gzip = body.length >= GZIP_MIN_BYTES && acceptsGzip(exchange);
+        if (status == 200 && exchange.getRequestMethod().equals("GET")) {
+            String tag = contentTag(body);
+            headers.set("ETag", "\"" + tag + (gzip ? GZIP_SUFFIX : "") + "\"");
+            headers.set("Cache-Control", "private, no-cache");
+            if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), tag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+        if (gzip) {
+            body = gzip(body);
+            headers.set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, "{\"error\":" + JsonUtil.quote(message) + ",\"status\":" + status + "}");
+    }
+
+    /**
+     * Reads the request body as UTF-8. A body that declares or turns out to
+     * be longer than {@value #MAX_BODY_BYTES} bytes is refused with 413
+     * without reading the rest of it.
+     */
+    static String readBody(HttpExchange exchange) throws IOException, ApiException {
+        String declared = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (declared != null) {
+            long length;
+            try {
+                length = Long.parseLong(declared.trim());
+            } catch (NumberFormatException e) {
+                throw new ApiException(400, "Malformed Content-Length");
+            }
+            if (length > MAX_BODY_BYTES) {
+                throw tooLarge();
+            }
+        }
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw tooLarge();
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static ApiException tooLarge() {
+        return new ApiException(413, "Request body larger than " + MAX_BODY_BYTES + " bytes");
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        return accept != null && accept.toLowerCase().contains("gzip");
+    }
+
+    /** True if any tag in an If-None-Match header names this content, in either encoding. */
+    private static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String t = candidate.trim();
+            if (t.equals("*")) {
+                return true;
+            }
+            if (t.startsWith("W/")) {
+                t = t.substring(2);
+            }
+            t = t.replace("\"", "");
+            if (t.endsWith(GZIP_SUFFIX)) {
+                t = t.substring(0, t.length() - GZIP_SUFFIX.length());
+            }
+            if (t.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String contentTag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(buffer)) {
+            gz.write(body);
+        }
+        return buffer.toByteArray();
+    }
+}
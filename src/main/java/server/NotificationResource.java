@@ -0,0 +1,45 @@
+package server;
+
+import exception.ApiException;
+import model.user.UserRole;
+import service.NotificationService;
+
+import java.util.List;
+
+/**
+ * {@code /api/notifications?caregiverId=N[&unread=true]} and
+ * {@code /api/notifications/unread-count}. Caregivers see only their own
+ * notifications; admins and support may name any caregiver.
+ */
+class NotificationResource implements Resource {
+
+    private final NotificationService notificationService = new NotificationService();
+
+    @Override
+    public String handle(ApiRequest request) throws ApiException {
+        request.requireMethod("GET");
+        request.requireRole(UserRole.CAREGIVER, UserRole.SYSTEM_ADMIN, UserRole.ORGANIZATION_ADMIN,
+                UserRole.SUPPORT);
+
+        Integer caregiverId = request.hasRole(UserRole.CAREGIVER) ? Integer.valueOf(request.user().getId())
+                : request.optionalInt("caregiverId");
+        if (caregiverId == null) {
+            throw new ApiException(400, "caregiverId is required");
+        }
+        if (request.path().equals(List.of("unread-count"))) {
+            return "{\"caregiverId\":" + caregiverId + ",\"unread\":"
+                    + notificationService.getUnreadCount(caregiverId) + "}";
+        }
+        if (!request.path().isEmpty()) {
+            throw new ApiException(404, "Not found");
+        }
+        ApiRequest.Page page = request.page();
+        if ("true".equals(request.query().get("unread"))) {
+            return EntityJson.page(notificationService.getUnreadNotificationPage(caregiverId, page.offset(),
+                            page.limit()), EntityJson::notification, page.offset(), page.limit(),
+                    notificationService.getUnreadCount(caregiverId));
+        }
+        return EntityJson.page(notificationService.getNotificationPage(caregiverId, page.offset(), page.limit()),
+                EntityJson::notification, page.offset(), page.limit(), notificationService.getCount(caregiverId));
+    }
+}
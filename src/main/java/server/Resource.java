@@ -0,0 +1,11 @@
+package server;
+
+import exception.ApiException;
+
+/**
+ * Handles every request below one API path, returning the JSON body.
+ */
+interface Resource {
+
+    String handle(ApiRequest request) throws ApiException;
+}
@@ -0,0 +1,482 @@
+package server;
+
+import exception.ApiException;
+import model.entity.Child;
+import model.entity.Donation;
+import model.entity.EducationRecord;
+import model.entity.Expense;
+import model.entity.MedicalRecord;
+import model.entity.Notification;
+import model.entity.SystemLog;
+import model.user.User;
+import model.user.UserRole;
+import repository.ChildRepository;
+import repository.DonationRepository;
+import repository.EducationRecordRepository;
+import repository.ExpenseRepository;
+import repository.MedicalRecordRepository;
+import repository.NotificationRepository;
+import repository.Repositories;
+import repository.SystemLogRepository;
+import repository.TableVersionRepository;
+import repository.UserRepository;
+import repository.remote.RpcCodec;
+import util.JsonUtil;
+import util.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@code POST /api/rpc}: executes batched repository calls from
+ * {@link repository.remote.RemoteClient} against this server's database.
+ * <pre>
+ *   {"calls":[{"repository":"ChildRepository","method":"findById","args":[7],"etag":"…","ifMatch":"…"}]}
+ *   → {"results":[{"value":…,"etag":"…","versions":[…]} | {"notModified":true} | {"conflict":true}
+ *                 | {"error":"…","status":403}]}
+ * </pre>
+ * Reads answer {@code notModified} when their etag still matches. Writes of
+ * versioned entities (children, users) are compare-and-set in the repository
+ * and return the entities' new {@code versions}; for other entities a write
+ * with {@code ifMatch} is applied only if the row still has that fingerprint.
+ * Password hashes are never returned.
+ */
+class RpcResource implements Resource {
+
+    private static final int MAX_CALLS = 256;
+
+    private final Map<String, Class<?>> interfaces = new HashMap<>();
+    private final Map<Class<?>, Object> implementations = new HashMap<>();
+
+    RpcResource() {
+        for (Class<?> type : Repositories.interfaces()) {
+            interfaces.put(type.getSimpleName(), type);
+            implementations.put(type, Repositories.jdbc(type));
+        }
+    }
+
+    @Override
+    public String handle(ApiRequest request) throws ApiException {
+        request.requireMethod("POST");
+        List<?> calls;
+        try {
+            Object body = JsonUtil.parse(HttpSupport.readBody(request.exchange()));
+            calls = (List<?>) ((Map<?, ?>) body).get("calls");
+        } catch (IOException | RuntimeException e) {
+            throw new ApiException(400, "Expected {\"calls\":[…]}");
+        }
+        if (calls == null || calls.size() > MAX_CALLS) {
+            throw new ApiException(400, "Expected between 0 and " + MAX_CALLS + " calls");
+        }
+        List<Object> results = new ArrayList<>(calls.size());
+        for (Object call : calls) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            try {
+                execute(request.user(), (Map<?, ?>) call, result);
+            } catch (ApiException e) {
+                result.put("error", e.getMessage());
+                result.put("status", e.getStatus());
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                result.put("error", "Internal server error");
+                result.put("status", 500);
+            }
+            results.add(result);
+        }
+        return JsonUtil.write(Map.of("results", results));
+    }
+
+    private void execute(User user, Map<?, ?> call, Map<String, Object> result) throws ApiException {
+        Class<?> type = interfaces.get(String.valueOf(call.get("repository")));
+        if (type == null) {
+            throw new ApiException(404, "Unknown repository " + call.get("repository"));
+        }
+        List<?> rawArgs = call.get("args") instanceof List<?> list ? list : List.of();
+        Method method = findMethod(type, String.valueOf(call.get("method")), rawArgs.size());
+        Object[] args = new Object[rawArgs.size()];
+        Type[] parameterTypes = method.getGenericParameterTypes();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                args[i] = RpcCodec.decode(rawArgs.get(i), parameterTypes[i]);
+            }
+        } catch (RuntimeException e) {
+            throw new ApiException(400, "Bad arguments for " + type.getSimpleName() + "." + method.getName());
+        }
+
+        authorize(user, type, method, args);
+        Object implementation = implementations.get(type);
+        keepStoredPassword(args);
+
+        if (RpcCodec.isRead(method)) {
+            Object json = RpcCodec.withoutSecrets(RpcCodec.encode(call(implementation, method, args)));
+            String etag = RpcCodec.digest(JsonUtil.write(json));
+            if (etag.equals(call.get("etag"))) {
+                result.put("notModified", true);
+            } else {
+                result.put("value", json);
+                result.put("etag", etag);
+            }
+            return;
+        }
+
+        Object ifMatch = call.get("ifMatch");
+        Object value;
+        if (ifMatch == null) {
+            value = call(implementation, method, args);
+        } else {
+            try {
+                // Check and write under the transaction lock so no other write slips in between
+                value = TransactionTemplate.inTransaction(conn -> {
+                    Object current = currentState(type, args);
+                    if (current != null && !ifMatch.equals(RpcCodec.fingerprint(current))) {
+                        return null;
+                    }
+                    return new Object[]{call(implementation, method, args)};
+                });
+            } catch (SQLException e) {
+                e.printStackTrace();
+                throw new ApiException(500, "Write failed");
+            }
+            if (value == null) {
+                result.put("conflict", true);
+                return;
+            }
+            value = ((Object[]) value)[0];
+        }
+        result.put("value", RpcCodec.withoutSecrets(RpcCodec.encode(value)));
+        // Compare-and-set updates advance the version of the entity passed in; hand it back
+        List<Integer> versions = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            versions.add(RpcCodec.versionOf(arg));
+        }
+        if (versions.stream().anyMatch(Objects::nonNull)) {
+            result.put("versions", versions);
+        }
+    }
+
+    /**
+     * Anonymous callers may only check usernames and sign up. System admins
+     * may call anything; other roles only what {@link #ALLOWED} lists,
+     * organization admins only for their own organization, and donors and
+     * caregivers only for their own records.
+     */
+    private void authorize(User user, Class<?> type, Method method, Object[] args) throws ApiException {
+        String name = method.getName();
+        if (user == null) {
+            if (type == UserRepository.class && name.equals("usernameExists")) {
+                return;
+            }
+            if (type == UserRepository.class && name.equals("save") && args[0] instanceof User u
+                    && u.getRole() != UserRole.SYSTEM_ADMIN && u.getRole() != UserRole.ORGANIZATION_ADMIN) {
+                u.setApproved(false);
+                return;
+            }
+            throw new ApiException(401, "Authentication required");
+        }
+        if (user.getRole() == UserRole.SYSTEM_ADMIN) {
+            return;
+        }
+        if (!ALLOWED.getOrDefault(user.getRole(), Map.of()).getOrDefault(type, Set.of()).contains(name)) {
+            throw new ApiException(403, "Not permitted for role " + user.getRole());
+        }
+        requireScope(user, type, name, args);
+    }
+
+    // ── Allowed calls ────────────────────────────────────────
+
+    private static final String[] CHILD_READS = {"findAll", "findPage", "count", "findById", "findByCaregiver",
+            "findBySponsor", "findUnsponsored", "findByOrganization", "countByOrganization",
+            "findSummariesByCaregiver"};
+    private static final String[] DONATION_READS = {"findAll", "findPage", "count", "findByDonorId",
+            "findByDonorBetween", "findRecurringEndingBetween", "findByChildId", "findByOrganization",
+            "getTotalByDonorId", "getTotalByChildId", "countChildrenByDonorId"};
+    private static final String[] OWN_NOTIFICATIONS = {"findByCaregiver", "findUnreadByCaregiver", "countUnread",
+            "markAsRead", "markAllAsRead"};
+
+    /** The (repository, method) pairs each role other than system admin may call. */
+    private static final Map<UserRole, Map<Class<?>, Set<String>>> ALLOWED = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : List.of(UserRole.ORGANIZATION_ADMIN, UserRole.SUPPORT, UserRole.DONOR,
+                UserRole.CAREGIVER)) {
+            allow(role, UserRepository.class, "findByUsername", "findById", "usernameExists", "updateProfile",
+                    "updateProfileIfCurrent");
+            allow(role, ChildRepository.class, CHILD_READS);
+            allow(role, EducationRecordRepository.class, "findByChildId");
+            allow(role, MedicalRecordRepository.class, "findByChildId");
+            allow(role, SystemLogRepository.class, "save");
+            allow(role, TableVersionRepository.class, "findVersions");
+        }
+
+        allow(UserRole.ORGANIZATION_ADMIN, UserRepository.class, "findRefsByRole", "findCaregiverRefs");
+        allow(UserRole.ORGANIZATION_ADMIN, ChildRepository.class, "save", "updateChild", "updateChildIfCurrent",
+                "deleteChild", "assignCaregiver", "removeCaregiverAssignment", "assignSponsor",
+                "removeSponsorAssignment");
+        allow(UserRole.ORGANIZATION_ADMIN, DonationRepository.class, "findByChildId", "findByOrganization",
+                "getTotalByChildId", "save");
+        allow(UserRole.ORGANIZATION_ADMIN, ExpenseRepository.class, "findByChildId", "findByOrganization",
+                "getTotalByChildId", "save");
+        allow(UserRole.ORGANIZATION_ADMIN, EducationRecordRepository.class, "save", "update");
+        allow(UserRole.ORGANIZATION_ADMIN, MedicalRecordRepository.class, "save", "update");
+        allow(UserRole.ORGANIZATION_ADMIN, NotificationRepository.class, "save");
+
+        allow(UserRole.SUPPORT, UserRepository.class, "findRefsByRole", "findCaregiverRefs");
+        allow(UserRole.SUPPORT, DonationRepository.class, DONATION_READS);
+        allow(UserRole.SUPPORT, NotificationRepository.class, "save", "findByCaregiver", "findUnreadByCaregiver",
+                "countUnread");
+
+        allow(UserRole.DONOR, ChildRepository.class, "assignSponsor", "removeSponsorAssignment");
+        allow(UserRole.DONOR, DonationRepository.class, "findByDonorId", "findByDonorBetween", "getTotalByDonorId",
+                "countChildrenByDonorId", "getTotalByChildId", "save");
+        allow(UserRole.DONOR, NotificationRepository.class, OWN_NOTIFICATIONS);
+
+        allow(UserRole.CAREGIVER, EducationRecordRepository.class, "update");
+        allow(UserRole.CAREGIVER, MedicalRecordRepository.class, "update");
+        allow(UserRole.CAREGIVER, NotificationRepository.class, OWN_NOTIFICATIONS);
+        allow(UserRole.CAREGIVER, NotificationRepository.class, "deleteById");
+    }
+
+    private static void allow(UserRole role, Class<?> type, String... methods) {
+        ALLOWED.computeIfAbsent(role, r -> new HashMap<>())
+                .computeIfAbsent(type, t -> new HashSet<>())
+                .addAll(List.of(methods));
+    }
+
+    /**
+     * Limits an allowed call to the caller's own records, as the REST
+     * resources do: organization admins only see accounts their organization
+     * deals with and only change its children, donors only their own
+     * donations and sponsorships, and donors and caregivers only their own
+     * notifications. Caregivers may only update records of children assigned
+     * to them. Audit log entries are always written under the caller's name.
+     */
+    private void requireScope(User user, Class<?> type, String name, Object[] args) throws ApiException {
+        UserRole role = user.getRole();
+        boolean owner = role == UserRole.DONOR || role == UserRole.CAREGIVER;
+        if (type == UserRepository.class) {
+            switch (name) {
+                case "findByUsername" -> {
+                    if (!user.getUsername().equals(args[0])) {
+                        throw new ApiException(403, "Users may only access their own account");
+                    }
+                }
+                case "findById" -> {
+                    if (role == UserRole.ORGANIZATION_ADMIN) {
+                        requireKnownToOrganization(user, (Integer) args[0]);
+                    } else {
+                        requireSelf(user, (Integer) args[0]);
+                    }
+                }
+                case "updateProfile", "updateProfileIfCurrent" -> requireSelf(user, ((User) args[0]).getId());
+                default -> { }
+            }
+        } else if (type == SystemLogRepository.class) {
+            ((SystemLog) args[0]).setActor(user.getUsername());
+        } else if (role == UserRole.ORGANIZATION_ADMIN) {
+            requireOrganization(user, type, name, args);
+        } else if (type == DonationRepository.class && role == UserRole.DONOR) {
+            if (name.equals("save")) {
+                ((Donation) args[0]).setDonorId(user.getId());
+            } else if (!name.equals("getTotalByChildId")) {
+                requireOwn(user, (Integer) args[0]);
+            }
+        } else if (type == ChildRepository.class && role == UserRole.DONOR) {
+            if (name.equals("assignSponsor")) {
+                requireOwn(user, (Integer) args[1]);
+            } else if (name.equals("removeSponsorAssignment")) {
+                Child child = repository(ChildRepository.class).findById((Integer) args[0]);
+                requireOwn(user, child != null && child.getSponsorId() != null ? child.getSponsorId() : 0);
+            }
+        } else if (type == NotificationRepository.class && owner) {
+            if (name.equals("markAsRead") || name.equals("deleteById")) {
+                int id = (Integer) args[0];
+                boolean own = repository(NotificationRepository.class).findByCaregiver(user.getId()).stream()
+                        .anyMatch(n -> n.getId() == id);
+                requireOwn(user, own ? user.getId() : 0);
+            } else {
+                requireOwn(user, (Integer) args[0]);
+            }
+        } else if (type == EducationRecordRepository.class && role == UserRole.CAREGIVER && name.equals("update")) {
+            EducationRecord record = (EducationRecord) args[0];
+            requireAssigned(user, record.getChildId(), repository(EducationRecordRepository.class)
+                    .findByChildId(record.getChildId()).stream().anyMatch(r -> r.getId() == record.getId()));
+        } else if (type == MedicalRecordRepository.class && role == UserRole.CAREGIVER && name.equals("update")) {
+            MedicalRecord record = (MedicalRecord) args[0];
+            requireAssigned(user, record.getChildId(), repository(MedicalRecordRepository.class)
+                    .findByChildId(record.getChildId()).stream().anyMatch(r -> r.getId() == record.getId()));
+        }
+    }
+
+    /**
+     * Organization admins write children of their own organization only, and
+     * donations, expenses, records and notifications only for those children.
+     * A child they save or update always stays in their organization.
+     */
+    private void requireOrganization(User user, Class<?> type, String name, Object[] args) throws ApiException {
+        if (type == ChildRepository.class) {
+            switch (name) {
+                case "save" -> ((Child) args[0]).setOrganization(user.getOrganization());
+                case "updateChild", "updateChildIfCurrent" -> {
+                    Child child = (Child) args[0];
+                    requireOrganizationChild(user, child.getId());
+                    child.setOrganization(user.getOrganization());
+                }
+                case "deleteChild", "assignCaregiver", "removeCaregiverAssignment", "assignSponsor",
+                     "removeSponsorAssignment" -> requireOrganizationChild(user, (Integer) args[0]);
+                default -> { }
+            }
+        } else if (type == DonationRepository.class || type == ExpenseRepository.class) {
+            if (name.equals("findByOrganization")) {
+                if (!Objects.equals(user.getOrganization(), args[0])) {
+                    throw new ApiException(403, "Organization admins may only use records of their own organization");
+                }
+            } else if (args[0] instanceof Donation donation) {
+                // Donations an admin records are theirs; one for the general fund has no child
+                donation.setDonorId(user.getId());
+                if (donation.getChildId() > 0) {
+                    requireOrganizationChild(user, donation.getChildId());
+                }
+            } else if (args[0] instanceof Expense expense) {
+                requireOrganizationChild(user, expense.getChildId());
+            } else {
+                requireOrganizationChild(user, (Integer) args[0]);
+            }
+        } else if (type == EducationRecordRepository.class && !name.equals("findByChildId")) {
+            EducationRecord record = (EducationRecord) args[0];
+            requireOrganizationChild(user, record.getChildId());
+            if (name.equals("update") && repository(EducationRecordRepository.class)
+                    .findByChildId(record.getChildId()).stream().noneMatch(r -> r.getId() == record.getId())) {
+                throw new ApiException(403, "Organization admins may only use records of their own organization");
+            }
+        } else if (type == MedicalRecordRepository.class && !name.equals("findByChildId")) {
+            MedicalRecord record = (MedicalRecord) args[0];
+            requireOrganizationChild(user, record.getChildId());
+            if (name.equals("update") && repository(MedicalRecordRepository.class)
+                    .findByChildId(record.getChildId()).stream().noneMatch(r -> r.getId() == record.getId())) {
+                throw new ApiException(403, "Organization admins may only use records of their own organization");
+            }
+        } else if (type == NotificationRepository.class) {
+            requireOrganizationChild(user, ((Notification) args[0]).getChildId());
+        }
+    }
+
+    /** The child must be registered with the organization admin's organization. */
+    private void requireOrganizationChild(User user, int childId) throws ApiException {
+        Child child = repository(ChildRepository.class).findById(childId);
+        if (child == null || user.getOrganization() == null
+                || !user.getOrganization().equals(child.getOrganization())) {
+            throw new ApiException(403, "Organization admins may only use records of their own organization");
+        }
+    }
+
+    /**
+     * An organization admin may look up themselves, members of their
+     * organization, and the caregivers and sponsors of its children.
+     */
+    private void requireKnownToOrganization(User user, int userId) throws ApiException {
+        if (user.getId() == userId) {
+            return;
+        }
+        String organization = user.getOrganization();
+        User target = repository(UserRepository.class).findById(userId);
+        ChildRepository children = repository(ChildRepository.class);
+        boolean known = organization != null && target != null
+                && (organization.equals(target.getOrganization())
+                    || children.findByCaregiver(userId).stream().anyMatch(c -> organization.equals(c.getOrganization()))
+                    || children.findBySponsor(userId).stream().anyMatch(c -> organization.equals(c.getOrganization())));
+        if (!known) {
+            throw new ApiException(403, "Organization admins may only see accounts their organization deals with");
+        }
+    }
+
+    private static void requireSelf(User user, int userId) throws ApiException {
+        if (user.getId() != userId) {
+            throw new ApiException(403, "Users may only access their own account");
+        }
+    }
+
+    private static void requireOwn(User user, int ownerId) throws ApiException {
+        if (user.getId() != ownerId) {
+            throw new ApiException(403, "Role " + user.getRole() + " may only use its own records");
+        }
+    }
+
+    /** The record must belong to the child, and the child must be assigned to the caregiver. */
+    private void requireAssigned(User user, int childId, boolean recordOfChild) throws ApiException {
+        Child child = repository(ChildRepository.class).findById(childId);
+        if (!recordOfChild || child == null || child.getAssignedCaregiverId() == null
+                || child.getAssignedCaregiverId() != user.getId()) {
+            throw new ApiException(403, "Caregivers may only update records of children assigned to them");
+        }
+    }
+
+    private <T> T repository(Class<T> type) {
+        return type.cast(implementations.get(type));
+    }
+
+    /** Clients never see password hashes, so a user sent back without one keeps the stored hash. */
+    private void keepStoredPassword(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof User u && u.getPassword() == null && u.getId() > 0) {
+                User stored = repository(UserRepository.class).findById(u.getId());
+                if (stored != null) {
+                    u.setPassword(stored.getPassword());
+                }
+            }
+        }
+    }
+
+    /** The row an update is about to overwrite, found through the entity's ID. */
+    private Object currentState(Class<?> type, Object[] args) {
+        for (Object arg : args) {
+            if (RpcCodec.isEntity(arg)) {
+                try {
+                    Object id = arg.getClass().getMethod("getId").invoke(arg);
+                    Method findById = type.getMethod("findById", int.class);
+                    return findById.invoke(implementations.get(type), id);
+                } catch (ReflectiveOperationException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Method findMethod(Class<?> type, String name, int arity) throws ApiException {
+        Method match = null;
+        for (Method m : type.getMethods()) {
+            if (m.getName().equals(name) && m.getParameterCount() == arity) {
+                if (match != null) {
+                    throw new ApiException(400, "Ambiguous method " + name);
+                }
+                match = m;
+            }
+        }
+        if (match == null) {
+            throw new ApiException(404, "Unknown method " + type.getSimpleName() + "." + name + "/" + arity);
+        }
+        return match;
+    }
+
+    private static Object call(Object implementation, Method method, Object[] args) {
+        try {
+            return method.invoke(Objects.requireNonNull(implementation), args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof RuntimeException r ? r : new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package server;
+
+import exception.ApiException;
+import model.user.UserRole;
+import service.SystemLogService;
+
+/**
+ * {@code /api/logs}: the audit log, most recent first. System admins only.
+ */
+class SystemLogResource implements Resource {
+
+    private final SystemLogService systemLogService = new SystemLogService();
+
+    @Override
+    public String handle(ApiRequest request) throws ApiException {
+        request.requireMethod("GET");
+        request.requireRole(UserRole.SYSTEM_ADMIN);
+        if (!request.path().isEmpty()) {
+            throw new ApiException(404, "Not found");
+        }
+        ApiRequest.Page page = request.page();
+        return EntityJson.page(systemLogService.getPage(page.offset(), page.limit()), EntityJson::systemLog,
+                page.offset(), page.limit(), systemLogService.getCount());
+    }
+}
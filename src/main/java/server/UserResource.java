@@ -0,0 +1,77 @@
+package server;
+
+import exception.ApiException;
+import exception.LoginThrottledException;
+import model.user.User;
+import model.user.UserRole;
+import service.AuthService;
+import service.UserService;
+import util.JsonUtil;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /api/users}: paged list and single user for administrators, plus
+ * {@code /api/users/me} for anyone and {@code POST /api/users/me/password}
+ * to change one's own password. Password hashes are never returned.
+ */
+class UserResource implements Resource {
+
+    private final UserService userService = new UserService();
+    private final AuthService authService = new AuthService();
+
+    @Override
+    public String handle(ApiRequest request) throws ApiException {
+        if (request.path().equals(List.of("me", "password"))) {
+            request.requireMethod("POST");
+            return changePassword(request);
+        }
+        request.requireMethod("GET");
+        if (request.path().equals(List.of("me"))) {
+            return EntityJson.user(request.user());
+        }
+        request.requireRole(UserRole.SYSTEM_ADMIN, UserRole.ORGANIZATION_ADMIN);
+        if (!request.path().isEmpty()) {
+            User user = userService.findById(request.idAt(0));
+            if (user == null) {
+                throw new ApiException(404, "User not found");
+            }
+            return EntityJson.user(user);
+        }
+        ApiRequest.Page page = request.page();
+        return EntityJson.page(userService.getPage(page.offset(), page.limit()), EntityJson::user,
+                page.offset(), page.limit(), userService.getCount());
+    }
+
+    /**
+     * Checks {@code currentPassword} against the stored hash and stores a
+     * hash of {@code newPassword}; both arrive in a JSON body.
+     */
+    private String changePassword(ApiRequest request) throws ApiException {
+        Object current;
+        Object next;
+        try {
+            Map<?, ?> body = (Map<?, ?>) JsonUtil.parse(HttpSupport.readBody(request.exchange()));
+            current = body.get("currentPassword");
+            next = body.get("newPassword");
+        } catch (IOException | RuntimeException e) {
+            throw new ApiException(400, "Expected {\"currentPassword\":…,\"newPassword\":…}");
+        }
+        if (!(current instanceof String currentPassword) || !(next instanceof String newPassword)
+                || newPassword.isEmpty()) {
+            throw new ApiException(400, "Expected {\"currentPassword\":…,\"newPassword\":…}");
+        }
+        try {
+            if (!authService.changePassword(request.user(), currentPassword, newPassword)) {
+                throw new ApiException(500, "Failed to update password.");
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, e.getMessage());
+        } catch (LoginThrottledException e) {
+            throw new ApiException(429, e.getMessage());
+        }
+        return "{\"updated\":true}";
+    }
+}
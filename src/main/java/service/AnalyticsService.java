@@ -0,0 +1,160 @@
+package service;
+
+import model.entity.Child;
+import model.entity.Donation;
+import model.entity.Expense;
+import model.user.User;
+import repository.Repositories;
+import util.DBUtil;
+import util.TaskScope;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Loads {@link AnalyticsSnapshot}s for the report pages. Each table is loaded
+ * by its own subtask. Against the local database the tables are scanned
+ * straight into columns, with no entity objects; over a remote connection the
+ * snapshot is built from the repositories' lists instead.
+ */
+public class AnalyticsService {
+
+    /**
+     * A snapshot of every table, as of now.
+     *
+     * @throws ExecutionException if a table could not be loaded
+     * @throws TimeoutException   if the tables could not be loaded within {@code timeout}
+     */
+    public AnalyticsSnapshot loadSnapshot(Duration timeout)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        AnalyticsSnapshot.Builder builder = new AnalyticsSnapshot.Builder();
+        try (TaskScope scope = new TaskScope("analytics", timeout)) {
+            if (Repositories.isRemote()) {
+                TaskScope.Subtask<List<Donation>> donations = scope.fork(() -> Repositories.donations().findAll());
+                TaskScope.Subtask<List<Expense>> expenses = scope.fork(() -> Repositories.expenses().findAll());
+                TaskScope.Subtask<List<Child>> children = scope.fork(() -> Repositories.children().findAll());
+                TaskScope.Subtask<List<User>> users = scope.fork(() -> Repositories.users().findAll());
+                scope.join();
+                addAll(builder, donations.get(), expenses.get(), children.get(), users.get());
+            } else {
+                // A failed scan fails the scope, so no table is left half added
+                for (Scan scan : List.<Scan>of(this::scanDonations, this::scanExpenses, this::scanChildren,
+                        this::scanUsers)) {
+                    scope.fork(() -> {
+                        scan.into(builder);
+                        return null;
+                    });
+                }
+                scope.join();
+            }
+        }
+        return builder.build();
+    }
+
+    // ── Local scans ───────────────────────────────────────────
+
+    /**
+     * Adds every row of one table to the builder. A scan stops when its
+     * thread is interrupted (the scope was closed or timed out), closing its
+     * result set so the abandoned query no longer competes for the connection.
+     */
+    @FunctionalInterface
+    private interface Scan {
+        void into(AnalyticsSnapshot.Builder builder) throws SQLException, InterruptedException;
+    }
+
+    private void scanDonations(AnalyticsSnapshot.Builder builder) throws SQLException, InterruptedException {
+        try (Statement stmt = DBUtil.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT id, donor_id, child_id, amount_paisa, date_day, purpose FROM donations")) {
+            while (rs.next()) {
+                checkInterrupted();
+                builder.addDonation(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getLong(4), day(rs, 5),
+                        rs.getString(6));
+            }
+        }
+    }
+
+    private void scanExpenses(AnalyticsSnapshot.Builder builder) throws SQLException, InterruptedException {
+        try (Statement stmt = DBUtil.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id, child_id, amount_paisa, date_day, category FROM expenses")) {
+            while (rs.next()) {
+                checkInterrupted();
+                builder.addExpense(rs.getInt(1), rs.getInt(2), rs.getLong(3), day(rs, 4), rs.getString(5));
+            }
+        }
+    }
+
+    private void scanChildren(AnalyticsSnapshot.Builder builder) throws SQLException, InterruptedException {
+        try (Statement stmt = DBUtil.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT id, name, age, gender, organization, status FROM children ORDER BY id")) {
+            while (rs.next()) {
+                checkInterrupted();
+                builder.addChild(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getString(4), rs.getString(5),
+                        rs.getString(6));
+            }
+        }
+    }
+
+    private void scanUsers(AnalyticsSnapshot.Builder builder) throws SQLException, InterruptedException {
+        try (Statement stmt = DBUtil.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id, username, approved FROM users ORDER BY id")) {
+            while (rs.next()) {
+                checkInterrupted();
+                builder.addUser(rs.getInt(1), rs.getString(2), rs.getInt(3) == 1);
+            }
+        }
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Analytics scan cancelled");
+        }
+    }
+
+    private static int day(ResultSet rs, int column) throws SQLException {
+        int day = rs.getInt(column);
+        return rs.wasNull() ? AnalyticsSnapshot.NO_DAY : day;
+    }
+
+    // ── Remote lists ──────────────────────────────────────────
+
+    private static void addAll(AnalyticsSnapshot.Builder builder, List<Donation> donations, List<Expense> expenses,
+                               List<Child> children, List<User> users) {
+        for (Donation d : donations) {
+            builder.addDonation(d.getId(), d.getDonorId(), d.getChildId(), d.getAmount().longValue(),
+                    day(d.getDate()), d.getPurpose());
+        }
+        for (Expense e : expenses) {
+            builder.addExpense(e.getId(), e.getChildId(), e.getAmount().longValue(), day(e.getDate()),
+                    e.getCategory());
+        }
+        for (Child c : children.stream().sorted(Comparator.comparingInt(Child::getId)).toList()) {
+            builder.addChild(c.getId(), c.getName(), c.getAge(), c.getGender(), c.getOrganization(), c.getStatus());
+        }
+        for (User u : users.stream().sorted(Comparator.comparingInt(User::getId)).toList()) {
+            builder.addUser(u.getId(), u.getUsername(), u.isApproved());
+        }
+    }
+
+    /** Epoch day of a stored date such as {@code 2026-01-20} or {@code 2026-01-20 10:15:00}. */
+    private static int day(String date) {
+        if (date == null || date.length() < 10) {
+            return AnalyticsSnapshot.NO_DAY;
+        }
+        try {
+            return (int) LocalDate.parse(date.substring(0, 10)).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return AnalyticsSnapshot.NO_DAY;
+        }
+    }
+}
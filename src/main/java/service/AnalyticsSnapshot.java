@@ -0,0 +1,277 @@
+package service;
+
+import util.ColumnOps;
+import util.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-only, column-oriented copy of donations, expenses, children and
+ * users for reports. Each table is a set of parallel primitive arrays indexed
+ * by row; repeated strings (purpose, category, gender, organization, status)
+ * are dictionary-encoded as {@code int} codes. Filters and aggregations run
+ * over the arrays with {@link ColumnOps}, so a report over many rows creates
+ * no per-row objects.
+ * <p>
+ * Arrays are shared with callers and must not be modified. Children and users
+ * are ordered by ID; donations and expenses reference them by row through
+ * {@code childRow} and {@code donorRow} (-1 when the referenced row is missing).
+ */
+public record AnalyticsSnapshot(Donations donations, Expenses expenses, Children children, Users users) {
+
+    /** Day of a row whose date is missing or unreadable. */
+    public static final int NO_DAY = Integer.MIN_VALUE;
+
+    /** Amounts are in paisa, days are epoch days. */
+    public record Donations(int size, int[] id, int[] donorId, int[] childId, long[] amount, int[] day,
+                            int[] purpose, Dictionary purposes, int[] donorRow, int[] childRow) {
+    }
+
+    /** Amounts are in paisa, days are epoch days. */
+    public record Expenses(int size, int[] id, int[] childId, long[] amount, int[] day,
+                           int[] category, Dictionary categories, int[] childRow) {
+    }
+
+    public record Children(int size, int[] id, String[] name, int[] age, int[] gender, int[] organization,
+                           int[] status, Dictionary genders, Dictionary organizations, Dictionary statuses) {
+
+        /** The row of the child, or -1. */
+        public int row(int childId) {
+            int row = Arrays.binarySearch(id, childId);
+            return row >= 0 ? row : -1;
+        }
+    }
+
+    public record Users(int size, int[] id, String[] username, boolean[] approved) {
+
+        /** The row of the user, or -1. */
+        public int row(int userId) {
+            int row = Arrays.binarySearch(id, userId);
+            return row >= 0 ? row : -1;
+        }
+    }
+
+    /** Distinct strings of one column, each stored once and referenced by code. Null is code -1. */
+    public static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return -1;
+            }
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        /** The code of the value, or -1 if no row has it. */
+        public int code(String value) {
+            Integer code = value != null ? codes.get(value) : null;
+            return code != null ? code : -1;
+        }
+
+        public String decode(int code) {
+            return code >= 0 ? values.get(code) : null;
+        }
+
+        public int size() {
+            return values.size();
+        }
+    }
+
+    // ── Queries ───────────────────────────────────────────────
+
+    /** Donation rows dated within the inclusive range. */
+    public int[] donationsBetween(LocalDate from, LocalDate to) {
+        int fromDay = Math.clamp(from.toEpochDay(), NO_DAY + 1, Integer.MAX_VALUE);
+        int toDay = Math.clamp(to.toEpochDay(), NO_DAY + 1, Integer.MAX_VALUE);
+        int[] day = donations.day();
+        return ColumnOps.select(donations.size(), r -> day[r] >= fromDay && day[r] <= toDay);
+    }
+
+    /** The total amount of the given donation rows. */
+    public Money donationTotal(int[] rows) {
+        return Money.valueOf(ColumnOps.sum(rows, donations.amount()));
+    }
+
+    /** Totals of the given donation rows per donor row. */
+    public ColumnOps.Groups donationsByDonor(int[] rows) {
+        return ColumnOps.sumBy(rows, donations.donorRow(), users.size(), donations.amount());
+    }
+
+    /** Totals of the given donation rows per child row. */
+    public ColumnOps.Groups donationsByChild(int[] rows) {
+        return ColumnOps.sumBy(rows, donations.childRow(), children.size(), donations.amount());
+    }
+
+    /** Totals of the given donation rows per purpose code. */
+    public ColumnOps.Groups donationsByPurpose(int[] rows) {
+        return ColumnOps.sumBy(rows, donations.purpose(), donations.purposes().size(), donations.amount());
+    }
+
+    /** The newest {@code k} of the given donation rows, newest first. */
+    public int[] newestDonations(int[] rows, int k) {
+        int[] day = donations.day();
+        return ColumnOps.topK(rows, r -> day[r], k);
+    }
+
+    /** Username of a donation's donor, or {@code "Donor #id"} if the account is gone. */
+    public String donorName(int donationRow) {
+        int row = donations.donorRow()[donationRow];
+        return row >= 0 ? users.username()[row] : "Donor #" + donations.donorId()[donationRow];
+    }
+
+    /** Name of a donation's child, or {@code "Child #id"} if the child is gone. */
+    public String childName(int donationRow) {
+        int row = donations.childRow()[donationRow];
+        return row >= 0 ? children.name()[row] : "Child #" + donations.childId()[donationRow];
+    }
+
+    /** ISO date of a donation, or "" if unknown. */
+    public String donationDate(int donationRow) {
+        int day = donations.day()[donationRow];
+        return day != NO_DAY ? LocalDate.ofEpochDay(day).toString() : "";
+    }
+
+    // ── Building ──────────────────────────────────────────────
+
+    /**
+     * Collects rows column by column. Children and users must be added in
+     * ascending ID order; references are resolved by {@link #build()}.
+     * Each table's rows may be added from a different thread, provided one
+     * thread adds all rows of a table and all have finished before build.
+     */
+    static final class Builder {
+        private final IntColumn donationId = new IntColumn();
+        private final IntColumn donationDonor = new IntColumn();
+        private final IntColumn donationChild = new IntColumn();
+        private final LongColumn donationAmount = new LongColumn();
+        private final IntColumn donationDay = new IntColumn();
+        private final IntColumn donationPurpose = new IntColumn();
+        private final Dictionary purposes = new Dictionary();
+
+        private final IntColumn expenseId = new IntColumn();
+        private final IntColumn expenseChild = new IntColumn();
+        private final LongColumn expenseAmount = new LongColumn();
+        private final IntColumn expenseDay = new IntColumn();
+        private final IntColumn expenseCategory = new IntColumn();
+        private final Dictionary categories = new Dictionary();
+
+        private final IntColumn childId = new IntColumn();
+        private final List<String> childName = new ArrayList<>();
+        private final IntColumn childAge = new IntColumn();
+        private final IntColumn childGender = new IntColumn();
+        private final IntColumn childOrganization = new IntColumn();
+        private final IntColumn childStatus = new IntColumn();
+        private final Dictionary genders = new Dictionary();
+        private final Dictionary organizations = new Dictionary();
+        private final Dictionary statuses = new Dictionary();
+
+        private final IntColumn userId = new IntColumn();
+        private final List<String> username = new ArrayList<>();
+        private final IntColumn userApproved = new IntColumn();
+
+        void addDonation(int id, int donorId, int childId, long paisa, int day, String purpose) {
+            donationId.add(id);
+            donationDonor.add(donorId);
+            donationChild.add(childId);
+            donationAmount.add(paisa);
+            donationDay.add(day);
+            donationPurpose.add(purposes.encode(purpose));
+        }
+
+        void addExpense(int id, int childId, long paisa, int day, String category) {
+            expenseId.add(id);
+            expenseChild.add(childId);
+            expenseAmount.add(paisa);
+            expenseDay.add(day);
+            expenseCategory.add(categories.encode(category));
+        }
+
+        void addChild(int id, String name, int age, String gender, String organization, String status) {
+            childId.add(id);
+            childName.add(name);
+            childAge.add(age);
+            childGender.add(genders.encode(gender));
+            childOrganization.add(organizations.encode(organization));
+            childStatus.add(statuses.encode(status));
+        }
+
+        void addUser(int id, String name, boolean isApproved) {
+            userId.add(id);
+            username.add(name);
+            userApproved.add(isApproved ? 1 : 0);
+        }
+
+        AnalyticsSnapshot build() {
+            Children children = new Children(childId.size, childId.toArray(), childName.toArray(new String[0]),
+                    childAge.toArray(), childGender.toArray(), childOrganization.toArray(), childStatus.toArray(),
+                    genders, organizations, statuses);
+            boolean[] approvedFlags = new boolean[userApproved.size];
+            for (int i = 0; i < approvedFlags.length; i++) {
+                approvedFlags[i] = userApproved.values[i] != 0;
+            }
+            Users users = new Users(userId.size, userId.toArray(), username.toArray(new String[0]), approvedFlags);
+
+            int[] donors = donationDonor.toArray();
+            int[] donated = donationChild.toArray();
+            int[] donorRow = new int[donors.length];
+            int[] donationChildRow = new int[donated.length];
+            for (int r = 0; r < donors.length; r++) {
+                donorRow[r] = users.row(donors[r]);
+                donationChildRow[r] = children.row(donated[r]);
+            }
+            Donations donations = new Donations(donationId.size, donationId.toArray(), donors, donated,
+                    donationAmount.toArray(), donationDay.toArray(), donationPurpose.toArray(), purposes,
+                    donorRow, donationChildRow);
+
+            int[] spentOn = expenseChild.toArray();
+            int[] expenseChildRow = new int[spentOn.length];
+            for (int r = 0; r < spentOn.length; r++) {
+                expenseChildRow[r] = children.row(spentOn[r]);
+            }
+            Expenses expenses = new Expenses(expenseId.size, expenseId.toArray(), spentOn, expenseAmount.toArray(),
+                    expenseDay.toArray(), expenseCategory.toArray(), categories, expenseChildRow);
+            return new AnalyticsSnapshot(donations, expenses, children, users);
+        }
+    }
+
+    private static final class IntColumn {
+        private int[] values = new int[256];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class LongColumn {
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,39 +1,121 @@
 package service;
 
+import exception.LoginThrottledException;
 import exception.UserNotApprovedException;
 import model.user.User;
+import repository.Repositories;
 import repository.UserRepository;
+import util.CacheStats;
 import util.PasswordUtil;
 
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
 /**
  * Handles authentication logic.
+ * Failed attempts are rate limited per username, and per source for API
+ * clients, before the database is touched, and recently verified credentials
+ * are cached so repeat logins skip the password KDF.
  */
 public class AuthService {
 
-    private final UserRepository userRepository = new UserRepository();
+    /** Source identifier used by the desktop client. */
+    public static final String LOCAL_SOURCE = "local";
+
+    /** Steps reported while a login is in progress. */
+    public enum LoginProgress {
+        CHECKING_LIMITS("Checking…"),
+        LOOKING_UP_ACCOUNT("Looking up account…"),
+        VERIFYING_PASSWORD("Verifying password…"),
+        UPGRADING_HASH("Securing account…");
+
+        private final String message;
+
+        LoginProgress(String message) {
+            this.message = message;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    // Shared across instances: every controller creates its own AuthService
+    private static final LoginThrottle usernameThrottle = new LoginThrottle(5, 5 * 60);
+    private static final LoginThrottle sourceThrottle = new LoginThrottle(20, 5 * 60);
+    private static final CredentialCache credentialCache = new CredentialCache(10 * 60);
+    private static final ReentrantLock[] verifyLocks = new ReentrantLock[32];
+
+    static {
+        for (int i = 0; i < verifyLocks.length; i++) {
+            verifyLocks[i] = new ReentrantLock();
+        }
+    }
+
+    private final UserRepository userRepository = Repositories.users();
+
+    /**
+     * Returns hit/miss counts of the verified-credential cache.
+     */
+    public static CacheStats getCredentialCacheStats() {
+        return credentialCache.stats("Verified credentials");
+    }
+
+    /**
+     * Authenticates a user from the local desktop client.
+     *
+     * @see #login(String, String, String, Consumer)
+     */
+    public User login(String username, String password) throws UserNotApprovedException, LoginThrottledException {
+        return login(username, password, LOCAL_SOURCE, progress -> { });
+    }
 
     /**
      * Authenticates a user by username and password.
+     * Hashing is deliberately slow, so call this off the FX application thread.
      *
+     * @param source   where the attempt comes from (client address, or {@link #LOCAL_SOURCE})
+     * @param progress receives each step as the login advances
      * @return the authenticated User
+     * @throws LoginThrottledException  if the username or source has too many recent failures
      * @throws UserNotApprovedException if the user exists but is not approved
      * @throws IllegalArgumentException if credentials are invalid
      */
-    public User login(String username, String password) throws UserNotApprovedException {
-        System.out.println("AuthService: finding user " + username);
-        User user = userRepository.findByUsername(username);
+    public User login(String username, String password, String source, Consumer<LoginProgress> progress)
+            throws UserNotApprovedException, LoginThrottledException {
+        if (Repositories.isRemote()) {
+            return loginRemotely(username, password, progress);
+        }
+        progress.accept(LoginProgress.CHECKING_LIMITS);
+        String usernameKey = username.toLowerCase();
+        checkLimits(usernameKey, source);
 
+        progress.accept(LoginProgress.LOOKING_UP_ACCOUNT);
+        User user = userRepository.findByUsername(username);
         if (user == null) {
-            System.out.println("AuthService: user not found");
+            recordFailure(usernameKey, source);
             throw new IllegalArgumentException("Invalid username or password.");
         }
 
-        String hashedPassword = PasswordUtil.hash(password);
-        System.out.println("AuthService: comparing passwords");
-        if (!user.getPassword().equals(hashedPassword)) {
-            System.out.println("AuthService: password mismatch");
-            throw new IllegalArgumentException("Invalid username or password.");
+        progress.accept(LoginProgress.VERIFYING_PASSWORD);
+        String storedHash = user.getPassword();
+        if (!credentialCache.matches(username, storedHash, password)) {
+            // Parallel logins to one account (e.g. concurrent API requests) wait for a
+            // single verification and then hit the cache instead of each running the KDF
+            ReentrantLock lock = verifyLocks[Math.floorMod(usernameKey.hashCode(), verifyLocks.length)];
+            lock.lock();
+            try {
+                if (!credentialCache.contains(username, storedHash, password)) {
+                    // Failures recorded while this attempt waited count too, or a burst of
+                    // parallel guesses would all get past the check above
+                    checkLimits(usernameKey, source);
+                    verifyAndCache(user, username, password, usernameKey, source, progress);
+                }
+            } finally {
+                lock.unlock();
+            }
         }
+        usernameThrottle.reset(usernameKey);
 
         if (!user.isApproved()) {
             throw new UserNotApprovedException(
@@ -42,4 +124,89 @@ public class AuthService {
 
         return user;
     }
+
+    /**
+     * Signs in against the server, which applies its own throttling and caching.
+     */
+    private User loginRemotely(String username, String password, Consumer<LoginProgress> progress)
+            throws UserNotApprovedException, LoginThrottledException {
+        progress.accept(LoginProgress.VERIFYING_PASSWORD);
+        // The server never sends password hashes, and checks the current one itself in changePassword
+        return Repositories.remote().authenticate(username, password);
+    }
+
+    /**
+     * Replaces a signed-in user's password after checking the current one.
+     * Hashing is deliberately slow, so call this off the FX application thread.
+     *
+     * @return false if the new password could not be stored
+     * @throws IllegalArgumentException if the current password is wrong
+     * @throws LoginThrottledException  if the server refuses to check it after too many failures
+     */
+    public boolean changePassword(User user, String currentPassword, String newPassword)
+            throws LoginThrottledException {
+        if (Repositories.isRemote()) {
+            // Only the server has the stored hash, so it checks the current password and stores the new one
+            return Repositories.remote().changePassword(user.getUsername(), currentPassword, newPassword);
+        }
+        if (!PasswordUtil.verify(currentPassword, user.getPassword())) {
+            throw new IllegalArgumentException("Current password is incorrect.");
+        }
+        String hash = PasswordUtil.hash(newPassword);
+        if (!userRepository.updatePassword(user.getId(), hash)) {
+            return false;
+        }
+        user.setPassword(hash);
+        return true;
+    }
+
+    private void verifyAndCache(User user, String username, String password, String usernameKey, String source,
+                                Consumer<LoginProgress> progress) {
+        String storedHash = user.getPassword();
+        if (!PasswordUtil.verify(password, storedHash)) {
+            recordFailure(usernameKey, source);
+            throw new IllegalArgumentException("Invalid username or password.");
+        }
+
+        // Transparently upgrade legacy or under-strength hashes now that we know the password
+        if (PasswordUtil.needsRehash(storedHash)) {
+            progress.accept(LoginProgress.UPGRADING_HASH);
+            String upgraded = PasswordUtil.hash(password);
+            if (userRepository.updatePassword(user.getId(), upgraded)) {
+                user.setPassword(upgraded);
+            }
+        }
+        credentialCache.put(username, user.getPassword(), password);
+    }
+
+    /**
+     * Every desktop login shares {@link #LOCAL_SOURCE}, so a per-source limit
+     * there would lock the whole workstation out; it is limited per username only.
+     */
+    private void checkLimits(String usernameKey, String source) throws LoginThrottledException {
+        long retryAfter = usernameThrottle.retryAfterSeconds(usernameKey);
+        if (!LOCAL_SOURCE.equals(source)) {
+            retryAfter = Math.max(retryAfter, sourceThrottle.retryAfterSeconds(source));
+        }
+        if (retryAfter > 0) {
+            throw new LoginThrottledException(
+                    "Too many failed login attempts. Please try again in " + formatWait(retryAfter) + ".",
+                    retryAfter);
+        }
+    }
+
+    private void recordFailure(String usernameKey, String source) {
+        usernameThrottle.recordFailure(usernameKey);
+        if (!LOCAL_SOURCE.equals(source)) {
+            sourceThrottle.recordFailure(source);
+        }
+    }
+
+    private String formatWait(long seconds) {
+        if (seconds < 60) {
+            return seconds + " seconds";
+        }
+        long minutes = (seconds + 59) / 60;
+        return minutes == 1 ? "1 minute" : minutes + " minutes";
+    }
 }
@@ -0,0 +1,343 @@
+package service;
+
+import exception.InvalidContactException;
+import model.entity.Child;
+import model.entity.Donation;
+import model.entity.Expense;
+import model.user.*;
+import repository.ChildRepository;
+import repository.DonationRepository;
+import repository.ExpenseRepository;
+import repository.Repositories;
+import repository.UserRepository;
+import util.BatchExecutor;
+import util.ContactValidator;
+import util.CsvUtil;
+import util.JsonUtil;
+import util.Money;
+import util.PasswordUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bulk import of children, donations, users and expenses from CSV or JSON.
+ * Records are parsed and validated in parallel, then handed to a single
+ * writer thread that inserts them in batched, chunked transactions.
+ * Column names match the database columns (e.g. {@code date_of_birth}).
+ */
+public class BulkImportService {
+
+    /** What the file contains. */
+    public enum Target {
+        CHILDREN, DONATIONS, USERS, EXPENSES
+    }
+
+    /** Outcome of an import; errors name the offending record. */
+    public record ImportResult(int records, int imported, List<String> errors, long elapsedMillis) {
+    }
+
+    /** Turns one record's fields into an entity, or throws with a reason. */
+    @FunctionalInterface
+    private interface RecordMapper<T> {
+        T map(Map<String, String> fields) throws Exception;
+    }
+
+    private static final int SLICE_SIZE = 500;
+
+    private final ChildRepository childRepository = Repositories.children();
+    private final DonationRepository donationRepository = Repositories.donations();
+    private final ExpenseRepository expenseRepository = Repositories.expenses();
+    private final UserRepository userRepository = Repositories.users();
+
+    /**
+     * Imports a .csv or .json file into the given table.
+     */
+    public ImportResult importFile(Path file, Target target) throws IOException {
+        String content = Files.readString(file);
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".json")) {
+            return importJson(content, target);
+        }
+        if (name.endsWith(".csv")) {
+            return importCsv(content, target);
+        }
+        throw new IllegalArgumentException("Unsupported file type: " + file.getFileName() + " (expected .csv or .json)");
+    }
+
+    /**
+     * Imports CSV content whose first record is the header row.
+     */
+    public ImportResult importCsv(String content, Target target) {
+        List<String> records = CsvUtil.splitRecords(content);
+        if (records.isEmpty()) {
+            return new ImportResult(0, 0, List.of(), 0);
+        }
+        List<String> header = CsvUtil.parseRecord(records.get(0));
+        Function<String, Map<String, String>> parser = raw -> {
+            List<String> values = CsvUtil.parseRecord(raw);
+            if (values.size() != header.size()) {
+                throw new IllegalArgumentException("expected " + header.size() + " fields but found " + values.size());
+            }
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                fields.put(header.get(i), values.get(i).isEmpty() ? null : values.get(i));
+            }
+            return fields;
+        };
+        // Record numbers in errors count the header as record 1
+        return run(records.subList(1, records.size()), 2, parser, target);
+    }
+
+    /**
+     * Imports JSON content: an array of flat objects.
+     */
+    public ImportResult importJson(String content, Target target) {
+        return run(JsonUtil.splitObjects(content), 1, JsonUtil::parseObject, target);
+    }
+
+    // ── Pipeline ─────────────────────────────────────────────
+
+    private ImportResult run(List<String> raw, int firstRecordNumber,
+                             Function<String, Map<String, String>> parser, Target target) {
+        return switch (target) {
+            case CHILDREN -> run(raw, firstRecordNumber, parser, this::mapChild, childRepository::saveAll);
+            case DONATIONS -> run(raw, firstRecordNumber, parser, this::mapDonation, donationRepository::saveAll);
+            case EXPENSES -> run(raw, firstRecordNumber, parser, this::mapExpense, expenseRepository::saveAll);
+            case USERS -> {
+                Set<String> taken = ConcurrentHashMap.newKeySet();
+                taken.addAll(userRepository.findAllUsernames());
+                yield run(raw, firstRecordNumber, parser, fields -> mapUser(fields, taken), userRepository::saveAll);
+            }
+        };
+    }
+
+    private <T> ImportResult run(List<String> raw, int firstRecordNumber,
+                                 Function<String, Map<String, String>> parser,
+                                 RecordMapper<T> mapper, ToIntFunction<List<T>> sink) {
+        long start = System.currentTimeMillis();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        BlockingQueue<List<T>> queue = new ArrayBlockingQueue<>(16);
+        List<T> endOfInput = new ArrayList<>();
+
+        // Single writer: the shared SQLite connection takes one transaction at a time anyway
+        ExecutorService writer = Executors.newSingleThreadExecutor(r -> new Thread(r, "import-writer"));
+        Future<Integer> written = writer.submit(() -> {
+            int total = 0;
+            List<T> buffer = new ArrayList<>(BatchExecutor.DEFAULT_CHUNK_SIZE);
+            while (true) {
+                List<T> slice = queue.take();
+                if (slice == endOfInput) {
+                    break;
+                }
+                buffer.addAll(slice);
+                if (buffer.size() >= BatchExecutor.DEFAULT_CHUNK_SIZE) {
+                    total += sink.applyAsInt(buffer);
+                    buffer = new ArrayList<>(BatchExecutor.DEFAULT_CHUNK_SIZE);
+                }
+            }
+            if (!buffer.isEmpty()) {
+                total += sink.applyAsInt(buffer);
+            }
+            return total;
+        });
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ExecutorService parsers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "import-parser");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> slices = new ArrayList<>();
+            for (int from = 0; from < raw.size(); from += SLICE_SIZE) {
+                int sliceStart = from;
+                int sliceEnd = Math.min(raw.size(), from + SLICE_SIZE);
+                slices.add(parsers.submit(() -> {
+                    List<T> valid = new ArrayList<>(sliceEnd - sliceStart);
+                    for (int i = sliceStart; i < sliceEnd; i++) {
+                        try {
+                            valid.add(mapper.map(parser.apply(raw.get(i))));
+                        } catch (Exception e) {
+                            errors.add("record " + (firstRecordNumber + i) + ": " + e.getMessage());
+                        }
+                    }
+                    queue.put(valid);
+                    return null;
+                }));
+            }
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+            queue.put(endOfInput);
+            int imported = written.get();
+            // Slices finish out of order; report errors in record order
+            List<String> sortedErrors = new ArrayList<>(errors);
+            sortedErrors.sort(Comparator.comparingInt(err -> Integer.parseInt(err.substring(7, err.indexOf(':')))));
+            return new ImportResult(raw.size(), imported, sortedErrors, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            written.cancel(true);
+            throw new IllegalStateException("Import failed: " + e.getMessage(), e);
+        } finally {
+            parsers.shutdownNow();
+            writer.shutdownNow();
+        }
+    }
+
+    // ── Record mapping & validation ──────────────────────────
+
+    private Child mapChild(Map<String, String> f) {
+        Child child = new Child();
+        child.setName(required(f, "name"));
+        int age = intField(f, "age");
+        if (age < 0 || age > 25) {
+            throw new IllegalArgumentException("age out of range: " + age);
+        }
+        child.setAge(age);
+        child.setOrganization(required(f, "organization"));
+        child.setGender(f.get("gender"));
+        String dob = f.get("date_of_birth");
+        if (dob != null) {
+            parseDate(dob, "date_of_birth");
+        }
+        child.setDateOfBirth(dob);
+        String status = f.get("status");
+        child.setStatus(status != null ? status : "Active");
+        child.setAssignedCaregiverId(optionalInt(f, "assigned_caregiver_id"));
+        child.setSponsorId(optionalInt(f, "sponsor_id"));
+        child.setPhotoPath(f.get("photo_path"));
+        return child;
+    }
+
+    private Donation mapDonation(Map<String, String> f) {
+        Donation d = new Donation();
+        d.setDonorId(positiveInt(f, "donor_id"));
+        d.setChildId(positiveInt(f, "child_id"));
+        d.setAmount(positiveAmount(f));
+        d.setPurpose(f.get("purpose"));
+        d.setDate(required(f, "date"));
+        parseDate(d.getDate(), "date");
+        String status = f.get("status");
+        d.setStatus(status != null ? status : "Completed");
+        return d;
+    }
+
+    private Expense mapExpense(Map<String, String> f) {
+        Expense e = new Expense();
+        e.setChildId(positiveInt(f, "child_id"));
+        e.setCategory(required(f, "category"));
+        e.setAmount(positiveAmount(f));
+        e.setDescription(f.get("description"));
+        e.setDate(required(f, "date"));
+        parseDate(e.getDate(), "date");
+        return e;
+    }
+
+    private User mapUser(Map<String, String> f, Set<String> taken) throws InvalidContactException {
+        String username = required(f, "username");
+        UserRole role;
+        try {
+            role = UserRole.valueOf(required(f, "role").trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown role: " + f.get("role"));
+        }
+        String email = required(f, "email");
+        ContactValidator.validateEmail(email);
+        String phone = f.get("phone_number");
+        if (phone != null) {
+            ContactValidator.validatePhoneNumber(phone);
+        }
+        String password = required(f, "password");
+        if (!taken.add(username)) {
+            throw new IllegalArgumentException("username already exists: " + username);
+        }
+
+        User user = switch (role) {
+            case SYSTEM_ADMIN -> new SystemAdmin();
+            case ORGANIZATION_ADMIN -> new OrganizationAdmin();
+            case DONOR -> new Donor();
+            case CAREGIVER -> new Caregiver();
+            case SUPPORT -> new Support();
+        };
+        user.setUsername(username);
+        // Hashing is the expensive part of a user import, which is why it runs on the parser threads
+        user.setPassword(PasswordUtil.hash(password));
+        user.setEmail(email.trim());
+        user.setPhoneNumber(phone);
+        user.setRole(role);
+        String approved = f.get("approved");
+        user.setApproved(approved != null && (approved.equals("1") || approved.equalsIgnoreCase("true")));
+        user.setOrganization(f.get("organization"));
+        return user;
+    }
+
+    // ── Field helpers ────────────────────────────────────────
+
+    private String required(Map<String, String> f, String column) {
+        String value = f.get(column);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("missing " + column);
+        }
+        return value;
+    }
+
+    private int intField(Map<String, String> f, String column) {
+        String value = required(f, column);
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a whole number: " + value);
+        }
+    }
+
+    private int positiveInt(Map<String, String> f, String column) {
+        int value = intField(f, column);
+        if (value <= 0) {
+            throw new IllegalArgumentException(column + " must be positive");
+        }
+        return value;
+    }
+
+    private Integer optionalInt(Map<String, String> f, String column) {
+        return f.get(column) == null ? null : intField(f, column);
+    }
+
+    private Money positiveAmount(Map<String, String> f) {
+        String value = required(f, "amount");
+        try {
+            Money amount = Money.parse(value);
+            if (!amount.isPositive()) {
+                throw new IllegalArgumentException("amount must be positive: " + value);
+            }
+            return amount;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("amount is not a number: " + value);
+        }
+    }
+
+    private void parseDate(String value, String column) {
+        try {
+            LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " is not a yyyy-MM-dd date: " + value);
+        }
+    }
+}
@@ -1,23 +1,30 @@
 package service;
 
 import model.entity.Child;
+import model.entity.ChildSummary;
 import model.entity.Notification;
 import model.user.Caregiver;
 import model.user.User;
+import model.user.UserRef;
 import repository.ChildRepository;
+import repository.Repositories;
+import repository.UpdateResult;
 import repository.UserRepository;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 
 /**
  * Business logic for child management.
  */
 public class ChildService {
 
-    private final ChildRepository childRepository = new ChildRepository();
-    private final UserRepository userRepository = new UserRepository();
+    private final ChildRepository childRepository = Repositories.children();
+    private final UserRepository userRepository = Repositories.users();
     private final NotificationService notificationService = new NotificationService();
 
     /**
@@ -35,6 +42,17 @@ public class ChildService {
         return childRepository.findAll();
     }
 
+    /**
+     * Returns one page of children ordered by ID.
+     */
+    public List<Child> getPage(int offset, int limit) {
+        return childRepository.findPage(offset, limit);
+    }
+
+    public int getCount() {
+        return childRepository.count();
+    }
+
     /**
      * Finds a child by their database ID.
      */
@@ -44,11 +62,39 @@ public class ChildService {
 
     /**
      * Updates an existing child.
+     *
+     * @return false if it failed or the child was changed by someone else since it was loaded
      */
     public boolean updateChild(Child child) {
         return childRepository.updateChild(child);
     }
 
+    /**
+     * Updates an existing child, reporting a concurrent change as {@link UpdateResult#CONFLICT}.
+     */
+    public UpdateResult updateChildIfCurrent(Child child) {
+        return childRepository.updateChildIfCurrent(child);
+    }
+
+    /**
+     * Updates an existing child; if someone else changed it meanwhile, the
+     * merge function gets (edited, latest) and returns what to write instead,
+     * or null to give up with a conflict.
+     */
+    public UpdateResult updateChild(Child edited, BinaryOperator<Child> merge) {
+        return OptimisticUpdates.merge(edited, childRepository::updateChildIfCurrent,
+                () -> childRepository.findById(edited.getId()), merge, Child::getVersion, Child::setVersion);
+    }
+
+    /**
+     * Applies a change to the latest state of a child, retrying on the newest
+     * state if another writer gets in first.
+     */
+    public UpdateResult modifyChild(int childId, Consumer<Child> change) {
+        return OptimisticUpdates.modify(() -> childRepository.findById(childId), change,
+                childRepository::updateChildIfCurrent);
+    }
+
     /**
      * Deletes a child by ID.
      */
@@ -58,71 +104,90 @@ public class ChildService {
 
     /**
      * Assigns a caregiver to a child and creates a notification.
+     * The update and the notification commit together or not at all.
      */
     public boolean assignCaregiverToChild(int childId, int caregiverId, String adminUsername) {
-        Child child = childRepository.findById(childId);
-        User caregiver = userRepository.findById(caregiverId);
-        
-        if (child == null || caregiver == null) {
+        try {
+            return Repositories.inTransaction(conn -> {
+                Child child = childRepository.findById(childId);
+                User caregiver = userRepository.findById(caregiverId);
+
+                if (child == null || caregiver == null) {
+                    return false;
+                }
+
+                // Check if this is a new assignment (wasn't already assigned)
+                boolean isNewAssignment = child.getAssignedCaregiverId() == null ||
+                                           !child.getAssignedCaregiverId().equals(caregiverId);
+
+                // Set the caregiver assignment
+                if (!childRepository.assignCaregiver(childId, caregiverId)) {
+                    return false;
+                }
+
+                if (isNewAssignment) {
+                    // Create notification for the caregiver
+                    String message = "You have been assigned a new child: " + child.getName() +
+                                   " (Age: " + child.getAge() + ")";
+                    Notification notification = new Notification(
+                            caregiverId,
+                            message,
+                            "ASSIGNMENT",
+                            child.getName(),
+                            childId,
+                            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+                    );
+                    if (!notificationService.createNotification(notification)) {
+                        throw new SQLException("Failed to notify caregiver " + caregiverId);
+                    }
+                }
+                return true;
+            });
+        } catch (SQLException e) {
+            System.err.println("Caregiver assignment rolled back: " + e.getMessage());
             return false;
         }
-        
-        // Check if this is a new assignment (wasn't already assigned)
-        boolean isNewAssignment = child.getAssignedCaregiverId() == null || 
-                                   !child.getAssignedCaregiverId().equals(caregiverId);
-        
-        // Set the caregiver assignment
-        child.setAssignedCaregiverId(caregiverId);
-        boolean updated = childRepository.updateChild(child);
-        
-        if (updated && isNewAssignment) {
-            // Create notification for the caregiver
-            String message = "You have been assigned a new child: " + child.getName() + 
-                           " (Age: " + child.getAge() + ")";
-            Notification notification = new Notification(
-                    caregiverId,
-                    message,
-                    "ASSIGNMENT",
-                    child.getName(),
-                    childId,
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-            );
-            notificationService.createNotification(notification);
-        }
-        
-        return updated;
     }
 
     /**
      * Removes a caregiver assignment from a child and creates a notification.
+     * The update and the notification commit together or not at all.
      */
     public boolean removeCaregiverFromChild(int childId, String adminUsername) {
-        Child child = childRepository.findById(childId);
-        
-        if (child == null || child.getAssignedCaregiverId() == null) {
+        try {
+            return Repositories.inTransaction(conn -> {
+                Child child = childRepository.findById(childId);
+
+                if (child == null || child.getAssignedCaregiverId() == null) {
+                    return false;
+                }
+
+                int caregiverId = child.getAssignedCaregiverId();
+
+                // Remove the caregiver assignment
+                if (!childRepository.removeCaregiverAssignment(childId)) {
+                    return false;
+                }
+
+                // Create notification for the caregiver about removal
+                String message = "Child " + child.getName() + " has been removed from your supervision.";
+                Notification notification = new Notification(
+                        caregiverId,
+                        message,
+                        "REMOVAL",
+                        child.getName(),
+                        childId,
+                        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+                );
+                if (!notificationService.createNotification(notification)) {
+                    throw new SQLException("Failed to notify caregiver " + caregiverId);
+                }
+                return true;
+            });
+        } catch (SQLException e) {
+            System.err.println("Caregiver removal rolled back: " + e.getMessage());
             return false;
         }
-        
-        int caregiverId = child.getAssignedCaregiverId();
-        
-        // Remove the caregiver assignment
-        boolean removed = childRepository.removeCaregiverAssignment(childId);
-        
-        if (removed) {
-            // Create notification for the caregiver about removal
-            String message = "Child " + child.getName() + " has been removed from your supervision.";
-            Notification notification = new Notification(
-                    caregiverId,
-                    message,
-                    "REMOVAL",
-                    child.getName(),
-                    childId,
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-            );
-            notificationService.createNotification(notification);
-        }
-        
-        return removed;
     }
 
     /**
@@ -132,6 +197,13 @@ public class ChildService {
         return childRepository.findByCaregiver(caregiverId);
     }
 
+    /**
+     * Gets the ID, name, age and status of the children assigned to a caregiver.
+     */
+    public List<ChildSummary> getChildSummariesByCaregiver(int caregiverId) {
+        return childRepository.findSummariesByCaregiver(caregiverId);
+    }
+
     /**
      * Gets all approved caregivers.
      */
@@ -139,6 +211,13 @@ public class ChildService {
         return userRepository.findAllCaregivers();
     }
 
+    /**
+     * Gets the ID and username of all approved caregivers, for pickers.
+     */
+    public List<UserRef> getCaregiverRefs() {
+        return userRepository.findCaregiverRefs();
+    }
+
     /**
      * Gets all children assigned to a specific sponsor.
      */
@@ -153,6 +232,61 @@ public class ChildService {
         return childRepository.findUnsponsored();
     }
 
+    /**
+     * Gets one page of the children assigned to a caregiver, ordered by ID.
+     */
+    public List<Child> getPageByCaregiver(int caregiverId, int offset, int limit) {
+        return childRepository.findPageByCaregiver(caregiverId, offset, limit);
+    }
+
+    public int getCountByCaregiver(int caregiverId) {
+        return childRepository.countByCaregiver(caregiverId);
+    }
+
+    /**
+     * Gets one page of the children a sponsor supports, ordered by ID.
+     */
+    public List<Child> getPageBySponsor(int sponsorId, int offset, int limit) {
+        return childRepository.findPageBySponsor(sponsorId, offset, limit);
+    }
+
+    public int getCountBySponsor(int sponsorId) {
+        return childRepository.countBySponsor(sponsorId);
+    }
+
+    /**
+     * Gets one page of the unsponsored children, ordered by ID.
+     */
+    public List<Child> getUnsponsoredPage(int offset, int limit) {
+        return childRepository.findUnsponsoredPage(offset, limit);
+    }
+
+    public int getUnsponsoredCount() {
+        return childRepository.countUnsponsored();
+    }
+
+    /**
+     * Gets all children registered with an organization.
+     */
+    public List<Child> getChildrenByOrganization(String organization) {
+        return childRepository.findByOrganization(organization);
+    }
+
+    /**
+     * Gets the number of children registered with an organization.
+     */
+    public int getCountByOrganization(String organization) {
+        return childRepository.countByOrganization(organization);
+    }
+
+    /**
+     * Assigns a sponsor to a child that has none; if another donor got there
+     * first the result is {@link UpdateResult#CONFLICT}.
+     */
+    public UpdateResult assignSponsorToChild(int childId, int sponsorId) {
+        return childRepository.assignSponsor(childId, sponsorId);
+    }
+
     /**
      * Removes sponsor assignment from a child.
      */
@@ -0,0 +1,106 @@
+package service;
+
+import util.CacheStats;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Short-lived cache of recently verified credentials, so repeat logins skip
+ * the slow password KDF. Passwords are never kept: entries hold an HMAC of
+ * the password under a per-process random key, bound to the stored hash it
+ * was verified against, so changing the password invalidates the entry.
+ */
+public class CredentialCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final long ttlMillis;
+    private final byte[] key = new byte[32];
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private record Entry(String storedHash, byte[] mac, long expiresAt) {
+    }
+
+    public CredentialCache(long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        new SecureRandom().nextBytes(key);
+    }
+
+    /**
+     * Returns true if the password was verified against this exact stored
+     * hash within the TTL.
+     */
+    public boolean matches(String username, String storedHash, String password) {
+        boolean matched = contains(username, storedHash, password);
+        (matched ? hits : misses).increment();
+        return matched;
+    }
+
+    /**
+     * Like {@link #matches} but not counted as a hit or miss, for checking
+     * again after waiting on another thread's verification.
+     */
+    public boolean contains(String username, String storedHash, String password) {
+        Entry entry = entries.get(username);
+        if (entry == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() > entry.expiresAt()) {
+            entries.remove(username, entry);
+            return false;
+        }
+        return entry.storedHash().equals(storedHash)
+                && MessageDigest.isEqual(entry.mac(), mac(username, password));
+    }
+
+    /**
+     * Remembers a successful verification.
+     */
+    public void put(String username, String storedHash, String password) {
+        if (entries.size() >= MAX_ENTRIES) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(e -> now > e.expiresAt());
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(username, new Entry(storedHash, mac(username, password),
+                System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * Forgets any cached verification for the username.
+     */
+    public void invalidate(String username) {
+        entries.remove(username);
+    }
+
+    /**
+     * Returns hit/miss counts since startup.
+     */
+    public CacheStats stats(String name) {
+        return new CacheStats(name, hits.sum(), misses.sum(), entries.size());
+    }
+
+    private byte[] mac(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package service;
+
+import util.CacheStats;
+import util.DBUtil;
+import util.FxPulseMonitor;
+import util.ImageCache;
+import util.QueryMetrics;
+import util.QueryMetrics.StatementStats;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Samples database, JVM, UI and cache statistics on a background thread for
+ * the admin diagnostics page. The scheduler only runs while someone is
+ * subscribed, and subscribers receive immutable snapshots, so an open page
+ * never queries anything itself.
+ */
+public class DiagnosticsService {
+
+    public static final long INTERVAL_SECONDS = 2;
+    private static final int TOP_QUERIES = 10;
+
+    /** SQLite file and page-cache figures. Sizes are in bytes; -1 if unknown. */
+    public record DatabaseStats(Path file, long fileBytes, long walBytes, String journalMode, long pageSize,
+                                long pageCount, long freePages, long cachePages) {
+
+        /**
+         * Fraction of the database that fits in the page cache (1.0 means every
+         * page can stay cached).
+         */
+        public double cacheCoverage() {
+            return pageCount <= 0 ? 1.0 : Math.min(1.0, (double) cachePages / pageCount);
+        }
+    }
+
+    /** Heap in bytes, GC totals since startup and their rates over the last interval. */
+    public record JvmStats(long heapUsed, long heapCommitted, long heapMax, long gcCount, long gcMillis,
+                           double gcPerMinute, double gcMillisPerMinute, int threads, int peakThreads,
+                           int daemonThreads, double processCpu) {
+    }
+
+    /** One complete sample. */
+    public record Sample(long timestamp, DatabaseStats database, JvmStats jvm, FxPulseMonitor.Window fx,
+                         double pulsesPerSecond, long queryCount, double queryP95Millis, long slowQueries,
+                         List<StatementStats> topQueries, List<CacheStats> caches) {
+    }
+
+    private static final List<Consumer<Sample>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+    private static ScheduledExecutorService scheduler;
+    private static long lastSampleNanos;
+    private static long lastGcCount = -1;
+    private static long lastGcMillis;
+
+    /**
+     * Delivers a sample to the listener every {@link #INTERVAL_SECONDS} seconds,
+     * on the sampler thread, starting immediately. Returns a handle that
+     * unsubscribes; the sampler stops when the last listener leaves.
+     */
+    public static synchronized Runnable subscribe(Consumer<Sample> listener) {
+        SUBSCRIBERS.add(listener);
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "diagnostics-sampler");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+            FxPulseMonitor.drain();
+            lastSampleNanos = System.nanoTime();
+            scheduler.scheduleAtFixedRate(DiagnosticsService::publish, 0, INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+        return () -> unsubscribe(listener);
+    }
+
+    private static synchronized void unsubscribe(Consumer<Sample> listener) {
+        SUBSCRIBERS.remove(listener);
+        if (SUBSCRIBERS.isEmpty() && scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            lastGcCount = -1;
+        }
+    }
+
+    private static void publish() {
+        try {
+            Sample sample = sample();
+            for (Consumer<Sample> listener : SUBSCRIBERS) {
+                listener.accept(sample);
+            }
+        } catch (RuntimeException e) {
+            // A failing sample must not cancel the schedule
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Takes one sample now. Also resets the FX pulse window.
+     */
+    public static synchronized Sample sample() {
+        long now = System.nanoTime();
+        double seconds = Math.max(0.001, (now - lastSampleNanos) / 1e9);
+        lastSampleNanos = now;
+
+        FxPulseMonitor.Window fx = FxPulseMonitor.drain();
+        List<StatementStats> top = QueryMetrics.snapshot();
+        if (top.size() > TOP_QUERIES) {
+            top = List.copyOf(top.subList(0, TOP_QUERIES));
+        }
+        return new Sample(System.currentTimeMillis(), databaseStats(), jvmStats(seconds), fx,
+                fx.pulses() / seconds, QueryMetrics.totalCalls(), QueryMetrics.overallPercentileMillis(95),
+                QueryMetrics.slowQueryCount(), top,
+                List.of(ImageCache.stats(), AuthService.getCredentialCacheStats(),
+                        ReportCache.getInstance().stats()));
+    }
+
+    // ── Database ─────────────────────────────────────────────
+
+    private static DatabaseStats databaseStats() {
+        Path file = DBUtil.getDatabaseFile();
+        long fileBytes = sizeOf(file);
+        long walBytes = file == null ? -1 : sizeOf(file.resolveSibling(file.getFileName() + "-wal"));
+
+        try {
+            // Unmeasured, so the sampler's own PRAGMAs stay out of the query latency figures
+            return DBUtil.unmeasured(conn -> {
+                try (Statement stmt = conn.createStatement()) {
+                    String journalMode = pragma(stmt, "journal_mode");
+                    long pageSize = Long.parseLong(pragma(stmt, "page_size"));
+                    long pageCount = Long.parseLong(pragma(stmt, "page_count"));
+                    long freePages = Long.parseLong(pragma(stmt, "freelist_count"));
+                    long cacheSize = Long.parseLong(pragma(stmt, "cache_size"));
+                    // A negative cache_size is a limit in KiB rather than pages
+                    long cachePages = cacheSize >= 0 ? cacheSize : -cacheSize * 1024 / Math.max(1, pageSize);
+                    return new DatabaseStats(file, fileBytes, walBytes, journalMode, pageSize, pageCount, freePages,
+                            cachePages);
+                }
+            });
+        } catch (SQLException | NumberFormatException e) {
+            e.printStackTrace();
+            return new DatabaseStats(file, fileBytes, walBytes, "?", -1, -1, -1, -1);
+        }
+    }
+
+    private static String pragma(Statement stmt, String name) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA " + name)) {
+            return rs.next() ? rs.getString(1) : "";
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return path != null && Files.exists(path) ? Files.size(path) : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    // ── JVM ──────────────────────────────────────────────────
+
+    private static JvmStats jvmStats(double seconds) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+        long gcCount = 0, gcMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+        double perMinute = 60.0 / seconds;
+        double gcRate = lastGcCount < 0 ? 0 : (gcCount - lastGcCount) * perMinute;
+        double gcTimeRate = lastGcCount < 0 ? 0 : (gcMillis - lastGcMillis) * perMinute;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        double cpu = -1;
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            cpu = sunOs.getProcessCpuLoad();
+        }
+        return new JvmStats(heap.getUsed(), heap.getCommitted(), heap.getMax(), gcCount, gcMillis, gcRate,
+                gcTimeRate, threads.getThreadCount(), threads.getPeakThreadCount(),
+                threads.getDaemonThreadCount(), cpu);
+    }
+}
@@ -1,10 +1,13 @@
 package service;
 
 import model.entity.Donation;
-import model.entity.Child;
-import repository.DonationRepository;
 import repository.ChildRepository;
+import repository.DonationRepository;
+import repository.Repositories;
+import util.Money;
 
+import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -12,26 +15,70 @@ import java.util.List;
  */
 public class DonationService {
 
-    private final DonationRepository repository = new DonationRepository();
-    private final ChildRepository childRepository = new ChildRepository();
+    private final DonationRepository repository = Repositories.donations();
+    private final ChildRepository childRepository = Repositories.children();
 
     public List<Donation> getAll() {
         return repository.findAll();
     }
 
+    public List<Donation> getPage(int offset, int limit) {
+        return repository.findPage(offset, limit);
+    }
+
+    public int getCount() {
+        return repository.count();
+    }
+
     public List<Donation> getByDonorId(int donorId) {
         return repository.findByDonorId(donorId);
     }
 
+    public List<Donation> getByDonorBetween(int donorId, LocalDate from, LocalDate to) {
+        return repository.findByDonorBetween(donorId, from, to);
+    }
+
+    public List<Donation> getRecurringEndingBetween(LocalDate from, LocalDate to) {
+        return repository.findRecurringEndingBetween(from, to);
+    }
+
     public List<Donation> getByChildId(int childId) {
         return repository.findByChildId(childId);
     }
 
-    public double getTotalByDonorId(int donorId) {
+    public List<Donation> getPageByDonorId(int donorId, int offset, int limit) {
+        return repository.findPageByDonorId(donorId, offset, limit);
+    }
+
+    public int getCountByDonorId(int donorId) {
+        return repository.countByDonorId(donorId);
+    }
+
+    public List<Donation> getPageByChildId(int childId, int offset, int limit) {
+        return repository.findPageByChildId(childId, offset, limit);
+    }
+
+    public int getCountByChildId(int childId) {
+        return repository.countByChildId(childId);
+    }
+
+    public List<Donation> getPageByDonorAndChild(int donorId, int childId, int offset, int limit) {
+        return repository.findPageByDonorAndChild(donorId, childId, offset, limit);
+    }
+
+    public int getCountByDonorAndChild(int donorId, int childId) {
+        return repository.countByDonorAndChild(donorId, childId);
+    }
+
+    public List<Donation> getByOrganization(String organization) {
+        return repository.findByOrganization(organization);
+    }
+
+    public Money getTotalByDonorId(int donorId) {
         return repository.getTotalByDonorId(donorId);
     }
 
-    public double getTotalByChildId(int childId) {
+    public Money getTotalByChildId(int childId) {
         return repository.getTotalByChildId(childId);
     }
 
@@ -39,16 +86,25 @@ public class DonationService {
         return repository.countChildrenByDonorId(donorId);
     }
 
+    /**
+     * Records a donation and makes the donor the child's sponsor, committing
+     * both as one transaction.
+     */
     public boolean save(Donation donation) {
-        boolean saved = repository.save(donation);
-        // Automatically set donor as sponsor of the child
-        if (saved && donation.getDonorId() > 0 && donation.getChildId() > 0) {
-            Child child = childRepository.findById(donation.getChildId());
-            if (child != null) {
-                child.setSponsorId(donation.getDonorId());
-                childRepository.updateChild(child);
-            }
+        try {
+            return Repositories.inTransaction(conn -> {
+                if (!repository.save(donation)) {
+                    throw new SQLException("Failed to save donation");
+                }
+                // Automatically set donor as sponsor of the child (no-op if it already has a sponsor or no longer exists)
+                if (donation.getDonorId() > 0 && donation.getChildId() > 0) {
+                    childRepository.assignSponsor(donation.getChildId(), donation.getDonorId());
+                }
+                return true;
+            });
+        } catch (SQLException e) {
+            System.err.println("Donation not saved: " + e.getMessage());
+            return false;
         }
-        return saved;
     }
 }
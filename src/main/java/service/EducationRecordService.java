@@ -2,6 +2,7 @@ package service;
 
 import model.entity.EducationRecord;
 import repository.EducationRecordRepository;
+import repository.Repositories;
 
 import java.util.List;
 
@@ -10,7 +11,7 @@ import java.util.List;
  */
 public class EducationRecordService {
 
-    private final EducationRecordRepository repository = new EducationRecordRepository();
+    private final EducationRecordRepository repository = Repositories.educationRecords();
 
     /**
      * Returns all education records for a given child.
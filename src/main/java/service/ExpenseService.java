@@ -2,6 +2,8 @@ package service;
 
 import model.entity.Expense;
 import repository.ExpenseRepository;
+import repository.Repositories;
+import util.Money;
 
 import java.util.List;
 
@@ -10,13 +12,17 @@ import java.util.List;
  */
 public class ExpenseService {
 
-    private final ExpenseRepository repository = new ExpenseRepository();
+    private final ExpenseRepository repository = Repositories.expenses();
 
     public List<Expense> getByChildId(int childId) {
         return repository.findByChildId(childId);
     }
 
-    public double getTotalByChildId(int childId) {
+    public List<Expense> getByOrganization(String organization) {
+        return repository.findByOrganization(organization);
+    }
+
+    public Money getTotalByChildId(int childId) {
         return repository.getTotalByChildId(childId);
     }
 
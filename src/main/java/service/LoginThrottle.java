@@ -0,0 +1,93 @@
+package service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding-window limiter for failed login attempts.
+ * Each key keeps a ring of its last {@code maxFailures} failure timestamps;
+ * the key is blocked while the oldest of those is still inside the window.
+ * Updates use CAS only, so concurrent attempts never contend on a lock.
+ */
+public class LoginThrottle {
+
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final int maxFailures;
+    private final long windowMillis;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LoginThrottle(int maxFailures, long windowSeconds) {
+        this.maxFailures = maxFailures;
+        this.windowMillis = windowSeconds * 1000L;
+    }
+
+    /**
+     * Returns how many seconds the key must wait before another attempt,
+     * or 0 if it is not currently blocked.
+     */
+    public long retryAfterSeconds(String key) {
+        Window w = windows.get(key);
+        if (w == null) {
+            return 0;
+        }
+        // Empty slots hold 0, which is always outside the window
+        long elapsed = System.currentTimeMillis() - w.oldest();
+        if (elapsed >= windowMillis) {
+            return 0;
+        }
+        return Math.max(1, (windowMillis - elapsed + 999) / 1000);
+    }
+
+    /**
+     * Records a failed attempt for the key.
+     */
+    public void recordFailure(String key) {
+        if (windows.size() > SWEEP_THRESHOLD) {
+            sweep();
+        }
+        windows.computeIfAbsent(key, k -> new Window(maxFailures)).record(System.currentTimeMillis());
+    }
+
+    /**
+     * Clears the failure history of the key, e.g. after a successful login.
+     */
+    public void reset(String key) {
+        windows.remove(key);
+    }
+
+    /**
+     * Drops keys whose most recent failure has left the window.
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        windows.entrySet().removeIf(e -> now - e.getValue().newest() >= windowMillis);
+    }
+
+    // ── Ring of failure timestamps ───────────────────────────
+
+    private static final class Window {
+        private final AtomicLongArray timestamps;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        Window(int size) {
+            this.timestamps = new AtomicLongArray(size);
+        }
+
+        void record(long now) {
+            int slot = Math.floorMod(cursor.getAndIncrement(), timestamps.length());
+            timestamps.set(slot, now);
+        }
+
+        /** Timestamp in the slot that will be overwritten next, i.e. the oldest failure. */
+        long oldest() {
+            return timestamps.get(Math.floorMod(cursor.get(), timestamps.length()));
+        }
+
+        long newest() {
+            return timestamps.get(Math.floorMod(cursor.get() - 1, timestamps.length()));
+        }
+    }
+}
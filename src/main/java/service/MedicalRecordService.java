@@ -2,6 +2,7 @@ package service;
 
 import model.entity.MedicalRecord;
 import repository.MedicalRecordRepository;
+import repository.Repositories;
 
 import java.util.List;
 
@@ -10,7 +11,7 @@ import java.util.List;
  */
 public class MedicalRecordService {
 
-    private final MedicalRecordRepository repository = new MedicalRecordRepository();
+    private final MedicalRecordRepository repository = Repositories.medicalRecords();
 
     /**
      * Returns all medical records for a given child.
@@ -2,6 +2,7 @@ package service;
 
 import model.entity.Notification;
 import repository.NotificationRepository;
+import repository.Repositories;
 
 import java.util.List;
 
@@ -10,7 +11,7 @@ import java.util.List;
  */
 public class NotificationService {
 
-    private final NotificationRepository notificationRepository = new NotificationRepository();
+    private final NotificationRepository notificationRepository = Repositories.notifications();
 
     /**
      * Creates and saves a new notification.
@@ -33,6 +34,27 @@ public class NotificationService {
         return notificationRepository.findUnreadByCaregiver(caregiverId);
     }
 
+    /**
+     * Retrieves one page of a caregiver's notifications, newest first.
+     */
+    public List<Notification> getNotificationPage(int caregiverId, int offset, int limit) {
+        return notificationRepository.findPageByCaregiver(caregiverId, offset, limit);
+    }
+
+    /**
+     * Retrieves one page of a caregiver's unread notifications, newest first.
+     */
+    public List<Notification> getUnreadNotificationPage(int caregiverId, int offset, int limit) {
+        return notificationRepository.findUnreadPageByCaregiver(caregiverId, offset, limit);
+    }
+
+    /**
+     * Gets count of all notifications for a caregiver.
+     */
+    public int getCount(int caregiverId) {
+        return notificationRepository.countByCaregiver(caregiverId);
+    }
+
     /**
      * Marks a specific notification as read.
      */
@@ -0,0 +1,90 @@
+package service;
+
+import repository.UpdateResult;
+import util.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Retry loops around version-checked updates, so concurrent writers resolve
+ * conflicts row by row instead of holding a global lock.
+ */
+final class OptimisticUpdates {
+
+    /** Attempts before a still-conflicting update gives up. */
+    static final int MAX_ATTEMPTS = 8;
+
+    private OptimisticUpdates() {
+    }
+
+    /**
+     * Loads the latest state, applies the change and writes it, starting over
+     * from a fresh load whenever another writer got in first.
+     *
+     * @param change must be safe to apply more than once (to successive loads)
+     */
+    static <T> UpdateResult modify(Supplier<T> load, Consumer<T> change, Function<T, UpdateResult> write) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            T current = load.get();
+            if (current == null) {
+                return UpdateResult.NOT_FOUND;
+            }
+            change.accept(current);
+            UpdateResult result = write.apply(current);
+            if (result != UpdateResult.CONFLICT) {
+                return result;
+            }
+            backOff(attempt);
+        }
+        return UpdateResult.CONFLICT;
+    }
+
+    /**
+     * Writes an edited entity; on conflict asks the merge function to combine
+     * it with the latest stored state (returning null gives up) and writes the
+     * result at the latest version.
+     */
+    static <T> UpdateResult merge(T edited, Function<T, UpdateResult> write, Supplier<T> reload,
+                                  BinaryOperator<T> merge, ToIntFunction<T> version, ObjIntConsumer<T> setVersion) {
+        T candidate = edited;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            UpdateResult result = write.apply(candidate);
+            if (result != UpdateResult.CONFLICT) {
+                return result;
+            }
+            backOff(attempt);
+            T latest = reload.get();
+            if (latest == null) {
+                return UpdateResult.NOT_FOUND;
+            }
+            candidate = merge.apply(edited, latest);
+            if (candidate == null) {
+                return UpdateResult.CONFLICT;
+            }
+            setVersion.accept(candidate, version.applyAsInt(latest));
+        }
+        return UpdateResult.CONFLICT;
+    }
+
+    /**
+     * Waits a random, growing time so writers that collided do not collide
+     * again in lockstep. Inside a transaction no other writer can get in, and
+     * sleeping would only keep everyone else waiting, so it retries at once.
+     */
+    private static void backOff(int attempt) {
+        if (TransactionTemplate.isActive()) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(1 << Math.min(attempt + 2, 6)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
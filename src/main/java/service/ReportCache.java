@@ -0,0 +1,268 @@
+package service;
+
+import repository.Repositories;
+import util.CacheStats;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Cache of generated report text, so a repeated report skips its queries.
+ * <p>
+ * An entry is keyed by report type, date range, scope (e.g. an organization
+ * or a donor) and the current day, and is stamped with the versions of the
+ * tables the report read (see {@code table_versions}). A lookup whose tables
+ * have changed since finds the entry stale, drops it and computes afresh, so
+ * no explicit invalidation is needed. Versions are read before computing, so
+ * a change made during a computation costs one extra recompute, never a
+ * stale hit.
+ * <p>
+ * Entries are held deflate-compressed. Beyond the memory budget the least
+ * recently used ones spill to {@code cache/reports}, and beyond the disk
+ * budget the oldest spilled ones are deleted. Spilled files only live as long
+ * as the process: the directory is emptied when the cache is created.
+ */
+public class ReportCache {
+
+    private static final Path SPILL_DIR = Paths.get("cache", "reports");
+    private static final long MAX_MEMORY_BYTES = 8L * 1024 * 1024;
+    private static final long MAX_DISK_BYTES = 64L * 1024 * 1024;
+
+    private static ReportCache instance;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<Key, Entry> memory = new LinkedHashMap<>(32, 0.75f, true);
+    private final LinkedHashMap<Key, Spilled> disk = new LinkedHashMap<>(32, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private record Key(String type, String range, String scope, LocalDate day) {
+    }
+
+    private record Entry(Map<String, Long> watermark, byte[] deflated) {
+    }
+
+    private record Spilled(Map<String, Long> watermark, Path file, long bytes) {
+    }
+
+    private ReportCache() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(SPILL_DIR)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            // No spill directory yet
+        }
+    }
+
+    /** The cache shared by every report page. */
+    public static synchronized ReportCache getInstance() {
+        if (instance == null) {
+            instance = new ReportCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the cached text of the report if none of {@code tables} has
+     * changed since it was computed; otherwise computes, caches and returns
+     * it. A null result is returned but not cached. Reports are computed
+     * without holding the cache, so two pages may compute the same one.
+     *
+     * @param tables every table the report reads, from {@code DBUtil.VERSIONED_TABLES}
+     */
+    public String get(String type, String range, String scope, List<String> tables, Supplier<String> compute) {
+        Map<String, Long> watermark = watermark(tables);
+        if (watermark == null) {
+            // Versions unavailable (e.g. an older server): never serve a possibly stale report
+            misses.increment();
+            return compute.get();
+        }
+        Key key = new Key(type, range, scope, LocalDate.now());
+        String cached = lookup(key, watermark);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        String text = compute.get();
+        if (text != null) {
+            store(key, new Entry(watermark, deflate(text)));
+        }
+        return text;
+    }
+
+    /** Hit/miss counts since startup; entries counts those in memory and on disk. */
+    public synchronized CacheStats stats() {
+        return new CacheStats("Reports", hits.sum(), misses.sum(), memory.size() + disk.size());
+    }
+
+    private Map<String, Long> watermark(List<String> tables) {
+        // Looked up per call: the repository changes if the app switches to a server
+        Map<String, Long> all = Repositories.tableVersions().findVersions();
+        Map<String, Long> watermark = new LinkedHashMap<>();
+        for (String table : tables) {
+            Long version = all.get(table);
+            if (version == null) {
+                return null;
+            }
+            watermark.put(table, version);
+        }
+        return watermark;
+    }
+
+    // ── Memory and disk tiers ────────────────────────────────
+
+    private synchronized String lookup(Key key, Map<String, Long> watermark) {
+        Entry entry = memory.get(key);
+        if (entry != null) {
+            if (entry.watermark().equals(watermark)) {
+                return inflate(entry.deflated());
+            }
+            memory.remove(key);
+            memoryBytes -= entry.deflated().length;
+            return null;
+        }
+        Spilled spilled = disk.remove(key);
+        if (spilled == null) {
+            return null;
+        }
+        diskBytes -= spilled.bytes();
+        byte[] deflated = null;
+        if (spilled.watermark().equals(watermark)) {
+            try {
+                deflated = Files.readAllBytes(spilled.file());
+            } catch (IOException e) {
+                // Treated as a miss
+            }
+        }
+        delete(spilled.file());
+        if (deflated == null) {
+            return null;
+        }
+        putInMemory(key, new Entry(spilled.watermark(), deflated));
+        return inflate(deflated);
+    }
+
+    private synchronized void store(Key key, Entry entry) {
+        Spilled spilled = disk.remove(key);
+        if (spilled != null) {
+            diskBytes -= spilled.bytes();
+            delete(spilled.file());
+        }
+        Entry previous = memory.remove(key);
+        if (previous != null) {
+            memoryBytes -= previous.deflated().length;
+        }
+        putInMemory(key, entry);
+    }
+
+    private void putInMemory(Key key, Entry entry) {
+        memory.put(key, entry);
+        memoryBytes += entry.deflated().length;
+        Iterator<Map.Entry<Key, Entry>> lru = memory.entrySet().iterator();
+        while (memoryBytes > MAX_MEMORY_BYTES && lru.hasNext()) {
+            Map.Entry<Key, Entry> evicted = lru.next();
+            lru.remove();
+            memoryBytes -= evicted.getValue().deflated().length;
+            spill(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+    private void spill(Key key, Entry entry) {
+        Path file = SPILL_DIR.resolve(fileName(key));
+        try {
+            Files.createDirectories(SPILL_DIR);
+            Files.write(file, entry.deflated());
+        } catch (IOException e) {
+            return; // Dropped instead of spilled
+        }
+        disk.put(key, new Spilled(entry.watermark(), file, entry.deflated().length));
+        diskBytes += entry.deflated().length;
+        Iterator<Map.Entry<Key, Spilled>> oldest = disk.entrySet().iterator();
+        while (diskBytes > MAX_DISK_BYTES && oldest.hasNext()) {
+            Spilled dropped = oldest.next().getValue();
+            oldest.remove();
+            diskBytes -= dropped.bytes();
+            delete(dropped.file());
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Left for the next startup to remove
+        }
+    }
+
+    private static String fileName(Key key) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha.digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16) + ".bin";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // ── Compression ──────────────────────────────────────────
+
+    private static byte[] deflate(String text) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(text.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] deflated) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(deflated);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(deflated.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("Truncated report cache entry");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt report cache entry", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
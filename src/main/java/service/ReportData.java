@@ -0,0 +1,59 @@
+package service;
+
+import util.JsonUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The computed content of a report, apart from how it is shown: named
+ * sections, each a list of rows of display text. Report previews are built
+ * from it, and {@link ReportCache} keeps it as JSON.
+ */
+public final class ReportData {
+
+    private final Map<String, List<String[]>> sections = new LinkedHashMap<>();
+
+    /** Appends a row to a section, creating the section if needed. */
+    public ReportData addRow(String section, String... cells) {
+        sections.computeIfAbsent(section, k -> new ArrayList<>()).add(cells.clone());
+        return this;
+    }
+
+    /** The rows of a section, or an empty list if it has none. Rows must not be modified. */
+    public List<String[]> rows(String section) {
+        return sections.getOrDefault(section, List.of());
+    }
+
+    /** The first cell of a section's first row, or null if the section is empty. */
+    public String value(String section) {
+        List<String[]> rows = rows(section);
+        return rows.isEmpty() || rows.get(0).length == 0 ? null : rows.get(0)[0];
+    }
+
+    public String toJson() {
+        Map<String, List<List<String>>> json = new LinkedHashMap<>();
+        sections.forEach((name, rows) -> json.put(name, rows.stream().map(Arrays::asList).toList()));
+        return JsonUtil.write(json);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the text is not written by {@link #toJson()}
+     */
+    public static ReportData fromJson(String json) {
+        ReportData data = new ReportData();
+        if (!(JsonUtil.parse(json) instanceof Map<?, ?> sections)) {
+            throw new IllegalArgumentException("Expected a JSON object of report sections");
+        }
+        sections.forEach((name, rows) -> {
+            for (Object row : (List<?>) rows) {
+                data.addRow((String) name, ((List<?>) row).stream()
+                        .map(cell -> cell != null ? cell.toString() : null).toArray(String[]::new));
+            }
+        });
+        return data;
+    }
+}
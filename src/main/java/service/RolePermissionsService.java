@@ -1,5 +1,6 @@
 package service;
 
+import repository.Repositories;
 import repository.RolePermissionsRepository;
 
 import java.util.Map;
@@ -9,7 +10,7 @@ import java.util.Map;
  */
 public class RolePermissionsService {
 
-    private final RolePermissionsRepository repository = new RolePermissionsRepository();
+    private final RolePermissionsRepository repository = Repositories.rolePermissions();
 
     /**
      * Returns all role permissions.
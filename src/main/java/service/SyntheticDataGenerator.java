@@ -0,0 +1,638 @@
+package service;
+
+import model.entity.Child;
+import model.entity.Donation;
+import model.entity.EducationRecord;
+import model.entity.Expense;
+import model.entity.MedicalRecord;
+import model.entity.Notification;
+import model.entity.SystemLog;
+import model.user.*;
+import repository.ChildRepository;
+import repository.DonationRepository;
+import repository.EducationRecordRepository;
+import repository.ExpenseRepository;
+import repository.MedicalRecordRepository;
+import repository.NotificationRepository;
+import repository.Repositories;
+import repository.SystemLogRepository;
+import repository.UserRepository;
+import util.DBUtil;
+import util.Money;
+import util.Organizations;
+import util.PasswordUtil;
+import util.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Deterministic synthetic data for load and performance testing.
+ * The same seed, scale and as-of date always produce the same rows with the
+ * same ids (only the password salt differs between runs). Rows are built in
+ * fixed-size chunks on a worker pool, each chunk from its own seeded random
+ * stream, and a single writer inserts the chunks in order through the
+ * repositories' batched saveAll.
+ */
+public class SyntheticDataGenerator {
+
+    /** Password shared by every generated account. */
+    public static final String DEFAULT_PASSWORD = "password123";
+
+    /**
+     * What to generate.
+     *
+     * @param seed     random seed; same seed, same data
+     * @param children number of children; every other table scales from it
+     * @param years    how many years of history (donations, expenses, logs) to spread rows over
+     * @param asOf     the "today" of the generated history
+     * @param threads  generator threads; writing is always single-threaded
+     */
+    public record Config(long seed, int children, int years, LocalDate asOf, int threads) {
+    }
+
+    /** Rows written per table, in generation order. */
+    public record Summary(Map<String, Integer> rowsByTable, long elapsedMillis) {
+
+        public long totalRows() {
+            return rowsByTable.values().stream().mapToLong(Integer::longValue).sum();
+        }
+    }
+
+    /** Builds the rows for units {@code [from, to)} of one chunk. */
+    @FunctionalInterface
+    private interface ChunkGenerator<T> {
+        List<T> generate(SplittableRandom random, int from, int to);
+    }
+
+    private static final String[] TABLES = {"users", "children", "medical_records", "education_records",
+            "donations", "expenses", "notifications", "system_logs"};
+
+    private static final String[] FIRST_NAMES_FEMALE = {"Ayesha", "Fatima", "Nusrat", "Tania", "Sadia", "Jarina",
+            "Nasrin", "Salma", "Mina", "Nila", "Farzana", "Rupa", "Shirin", "Lamia", "Tasnim", "Anika"};
+    private static final String[] FIRST_NAMES_MALE = {"Rafi", "Imran", "Tahsin", "Anwar", "Sabbir", "Ripon",
+            "Karim", "Jalal", "Hasan", "Arif", "Tanvir", "Fahim", "Rakib", "Sakib", "Mahmud", "Nayeem"};
+    private static final String[] LAST_NAMES = {"Ahmed", "Khan", "Rahman", "Hossain", "Islam", "Begum",
+            "Akhter", "Saha", "Das", "Ali", "Chowdhury", "Sarker", "Miah", "Uddin", "Haque", "Roy"};
+    private static final String[] BLOOD_GROUPS = {"O+", "A+", "B+", "AB+", "O-", "A-", "B-", "AB-"};
+    private static final int[] BLOOD_GROUP_WEIGHTS = {35, 27, 24, 7, 3, 2, 1, 1};
+    private static final String[] CONDITIONS = {"None", "Mild asthma", "Seasonal allergies", "Anemia",
+            "Vitamin D deficiency", "Recovering from fever", "Eczema", "Underweight"};
+    private static final String[] DONATION_PURPOSES = {"General Welfare", "Education", "Medical Care",
+            "Food & Nutrition", "Clothing", "Housing & Shelter", "Emergency Support", "Skill Development"};
+    private static final String[] EXPENSE_CATEGORIES = {"Education", "Medical", "Food & Nutrition", "Clothing",
+            "Housing", "General Welfare", "Other"};
+    private static final String[] LOG_EVENTS = {"User Login", "Data Update", "Donation", "Caregiver Assignment",
+            "Medical Record Update", "Education Record Update", "Expense", "Report", "Export",
+            "User Management", "Security Alert", "System"};
+    private static final int[] LOG_EVENT_WEIGHTS = {40, 18, 10, 5, 5, 5, 6, 3, 2, 3, 2, 1};
+
+    private static final int CHILDREN_PER_CAREGIVER = 12;
+    private static final int CHILDREN_PER_DONOR = 3;
+
+    private final ChildRepository childRepository = Repositories.children();
+    private final DonationRepository donationRepository = Repositories.donations();
+    private final ExpenseRepository expenseRepository = Repositories.expenses();
+    private final MedicalRecordRepository medicalRepository = Repositories.medicalRecords();
+    private final EducationRecordRepository educationRepository = Repositories.educationRecords();
+    private final NotificationRepository notificationRepository = Repositories.notifications();
+    private final SystemLogRepository logRepository = Repositories.systemLogs();
+    private final UserRepository userRepository = Repositories.users();
+
+    // ── Layout (derived from the config) ─────────────────────
+
+    private Config config;
+    private Consumer<String> progress;
+    private LocalDate historyStart;
+    private String passwordHash;
+
+    private int systemAdmins;
+    private int orgAdmins;
+    private int supportStaff;
+    private int caregivers;
+    private int donors;
+    private int users;
+    private int firstOrgAdminId;
+    private int firstSupportId;
+    private int firstCaregiverId;
+    private int firstDonorId;
+
+    private double[] orgCumulativeWeight;
+    private int[] caregiverFirstIdByOrg;
+    private int[] caregiverCountByOrg;
+
+    // Per-child facts later tables depend on, filled while children are generated
+    private int[] childCaregiver;
+    private byte[] childAge;
+
+    /**
+     * Returns true if the database already holds users, i.e. generating would
+     * replace existing data.
+     */
+    public boolean hasExistingData() throws SQLException {
+        try (Statement stmt = DBUtil.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM users")) {
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
+    /**
+     * Clears every generated table and regenerates it from the config.
+     * Role permissions are left untouched.
+     *
+     * @param progress receives one line per finished table
+     */
+    public Summary generate(Config config, Consumer<String> progress) throws SQLException {
+        long start = System.currentTimeMillis();
+        this.config = config;
+        this.progress = progress;
+        layout();
+        reset();
+
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        Connection conn = DBUtil.getConnection();
+        String previousSync = pragma(conn, "synchronous");
+        // Synthetic data can always be regenerated, so skip fsyncs while loading it
+        execute(conn, "PRAGMA synchronous = OFF");
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, config.threads()), r -> {
+            Thread t = new Thread(r, "datagen-worker");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            rows.put("users", write(workers, "users", users, 5_000, this::generateUsers, userRepository::saveAll));
+            rows.put("children", write(workers, "children", config.children(), 5_000, this::generateChildren, childRepository::saveAll));
+            rows.put("medical_records", write(workers, "medical_records", config.children(), 2_000, this::generateMedicalRecords, medicalRepository::saveAll));
+            rows.put("education_records", write(workers, "education_records", config.children(), 2_000, this::generateEducationRecords, educationRepository::saveAll));
+            rows.put("donations", write(workers, "donations", donors, 1_000, this::generateDonations, donationRepository::saveAll));
+            rows.put("expenses", write(workers, "expenses", config.children(), 1_000, this::generateExpenses, expenseRepository::saveAll));
+            rows.put("notifications", write(workers, "notifications", config.children(), 2_000, this::generateNotifications, notificationRepository::saveAll));
+            rows.put("system_logs", write(workers, "system_logs", config.years() * 365, 7, this::generateSystemLogs, logRepository::saveAll));
+        } finally {
+            workers.shutdownNow();
+            execute(conn, "PRAGMA synchronous = " + previousSync);
+            childCaregiver = null;
+            childAge = null;
+        }
+        progress.accept("Analyzing tables...");
+        execute(conn, "ANALYZE");
+        return new Summary(rows, System.currentTimeMillis() - start);
+    }
+
+    // ── Pipeline ─────────────────────────────────────────────
+
+    /**
+     * Generates {@code units} units in chunks on the workers while the calling
+     * thread writes finished chunks strictly in order, so ids are stable.
+     */
+    private <T> int write(ExecutorService workers, String table, int units, int unitsPerChunk,
+                          ChunkGenerator<T> generator, ToIntFunction<List<T>> sink) {
+        int chunks = (units + unitsPerChunk - 1) / unitsPerChunk;
+        int window = Math.max(2, config.threads() * 2);
+        long stream = table.hashCode();
+        Deque<Future<List<T>>> pending = new ArrayDeque<>();
+        int submitted = 0;
+        int written = 0;
+        try {
+            while (submitted < chunks || !pending.isEmpty()) {
+                // Keep a bounded number of chunks in flight so memory stays flat at any scale
+                while (submitted < chunks && pending.size() < window) {
+                    int chunk = submitted++;
+                    int from = chunk * unitsPerChunk;
+                    int to = Math.min(units, from + unitsPerChunk);
+                    SplittableRandom random = new SplittableRandom(mix(config.seed(), stream, chunk));
+                    pending.add(workers.submit(() -> generator.generate(random, from, to)));
+                }
+                List<T> rows = pending.poll().get();
+                int count = sink.applyAsInt(rows);
+                if (count != rows.size()) {
+                    throw new IllegalStateException("wrote " + count + " of " + rows.size() + " rows");
+                }
+                written += count;
+            }
+        } catch (Exception e) {
+            pending.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Generating " + table + " failed: " + e.getMessage(), e);
+        }
+        progress.accept(String.format("%-18s %,12d rows", table, written));
+        return written;
+    }
+
+    /** SplitMix64-style mixing so neighbouring chunks get unrelated streams. */
+    private static long mix(long seed, long stream, long chunk) {
+        long z = seed * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + chunk * 0x94D049BB133111EBL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void layout() {
+        int orgs = Organizations.getCount();
+        int childCount = config.children();
+        historyStart = config.asOf().minusYears(config.years());
+        passwordHash = PasswordUtil.hash(DEFAULT_PASSWORD);
+
+        systemAdmins = 2;
+        orgAdmins = orgs * 2;
+        supportStaff = Math.max(2, childCount / 20_000);
+        caregivers = Math.max(orgs, (childCount + CHILDREN_PER_CAREGIVER - 1) / CHILDREN_PER_CAREGIVER);
+        donors = Math.max(10, childCount / CHILDREN_PER_DONOR);
+        firstOrgAdminId = systemAdmins + 1;
+        firstSupportId = firstOrgAdminId + orgAdmins;
+        firstCaregiverId = firstSupportId + supportStaff;
+        firstDonorId = firstCaregiverId + caregivers;
+        users = firstDonorId + donors - 1;
+
+        // Organizations are uneven in size: weight by 1/rank^0.8
+        orgCumulativeWeight = new double[orgs];
+        double total = 0;
+        for (int i = 0; i < orgs; i++) {
+            total += 1.0 / Math.pow(i + 1, 0.8);
+            orgCumulativeWeight[i] = total;
+        }
+        for (int i = 0; i < orgs; i++) {
+            orgCumulativeWeight[i] /= total;
+        }
+
+        // Caregivers are split across organizations in proportion to their children
+        caregiverFirstIdByOrg = new int[orgs];
+        caregiverCountByOrg = new int[orgs];
+        int remaining = caregivers - orgs;
+        int nextId = firstCaregiverId;
+        for (int i = 0; i < orgs; i++) {
+            double share = orgCumulativeWeight[i] - (i == 0 ? 0 : orgCumulativeWeight[i - 1]);
+            int count = 1 + (i == orgs - 1 ? remaining : (int) Math.round(share * (caregivers - orgs)));
+            count = Math.min(count, 1 + remaining);
+            remaining -= count - 1;
+            caregiverFirstIdByOrg[i] = nextId;
+            caregiverCountByOrg[i] = count;
+            nextId += count;
+        }
+
+        childCaregiver = new int[childCount + 1];
+        childAge = new byte[childCount + 1];
+    }
+
+    private void reset() throws SQLException {
+        TransactionTemplate.inTransaction(conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                for (String table : TABLES) {
+                    stmt.execute("DELETE FROM " + table);
+                    stmt.execute("DELETE FROM sqlite_sequence WHERE name = '" + table + "'");
+                }
+            }
+            return null;
+        });
+    }
+
+    // ── Users ────────────────────────────────────────────────
+
+    private List<User> generateUsers(SplittableRandom random, int from, int to) {
+        List<User> batch = new ArrayList<>(to - from);
+        for (int id = from + 1; id <= to; id++) {
+            User user;
+            String organization = null;
+            if (id < firstOrgAdminId) {
+                user = new SystemAdmin();
+            } else if (id < firstSupportId) {
+                user = new OrganizationAdmin();
+                organization = Organizations.getByIndex((id - firstOrgAdminId) / 2);
+            } else if (id < firstCaregiverId) {
+                user = new Support();
+            } else if (id < firstDonorId) {
+                user = new Caregiver();
+                organization = Organizations.getByIndex(organizationOfCaregiver(id));
+            } else {
+                user = new Donor();
+            }
+            String username = usernameOf(id);
+            user.setUsername(username);
+            user.setPassword(passwordHash);
+            user.setEmail(username + "@example.org");
+            user.setPhoneNumber("01" + (3 + random.nextInt(7)) + String.format("%08d", random.nextInt(100_000_000)));
+            // A few caregivers and donors are still waiting for approval
+            boolean selfRegistered = user instanceof Caregiver || user instanceof Donor;
+            user.setApproved(!selfRegistered || random.nextInt(100) >= 4);
+            user.setOrganization(organization);
+            batch.add(user);
+        }
+        return batch;
+    }
+
+    private String usernameOf(int id) {
+        if (id < firstOrgAdminId) {
+            return "sysadmin" + id;
+        } else if (id < firstSupportId) {
+            return "orgadmin" + (id - firstOrgAdminId + 1);
+        } else if (id < firstCaregiverId) {
+            return "support" + (id - firstSupportId + 1);
+        } else if (id < firstDonorId) {
+            return "caregiver" + (id - firstCaregiverId + 1);
+        }
+        return "donor" + (id - firstDonorId + 1);
+    }
+
+    private int organizationOfCaregiver(int caregiverId) {
+        for (int i = caregiverFirstIdByOrg.length - 1; i >= 0; i--) {
+            if (caregiverId >= caregiverFirstIdByOrg[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    // ── Children ─────────────────────────────────────────────
+
+    private List<Child> generateChildren(SplittableRandom random, int from, int to) {
+        List<Child> batch = new ArrayList<>(to - from);
+        for (int id = from + 1; id <= to; id++) {
+            int org = pickOrganization(random);
+            int age = 3 + random.nextInt(15);
+            boolean female = isFemale(id);
+            Child child = new Child();
+            child.setName(childName(id, female));
+            child.setAge(age);
+            child.setOrganization(Organizations.getByIndex(org));
+            child.setGender(female ? "Female" : "Male");
+            child.setDateOfBirth(config.asOf().minusYears(age).minusDays(random.nextInt(365)).toString());
+            int status = random.nextInt(100);
+            child.setStatus(status < 85 ? "Active" : status < 95 ? "Graduated" : "Inactive");
+            // Newly registered children wait for a caregiver
+            if (random.nextInt(100) < 92) {
+                int caregiverId = caregiverFirstIdByOrg[org] + random.nextInt(caregiverCountByOrg[org]);
+                child.setAssignedCaregiverId(caregiverId);
+                childCaregiver[id] = caregiverId;
+            }
+            if (random.nextInt(100) < 55) {
+                child.setSponsorId(randomDonor(random));
+            }
+            childAge[id] = (byte) age;
+            batch.add(child);
+        }
+        return batch;
+    }
+
+    private int pickOrganization(SplittableRandom random) {
+        int index = Arrays.binarySearch(orgCumulativeWeight, random.nextDouble());
+        return Math.min(orgCumulativeWeight.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    /** Names derive from the id so later tables can repeat them without a lookup. */
+    private static String childName(int id, boolean female) {
+        long h = mix(id, 7, 0);
+        String[] first = female ? FIRST_NAMES_FEMALE : FIRST_NAMES_MALE;
+        return first[(int) Math.floorMod(h, (long) first.length)] + " "
+                + LAST_NAMES[(int) Math.floorMod(h >>> 20, (long) LAST_NAMES.length)];
+    }
+
+    private static boolean isFemale(int childId) {
+        return (mix(childId, 11, 0) & 1) == 0;
+    }
+
+    // ── Medical & education records ──────────────────────────
+
+    private List<MedicalRecord> generateMedicalRecords(SplittableRandom random, int from, int to) {
+        List<MedicalRecord> batch = new ArrayList<>((to - from) * 2);
+        for (int id = from + 1; id <= to; id++) {
+            String bloodGroup = BLOOD_GROUPS[weighted(random, BLOOD_GROUP_WEIGHTS)];
+            int checkups = 1 + random.nextInt(config.years() + 1);
+            for (int i = 0; i < checkups; i++) {
+                String condition = random.nextInt(100) < 70 ? "None" : CONDITIONS[1 + random.nextInt(CONDITIONS.length - 1)];
+                batch.add(new MedicalRecord(id, bloodGroup, condition, randomDate(random).toString()));
+            }
+        }
+        return batch;
+    }
+
+    private List<EducationRecord> generateEducationRecords(SplittableRandom random, int from, int to) {
+        List<EducationRecord> batch = new ArrayList<>((to - from) * 2);
+        for (int id = from + 1; id <= to; id++) {
+            int age = childAge[id];
+            int schoolYears = Math.min(config.years(), age - 5);
+            String school = "Govt. Primary School No. " + (1 + random.nextInt(400));
+            for (int y = schoolYears - 1; y >= 0; y--) {
+                int grade = age - 5 - y;
+                if (grade == 6) {
+                    school = "Model High School No. " + (1 + random.nextInt(150));
+                }
+                double attendance = Math.round((70 + random.nextDouble() * 30) * 10) / 10.0;
+                batch.add(new EducationRecord(id, school, "Grade " + Math.min(grade, 12), attendance));
+            }
+        }
+        return batch;
+    }
+
+    // ── Donations ────────────────────────────────────────────
+
+    /**
+     * One-time gifts plus, for about a third of donors, a monthly, quarterly
+     * or annual subscription. Like the donor screen, the first payment of a
+     * subscription carries its frequency and end date; later installments are
+     * plain completed donations.
+     */
+    private List<Donation> generateDonations(SplittableRandom random, int from, int to) {
+        List<Donation> batch = new ArrayList<>((to - from) * 8);
+        int childCount = config.children();
+        for (int d = from; d < to; d++) {
+            int donorId = firstDonorId + d;
+            int favouriteChild = 1 + random.nextInt(childCount);
+
+            int gifts = geometric(random, 1.0 + config.years());
+            for (int i = 0; i < gifts; i++) {
+                int childId = random.nextInt(100) < 60 ? favouriteChild : 1 + random.nextInt(childCount);
+                Donation gift = new Donation(donorId, childId, giftAmount(random),
+                        DONATION_PURPOSES[random.nextInt(DONATION_PURPOSES.length)], randomDate(random).toString());
+                if (random.nextInt(100) < 2) {
+                    gift.setStatus("Pending");
+                }
+                batch.add(gift);
+            }
+
+            if (random.nextInt(100) < 33) {
+                addSubscription(batch, random, donorId, favouriteChild);
+            }
+        }
+        return batch;
+    }
+
+    private void addSubscription(List<Donation> batch, SplittableRandom random, int donorId, int childId) {
+        int kind = random.nextInt(100);
+        String frequency = kind < 80 ? "Monthly" : kind < 95 ? "Quarterly" : "Annually";
+        int stepMonths = frequency.equals("Monthly") ? 1 : frequency.equals("Quarterly") ? 3 : 12;
+        int[] durations = {1, 2, 3, 6, 12, 24};
+        int months = Math.max(stepMonths, durations[random.nextInt(durations.length)]);
+        LocalDate start = randomDate(random);
+        LocalDate end = start.plusMonths(months);
+        Money amount = Money.ofTaka(5000L * stepMonths).dividedBy(1 + random.nextInt(4));
+        String purpose = DONATION_PURPOSES[random.nextInt(DONATION_PURPOSES.length)];
+
+        batch.add(new Donation(donorId, childId, amount, purpose, start.toString(), true, end.toString(), frequency));
+        for (LocalDate due = start.plusMonths(stepMonths); due.isBefore(end) && !due.isAfter(config.asOf());
+             due = due.plusMonths(stepMonths)) {
+            batch.add(new Donation(donorId, childId, amount, purpose, due.toString()));
+        }
+    }
+
+    private static Money giftAmount(SplittableRandom random) {
+        int[] amounts = {100, 250, 500, 1000, 2000, 5000, 10000, 25000};
+        int[] weights = {10, 15, 25, 22, 13, 9, 5, 1};
+        return Money.ofTaka(amounts[weighted(random, weights)]);
+    }
+
+    // ── Expenses ─────────────────────────────────────────────
+
+    private List<Expense> generateExpenses(SplittableRandom random, int from, int to) {
+        List<Expense> batch = new ArrayList<>((to - from) * config.years() * 4);
+        for (int id = from + 1; id <= to; id++) {
+            int count = geometric(random, 4.0 * config.years());
+            for (int i = 0; i < count; i++) {
+                String category = EXPENSE_CATEGORIES[random.nextInt(EXPENSE_CATEGORIES.length)];
+                Money amount = Money.ofTaka(50 * (2 + random.nextInt(category.equals("Medical") ? 100 : 40)));
+                batch.add(new Expense(id, category, amount, category + " expense", randomDate(random).toString()));
+            }
+        }
+        return batch;
+    }
+
+    // ── Notifications ────────────────────────────────────────
+
+    private List<Notification> generateNotifications(SplittableRandom random, int from, int to) {
+        List<Notification> batch = new ArrayList<>((to - from) * 2);
+        for (int id = from + 1; id <= to; id++) {
+            int caregiverId = childCaregiver[id];
+            if (caregiverId == 0) {
+                continue;
+            }
+            String name = childName(id, isFemale(id));
+            int previousCaregivers = random.nextInt(100) < 15 ? 1 : 0;
+            LocalDate assigned = randomDate(random);
+            for (int i = 0; i < previousCaregivers; i++) {
+                int previous = firstCaregiverId + random.nextInt(caregivers);
+                LocalDate removed = assigned.minusDays(1 + random.nextInt(60));
+                batch.add(notification(previous, "You have been assigned a new child: " + name + " (Age: " + childAge[id] + ")",
+                        "ASSIGNMENT", name, id, removed.minusDays(30 + random.nextInt(300)), random, true));
+                batch.add(notification(previous, "Child " + name + " has been removed from your care",
+                        "REMOVAL", name, id, removed, random, true));
+            }
+            // Older notifications have almost always been read
+            boolean recent = assigned.isAfter(config.asOf().minusDays(30));
+            batch.add(notification(caregiverId, "You have been assigned a new child: " + name + " (Age: " + childAge[id] + ")",
+                    "ASSIGNMENT", name, id, assigned, random, !recent || random.nextInt(100) < 40));
+        }
+        return batch;
+    }
+
+    private static Notification notification(int caregiverId, String message, String type, String childName,
+                                             int childId, LocalDate date, SplittableRandom random, boolean read) {
+        Notification n = new Notification(caregiverId, message, type, childName, childId,
+                date + " " + timeOfDay(random, 8, 20));
+        n.setRead(read);
+        return n;
+    }
+
+    // ── System logs ──────────────────────────────────────────
+
+    private List<SystemLog> generateSystemLogs(SplittableRandom random, int from, int to) {
+        // Activity grows with the user base: about one logged event per 40 users a day
+        int perDay = Math.max(50, users / 40);
+        List<SystemLog> batch = new ArrayList<>((to - from) * perDay);
+        for (int day = from; day < to; day++) {
+            LocalDate date = historyStart.plusDays(day);
+            boolean weekend = date.getDayOfWeek().getValue() >= 6;
+            int events = (int) (perDay * (weekend ? 0.5 : 1.0) * (0.8 + random.nextDouble() * 0.4));
+            String[] times = new String[events];
+            for (int i = 0; i < events; i++) {
+                times[i] = timeOfDay(random, 0, 24);
+            }
+            Arrays.sort(times);
+            for (int i = 0; i < events; i++) {
+                String type = LOG_EVENTS[weighted(random, LOG_EVENT_WEIGHTS)];
+                String actor = type.equals("System") ? "system" : usernameOf(1 + random.nextInt(users));
+                batch.add(new SystemLog(type, logDescription(type, random), actor, date + " " + times[i]));
+            }
+        }
+        return batch;
+    }
+
+    private String logDescription(String type, SplittableRandom random) {
+        return switch (type) {
+            case "User Login" -> "User logged in";
+            case "Data Update" -> "Updated Child Profile CH-" + (1 + random.nextInt(config.children()));
+            case "Donation" -> "Donation of " + giftAmount(random).format() + " recorded";
+            case "Caregiver Assignment" -> "Assigned caregiver to child ID " + (1 + random.nextInt(config.children()));
+            case "Medical Record Update" -> "Medical record updated for child ID " + (1 + random.nextInt(config.children()));
+            case "Education Record Update" -> "Education record updated for child ID " + (1 + random.nextInt(config.children()));
+            case "Expense" -> "Expense recorded for child ID " + (1 + random.nextInt(config.children()));
+            case "Report" -> "Generated donation summary report";
+            case "Export" -> "Exported report to CSV";
+            case "User Management" -> "Approved user ID " + (1 + random.nextInt(users));
+            case "Security Alert" -> "Failed login attempt detected";
+            default -> "Database backup completed";
+        };
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private int randomDonor(SplittableRandom random) {
+        return firstDonorId + random.nextInt(donors);
+    }
+
+    private LocalDate randomDate(SplittableRandom random) {
+        return historyStart.plusDays(random.nextInt(config.years() * 365));
+    }
+
+    private static String timeOfDay(SplittableRandom random, int fromHour, int toHour) {
+        return String.format("%02d:%02d:%02d", fromHour + random.nextInt(toHour - fromHour),
+                random.nextInt(60), random.nextInt(60));
+    }
+
+    /** Geometric count with the given mean (at least 0). */
+    private static int geometric(SplittableRandom random, double mean) {
+        double p = 1.0 / (1.0 + mean);
+        return (int) Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - p));
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static String pragma(Connection conn, String name) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA " + name)) {
+            return rs.next() ? rs.getString(1) : "2";
+        }
+    }
+
+    private static void execute(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package service;
 
 import model.entity.SystemLog;
+import repository.Repositories;
 import repository.SystemLogRepository;
+import util.FlightEvents;
 
 import java.util.List;
 
@@ -10,7 +12,7 @@ import java.util.List;
  */
 public class SystemLogService {
 
-    private final SystemLogRepository repository = new SystemLogRepository();
+    private final SystemLogRepository repository = Repositories.systemLogs();
 
     public List<SystemLog> getAll() {
         return repository.findAll();
@@ -20,11 +22,19 @@ public class SystemLogService {
         return repository.findRecent(limit);
     }
 
+    public List<SystemLog> getPage(int offset, int limit) {
+        return repository.findPage(offset, limit);
+    }
+
     public int getCount() {
         return repository.count();
     }
 
     public void save(SystemLog log) {
+        FlightEvents.AuditFlush event = new FlightEvents.AuditFlush();
+        event.begin();
         repository.save(log);
+        event.entries = 1;
+        event.commit();
     }
 }
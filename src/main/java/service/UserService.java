@@ -1,16 +1,23 @@
 package service;
 
 import model.user.User;
+import model.user.UserRef;
+import model.user.UserRole;
+import repository.Repositories;
+import repository.UpdateResult;
 import repository.UserRepository;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 
 /**
  * Business logic for user management.
  */
 public class UserService {
 
-    private final UserRepository userRepository = new UserRepository();
+    private final UserRepository userRepository = Repositories.users();
 
     /**
      * Creates a new user (unapproved by default).
@@ -31,6 +38,31 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * Returns the ID and username of every user with the given role.
+     */
+    public List<UserRef> getUserRefsByRole(UserRole role) {
+        return userRepository.findRefsByRole(role);
+    }
+
+    /**
+     * Returns the number of approved and pending users of each role.
+     */
+    public EnumMap<UserRole, UserRepository.Counts> getCountsByRole() {
+        return userRepository.countByRoleAndApproval();
+    }
+
+    /**
+     * Returns one page of users ordered by ID.
+     */
+    public List<User> getPage(int offset, int limit) {
+        return userRepository.findPage(offset, limit);
+    }
+
+    public int getCount() {
+        return userRepository.count();
+    }
+
     /**
      * Approves a user by their database ID.
      */
@@ -50,19 +82,55 @@ public class UserService {
     /**
      * Updates an existing user's information.
      * 
-     * @return true if updated successfully, false otherwise
+     * @return true if updated successfully, false if it failed or the user was
+     *         changed by someone else since it was loaded
      */
     public boolean updateUser(User user) {
         return userRepository.updateUser(user);
     }
 
     /**
-     * Updates an existing user's profile information.
+     * Updates an existing user, reporting a concurrent change as {@link UpdateResult#CONFLICT}.
+     */
+    public UpdateResult updateUserIfCurrent(User user) {
+        return userRepository.updateUserIfCurrent(user);
+    }
+
+    /**
+     * Updates an existing user; if someone else changed it meanwhile, the
+     * merge function gets (edited, latest) and returns what to write instead,
+     * or null to give up with a conflict.
+     */
+    public UpdateResult updateUser(User edited, BinaryOperator<User> merge) {
+        return OptimisticUpdates.merge(edited, userRepository::updateUserIfCurrent,
+                () -> userRepository.findById(edited.getId()), merge, User::getVersion, User::setVersion);
+    }
+
+    /**
+     * Applies a change to the latest state of a user, retrying on the newest
+     * state if another writer gets in first.
+     */
+    public UpdateResult modifyUser(int userId, Consumer<User> change) {
+        return OptimisticUpdates.modify(() -> userRepository.findById(userId), change,
+                userRepository::updateUserIfCurrent);
+    }
+
+    /**
+     * Updates an existing user's profile information. Only the owner edits
+     * their profile, so changes made elsewhere to the account (such as an
+     * approval or a password reset) do not block it: the edited profile
+     * fields are copied onto the latest stored user and written on top.
      * 
      * @return true if updated successfully, false otherwise
      */
     public boolean updateProfile(User user) {
-        return userRepository.updateProfile(user);
+        return OptimisticUpdates.merge(user, userRepository::updateProfileIfCurrent,
+                () -> userRepository.findById(user.getId()), (mine, latest) -> {
+                    latest.setEmail(mine.getEmail());
+                    latest.setPhoneNumber(mine.getPhoneNumber());
+                    latest.setProfilePhoto(mine.getProfilePhoto());
+                    return latest;
+                }, User::getVersion, User::setVersion).isUpdated();
     }
 
     /**
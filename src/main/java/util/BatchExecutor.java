@@ -0,0 +1,65 @@
+package util;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Executes the same insert/update for many rows using JDBC batching.
+ * Rows are sent in chunks, each chunk in its own transaction, so large
+ * imports pay one commit per chunk instead of one per row.
+ */
+public final class BatchExecutor {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * Binds one row's values to the statement parameters.
+     */
+    @FunctionalInterface
+    public interface Binder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+
+    private BatchExecutor() {
+    }
+
+    /**
+     * Runs {@code sql} once per row in chunks of {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @return the number of rows written
+     * @throws SQLException if a chunk fails; that chunk is rolled back, earlier chunks stay committed
+     */
+    public static <T> int executeInChunks(String sql, List<T> rows, Binder<T> binder) throws SQLException {
+        return executeInChunks(sql, rows, DEFAULT_CHUNK_SIZE, binder);
+    }
+
+    /**
+     * Runs {@code sql} once per row in chunks of {@code chunkSize}.
+     *
+     * @return the number of rows written
+     * @throws SQLException if a chunk fails; that chunk is rolled back, earlier chunks stay committed
+     */
+    public static <T> int executeInChunks(String sql, List<T> rows, int chunkSize, Binder<T> binder)
+            throws SQLException {
+        int written = 0;
+        for (int start = 0; start < rows.size(); start += chunkSize) {
+            List<T> chunk = rows.subList(start, Math.min(rows.size(), start + chunkSize));
+            written += TransactionTemplate.inTransaction(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (T row : chunk) {
+                        binder.bind(ps, row);
+                        ps.addBatch();
+                    }
+                    int count = 0;
+                    for (int result : ps.executeBatch()) {
+                        // SUCCESS_NO_INFO (-2) still means the row was written
+                        count += result == PreparedStatement.SUCCESS_NO_INFO ? 1 : Math.max(result, 0);
+                    }
+                    return count;
+                }
+            });
+        }
+        return written;
+    }
+}
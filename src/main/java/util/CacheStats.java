@@ -0,0 +1,15 @@
+package util;
+
+/**
+ * Hit/miss counters of an in-memory cache at a point in time.
+ */
+public record CacheStats(String name, long hits, long misses, long entries) {
+
+    /**
+     * Fraction of lookups served from the cache, or 0 before the first lookup.
+     */
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
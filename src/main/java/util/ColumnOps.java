@@ -0,0 +1,284 @@
+package util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Filter, group-by and top-k over primitive columns. Rows are positions in
+ * the columns; a selection is an ascending {@code int[]} of row positions.
+ * <p>
+ * Large inputs are split into chunks that run on the common fork-join pool
+ * and are merged pairwise; inputs of one chunk or less run on the calling
+ * thread. Results do not depend on how the work was split.
+ */
+public final class ColumnOps {
+
+    /** Smallest chunk worth handing to another worker. */
+    private static final int MIN_CHUNK = 8_192;
+
+    private ColumnOps() {
+    }
+
+    /** Per-group totals: sums[g] and counts[g] over the rows whose key is g. */
+    public record Groups(long[] sums, int[] counts) {
+
+        public int size() {
+            return sums.length;
+        }
+
+        /** Number of groups with at least one row. */
+        public int nonEmpty() {
+            int n = 0;
+            for (int count : counts) {
+                if (count > 0) {
+                    n++;
+                }
+            }
+            return n;
+        }
+    }
+
+    /** Every row of a column of the given size. */
+    public static int[] all(int size) {
+        int[] rows = new int[size];
+        Arrays.setAll(rows, i -> i);
+        return rows;
+    }
+
+    /** The rows in {@code [0, size)} for which the predicate holds. */
+    public static int[] select(int size, IntPredicate predicate) {
+        return new Select(null, 0, size, predicate, chunk(size)).invoke();
+    }
+
+    /** The rows of {@code rows} for which the predicate holds. */
+    public static int[] select(int[] rows, IntPredicate predicate) {
+        return new Select(rows, 0, rows.length, predicate, chunk(rows.length)).invoke();
+    }
+
+    /**
+     * Sums {@code values} and counts rows per key over the selected rows.
+     * Keys must be below {@code groups}; rows with a negative key are skipped.
+     */
+    public static Groups sumBy(int[] rows, int[] keys, int groups, long[] values) {
+        return new SumBy(rows, 0, rows.length, keys, groups, values, chunk(rows.length)).invoke();
+    }
+
+    /** The sum of {@code values} over the selected rows. */
+    public static long sum(int[] rows, long[] values) {
+        long total = 0;
+        for (int row : rows) {
+            total += values[row];
+        }
+        return total;
+    }
+
+    /**
+     * Up to {@code k} of the items with the largest values, largest first;
+     * equal values keep the lower item first.
+     */
+    public static int[] topK(int[] items, IntToLongFunction value, int k) {
+        if (k <= 0 || items.length == 0) {
+            return new int[0];
+        }
+        int[] top = new TopK(items, 0, items.length, value, k, chunk(items.length)).invoke();
+        Integer[] boxed = Arrays.stream(top).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, (a, b) -> better(a, b, value) ? -1 : better(b, a, value) ? 1 : 0);
+        return Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int chunk(int size) {
+        return Math.max(MIN_CHUNK, size / (ForkJoinPool.getCommonPoolParallelism() * 4 + 1));
+    }
+
+    private static boolean better(int a, int b, IntToLongFunction value) {
+        long va = value.applyAsLong(a);
+        long vb = value.applyAsLong(b);
+        return va > vb || va == vb && a < b;
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        int[] joined = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, joined, left.length, right.length);
+        return joined;
+    }
+
+    // ── Tasks ─────────────────────────────────────────────────
+    // ForkJoinTask is Serializable, but these tasks only live for one call
+
+    @SuppressWarnings("serial")
+    private static final class Select extends RecursiveTask<int[]> {
+        private final int[] rows;
+        private final int from;
+        private final int to;
+        private final IntPredicate predicate;
+        private final int chunk;
+
+        Select(int[] rows, int from, int to, IntPredicate predicate, int chunk) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                Select left = new Select(rows, from, mid, predicate, chunk);
+                left.fork();
+                int[] right = new Select(rows, mid, to, predicate, chunk).compute();
+                return concat(left.join(), right);
+            }
+            int[] matched = new int[Math.min(to - from, 1024)];
+            int n = 0;
+            for (int i = from; i < to; i++) {
+                int row = rows != null ? rows[i] : i;
+                if (predicate.test(row)) {
+                    if (n == matched.length) {
+                        matched = Arrays.copyOf(matched, Math.min(to - from, n * 2));
+                    }
+                    matched[n++] = row;
+                }
+            }
+            return Arrays.copyOf(matched, n);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SumBy extends RecursiveTask<Groups> {
+        private final int[] rows;
+        private final int from;
+        private final int to;
+        private final int[] keys;
+        private final int groups;
+        private final long[] values;
+        private final int chunk;
+
+        SumBy(int[] rows, int from, int to, int[] keys, int groups, long[] values, int chunk) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.keys = keys;
+            this.groups = groups;
+            this.values = values;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Groups compute() {
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                SumBy left = new SumBy(rows, from, mid, keys, groups, values, chunk);
+                left.fork();
+                Groups right = new SumBy(rows, mid, to, keys, groups, values, chunk).compute();
+                Groups merged = left.join();
+                for (int g = 0; g < groups; g++) {
+                    merged.sums()[g] += right.sums()[g];
+                    merged.counts()[g] += right.counts()[g];
+                }
+                return merged;
+            }
+            long[] sums = new long[groups];
+            int[] counts = new int[groups];
+            for (int i = from; i < to; i++) {
+                int row = rows[i];
+                int key = keys[row];
+                if (key >= 0) {
+                    sums[key] += values[row];
+                    counts[key]++;
+                }
+            }
+            return new Groups(sums, counts);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class TopK extends RecursiveTask<int[]> {
+        private final int[] items;
+        private final int from;
+        private final int to;
+        private final IntToLongFunction value;
+        private final int k;
+        private final int chunk;
+
+        TopK(int[] items, int from, int to, IntToLongFunction value, int k, int chunk) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.value = value;
+            this.k = k;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                TopK left = new TopK(items, from, mid, value, k, chunk);
+                left.fork();
+                int[] right = new TopK(items, mid, to, value, k, chunk).compute();
+                int[] candidates = concat(left.join(), right);
+                return keep(candidates, 0, candidates.length);
+            }
+            return keep(items, from, to);
+        }
+
+        /** The best k of items[from, to), in heap order; the root is the worst kept. */
+        private int[] keep(int[] source, int from, int to) {
+            int[] heap = new int[Math.min(k, to - from)];
+            int n = 0;
+            for (int i = from; i < to; i++) {
+                int item = source[i];
+                if (n < heap.length) {
+                    heap[n] = item;
+                    siftUp(heap, n++);
+                } else if (better(item, heap[0], value)) {
+                    heap[0] = item;
+                    siftDown(heap, n);
+                }
+            }
+            return heap;
+        }
+
+        private void siftUp(int[] heap, int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(heap[parent], heap[i], value)) {
+                    return;
+                }
+                swap(heap, i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int[] heap, int n) {
+            int i = 0;
+            while (true) {
+                int worst = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < n && better(heap[worst], heap[left], value)) {
+                    worst = left;
+                }
+                if (right < n && better(heap[worst], heap[right], value)) {
+                    worst = right;
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(heap, i, worst);
+                i = worst;
+            }
+        }
+
+        private static void swap(int[] heap, int a, int b) {
+            int t = heap[a];
+            heap[a] = heap[b];
+            heap[b] = t;
+        }
+    }
+}
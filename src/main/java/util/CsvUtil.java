@@ -0,0 +1,88 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV support: quoted fields, doubled quotes and line
+ * breaks inside quotes. Splitting into records is a cheap sequential scan;
+ * parsing each record can then be done independently (and in parallel).
+ */
+public class CsvUtil {
+
+    /**
+     * Splits CSV content into raw records, keeping line breaks that appear
+     * inside quoted fields. Blank lines are skipped.
+     */
+    public static List<String> splitRecords(String content) {
+        List<String> records = new ArrayList<>();
+        boolean inQuotes = false;
+        int start = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if ((c == '\n' || c == '\r') && !inQuotes) {
+                addRecord(records, content, start, i);
+                if (c == '\r' && i + 1 < content.length() && content.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                start = i + 1;
+            }
+        }
+        addRecord(records, content, start, content.length());
+        return records;
+    }
+
+    /**
+     * Parses one raw record into its field values.
+     */
+    public static List<String> parseRecord(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (inQuotes) {
+                if (c == '"') {
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    /**
+     * Quotes a value for output if it contains a separator, quote or line break.
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static void addRecord(List<String> records, String content, int start, int end) {
+        if (end > start && !content.substring(start, end).isBlank()) {
+            records.add(content.substring(start, end));
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package util;
 
+import rowmapper.Ddl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Central database utility — manages the SQLite connection,
@@ -12,19 +22,279 @@ import java.sql.Statement;
  */
 public class DBUtil {
 
-    private static final String DB_URL = "jdbc:sqlite:guardianlink.db";
+    private static final String DEFAULT_DB_URL = "jdbc:sqlite:guardianlink.db";
+    private static String dbUrl = System.getProperty("guardianlink.db.url", DEFAULT_DB_URL);
+    private static final boolean INSTRUMENTED =
+            Boolean.parseBoolean(System.getProperty("guardianlink.db.instrument", "true"));
     private static Connection connection;
+    private static Connection rawConnection;
+
+    // Every call on the shared connection runs under this lock (see InstrumentedJdbc), and
+    // TransactionTemplate holds it from begin to commit, so a statement from another thread
+    // waits for an open transaction instead of silently joining it. Take it before the
+    // DBUtil monitor, never after.
+    static final ReentrantLock CONNECTION_LOCK = new ReentrantLock();
+
+    // ── Schema ───────────────────────────────────────────
+    // Tables in their current shape. initialize() creates them and then adds
+    // columns that older databases lack; the entities mapped with @Table are
+    // checked against these statements when the application is compiled.
+    // The *_day and *_ms columns are generated from the TEXT dates as epoch
+    // days and epoch milliseconds (local time counted as UTC), so date ranges
+    // are integer index ranges. Days are rounded down, so a time before 1970
+    // falls on its own day. unixepoch() gives NULL for unparsable text.
+    // Money columns (amount_paisa) hold whole paisa, see Money.
+
+    @Ddl
+    static final String USERS_TABLE = """
+            CREATE TABLE IF NOT EXISTS users (
+                id            INTEGER PRIMARY KEY AUTOINCREMENT,
+                username      TEXT    UNIQUE,
+                password      TEXT,
+                email         TEXT,
+                role          TEXT,
+                approved      INTEGER,
+                phone_number  VARCHAR(20) DEFAULT NULL,
+                organization  VARCHAR(255) DEFAULT NULL,
+                profile_photo TEXT DEFAULT NULL,
+                version       INTEGER NOT NULL DEFAULT 0
+            )
+            """;
+
+    @Ddl
+    static final String CHILDREN_TABLE = """
+            CREATE TABLE IF NOT EXISTS children (
+                id                      INTEGER PRIMARY KEY AUTOINCREMENT,
+                name                    TEXT,
+                age                     INTEGER,
+                organization            TEXT,
+                gender                  TEXT,
+                date_of_birth           TEXT,
+                status                  TEXT,
+                assigned_caregiver_id   INTEGER DEFAULT NULL,
+                sponsor_id              INTEGER DEFAULT NULL,
+                photo_path              TEXT DEFAULT NULL,
+                version                 INTEGER NOT NULL DEFAULT 0
+            )
+            """;
+
+    @Ddl
+    static final String MEDICAL_RECORDS_TABLE = """
+            CREATE TABLE IF NOT EXISTS medical_records (
+                id                INTEGER PRIMARY KEY AUTOINCREMENT,
+                child_id          INTEGER,
+                blood_group       TEXT,
+                medical_condition TEXT,
+                last_checkup      TEXT,
+                last_checkup_day  INTEGER GENERATED ALWAYS AS (CAST(floor(unixepoch(last_checkup) / 86400.0) AS INTEGER)) VIRTUAL
+            )
+            """;
+
+    @Ddl
+    static final String EDUCATION_RECORDS_TABLE = """
+            CREATE TABLE IF NOT EXISTS education_records (
+                id                     INTEGER PRIMARY KEY AUTOINCREMENT,
+                child_id               INTEGER,
+                school_name            TEXT,
+                grade                  TEXT,
+                attendance_percentage  REAL
+            )
+            """;
+
+    @Ddl
+    static final String DONATIONS_TABLE = """
+            CREATE TABLE IF NOT EXISTS donations (
+                id           INTEGER PRIMARY KEY AUTOINCREMENT,
+                donor_id     INTEGER,
+                child_id     INTEGER,
+                amount_paisa INTEGER,
+                purpose      TEXT,
+                date         TEXT,
+                status       TEXT DEFAULT 'Completed',
+                is_recurring INTEGER DEFAULT 0,
+                end_date     TEXT DEFAULT NULL,
+                frequency    TEXT DEFAULT NULL,
+                date_day     INTEGER GENERATED ALWAYS AS (CAST(floor(unixepoch(date) / 86400.0) AS INTEGER)) VIRTUAL,
+                end_day      INTEGER GENERATED ALWAYS AS (CAST(floor(unixepoch(end_date) / 86400.0) AS INTEGER)) VIRTUAL
+            )
+            """;
+
+    @Ddl
+    static final String EXPENSES_TABLE = """
+            CREATE TABLE IF NOT EXISTS expenses (
+                id           INTEGER PRIMARY KEY AUTOINCREMENT,
+                child_id     INTEGER,
+                category     TEXT,
+                amount_paisa INTEGER,
+                description  TEXT,
+                date         TEXT,
+                date_day     INTEGER GENERATED ALWAYS AS (CAST(floor(unixepoch(date) / 86400.0) AS INTEGER)) VIRTUAL
+            )
+            """;
+
+    @Ddl
+    static final String SYSTEM_LOGS_TABLE = """
+            CREATE TABLE IF NOT EXISTS system_logs (
+                id           INTEGER PRIMARY KEY AUTOINCREMENT,
+                event_type   TEXT,
+                description  TEXT,
+                actor        TEXT,
+                timestamp    TEXT,
+                timestamp_ms INTEGER GENERATED ALWAYS AS (unixepoch(timestamp) * 1000) VIRTUAL
+            )
+            """;
+
+    @Ddl
+    static final String ROLE_PERMISSIONS_TABLE = """
+            CREATE TABLE IF NOT EXISTS role_permissions (
+                role_name   TEXT PRIMARY KEY,
+                permissions TEXT
+            )
+            """;
+
+    @Ddl
+    static final String TABLE_VERSIONS_TABLE = """
+            CREATE TABLE IF NOT EXISTS table_versions (
+                table_name TEXT PRIMARY KEY,
+                version    INTEGER NOT NULL DEFAULT 0
+            )
+            """;
+
+    // ── Table versions ───────────────────────────────────
+    // Every insert, update and delete statement the application runs on a
+    // versioned table adds one to that table's row in table_versions, so a
+    // cached result can tell whether the tables it read have changed. The
+    // count is bumped by the connection proxy (see InstrumentedJdbc) once per
+    // statement or batch, after the write and inside its transaction. Other
+    // processes running this code bump it too; writes made with other tools
+    // (e.g. the sqlite3 shell) are not counted.
+
+    /** Tables whose changes are counted in table_versions. */
+    public static final List<String> VERSIONED_TABLES = List.of(
+            "users", "children", "donations", "expenses", "medical_records", "education_records", "system_logs");
+
+    private static final Pattern WRITTEN_TABLE = Pattern.compile(
+            "^(?:(?:INSERT|REPLACE)(?:\\s+OR\\s+\\w+)?\\s+INTO|UPDATE(?:\\s+OR\\s+\\w+)?|DELETE\\s+FROM)\\s+(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final String BUMP_VERSION_SQL =
+            "UPDATE table_versions SET version = version + 1 WHERE table_name = ?";
+
+    // ── Indexes ──────────────────────────────────────────
+    // Every index the repositories rely on. initialize() and DatabaseMigration
+    // create them; app.QueryPlanCheck fails if a repository statement scans a
+    // table that one of these should cover.
+
+    public static final List<String> INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_assigned_caregiver_id ON children(assigned_caregiver_id)",
+            // Sponsored and unsponsored children are looked up separately, so each gets its own partial index
+            "CREATE INDEX IF NOT EXISTS idx_children_sponsor_id ON children(sponsor_id) WHERE sponsor_id IS NOT NULL",
+            "CREATE INDEX IF NOT EXISTS idx_children_unsponsored ON children(id) WHERE sponsor_id IS NULL",
+            "CREATE INDEX IF NOT EXISTS idx_children_organization ON children(organization)",
+            // Covering: donor history and date ranges, totals and distinct children without reading the rows
+            "CREATE INDEX IF NOT EXISTS idx_donations_donor_day ON donations(donor_id, date_day, child_id, amount_paisa)",
+            "CREATE INDEX IF NOT EXISTS idx_donations_child_day ON donations(child_id, date_day, amount_paisa)",
+            "CREATE INDEX IF NOT EXISTS idx_donations_recurring_end ON donations(end_day) WHERE is_recurring = 1",
+            "CREATE INDEX IF NOT EXISTS idx_expenses_child_day ON expenses(child_id, date_day, amount_paisa)",
+            "CREATE INDEX IF NOT EXISTS idx_medical_records_child ON medical_records(child_id)",
+            "CREATE INDEX IF NOT EXISTS idx_education_records_child ON education_records(child_id)",
+            // Covers the (id, username) pickers as well as the approved-by-role lookups
+            "CREATE INDEX IF NOT EXISTS idx_users_role ON users(role, approved, username)",
+            "CREATE INDEX IF NOT EXISTS idx_system_logs_timestamp ON system_logs(timestamp, id)",
+            "CREATE INDEX IF NOT EXISTS idx_notifications_caregiver ON notifications(caregiver_id, timestamp)",
+            // The condition must read exactly as in the unread queries for SQLite to use it
+            "CREATE INDEX IF NOT EXISTS idx_notifications_unread ON notifications(caregiver_id, timestamp) WHERE is_read = false"
+    );
+
+    /** Indexes replaced by {@link #INDEXES}; dropped from older databases. */
+    public static final List<String> RETIRED_INDEXES = List.of(
+            "idx_notification_caregiver_id",
+            "idx_notification_is_read",
+            "idx_donations_donor",
+            "idx_donations_child",
+            "idx_expenses_child"
+    );
 
     /**
-     * Returns a singleton JDBC connection to the SQLite database.
+     * Returns a singleton JDBC connection to the SQLite database, shared by
+     * all threads. Calls on it are serialized, and a transaction (see
+     * {@link TransactionTemplate}) excludes other threads until it ends.
+     * Statements on it are timed into {@link QueryMetrics} unless the
+     * {@code guardianlink.db.instrument} system property is false.
      */
-    public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            connection = DriverManager.getConnection(DB_URL);
+    public static synchronized Connection getConnection() throws SQLException {
+        // Checked on the raw connection: the proxy would need the connection lock
+        if (connection == null || rawConnection.isClosed()) {
+            rawConnection = DriverManager.getConnection(dbUrl);
+            connection = InstrumentedJdbc.wrap(rawConnection, INSTRUMENTED);
         }
         return connection;
     }
 
+    /** Work run on a connection, see {@link #unmeasured}. */
+    @FunctionalInterface
+    public interface ConnectionCallback<T> {
+        T apply(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Runs housekeeping queries (e.g. the diagnostics sampler's PRAGMAs) on
+     * the shared connection without recording them in {@link QueryMetrics},
+     * whose figures they would skew. The connection lock is held throughout,
+     * so keep the work short.
+     */
+    public static <T> T unmeasured(ConnectionCallback<T> work) throws SQLException {
+        CONNECTION_LOCK.lock();
+        try {
+            getConnection();
+            return work.apply(rawConnection);
+        } finally {
+            CONNECTION_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Points the application at a different database (e.g. a scratch file for
+     * imports or benchmarks). The current connection is closed once no
+     * transaction is using it; the next call to {@link #getConnection()}
+     * opens the new one.
+     */
+    public static void useDatabase(String url) throws SQLException {
+        CONNECTION_LOCK.lock();
+        try {
+            synchronized (DBUtil.class) {
+                if (rawConnection != null && !rawConnection.isClosed()) {
+                    rawConnection.close();
+                }
+                connection = null;
+                rawConnection = null;
+                dbUrl = url;
+            }
+        } finally {
+            CONNECTION_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Returns the database file, or null if the current URL is not a file
+     * (e.g. an in-memory database).
+     */
+    public static synchronized Path getDatabaseFile() {
+        String prefix = "jdbc:sqlite:";
+        if (!dbUrl.startsWith(prefix)) {
+            return null;
+        }
+        String location = dbUrl.substring(prefix.length());
+        int query = location.indexOf('?');
+        if (query >= 0) {
+            location = location.substring(0, query);
+        }
+        if (location.isEmpty() || location.startsWith(":memory:") || location.startsWith("file::memory:")) {
+            return null;
+        }
+        return Paths.get(location.startsWith("file:") ? location.substring(5) : location).toAbsolutePath();
+    }
+
     /**
      * Creates the required tables if they do not already exist,
      * and seeds dummy data on first run.
@@ -36,31 +306,8 @@ public class DBUtil {
 
             // ── Create tables ────────────────────────────────
 
-            stmt.execute("""
-                        CREATE TABLE IF NOT EXISTS users (
-                            id       INTEGER PRIMARY KEY AUTOINCREMENT,
-                            username TEXT    UNIQUE,
-                            password TEXT,
-                            email    TEXT,
-                            role     TEXT,
-                            approved INTEGER
-                        )
-                    """);
-
-            stmt.execute("""
-                        CREATE TABLE IF NOT EXISTS children (
-                            id                      INTEGER PRIMARY KEY AUTOINCREMENT,
-                            name                    TEXT,
-                            age                     INTEGER,
-                            organization            TEXT,
-                            gender                  TEXT,
-                            date_of_birth           TEXT,
-                            status                  TEXT,
-                            assigned_caregiver_id   INTEGER DEFAULT NULL,
-                            sponsor_id              INTEGER DEFAULT NULL,
-                            photo_path              TEXT DEFAULT NULL
-                        )
-                    """);
+            stmt.execute(USERS_TABLE);
+            stmt.execute(CHILDREN_TABLE);
 
             // ── Add missing columns to children table (for existing tables) ──────────────
 
@@ -82,65 +329,58 @@ public class DBUtil {
                 // Column already exists, ignore
             }
 
-            stmt.execute("""
-                        CREATE TABLE IF NOT EXISTS medical_records (
-                            id                INTEGER PRIMARY KEY AUTOINCREMENT,
-                            child_id          INTEGER,
-                            blood_group       TEXT,
-                            medical_condition TEXT,
-                            last_checkup      TEXT
-                        )
-                    """);
-
-            stmt.execute("""
-                        CREATE TABLE IF NOT EXISTS education_records (
-                            id                     INTEGER PRIMARY KEY AUTOINCREMENT,
-                            child_id               INTEGER,
-                            school_name            TEXT,
-                            grade                  TEXT,
-                            attendance_percentage  REAL
-                        )
-                    """);
-
-            stmt.execute("""
-                        CREATE TABLE IF NOT EXISTS donations (
-                            id          INTEGER PRIMARY KEY AUTOINCREMENT,
-                            donor_id    INTEGER,
-                            child_id    INTEGER,
-                            amount      REAL,
-                            purpose     TEXT,
-                            date        TEXT,
-                            status      TEXT DEFAULT 'Completed'
-                        )
-                    """);
-
-            stmt.execute("""
-                        CREATE TABLE IF NOT EXISTS expenses (
-                            id          INTEGER PRIMARY KEY AUTOINCREMENT,
-                            child_id    INTEGER,
-                            category    TEXT,
-                            amount      REAL,
-                            description TEXT,
-                            date        TEXT
-                        )
-                    """);
-
-            stmt.execute("""
-                        CREATE TABLE IF NOT EXISTS system_logs (
-                            id          INTEGER PRIMARY KEY AUTOINCREMENT,
-                            event_type  TEXT,
-                            description TEXT,
-                            actor       TEXT,
-                            timestamp   TEXT
-                        )
-                    """);
-
-            stmt.execute("""
-                        CREATE TABLE IF NOT EXISTS role_permissions (
-                            role_name   TEXT PRIMARY KEY,
-                            permissions TEXT
-                        )
-                    """);
+            // Row version for optimistic concurrency, bumped by every update
+            try {
+                stmt.execute("ALTER TABLE children ADD COLUMN version INTEGER NOT NULL DEFAULT 0");
+            } catch (SQLException e) {
+                // Column already exists, ignore
+            }
+
+            stmt.execute(MEDICAL_RECORDS_TABLE);
+            stmt.execute(EDUCATION_RECORDS_TABLE);
+            stmt.execute(DONATIONS_TABLE);
+            stmt.execute(EXPENSES_TABLE);
+            stmt.execute(SYSTEM_LOGS_TABLE);
+            stmt.execute(ROLE_PERMISSIONS_TABLE);
+
+            // ── Add subscription columns to donations table ──────────────
+
+            try {
+                stmt.execute("ALTER TABLE donations ADD COLUMN is_recurring INTEGER DEFAULT 0");
+            } catch (SQLException e) {
+                // Column already exists, ignore
+            }
+
+            try {
+                stmt.execute("ALTER TABLE donations ADD COLUMN end_date TEXT DEFAULT NULL");
+            } catch (SQLException e) {
+                // Column already exists, ignore
+            }
+
+            try {
+                stmt.execute("ALTER TABLE donations ADD COLUMN frequency TEXT DEFAULT NULL");
+            } catch (SQLException e) {
+                // Column already exists, ignore
+            }
+
+            // ── Add integer date columns generated from the TEXT ones ──────────────
+
+            String[][] dayColumns = {
+                    { "donations", "date_day", "date" },
+                    { "donations", "end_day", "end_date" },
+                    { "expenses", "date_day", "date" },
+                    { "medical_records", "last_checkup_day", "last_checkup" }
+            };
+            for (String[] column : dayColumns) {
+                addGeneratedColumn(stmt, column[0], column[1],
+                        "CAST(floor(unixepoch(" + column[2] + ") / 86400.0) AS INTEGER)");
+            }
+            addGeneratedColumn(stmt, "system_logs", "timestamp_ms", "unixepoch(timestamp) * 1000");
+
+            // ── Store amounts as whole paisa instead of REAL taka ──────────────
+
+            migrateAmountToPaisa(stmt, "donations");
+            migrateAmountToPaisa(stmt, "expenses");
 
             // ── Add missing columns to users table ──────────────
 
@@ -162,16 +402,30 @@ public class DBUtil {
                 // Column already exists, ignore
             }
 
+            try {
+                stmt.execute("ALTER TABLE users ADD COLUMN version INTEGER NOT NULL DEFAULT 0");
+            } catch (SQLException e) {
+                // Column already exists, ignore
+            }
+
+            createIndexes(stmt);
+
+            stmt.execute(TABLE_VERSIONS_TABLE);
+            addVersionRows(stmt);
+
             // ── Seed data (only on first run) ────────────────
 
             var rs = stmt.executeQuery("SELECT COUNT(*) FROM users");
             if (rs.next() && rs.getInt(1) == 0) {
-                seedUsers(conn);
-                seedChildren(conn);
-                seedMedicalRecords(conn);
-                seedEducationRecords(conn);
-                seedDonations(conn);
-                seedSystemLogs(conn);
+                TransactionTemplate.inTransaction(c -> {
+                    seedUsers(c);
+                    seedChildren(c);
+                    seedMedicalRecords(c);
+                    seedEducationRecords(c);
+                    seedDonations(c);
+                    seedSystemLogs(c);
+                    return null;
+                });
             }
             rs.close();
 
@@ -189,76 +443,176 @@ public class DBUtil {
         }
     }
 
+    /**
+     * Replaces the REAL {@code amount} column of an older table with
+     * {@code amount_paisa}, converting each value to the nearest paisa.
+     * Indexes that cover the old column are dropped with it; createIndexes()
+     * builds them again on the new one.
+     */
+    private static void migrateAmountToPaisa(Statement stmt, String table) throws SQLException {
+        try (var rs = stmt.executeQuery("SELECT 1 FROM pragma_table_info('" + table + "') WHERE name = 'amount'")) {
+            if (!rs.next()) {
+                return;
+            }
+        }
+        List<String> indexes = new ArrayList<>();
+        try (var rs = stmt.executeQuery("SELECT DISTINCT il.name FROM pragma_index_list('" + table + "') il,"
+                + " pragma_index_info(il.name) ii WHERE ii.name = 'amount'")) {
+            while (rs.next()) {
+                indexes.add(rs.getString(1));
+            }
+        }
+        TransactionTemplate.inTransaction(c -> {
+            try (Statement s = c.createStatement()) {
+                s.execute("ALTER TABLE " + table + " ADD COLUMN amount_paisa INTEGER");
+                s.execute("UPDATE " + table + " SET amount_paisa = CAST(ROUND(amount * 100) AS INTEGER)");
+                for (String index : indexes) {
+                    s.execute("DROP INDEX " + index);
+                }
+                s.execute("ALTER TABLE " + table + " DROP COLUMN amount");
+            }
+            return null;
+        });
+        System.out.println("Converted " + table + ".amount to amount_paisa");
+    }
+
+    /**
+     * Adds an INTEGER column generated from {@code expression}. A column of
+     * that name generated some other way (days truncated toward zero, before
+     * they were rounded down) is dropped first, with the indexes on it;
+     * createIndexes() puts those back.
+     */
+    private static void addGeneratedColumn(Statement stmt, String table, String column, String expression)
+            throws SQLException {
+        String tableSql;
+        try (var rs = stmt.executeQuery("SELECT sql FROM sqlite_schema WHERE type = 'table' AND name = '"
+                + table + "'")) {
+            if (!rs.next()) {
+                return;
+            }
+            tableSql = rs.getString(1);
+        }
+        boolean exists;
+        try (var rs = stmt.executeQuery("SELECT 1 FROM pragma_table_xinfo('" + table + "') WHERE name = '"
+                + column + "'")) {
+            exists = rs.next();
+        }
+        if (exists && tableSql.contains("(" + expression + ")")) {
+            return;
+        }
+        List<String> indexes = new ArrayList<>();
+        try (var rs = stmt.executeQuery("SELECT DISTINCT il.name FROM pragma_index_list('" + table + "') il,"
+                + " pragma_index_info(il.name) ii WHERE ii.name = '" + column + "'")) {
+            while (rs.next()) {
+                indexes.add(rs.getString(1));
+            }
+        }
+        TransactionTemplate.inTransaction(c -> {
+            try (Statement s = c.createStatement()) {
+                if (exists) {
+                    for (String index : indexes) {
+                        s.execute("DROP INDEX " + index);
+                    }
+                    s.execute("ALTER TABLE " + table + " DROP COLUMN " + column);
+                }
+                s.execute("ALTER TABLE " + table + " ADD COLUMN " + column
+                        + " INTEGER GENERATED ALWAYS AS (" + expression + ") VIRTUAL");
+            }
+            return null;
+        });
+        if (exists) {
+            System.out.println("Regenerated " + table + "." + column);
+        }
+    }
+
+    /**
+     * Drops the retired indexes and creates {@link #INDEXES}. An index on a
+     * table that does not exist yet (notifications, which DatabaseMigration
+     * creates) is skipped; the migration applies it afterwards.
+     */
+    private static void createIndexes(Statement stmt) {
+        for (String name : RETIRED_INDEXES) {
+            try {
+                stmt.execute("DROP INDEX IF EXISTS " + name);
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+        for (String sql : INDEXES) {
+            try {
+                stmt.execute(sql);
+            } catch (SQLException e) {
+                // Table not created yet, ignore
+            }
+        }
+    }
+
+    /**
+     * Adds each versioned table's row to table_versions. Older databases
+     * counted changes with per-row triggers, which are dropped: on a bulk
+     * insert they cost an extra UPDATE for every row.
+     */
+    private static void addVersionRows(Statement stmt) throws SQLException {
+        for (String table : VERSIONED_TABLES) {
+            stmt.execute("INSERT OR IGNORE INTO table_versions (table_name) VALUES ('" + table + "')");
+            for (String event : List.of("insert", "update", "delete")) {
+                stmt.execute("DROP TRIGGER IF EXISTS trg_" + table + "_version_" + event);
+            }
+        }
+    }
+
+    /**
+     * The versioned table an insert, update or delete statement writes to,
+     * or null if it is not such a statement or the table is not versioned.
+     */
+    static String versionedTable(String sql) {
+        Matcher m = WRITTEN_TABLE.matcher(sql.strip());
+        if (!m.find()) {
+            return null;
+        }
+        String table = m.group(1).toLowerCase();
+        return VERSIONED_TABLES.contains(table) ? table : null;
+    }
+
+    /**
+     * Adds one to the table's version, on the unwrapped connection; the
+     * caller holds {@link #CONNECTION_LOCK}.
+     */
+    static void bumpVersion(Connection raw, String table) throws SQLException {
+        try (PreparedStatement ps = raw.prepareStatement(BUMP_VERSION_SQL)) {
+            ps.setString(1, table);
+            ps.executeUpdate();
+        }
+    }
+
     // ── Seed Users ───────────────────────────────────────────
 
     private static void seedUsers(Connection conn) throws SQLException {
+        // username, password, email, role
+        String[][] seeds = {
+                { "admin", "admin123", "admin@guardianlink.org", "SYSTEM_ADMIN" },
+                { "orgadmin", "org123", "orgadmin@guardianlink.org", "ORGANIZATION_ADMIN" },
+                { "donor", "donor123", "donor@guardianlink.org", "DONOR" },
+                { "support", "support123", "support@guardianlink.org", "SUPPORT" },
+                { "caregiver_jalal", "care123", "jalal@guardianlink.org", "CAREGIVER" },
+                { "caregiver_fatima", "care456", "fatima@guardianlink.org", "CAREGIVER" },
+                { "caregiver_ahmed", "care789", "ahmed@guardianlink.org", "CAREGIVER" },
+                { "caregiver_sara", "care012", "sara@guardianlink.org", "CAREGIVER" },
+        };
+        // Each hash takes ~150 ms by design, so compute them side by side
+        List<String> hashes = Arrays.stream(seeds).parallel().map(seed -> PasswordUtil.hash(seed[1])).toList();
+
         String sql = "INSERT INTO users (username, password, email, role, approved) VALUES (?, ?, ?, ?, ?)";
         PreparedStatement ps = conn.prepareStatement(sql);
-
-        // System Admin (approved)
-        ps.setString(1, "admin");
-        ps.setString(2, PasswordUtil.hash("admin123"));
-        ps.setString(3, "admin@guardianlink.org");
-        ps.setString(4, "SYSTEM_ADMIN");
-        ps.setInt(5, 1);
-        ps.executeUpdate();
-
-        // Organization Admin (approved)
-        ps.setString(1, "orgadmin");
-        ps.setString(2, PasswordUtil.hash("org123"));
-        ps.setString(3, "orgadmin@guardianlink.org");
-        ps.setString(4, "ORGANIZATION_ADMIN");
-        ps.setInt(5, 1);
-        ps.executeUpdate();
-
-        // Donor (approved)
-        ps.setString(1, "donor");
-        ps.setString(2, PasswordUtil.hash("donor123"));
-        ps.setString(3, "donor@guardianlink.org");
-        ps.setString(4, "DONOR");
-        ps.setInt(5, 1);
-        ps.executeUpdate();
-
-        // Support (approved)
-        ps.setString(1, "support");
-        ps.setString(2, PasswordUtil.hash("support123"));
-        ps.setString(3, "support@guardianlink.org");
-        ps.setString(4, "SUPPORT");
-        ps.setInt(5, 1);
-        ps.executeUpdate();
-
-        // Caregiver 1 (approved)
-        ps.setString(1, "caregiver_jalal");
-        ps.setString(2, PasswordUtil.hash("care123"));
-        ps.setString(3, "jalal@guardianlink.org");
-        ps.setString(4, "CAREGIVER");
-        ps.setInt(5, 1);
-        ps.executeUpdate();
-
-        // Caregiver 2 (approved)
-        ps.setString(1, "caregiver_fatima");
-        ps.setString(2, PasswordUtil.hash("care456"));
-        ps.setString(3, "fatima@guardianlink.org");
-        ps.setString(4, "CAREGIVER");
-        ps.setInt(5, 1);
-        ps.executeUpdate();
-
-        // Caregiver 3 (approved)
-        ps.setString(1, "caregiver_ahmed");
-        ps.setString(2, PasswordUtil.hash("care789"));
-        ps.setString(3, "ahmed@guardianlink.org");
-        ps.setString(4, "CAREGIVER");
-        ps.setInt(5, 1);
-        ps.executeUpdate();
-
-        // Caregiver 4 (approved)
-        ps.setString(1, "caregiver_sara");
-        ps.setString(2, PasswordUtil.hash("care012"));
-        ps.setString(3, "sara@guardianlink.org");
-        ps.setString(4, "CAREGIVER");
-        ps.setInt(5, 1);
-        ps.executeUpdate();
-
+        for (int i = 0; i < seeds.length; i++) {
+            ps.setString(1, seeds[i][0]);
+            ps.setString(2, hashes.get(i));
+            ps.setString(3, seeds[i][2]);
+            ps.setString(4, seeds[i][3]);
+            ps.setInt(5, 1); // All seeded accounts are approved
+            ps.addBatch();
+        }
+        ps.executeBatch();
         ps.close();
     }
 
@@ -274,6 +628,7 @@ public class DBUtil {
         insertChild(ps, "Ayesha Akter", 14, "Bright Future NGO", "Female", "2012-11-05", "Graduated");
         insertChild(ps, "Rafi Islam", 6, "Hope Foundation", "Male", "2020-05-30", "Active");
 
+        ps.executeBatch();
         ps.close();
     }
 
@@ -285,7 +640,7 @@ public class DBUtil {
         ps.setString(4, gender);
         ps.setString(5, dob);
         ps.setString(6, status);
-        ps.executeUpdate();
+        ps.addBatch();
     }
 
     // ── Seed Medical Records ─────────────────────────────────
@@ -300,6 +655,7 @@ public class DBUtil {
         insertMedical(ps, 4, "AB+", "Iron deficiency anemia", "2025-09-18");
         insertMedical(ps, 5, "B+", "None", "2026-01-15");
 
+        ps.executeBatch();
         ps.close();
     }
 
@@ -309,7 +665,7 @@ public class DBUtil {
         ps.setString(2, bloodGroup);
         ps.setString(3, condition);
         ps.setString(4, lastCheckup);
-        ps.executeUpdate();
+        ps.addBatch();
     }
 
     // ── Seed Education Records ───────────────────────────────
@@ -324,6 +680,7 @@ public class DBUtil {
         insertEducation(ps, 4, "Sunrise Academy", "Grade 9", 91.0);
         insertEducation(ps, 5, "Green Valley Primary School", "Grade 1", 85.7);
 
+        ps.executeBatch();
         ps.close();
     }
 
@@ -333,33 +690,34 @@ public class DBUtil {
         ps.setString(2, school);
         ps.setString(3, grade);
         ps.setDouble(4, attendance);
-        ps.executeUpdate();
+        ps.addBatch();
     }
 
     // ── Seed Donations ───────────────────────────────────────
 
     private static void seedDonations(Connection conn) throws SQLException {
-        String sql = "INSERT INTO donations (donor_id, child_id, amount, purpose, date, status) VALUES (?, ?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO donations (donor_id, child_id, amount_paisa, purpose, date, status) VALUES (?, ?, ?, ?, ?, ?)";
         PreparedStatement ps = conn.prepareStatement(sql);
 
-        insertDonation(ps, 3, 1, 150.0, "Education Support", "2026-01-20", "Completed");
-        insertDonation(ps, 3, 2, 200.0, "Medical Care", "2026-01-20", "Completed");
-        insertDonation(ps, 3, 3, 180.0, "General Welfare", "2026-01-15", "Completed");
-        insertDonation(ps, 3, 1, 150.0, "Food & Nutrition", "2026-01-05", "Completed");
-        insertDonation(ps, 3, 2, 150.0, "Education Support", "2025-12-20", "Completed");
+        insertDonation(ps, 3, 1, Money.ofTaka(150), "Education Support", "2026-01-20", "Completed");
+        insertDonation(ps, 3, 2, Money.ofTaka(200), "Medical Care", "2026-01-20", "Completed");
+        insertDonation(ps, 3, 3, Money.ofTaka(180), "General Welfare", "2026-01-15", "Completed");
+        insertDonation(ps, 3, 1, Money.ofTaka(150), "Food & Nutrition", "2026-01-05", "Completed");
+        insertDonation(ps, 3, 2, Money.ofTaka(150), "Education Support", "2025-12-20", "Completed");
 
+        ps.executeBatch();
         ps.close();
     }
 
-    private static void insertDonation(PreparedStatement ps, int donorId, int childId, double amount,
+    private static void insertDonation(PreparedStatement ps, int donorId, int childId, Money amount,
             String purpose, String date, String status) throws SQLException {
         ps.setInt(1, donorId);
         ps.setInt(2, childId);
-        ps.setDouble(3, amount);
+        ps.setLong(3, amount.longValue());
         ps.setString(4, purpose);
         ps.setString(5, date);
         ps.setString(6, status);
-        ps.executeUpdate();
+        ps.addBatch();
     }
 
     // ── Seed System Logs ─────────────────────────────────────
@@ -374,6 +732,7 @@ public class DBUtil {
         insertLog(ps, "System", "Database backup completed", "system", "2026-02-10 02:00:00");
         insertLog(ps, "User Management", "New donor account created", "admin", "2026-02-08 14:30:00");
 
+        ps.executeBatch();
         ps.close();
     }
 
@@ -383,7 +742,7 @@ public class DBUtil {
         ps.setString(2, desc);
         ps.setString(3, actor);
         ps.setString(4, time);
-        ps.executeUpdate();
+        ps.addBatch();
     }
 
     // ── Seed Role Permissions ────────────────────────────────
@@ -395,29 +754,30 @@ public class DBUtil {
         // System Admin permissions
         ps.setString(1, "SYSTEM_ADMIN");
         ps.setString(2, "Full system access, User management, Role configuration, System settings");
-        ps.executeUpdate();
+        ps.addBatch();
 
         // Organization Admin permissions
         ps.setString(1, "ORGANIZATION_ADMIN");
         ps.setString(2, "Manage child profiles, Update medical records, Update education records, View all children");
-        ps.executeUpdate();
+        ps.addBatch();
 
         // Donor permissions
         ps.setString(1, "DONOR");
         ps.setString(2, "View sponsored children, Make donations, View transaction history, Generate reports");
-        ps.executeUpdate();
+        ps.addBatch();
 
         // Caregiver permissions
         ps.setString(1, "CAREGIVER");
         ps.setString(2,
                 "Manage assigned children, Update daily care logs, View medical records, Communicate with donors");
-        ps.executeUpdate();
+        ps.addBatch();
 
         // Support permissions
         ps.setString(1, "SUPPORT");
         ps.setString(2, "View user concerns, Resolve user problems, Access help desk, Generate support tickets");
-        ps.executeUpdate();
+        ps.addBatch();
 
+        ps.executeBatch();
         ps.close();
     }
 }
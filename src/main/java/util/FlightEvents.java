@@ -0,0 +1,142 @@
+package util;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.ScrollPane;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.function.Supplier;
+
+/**
+ * Application events for JDK Flight Recorder. Nothing is recorded unless a
+ * recording is running (see {@code --jfr} in {@code app.Main}); while JFR is
+ * off, each call site costs one {@code isEnabled()} check.
+ */
+public final class FlightEvents {
+
+    private FlightEvents() {
+    }
+
+    @Name("guardianlink.PageBuild")
+    @Label("Page Build")
+    @Category({"GuardianLink", "UI"})
+    @Description("A controller building a page and handing it to the scene")
+    @StackTrace(false)
+    public static final class PageBuild extends Event {
+        @Label("Controller")
+        public String controller;
+
+        @Label("Page")
+        public String pageId;
+
+        @Label("Node Count")
+        @Description("Nodes in the built page, counted after the build")
+        public int nodeCount;
+    }
+
+    @Name("guardianlink.RepositoryQuery")
+    @Label("Repository Query")
+    @Category({"GuardianLink", "Database"})
+    @Description("One JDBC statement, attributed to the repository method that issued it")
+    @StackTrace(false)
+    public static final class RepositoryQuery extends Event {
+        @Label("Method")
+        public String method;
+
+        @Label("SQL")
+        public String sql;
+
+        @Label("Rows")
+        public long rows;
+
+        @Label("Failed")
+        public boolean failed;
+
+        @Label("Execution Time")
+        @Description("Time in execute and row fetching, excluding time the caller spent between rows")
+        @Timespan(Timespan.NANOSECONDS)
+        public long executionTime;
+    }
+
+    @Name("guardianlink.ReportExport")
+    @Label("Report Export")
+    @Category({"GuardianLink", "Reports"})
+    @Description("A report or data export written to a file")
+    public static final class ReportExport extends Event {
+        @Label("Report Type")
+        public String type;
+
+        @Label("Format")
+        public String format;
+
+        @Label("Rows")
+        public long rows;
+
+        @Label("Bytes")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("guardianlink.AuditFlush")
+    @Label("Audit Flush")
+    @Category({"GuardianLink", "Database"})
+    @Description("Audit log entries written to the system_logs table")
+    @StackTrace(false)
+    public static final class AuditFlush extends Event {
+        @Label("Entries")
+        public int entries;
+    }
+
+    /**
+     * Builds a page, recording a {@link PageBuild} event around the builder.
+     */
+    public static <T extends Node> T buildPage(String controller, String pageId, Supplier<T> builder) {
+        PageBuild event = new PageBuild();
+        if (!event.isEnabled()) {
+            return builder.get();
+        }
+        event.begin();
+        T page = builder.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.controller = controller;
+            event.pageId = pageId;
+            event.nodeCount = countNodes(page);
+            event.commit();
+        }
+        return page;
+    }
+
+    static void repositoryQuery(String method, String sql, long rows, boolean failed, long nanos) {
+        RepositoryQuery event = new RepositoryQuery();
+        if (event.isEnabled()) {
+            event.method = method;
+            event.sql = sql;
+            event.rows = rows;
+            event.failed = failed;
+            event.executionTime = nanos;
+            event.commit();
+        }
+    }
+
+    private static int countNodes(Node node) {
+        // Pages are counted before they are skinned, so a scroll pane's content is not yet its child
+        if (node instanceof ScrollPane sp) {
+            return 1 + (sp.getContent() != null ? countNodes(sp.getContent()) : 0);
+        }
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,72 @@
+package util;
+
+import javafx.scene.Scene;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures JavaFX pulses of a scene without forcing any: the time between the
+ * pre- and post-layout listeners is the CSS and layout pass of that pulse.
+ * Rendering happens afterwards on the render thread and is not included.
+ */
+public final class FxPulseMonitor {
+
+    private static final LatencyHistogram LAYOUT = new LatencyHistogram();
+    private static final LongAdder PULSES = new LongAdder();
+
+    private static Scene scene;
+    private static long pulseStart;
+
+    private static final Runnable BEFORE = () -> pulseStart = System.nanoTime();
+    private static final Runnable AFTER = () -> {
+        if (pulseStart != 0) {
+            LAYOUT.record(System.nanoTime() - pulseStart);
+            PULSES.increment();
+            pulseStart = 0;
+        }
+    };
+
+    private FxPulseMonitor() {
+    }
+
+    /**
+     * Starts measuring the scene, replacing any previously monitored scene.
+     * Must be called on the FX application thread.
+     */
+    public static void install(Scene target) {
+        if (scene == target) {
+            return;
+        }
+        uninstall();
+        scene = target;
+        scene.addPreLayoutPulseListener(BEFORE);
+        scene.addPostLayoutPulseListener(AFTER);
+    }
+
+    /**
+     * Stops measuring. Must be called on the FX application thread.
+     */
+    public static void uninstall() {
+        if (scene != null) {
+            scene.removePreLayoutPulseListener(BEFORE);
+            scene.removePostLayoutPulseListener(AFTER);
+            scene = null;
+        }
+    }
+
+    /**
+     * Layout time per pulse since the last {@link #drain()}, and the number of pulses.
+     */
+    public record Window(long pulses, double p50Millis, double p95Millis, double maxMillis) {
+    }
+
+    /**
+     * Returns the pulses measured since the previous call and starts a new window.
+     */
+    public static Window drain() {
+        Window window = new Window(PULSES.sumThenReset(), LAYOUT.getPercentileNanos(50) / 1_000_000.0,
+                LAYOUT.getPercentileNanos(95) / 1_000_000.0, LAYOUT.getMaxNanos() / 1_000_000.0);
+        LAYOUT.reset();
+        return window;
+    }
+}
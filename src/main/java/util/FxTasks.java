@@ -0,0 +1,51 @@
+package util;
+
+import javafx.concurrent.Task;
+import javafx.scene.Node;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Runs slow work, such as password hashing, off the FX thread in the way the
+ * login screen does: on a daemon thread, with the result handed back on the
+ * FX thread.
+ */
+public final class FxTasks {
+
+    private FxTasks() {
+    }
+
+    /**
+     * Runs {@code work} on a new daemon thread. {@code onSucceeded} or
+     * {@code onFailed} then runs on the FX thread. {@code busy}, if not
+     * null, is disabled until then.
+     */
+    public static <T> void runInBackground(String name, Node busy, Callable<T> work, Consumer<T> onSucceeded,
+                                           Consumer<Throwable> onFailed) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        if (busy != null) {
+            busy.setDisable(true);
+        }
+        task.setOnSucceeded(e -> {
+            if (busy != null) {
+                busy.setDisable(false);
+            }
+            onSucceeded.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            if (busy != null) {
+                busy.setDisable(false);
+            }
+            onFailed.accept(task.getException());
+        });
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,337 @@
+package util;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Thumbnail cache for child and profile photos.
+ * Photos are decoded and downscaled on background threads, written to an
+ * on-disk thumbnail store keyed by path + modification time + size, and kept
+ * in an in-memory LRU bounded by decoded pixel bytes. The on-disk store is an
+ * LRU too, bounded by file bytes; a thumbnail's modification time records its
+ * last use, so the order survives restarts.
+ */
+public class ImageCache {
+
+    private static final Path THUMBNAIL_DIR = Paths.get("cache", "thumbnails");
+    private static final long MAX_MEMORY_BYTES = 32L * 1024 * 1024;
+    private static final long MAX_DISK_BYTES = 64L * 1024 * 1024;
+
+    private static final ExecutorService DECODER = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "image-decoder");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Access-ordered map: iteration starts at the least recently used entry
+    private static final LinkedHashMap<String, Image> MEMORY = new LinkedHashMap<>(64, 0.75f, true);
+    private static long memoryBytes = 0;
+
+    // Thumbnail key -> file bytes, access-ordered like MEMORY; read from the directory on first use
+    private static final Object DISK_LOCK = new Object();
+    private static LinkedHashMap<String, Long> disk;
+    private static long diskBytes = 0;
+
+    private static final Map<String, CompletableFuture<Image>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    /**
+     * Loads a square thumbnail of the given photo into the view.
+     * Cached thumbnails are shown immediately; anything else is decoded in the
+     * background and set on the FX thread once ready. The view is empty
+     * until then, and stays empty if there is no photo or it cannot be read.
+     */
+    public static void loadInto(ImageView view, String photoPath, int size) {
+        if (photoPath == null || photoPath.isEmpty()) {
+            // Also drops a pending load's claim on a recycled view
+            view.setUserData(null);
+            view.setImage(null);
+            return;
+        }
+        File file = new File(photoPath);
+        String key = cacheKey(file, size);
+        // Remember what this view asked for so a recycled view never shows a stale photo,
+        // including one from an earlier load still pending when this one is a hit
+        view.setUserData(key);
+        Image cached = getFromMemory(key);
+        if (cached != null) {
+            HITS.increment();
+            view.setImage(cached);
+            return;
+        }
+        MISSES.increment();
+        view.setImage(null);
+        load(file, key, size).thenAccept(img -> {
+            if (img != null) {
+                Platform.runLater(() -> {
+                    if (key.equals(view.getUserData())) {
+                        view.setImage(img);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Returns a future for a square thumbnail of the given photo, completing
+     * with null if it cannot be decoded.
+     */
+    public static CompletableFuture<Image> load(String photoPath, int size) {
+        File file = new File(photoPath);
+        return load(file, cacheKey(file, size), size);
+    }
+
+    /**
+     * Returns hit/miss counts of the in-memory thumbnail cache.
+     */
+    public static synchronized CacheStats stats() {
+        return new CacheStats("Photo thumbnails", HITS.sum(), MISSES.sum(), MEMORY.size());
+    }
+
+    /**
+     * Drops all in-memory thumbnails. The on-disk store is left intact.
+     */
+    public static synchronized void clearMemory() {
+        MEMORY.clear();
+        memoryBytes = 0;
+    }
+
+    // ── Loading ──────────────────────────────────────────────
+
+    private static CompletableFuture<Image> load(File file, String key, int size) {
+        Image cached = getFromMemory(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        // Collapse concurrent requests for the same thumbnail into one decode. The decode
+        // starts only once its future is registered, so its cleanup never runs inside a
+        // map update (a decode finishing that early would be a recursive update)
+        CompletableFuture<Image> decoding = new CompletableFuture<>();
+        CompletableFuture<Image> existing = IN_FLIGHT.putIfAbsent(key, decoding);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture.supplyAsync(() -> decode(file, key, size), DECODER).whenComplete((img, err) -> {
+            if (img != null) {
+                putInMemory(key, img);
+            }
+            IN_FLIGHT.remove(key, decoding);
+            if (err != null) {
+                decoding.completeExceptionally(err);
+            } else {
+                decoding.complete(img);
+            }
+        });
+        return decoding;
+    }
+
+    private static Image decode(File file, String key, int size) {
+        try {
+            Path thumbnail = THUMBNAIL_DIR.resolve(key + ".png");
+            BufferedImage scaled = null;
+            if (touchOnDisk(key, thumbnail)) {
+                try {
+                    scaled = ImageIO.read(thumbnail.toFile());
+                } catch (IOException e) {
+                    // Evicted meanwhile or unreadable; decoded again below
+                }
+            }
+            if (scaled == null) {
+                BufferedImage source = ImageIO.read(file);
+                if (source == null) {
+                    // Format not handled by ImageIO; let JavaFX decode it at the target size
+                    Image fx = new Image(file.toURI().toString(), size, size, true, true);
+                    return fx.isError() ? null : fx;
+                }
+                scaled = downscale(source, size);
+                writeThumbnail(key, scaled, thumbnail);
+            }
+            return toFxImage(scaled);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not load photo " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static BufferedImage downscale(BufferedImage source, int size) {
+        double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int w = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int h = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(source, 0, 0, w, h, null);
+        g.dispose();
+        return out;
+    }
+
+    private static void writeThumbnail(String key, BufferedImage image, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            // Write to a temp file first so a half-written thumbnail is never picked up
+            Path tmp = Files.createTempFile(target.getParent(), "thumb", ".tmp");
+            ImageIO.write(image, "png", tmp.toFile());
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            putOnDisk(key, Files.size(target));
+        } catch (IOException e) {
+            System.err.println("Could not store thumbnail: " + e.getMessage());
+        }
+    }
+
+    private static Image toFxImage(BufferedImage image) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        int[] argb = image.getRGB(0, 0, w, h, null, 0, w);
+        WritableImage fx = new WritableImage(w, h);
+        fx.getPixelWriter().setPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), argb, 0, w);
+        return fx;
+    }
+
+    // ── In-memory LRU ────────────────────────────────────────
+
+    private static synchronized Image getFromMemory(String key) {
+        return MEMORY.get(key);
+    }
+
+    private static synchronized void putInMemory(String key, Image image) {
+        Image previous = MEMORY.put(key, image);
+        if (previous != null) {
+            memoryBytes -= pixelBytes(previous);
+        }
+        memoryBytes += pixelBytes(image);
+        Iterator<Map.Entry<String, Image>> it = MEMORY.entrySet().iterator();
+        while (memoryBytes > MAX_MEMORY_BYTES && it.hasNext()) {
+            Map.Entry<String, Image> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            memoryBytes -= pixelBytes(eldest.getValue());
+            it.remove();
+        }
+    }
+
+    private static long pixelBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+
+    // ── On-disk LRU ──────────────────────────────────────────
+    // Guarded by DISK_LOCK rather than the class, so file I/O never holds up
+    // a memory lookup on the FX thread
+
+    /**
+     * Whether the thumbnail is stored; if so it becomes the most recently
+     * used, on disk as well as in the index.
+     */
+    private static boolean touchOnDisk(String key, Path thumbnail) {
+        synchronized (DISK_LOCK) {
+            if (diskIndex().get(key) == null) {
+                return false;
+            }
+            try {
+                Files.setLastModifiedTime(thumbnail, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException e) {
+                // Only the order after a restart is affected
+            }
+            return true;
+        }
+    }
+
+    private static void putOnDisk(String key, long bytes) {
+        synchronized (DISK_LOCK) {
+            Long previous = diskIndex().put(key, bytes);
+            if (previous != null) {
+                diskBytes -= previous;
+            }
+            diskBytes += bytes;
+            trimDisk(key);
+        }
+    }
+
+    /** Deletes the least recently used thumbnails, except {@code keep}, until within budget. */
+    private static void trimDisk(String keep) {
+        Iterator<Map.Entry<String, Long>> it = disk.entrySet().iterator();
+        while (diskBytes > MAX_DISK_BYTES && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(THUMBNAIL_DIR.resolve(eldest.getKey() + ".png"));
+            } catch (IOException e) {
+                continue; // Still on disk, so still counted
+            }
+            diskBytes -= eldest.getValue();
+            it.remove();
+        }
+    }
+
+    /** The index of stored thumbnails, least recently used first; read from the directory on first call. */
+    private static LinkedHashMap<String, Long> diskIndex() {
+        if (disk == null) {
+            disk = new LinkedHashMap<>(64, 0.75f, true);
+            try (Stream<Path> files = Files.list(THUMBNAIL_DIR)) {
+                files.filter(f -> f.getFileName().toString().endsWith(".png"))
+                        .map(Path::toFile)
+                        .sorted(Comparator.comparingLong(File::lastModified))
+                        .forEach(f -> {
+                            String name = f.getName();
+                            disk.put(name.substring(0, name.length() - ".png".length()), f.length());
+                            diskBytes += f.length();
+                        });
+            } catch (IOException e) {
+                // No thumbnails stored yet
+            }
+            trimDisk(null);
+        }
+        return disk;
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    /**
+     * Builds the cache key from the absolute path, last-modified time and size,
+     * so replacing a photo on disk produces a fresh thumbnail.
+     */
+    private static String cacheKey(File file, int size) {
+        String raw = file.getAbsolutePath() + "|" + file.lastModified() + "|" + size;
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(raw.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+}
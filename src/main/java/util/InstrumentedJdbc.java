@@ -0,0 +1,349 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wraps the shared JDBC connection in a proxy that runs every call on it,
+ * its statements and its result sets under {@link DBUtil#CONNECTION_LOCK}.
+ * <p>
+ * When measuring, every statement also reports to {@link QueryMetrics}. A
+ * query's latency is the time spent in execute plus every {@code next()},
+ * since SQLite produces rows lazily while they are read; time the caller
+ * spends between rows is not counted. The call site is the first stack
+ * frame outside JDBC and the batching/transaction helpers, e.g.
+ * {@code repository.JdbcChildRepository.findAll:26}.
+ * <p>
+ * Each insert, update or delete statement (or batch of them) that changes
+ * rows of a versioned table then bumps that table's version once, see
+ * {@link DBUtil#VERSIONED_TABLES}.
+ */
+final class InstrumentedJdbc {
+
+    private static final Set<String> INFRASTRUCTURE = Set.of(
+            InstrumentedJdbc.class.getName(), BatchExecutor.class.getName(), TransactionTemplate.class.getName());
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final Set<String> WRITES =
+            Set.of("executeUpdate", "executeLargeUpdate", "execute", "executeBatch", "executeLargeBatch");
+
+    // Repositories sometimes return without closing a result set; the query is
+    // then recorded when the same thread next touches the database
+    private static final ThreadLocal<ResultSetHandler> PENDING = new ThreadLocal<>();
+
+    private InstrumentedJdbc() {
+    }
+
+    /**
+     * Returns a serialized view of the connection, timed into QueryMetrics if
+     * {@code measure}; closing it closes the target.
+     */
+    static Connection wrap(Connection target, boolean measure) {
+        return proxy(Connection.class, new ConnectionHandler(target, measure));
+    }
+
+    // ── Connection ───────────────────────────────────────────
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final boolean measure;
+
+        ConnectionHandler(Connection target, boolean measure) {
+            this.target = target;
+            this.measure = measure;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> {
+                    finishPending();
+                    yield proxy(PreparedStatement.class, new StatementHandler((Statement) result,
+                            normalize((String) args[0]), measure ? callSite() : null, measure));
+                }
+                case "createStatement" -> {
+                    finishPending();
+                    yield proxy(Statement.class,
+                            new StatementHandler((Statement) result, null, measure ? callSite() : null, measure));
+                }
+                default -> result;
+            };
+        }
+    }
+
+    // ── Statements ───────────────────────────────────────────
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private final String callSite;
+        private final boolean measure;
+        private final String versionedTable;
+        private final List<String> parameterTypes = new ArrayList<>();
+        private int batched;
+        private ResultSetHandler openQuery;
+
+        StatementHandler(Statement target, String sql, String callSite, boolean measure) {
+            this.target = target;
+            this.sql = sql;
+            this.callSite = callSite;
+            this.measure = measure;
+            this.versionedTable = sql == null ? null : DBUtil.versionedTable(sql);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!measure) {
+                Object result = delegate(target, method, args);
+                if (WRITES.contains(name)) {
+                    bumpVersion(args, result);
+                }
+                return name.equals("executeQuery") ? proxy(ResultSet.class, new LockedHandler(result)) : result;
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recordParameter(index, name, args[1]);
+                return delegate(target, method, args);
+            }
+            switch (name) {
+                case "clearParameters" -> parameterTypes.clear();
+                case "addBatch" -> batched++;
+                case "clearBatch" -> batched = 0;
+                case "close" -> finishOpenQuery();
+                case "executeQuery" -> {
+                    return executeQuery(method, args);
+                }
+                case "executeUpdate", "executeLargeUpdate", "execute", "executeBatch", "executeLargeBatch" -> {
+                    return executeTimed(method, args);
+                }
+                default -> {
+                }
+            }
+            return delegate(target, method, args);
+        }
+
+        private Object executeQuery(Method method, Object[] args) throws Throwable {
+            finishPending();
+            String statementSql = statementSql(args);
+            long start = System.nanoTime();
+            ResultSet rs;
+            try {
+                rs = (ResultSet) delegate(target, method, args);
+            } catch (Throwable t) {
+                QueryMetrics.record(statementSql, callSite, System.nanoTime() - start, 0, true, describeParameters());
+                throw t;
+            }
+            openQuery = new ResultSetHandler(rs, statementSql, callSite, System.nanoTime() - start, describeParameters());
+            return proxy(ResultSet.class, openQuery);
+        }
+
+        private Object executeTimed(Method method, Object[] args) throws Throwable {
+            finishPending();
+            String statementSql = statementSql(args);
+            String parameters = batched > 0 ? "batch of " + batched : describeParameters();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = delegate(target, method, args);
+            } catch (Throwable t) {
+                QueryMetrics.record(statementSql, callSite, System.nanoTime() - start, 0, true, parameters);
+                throw t;
+            } finally {
+                if (method.getName().endsWith("Batch")) {
+                    batched = 0;
+                }
+            }
+            QueryMetrics.record(statementSql, callSite, System.nanoTime() - start, rowsAffected(result), false, parameters);
+            bumpVersion(args, result);
+            return result;
+        }
+
+        /**
+         * Runs after the write, so a report computed meanwhile is cached under
+         * the old version rather than served stale under the new one.
+         */
+        private void bumpVersion(Object[] args, Object result) throws SQLException {
+            String table = args != null && args.length > 0 && args[0] instanceof String s
+                    ? DBUtil.versionedTable(s) : versionedTable;
+            // execute() reports no count; the others skip the bump when nothing changed
+            if (table == null || !(result instanceof Boolean) && rowsAffected(result) == 0) {
+                return;
+            }
+            DBUtil.CONNECTION_LOCK.lock();
+            try {
+                DBUtil.bumpVersion(target.getConnection(), table);
+            } finally {
+                DBUtil.CONNECTION_LOCK.unlock();
+            }
+        }
+
+        private String statementSql(Object[] args) {
+            return args != null && args.length > 0 && args[0] instanceof String s ? normalize(s) : sql;
+        }
+
+        private void recordParameter(int index, String setter, Object value) {
+            while (parameterTypes.size() < index) {
+                parameterTypes.add("?");
+            }
+            String type = setter.equals("setNull") || value == null ? "NULL" : setter.substring(3).toUpperCase();
+            parameterTypes.set(index - 1, type);
+        }
+
+        private String describeParameters() {
+            return parameterTypes.toString();
+        }
+
+        private void finishOpenQuery() {
+            if (openQuery != null) {
+                openQuery.finish(false);
+                openQuery = null;
+            }
+        }
+
+        private static long rowsAffected(Object result) {
+            if (result instanceof Integer n) {
+                return Math.max(n, 0);
+            }
+            if (result instanceof Long n) {
+                return Math.max(n, 0);
+            }
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int c : counts) {
+                    rows += c == Statement.SUCCESS_NO_INFO ? 1 : Math.max(c, 0);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long c : counts) {
+                    rows += c == Statement.SUCCESS_NO_INFO ? 1 : Math.max(c, 0);
+                }
+            }
+            return rows;
+        }
+    }
+
+    // ── Result sets ──────────────────────────────────────────
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final String sql;
+        private final String callSite;
+        private final String parameters;
+        private long elapsed;
+        private long rows;
+        private boolean finished;
+
+        ResultSetHandler(ResultSet target, String sql, String callSite, long executeNanos, String parameters) {
+            this.target = target;
+            this.sql = sql;
+            this.callSite = callSite;
+            this.elapsed = executeNanos;
+            this.parameters = parameters;
+            PENDING.set(this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("next")) {
+                long start = System.nanoTime();
+                try {
+                    boolean more = (Boolean) delegate(target, method, args);
+                    elapsed += System.nanoTime() - start;
+                    if (more) {
+                        rows++;
+                    } else {
+                        finish(false);
+                    }
+                    return more;
+                } catch (Throwable t) {
+                    elapsed += System.nanoTime() - start;
+                    finish(true);
+                    throw t;
+                }
+            }
+            if (name.equals("close")) {
+                finish(false);
+            }
+            return delegate(target, method, args);
+        }
+
+        void finish(boolean failed) {
+            if (!finished) {
+                finished = true;
+                if (PENDING.get() == this) {
+                    PENDING.remove();
+                }
+                QueryMetrics.record(sql, callSite, elapsed, rows, failed, parameters);
+            }
+        }
+    }
+
+    /** Serializes calls without measuring them. */
+    private static final class LockedHandler implements InvocationHandler {
+        private final Object target;
+
+        LockedHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return delegate(target, method, args);
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedJdbc.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        DBUtil.CONNECTION_LOCK.lock();
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            DBUtil.CONNECTION_LOCK.unlock();
+        }
+    }
+
+    private static void finishPending() {
+        ResultSetHandler pending = PENDING.get();
+        if (pending != null) {
+            pending.finish(false);
+        }
+    }
+
+    /** Collapses whitespace so multi-line SQL is reported on one line. */
+    private static String normalize(String sql) {
+        return sql.strip().replaceAll("\\s+", " ");
+    }
+
+    private static String callSite() {
+        return WALKER.walk(frames -> frames
+                .filter(f -> !isInfrastructure(f.getClassName()))
+                .findFirst()
+                .map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    private static boolean isInfrastructure(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("com.sun.proxy")
+                || INFRASTRUCTURE.stream().anyMatch(className::startsWith);
+    }
+}
@@ -0,0 +1,325 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON support for bulk imports: a top-level array of flat objects
+ * whose values are strings, numbers, booleans or null. Splitting the array
+ * into objects is a sequential scan; each object can then be parsed
+ * independently (and in parallel).
+ * <p>
+ * {@link #parse} and {@link #write} handle arbitrary nesting for the remote
+ * repository protocol, using Map, List, String, Long, Double, Boolean and null.
+ */
+public class JsonUtil {
+
+    /** Deepest nesting of objects and arrays that {@link #parse} accepts. */
+    public static final int MAX_DEPTH = 64;
+
+    /**
+     * Splits a top-level JSON array into the raw text of each object.
+     *
+     * @throws IllegalArgumentException if the content is not an array of objects
+     */
+    public static List<String> splitObjects(String content) {
+        List<String> objects = new ArrayList<>();
+        int i = skipWhitespace(content, 0);
+        if (i >= content.length() || content.charAt(i) != '[') {
+            throw new IllegalArgumentException("Expected a JSON array of objects");
+        }
+        int depth = 0;
+        int start = -1;
+        boolean inString = false;
+        for (i = i + 1; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{') {
+                if (depth++ == 0) {
+                    start = i;
+                }
+            } else if (c == '}') {
+                if (--depth == 0) {
+                    objects.add(content.substring(start, i + 1));
+                } else if (depth < 0) {
+                    throw new IllegalArgumentException("Unbalanced braces at offset " + i);
+                }
+            } else if (c == ']' && depth == 0) {
+                return objects;
+            }
+        }
+        throw new IllegalArgumentException("Unterminated JSON array");
+    }
+
+    /**
+     * Parses a flat JSON object into field values (all as strings, null for JSON null).
+     *
+     * @throws IllegalArgumentException on malformed input or nested values
+     */
+    public static Map<String, String> parseObject(String json) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        int[] pos = {skipWhitespace(json, 0)};
+        expect(json, pos, '{');
+        if (peek(json, pos) == '}') {
+            return fields;
+        }
+        while (true) {
+            String key = readString(json, pos);
+            expect(json, pos, ':');
+            fields.put(key, readValue(json, pos));
+            char next = peek(json, pos);
+            pos[0]++;
+            if (next == '}') {
+                return fields;
+            }
+            if (next != ',') {
+                throw new IllegalArgumentException("Expected ',' or '}' at offset " + (pos[0] - 1));
+            }
+        }
+    }
+
+    /**
+     * Escapes a value as a JSON string literal (or {@code null}).
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Parses any JSON document into Maps (insertion ordered), Lists, Strings,
+     * Longs (integral numbers), Doubles, Booleans and nulls.
+     *
+     * @throws IllegalArgumentException on malformed input, or objects and arrays nested
+     *                                  more than {@value #MAX_DEPTH} deep
+     */
+    public static Object parse(String json) {
+        int[] pos = {0};
+        Object value = readAny(json, pos, 0);
+        if (skipWhitespace(json, pos[0]) != json.length()) {
+            throw new IllegalArgumentException("Trailing content at offset " + pos[0]);
+        }
+        return value;
+    }
+
+    /**
+     * Writes Maps, Iterables, CharSequences, Numbers, Booleans and nulls as JSON.
+     *
+     * @throws IllegalArgumentException for any other type
+     */
+    public static String write(Object value) {
+        StringBuilder sb = new StringBuilder();
+        writeAny(sb, value);
+        return sb.toString();
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private static Object readAny(String json, int[] pos, int depth) {
+        char c = peek(json, pos);
+        if (c == '"') {
+            return readString(json, pos);
+        }
+        if ((c == '{' || c == '[') && depth >= MAX_DEPTH) {
+            // Parsed recursively: deeper input (e.g. a request body of "[[[[...") would overflow the stack
+            throw new IllegalArgumentException("Nesting deeper than " + MAX_DEPTH + " levels at offset " + pos[0]);
+        }
+        if (c == '{') {
+            pos[0]++;
+            Map<String, Object> map = new LinkedHashMap<>();
+            if (peek(json, pos) == '}') {
+                pos[0]++;
+                return map;
+            }
+            while (true) {
+                String key = readString(json, pos);
+                expect(json, pos, ':');
+                map.put(key, readAny(json, pos, depth + 1));
+                char next = peek(json, pos);
+                pos[0]++;
+                if (next == '}') {
+                    return map;
+                }
+                if (next != ',') {
+                    throw new IllegalArgumentException("Expected ',' or '}' at offset " + (pos[0] - 1));
+                }
+            }
+        }
+        if (c == '[') {
+            pos[0]++;
+            List<Object> list = new ArrayList<>();
+            if (peek(json, pos) == ']') {
+                pos[0]++;
+                return list;
+            }
+            while (true) {
+                list.add(readAny(json, pos, depth + 1));
+                char next = peek(json, pos);
+                pos[0]++;
+                if (next == ']') {
+                    return list;
+                }
+                if (next != ',') {
+                    throw new IllegalArgumentException("Expected ',' or ']' at offset " + (pos[0] - 1));
+                }
+            }
+        }
+        int start = pos[0];
+        String literal = readValue(json, pos);
+        if (literal == null) {
+            return null;
+        }
+        return switch (literal) {
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            default -> {
+                try {
+                    yield literal.contains(".") || literal.contains("e") || literal.contains("E")
+                            ? (Object) Double.parseDouble(literal)
+                            : (Object) Long.parseLong(literal);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid literal '" + literal + "' at offset " + start);
+                }
+            }
+        };
+    }
+
+    private static void writeAny(StringBuilder sb, Object value) {
+        if (value == null || value instanceof Boolean) {
+            sb.append(value);
+        } else if (value instanceof CharSequence text) {
+            sb.append(quote(text.toString()));
+        } else if (value instanceof Double d && (d.isNaN() || d.isInfinite())) {
+            sb.append("null");
+        } else if (value instanceof Number) {
+            sb.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                sb.append(quote(String.valueOf(e.getKey()))).append(':');
+                writeAny(sb, e.getValue());
+            }
+            sb.append('}');
+        } else if (value instanceof Iterable<?> items) {
+            sb.append('[');
+            boolean first = true;
+            for (Object item : items) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                writeAny(sb, item);
+            }
+            sb.append(']');
+        } else {
+            throw new IllegalArgumentException("Cannot write " + value.getClass().getName() + " as JSON");
+        }
+    }
+
+    private static String readValue(String json, int[] pos) {
+        char c = peek(json, pos);
+        if (c == '"') {
+            return readString(json, pos);
+        }
+        if (c == '{' || c == '[') {
+            throw new IllegalArgumentException("Nested values are not supported (offset " + pos[0] + ")");
+        }
+        int start = pos[0];
+        while (pos[0] < json.length() && ",}] \t\r\n".indexOf(json.charAt(pos[0])) < 0) {
+            pos[0]++;
+        }
+        String literal = json.substring(start, pos[0]);
+        if (literal.equals("null")) {
+            return null;
+        }
+        if (literal.isEmpty()) {
+            throw new IllegalArgumentException("Missing value at offset " + start);
+        }
+        return literal;
+    }
+
+    private static String readString(String json, int[] pos) {
+        expect(json, pos, '"');
+        StringBuilder sb = new StringBuilder();
+        while (pos[0] < json.length()) {
+            char c = json.charAt(pos[0]++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c == '\\') {
+                char e = json.charAt(pos[0]++);
+                switch (e) {
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        sb.append((char) Integer.parseInt(json.substring(pos[0], pos[0] + 4), 16));
+                        pos[0] += 4;
+                    }
+                    default -> sb.append(e);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated string");
+    }
+
+    private static void expect(String json, int[] pos, char expected) {
+        if (peek(json, pos) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at offset " + pos[0]);
+        }
+        pos[0]++;
+    }
+
+    private static char peek(String json, int[] pos) {
+        pos[0] = skipWhitespace(json, pos[0]);
+        if (pos[0] >= json.length()) {
+            throw new IllegalArgumentException("Unexpected end of JSON");
+        }
+        return json.charAt(pos[0]);
+    }
+
+    private static int skipWhitespace(String s, int i) {
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
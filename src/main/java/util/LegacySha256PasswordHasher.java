@@ -0,0 +1,48 @@
+package util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * The original unsalted SHA-256 scheme (64 lowercase hex characters).
+ * Kept only so existing accounts can still log in; every hash it verifies
+ * is flagged for rehashing.
+ */
+public class LegacySha256PasswordHasher implements PasswordHasher {
+
+    private static final Pattern HEX_64 = Pattern.compile("^[0-9a-f]{64}$");
+
+    @Override
+    public String hash(String password) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            // Platform charset matches how the original hashes were produced
+            return HexFormat.of().formatHex(md.digest(password.getBytes()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public boolean verify(String password, String storedHash) {
+        if (!supports(storedHash)) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                hash(password).getBytes(StandardCharsets.US_ASCII),
+                storedHash.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public boolean supports(String storedHash) {
+        return storedHash != null && HEX_64.matcher(storedHash).matches();
+    }
+
+    @Override
+    public boolean needsRehash(String storedHash) {
+        return true;
+    }
+}
@@ -0,0 +1,179 @@
+package util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * An amount of taka held exactly as a count of paisa (1/100 taka). Sums and
+ * differences are integer arithmetic, so totals over any number of rows
+ * come out exact; stored as an INTEGER column of paisa.
+ * <p>
+ * Instances are immutable. {@link #format()} and {@link #formatExact()}
+ * build the display text straight from the long, with no shared formatter.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    public static final String SYMBOL = "৳";
+
+    private static final int PAISA_PER_TAKA = 100;
+
+    private final long paisa;
+
+    private Money(long paisa) {
+        this.paisa = paisa;
+    }
+
+    // ── Factories ─────────────────────────────────────────────
+
+    /** The amount of the given number of paisa. */
+    public static Money valueOf(long paisa) {
+        return paisa == 0 ? ZERO : new Money(paisa);
+    }
+
+    /** A whole number of taka. */
+    public static Money ofTaka(long taka) {
+        return valueOf(Math.multiplyExact(taka, PAISA_PER_TAKA));
+    }
+
+    /** A decimal amount of taka, rounded half up to the nearest paisa. */
+    public static Money ofTaka(BigDecimal taka) {
+        return valueOf(taka.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact());
+    }
+
+    /** A floating-point amount of taka, e.g. a legacy REAL value, rounded to the nearest paisa. */
+    public static Money ofTaka(double taka) {
+        return ofTaka(BigDecimal.valueOf(taka));
+    }
+
+    /**
+     * Parses an amount of taka as typed by a user, e.g. {@code "1,500.50"};
+     * grouping commas and a leading {@link #SYMBOL} are allowed.
+     *
+     * @throws NumberFormatException if the text is not a number
+     */
+    public static Money parse(String text) {
+        String plain = text.trim().replace(",", "");
+        if (plain.startsWith(SYMBOL)) {
+            plain = plain.substring(SYMBOL.length()).trim();
+        }
+        try {
+            return ofTaka(new BigDecimal(plain));
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + text);
+        }
+    }
+
+    /** The total of one amount per item. */
+    public static <T> Money sum(Collection<T> items, Function<? super T, Money> amount) {
+        long total = 0;
+        for (T item : items) {
+            total = Math.addExact(total, amount.apply(item).paisa);
+        }
+        return valueOf(total);
+    }
+
+    // ── Arithmetic ────────────────────────────────────────────
+
+    public Money plus(Money other) {
+        return valueOf(Math.addExact(paisa, other.paisa));
+    }
+
+    public Money minus(Money other) {
+        return valueOf(Math.subtractExact(paisa, other.paisa));
+    }
+
+    /** This amount scaled by a factor, e.g. a share of 0.25, rounded to the nearest paisa. */
+    public Money times(double factor) {
+        return valueOf(Math.round(paisa * factor));
+    }
+
+    /** This amount split evenly {@code count} ways, rounded half up to the nearest paisa. */
+    public Money dividedBy(long count) {
+        return valueOf(Math.floorDiv(Math.addExact(Math.multiplyExact(paisa, 2), count), 2 * count));
+    }
+
+    public boolean isZero() {
+        return paisa == 0;
+    }
+
+    public boolean isPositive() {
+        return paisa > 0;
+    }
+
+    // ── Conversion ────────────────────────────────────────────
+
+    /** The number of paisa. */
+    public long longValue() {
+        return paisa;
+    }
+
+    /** The amount in taka, with two decimal places. */
+    public BigDecimal toTaka() {
+        return BigDecimal.valueOf(paisa, 2);
+    }
+
+    /** The amount in taka as a double, for charts and other approximate uses. */
+    public double toDouble() {
+        return paisa / (double) PAISA_PER_TAKA;
+    }
+
+    /** Whole taka with grouping, e.g. {@code ৳1,501} for 1500.50; halves round up. */
+    public String format() {
+        long abs = Math.abs(paisa);
+        long taka = abs / PAISA_PER_TAKA + (abs % PAISA_PER_TAKA >= PAISA_PER_TAKA / 2 ? 1 : 0);
+        StringBuilder text = new StringBuilder(20);
+        if (paisa < 0 && taka != 0) {
+            text.append('-');
+        }
+        return appendGrouped(text.append(SYMBOL), taka).toString();
+    }
+
+    /** Taka and paisa with grouping, e.g. {@code ৳1,500.50}. */
+    public String formatExact() {
+        long abs = Math.abs(paisa);
+        StringBuilder text = new StringBuilder(24);
+        if (paisa < 0) {
+            text.append('-');
+        }
+        appendGrouped(text.append(SYMBOL), abs / PAISA_PER_TAKA);
+        long fraction = abs % PAISA_PER_TAKA;
+        return text.append('.').append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10)).toString();
+    }
+
+    private static StringBuilder appendGrouped(StringBuilder text, long value) {
+        String digits = Long.toString(value);
+        int lead = digits.length() % 3 == 0 ? 3 : digits.length() % 3;
+        text.append(digits, 0, lead);
+        for (int i = lead; i < digits.length(); i += 3) {
+            text.append(',').append(digits, i, i + 3);
+        }
+        return text;
+    }
+
+    // ── Object ────────────────────────────────────────────────
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(paisa, other.paisa);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && paisa == other.paisa;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(paisa);
+    }
+
+    /** The amount in taka without symbol or grouping, e.g. {@code 1500.50}; used in CSV files. */
+    @Override
+    public String toString() {
+        return toTaka().toPlainString();
+    }
+}
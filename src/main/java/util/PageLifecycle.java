@@ -0,0 +1,273 @@
+package util;
+
+import javafx.animation.Animation;
+import javafx.animation.Timeline;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.BorderPane;
+import javafx.stage.Stage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The lifetime of one page a controller shows, and of whatever the page keeps
+ * running or reachable: timers, subscriptions, listeners on longer-lived
+ * objects, and loaded data referenced from its handlers.
+ * <p>
+ * A page is attached while it is on screen and detached while the window is
+ * minimized. It is disposed once another page replaces it or its controller's
+ * scene leaves the stage; after that it holds no timers, subscriptions or
+ * data, even if something still references its nodes. Resources are
+ * registered while the page is built, through {@link #current()}:
+ *
+ * <pre>
+ *   PageLifecycle lifecycle = PageLifecycle.current();
+ *   lifecycle.play(new Timeline(...));                  // runs while attached
+ *   lifecycle.subscribe(() -> Service.subscribe(...));  // subscribed while attached
+ *   Supplier&lt;List&lt;SystemLog&gt;&gt; logs = lifecycle.hold(allLogs);  // released on dispose
+ * </pre>
+ *
+ * Lifecycles belong to the FX thread.
+ */
+public final class PageLifecycle {
+
+    private static final ThreadLocal<PageLifecycle> BUILDING = new ThreadLocal<>();
+
+    private final List<Runnable> attachActions = new ArrayList<>();
+    private final List<Runnable> detachActions = new ArrayList<>();
+    private final List<Runnable> disposeActions = new ArrayList<>();
+    private boolean attached;
+    private boolean disposed;
+
+    private PageLifecycle() {
+    }
+
+    /**
+     * The lifecycle of the page being built.
+     *
+     * @throws IllegalStateException outside a {@link Host#show} build
+     */
+    public static PageLifecycle current() {
+        PageLifecycle lifecycle = BUILDING.get();
+        if (lifecycle == null) {
+            throw new IllegalStateException("No page is being built");
+        }
+        return lifecycle;
+    }
+
+    /** Runs each time the page is attached, starting with the next attach. */
+    public void onAttach(Runnable action) {
+        attachActions.add(action);
+    }
+
+    /** Runs each time the page is detached, including just before it is disposed. */
+    public void onDetach(Runnable action) {
+        detachActions.add(action);
+    }
+
+    /** Runs once when the page is disposed, in the reverse order of registration. */
+    public void onDispose(Runnable action) {
+        if (disposed) {
+            action.run();
+            return;
+        }
+        disposeActions.add(action);
+    }
+
+    /**
+     * Plays the timeline while the page is attached: paused when it is
+     * detached, resumed when it is attached again, stopped when it is
+     * disposed. A timeline that has finished is not restarted.
+     */
+    public Timeline play(Timeline timeline) {
+        boolean[] pausedHere = { !attached };
+        onAttach(() -> {
+            if (pausedHere[0]) {
+                pausedHere[0] = false;
+                timeline.play();
+            }
+        });
+        onDetach(() -> {
+            if (timeline.getStatus() == Animation.Status.RUNNING) {
+                pausedHere[0] = true;
+                timeline.pause();
+            }
+        });
+        onDispose(timeline::stop);
+        if (attached) {
+            timeline.play();
+        }
+        return timeline;
+    }
+
+    /**
+     * Keeps a subscription open while the page is attached. {@code subscribe}
+     * is called on each attach and returns the handle that unsubscribes,
+     * which is run on detach.
+     */
+    public void subscribe(Supplier<Runnable> subscribe) {
+        Runnable[] unsubscribe = new Runnable[1];
+        onAttach(() -> unsubscribe[0] = subscribe.get());
+        onDetach(() -> {
+            if (unsubscribe[0] != null) {
+                unsubscribe[0].run();
+                unsubscribe[0] = null;
+            }
+        });
+        if (attached) {
+            unsubscribe[0] = subscribe.get();
+        }
+    }
+
+    /** Adds the listener until the page is disposed. */
+    public <T> void listen(ObservableValue<T> value, ChangeListener<? super T> listener) {
+        value.addListener(listener);
+        onDispose(() -> value.removeListener(listener));
+    }
+
+    /**
+     * Holds loaded data for the page's handlers. Handlers should capture the
+     * returned supplier rather than the data, so the data is released when
+     * the page is disposed.
+     */
+    public <T> Supplier<T> hold(T data) {
+        Object[] held = { data };
+        onDispose(() -> held[0] = null);
+        @SuppressWarnings("unchecked")
+        Supplier<T> supplier = () -> {
+            if (disposed) {
+                throw new IllegalStateException("Page has been disposed");
+            }
+            return (T) held[0];
+        };
+        return supplier;
+    }
+
+    private void attach() {
+        if (attached || disposed) {
+            return;
+        }
+        attached = true;
+        for (Runnable action : List.copyOf(attachActions)) {
+            action.run();
+        }
+    }
+
+    private void detach() {
+        if (!attached) {
+            return;
+        }
+        attached = false;
+        for (Runnable action : List.copyOf(detachActions)) {
+            action.run();
+        }
+    }
+
+    private void dispose() {
+        if (disposed) {
+            return;
+        }
+        detach();
+        disposed = true;
+        for (int i = disposeActions.size() - 1; i >= 0; i--) {
+            disposeActions.get(i).run();
+        }
+        attachActions.clear();
+        detachActions.clear();
+        disposeActions.clear();
+    }
+
+    // ── Host ─────────────────────────────────────────────────
+
+    /**
+     * Shows a controller's pages in the center of its root pane, one
+     * lifecycle per page. Pages are attached while the controller's scene is
+     * on the stage and the stage is not minimized. When the scene leaves the
+     * stage (e.g. on logout) the current page and the {@link #session()} are
+     * disposed and the host stops listening to the stage.
+     */
+    public static final class Host {
+        private final Stage stage;
+        private final BorderPane root;
+        private final PageLifecycle session = new PageLifecycle();
+        private PageLifecycle page;
+        private final ChangeListener<Scene> onSceneChange = (obs, was, now) -> sceneChanged(was, now);
+        private final ChangeListener<Boolean> onIconified = (obs, was, now) -> update();
+
+        public Host(Stage stage, BorderPane root) {
+            this.stage = stage;
+            this.root = root;
+            stage.sceneProperty().addListener(onSceneChange);
+            stage.iconifiedProperty().addListener(onIconified);
+        }
+
+        /**
+         * The lifecycle of the controller itself, for timers and
+         * subscriptions that outlive single pages. Attached and detached with
+         * the window; disposed when the scene leaves the stage.
+         */
+        public PageLifecycle session() {
+            return session;
+        }
+
+        /**
+         * Disposes the current page, then builds the next one under a fresh
+         * lifecycle and shows it.
+         */
+        public <T extends Node> T show(Supplier<T> builder) {
+            if (page != null) {
+                page.dispose();
+            }
+            PageLifecycle next = new PageLifecycle();
+            PageLifecycle enclosing = BUILDING.get();
+            BUILDING.set(next);
+            T node;
+            try {
+                node = builder.get();
+            } catch (RuntimeException | Error e) {
+                next.dispose();
+                throw e;
+            } finally {
+                BUILDING.set(enclosing);
+            }
+            page = next;
+            root.setCenter(node);
+            update();
+            return node;
+        }
+
+        private boolean visible() {
+            return root.getScene() != null && stage.getScene() == root.getScene() && !stage.isIconified();
+        }
+
+        private void update() {
+            boolean visible = visible();
+            for (PageLifecycle lifecycle : page != null ? List.of(session, page) : List.of(session)) {
+                if (visible) {
+                    lifecycle.attach();
+                } else {
+                    lifecycle.detach();
+                }
+            }
+        }
+
+        private void sceneChanged(Scene was, Scene now) {
+            if (was != null && was == root.getScene()) {
+                // The controller is gone for good; later controllers use a new scene
+                if (page != null) {
+                    page.dispose();
+                    page = null;
+                }
+                session.dispose();
+                stage.sceneProperty().removeListener(onSceneChange);
+                stage.iconifiedProperty().removeListener(onIconified);
+            } else {
+                update();
+            }
+        }
+    }
+}
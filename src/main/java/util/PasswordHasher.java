@@ -0,0 +1,29 @@
+package util;
+
+/**
+ * A password hashing scheme. Implementations encode everything needed to
+ * verify a password (algorithm, parameters, salt) into the stored string.
+ */
+public interface PasswordHasher {
+
+    /**
+     * Hashes a plain-text password into its stored form.
+     */
+    String hash(String password);
+
+    /**
+     * Verifies a plain-text password against a stored hash produced by this scheme.
+     */
+    boolean verify(String password, String storedHash);
+
+    /**
+     * Returns true if the stored hash was produced by this scheme.
+     */
+    boolean supports(String storedHash);
+
+    /**
+     * Returns true if the stored hash should be replaced with a fresh one,
+     * e.g. because its cost parameters are below the current minimum.
+     */
+    boolean needsRehash(String storedHash);
+}
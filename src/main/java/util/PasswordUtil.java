@@ -1,34 +1,101 @@
 package util;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * Simple password hashing utility using SHA-256.
+ * Password hashing service.
+ * New hashes use the default {@link PasswordHasher} (PBKDF2-HMAC-SHA256,
+ * calibrated on first use); stored hashes from any registered scheme can
+ * still be verified so older accounts keep working until they are rehashed.
  */
 public class PasswordUtil {
 
+    /** Roughly how long a single hash should take on this machine. */
+    private static final long TARGET_HASH_MILLIS = 150;
+
+    private static volatile PasswordHasher defaultHasher;
+    private static final List<PasswordHasher> knownHashers =
+            new CopyOnWriteArrayList<>(List.of(new LegacySha256PasswordHasher()));
+
     /**
-     * Hashes a plain-text password using SHA-256.
+     * Hashes a plain-text password with the default scheme.
      */
     public static String hash(String password) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] digest = md.digest(password.getBytes());
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
-        }
+        return getDefaultHasher().hash(password);
+    }
+
+    /**
+     * Calibrates the default scheme now, so the first hash does not pay for it.
+     * Calibration takes a noticeable fraction of a second.
+     */
+    public static void calibrate() {
+        getDefaultHasher();
     }
 
     /**
-     * Verifies a plain-text password against a hashed one.
+     * Verifies a plain-text password against a stored hash of any known scheme.
      */
     public static boolean verify(String plainPassword, String hashedPassword) {
-        return hash(plainPassword).equals(hashedPassword);
+        if (plainPassword == null || hashedPassword == null) {
+            return false;
+        }
+        PasswordHasher hasher = hasherFor(hashedPassword);
+        return hasher != null && hasher.verify(plainPassword, hashedPassword);
+    }
+
+    /**
+     * Returns true if the stored hash is not in the current default scheme or
+     * its parameters are outdated, so it should be replaced after a successful login.
+     */
+    public static boolean needsRehash(String hashedPassword) {
+        PasswordHasher current = getDefaultHasher();
+        return !current.supports(hashedPassword) || current.needsRehash(hashedPassword);
+    }
+
+    /**
+     * Replaces the scheme used for new hashes. The previous default stays
+     * registered so its hashes can still be verified.
+     */
+    public static synchronized void setDefaultHasher(PasswordHasher hasher) {
+        if (defaultHasher != null) {
+            knownHashers.add(0, defaultHasher);
+        }
+        defaultHasher = hasher;
+    }
+
+    /**
+     * Registers an additional scheme that stored hashes may be verified against.
+     */
+    public static void registerHasher(PasswordHasher hasher) {
+        knownHashers.add(hasher);
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private static PasswordHasher getDefaultHasher() {
+        PasswordHasher hasher = defaultHasher;
+        if (hasher == null) {
+            synchronized (PasswordUtil.class) {
+                if (defaultHasher == null) {
+                    defaultHasher = Pbkdf2PasswordHasher.calibrated(TARGET_HASH_MILLIS);
+                }
+                hasher = defaultHasher;
+            }
+        }
+        return hasher;
+    }
+
+    private static PasswordHasher hasherFor(String hashedPassword) {
+        PasswordHasher current = getDefaultHasher();
+        if (current.supports(hashedPassword)) {
+            return current;
+        }
+        for (PasswordHasher hasher : knownHashers) {
+            if (hasher.supports(hashedPassword)) {
+                return hasher;
+            }
+        }
+        return null;
     }
 }
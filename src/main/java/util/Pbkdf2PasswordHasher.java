@@ -0,0 +1,125 @@
+package util;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
+
+/**
+ * PBKDF2-HMAC-SHA256 password hashing using the JDK provider.
+ * Stored format: {@code pbkdf2-sha256$<iterations>$<base64 salt>$<base64 hash>}.
+ */
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    public static final String PREFIX = "pbkdf2-sha256";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+    /** Floor below which stored hashes are upgraded on the next successful login. */
+    public static final int MIN_ITERATIONS = 210_000;
+    private static final int MAX_ITERATIONS = 5_000_000;
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final int iterations;
+
+    public Pbkdf2PasswordHasher(int iterations) {
+        this.iterations = Math.max(MIN_ITERATIONS, Math.min(MAX_ITERATIONS, iterations));
+    }
+
+    /**
+     * Creates a hasher whose iteration count makes one hash take roughly
+     * {@code targetMillis} on this machine, but never fewer than
+     * {@link #MIN_ITERATIONS}.
+     */
+    public static Pbkdf2PasswordHasher calibrated(long targetMillis) {
+        int probeIterations = 20_000;
+        byte[] salt = new byte[SALT_BYTES];
+        char[] probe = "calibration-probe".toCharArray();
+        // First run warms up the JIT; the second is the one we measure
+        derive(probe, salt, probeIterations);
+        long start = System.nanoTime();
+        derive(probe, salt, probeIterations);
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        long perIterationNanos = Math.max(1, elapsedNanos / probeIterations);
+        long wanted = targetMillis * 1_000_000L / perIterationNanos;
+        return new Pbkdf2PasswordHasher((int) Math.min(Integer.MAX_VALUE, wanted));
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    @Override
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        byte[] key = derive(password.toCharArray(), salt, iterations);
+        Base64.Encoder b64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + iterations + "$" + b64.encodeToString(salt) + "$" + b64.encodeToString(key);
+    }
+
+    @Override
+    public boolean verify(String password, String storedHash) {
+        String[] parts = split(storedHash);
+        if (parts == null) {
+            return false;
+        }
+        try {
+            int storedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            byte[] actual = derive(password.toCharArray(), salt, storedIterations, expected.length * 8);
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean supports(String storedHash) {
+        return split(storedHash) != null;
+    }
+
+    @Override
+    public boolean needsRehash(String storedHash) {
+        String[] parts = split(storedHash);
+        if (parts == null) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(parts[1]) < MIN_ITERATIONS;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────
+
+    private static String[] split(String storedHash) {
+        if (storedHash == null || !storedHash.startsWith(PREFIX + "$")) {
+            return null;
+        }
+        String[] parts = storedHash.split("\\$");
+        return parts.length == 4 ? parts : null;
+    }
+
+    private static byte[] derive(char[] password, byte[] salt, int iterations) {
+        return derive(password, salt, iterations, KEY_BITS);
+    }
+
+    private static byte[] derive(char[] password, byte[] salt, int iterations, int keyBits) {
+        PBEKeySpec spec = new PBEKeySpec(password, salt, iterations, keyBits);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new RuntimeException(ALGORITHM + " not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
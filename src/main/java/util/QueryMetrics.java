@@ -0,0 +1,174 @@
+package util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement SQL metrics collected by the instrumented connection from
+ * {@link DBUtil}: latency histogram, call, row and error counts for every
+ * distinct (SQL, call site) pair, plus a log of statements slower than a
+ * threshold. Bind parameters are never recorded, only their types.
+ */
+public final class QueryMetrics {
+
+    /**
+     * Point-in-time view of one statement's metrics. Times are in milliseconds.
+     */
+    public record StatementStats(String sql, String callSite, long calls, long errors, long rows,
+                                 double totalMillis, double meanMillis, double p50Millis,
+                                 double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    /**
+     * A statement that exceeded the slow-query threshold.
+     */
+    public record SlowQuery(String timestamp, String sql, String callSite, double millis, long rows,
+                            String parameters) {
+    }
+
+    private static final int SLOW_LOG_CAPACITY = 200;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final Map<Key, Entry> STATEMENTS = new ConcurrentHashMap<>();
+    private static final LatencyHistogram ALL = new LatencyHistogram();
+    private static final LongAdder SLOW_COUNT = new LongAdder();
+    private static final Deque<SlowQuery> SLOW_LOG = new ArrayDeque<>();
+    private static volatile long slowThresholdNanos =
+            Long.getLong("guardianlink.db.slowQueryMillis", 200) * 1_000_000L;
+
+    private record Key(String sql, String callSite) {
+    }
+
+    private static final class Entry {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder rows = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private QueryMetrics() {
+    }
+
+    /**
+     * Records one execution. Called by the instrumented statements.
+     *
+     * @param parameters redacted description of the bind parameters, e.g. {@code [INTEGER, TEXT]}
+     */
+    static void record(String sql, String callSite, long nanos, long rows, boolean failed, String parameters) {
+        Entry entry = STATEMENTS.computeIfAbsent(new Key(sql, callSite), k -> new Entry());
+        entry.latency.record(nanos);
+        ALL.record(nanos);
+        FlightEvents.repositoryQuery(callSite, sql, rows, failed, nanos);
+        entry.rows.add(rows);
+        if (failed) {
+            entry.errors.increment();
+        }
+        if (nanos >= slowThresholdNanos) {
+            SLOW_COUNT.increment();
+            SlowQuery slow = new SlowQuery(LocalDateTime.now().format(TIMESTAMP), sql, callSite,
+                    nanos / 1_000_000.0, rows, parameters);
+            synchronized (SLOW_LOG) {
+                if (SLOW_LOG.size() == SLOW_LOG_CAPACITY) {
+                    SLOW_LOG.removeFirst();
+                }
+                SLOW_LOG.addLast(slow);
+            }
+            System.err.printf("[slow-query] %.1f ms at %s (%d rows): %s params=%s%n",
+                    slow.millis(), callSite, rows, sql, parameters);
+        }
+    }
+
+    /**
+     * Returns metrics for every statement seen so far, slowest total time first.
+     */
+    public static List<StatementStats> snapshot() {
+        List<StatementStats> stats = new ArrayList<>();
+        STATEMENTS.forEach((key, entry) -> {
+            LatencyHistogram h = entry.latency;
+            stats.add(new StatementStats(key.sql(), key.callSite(), h.getCount(), entry.errors.sum(),
+                    entry.rows.sum(), millis(h.getTotalNanos()), h.getMeanNanos() / 1_000_000.0,
+                    millis(h.getPercentileNanos(50)), millis(h.getPercentileNanos(95)),
+                    millis(h.getPercentileNanos(99)), millis(h.getMaxNanos())));
+        });
+        stats.sort(Comparator.comparingDouble(StatementStats::totalMillis).reversed());
+        return stats;
+    }
+
+    /**
+     * Returns the latency percentile (0–100) across all statements, in milliseconds.
+     */
+    public static double overallPercentileMillis(double percentile) {
+        return millis(ALL.getPercentileNanos(percentile));
+    }
+
+    /**
+     * Returns the number of statements executed since startup or the last reset.
+     */
+    public static long totalCalls() {
+        return ALL.getCount();
+    }
+
+    /**
+     * Returns how many statements have exceeded the slow-query threshold.
+     */
+    public static long slowQueryCount() {
+        return SLOW_COUNT.sum();
+    }
+
+    /**
+     * Returns the most recent slow statements, oldest first.
+     */
+    public static List<SlowQuery> recentSlowQueries() {
+        synchronized (SLOW_LOG) {
+            return new ArrayList<>(SLOW_LOG);
+        }
+    }
+
+    /**
+     * Sets the threshold above which statements are logged as slow.
+     */
+    public static void setSlowQueryThresholdMillis(long millis) {
+        slowThresholdNanos = millis * 1_000_000L;
+    }
+
+    public static long getSlowQueryThresholdMillis() {
+        return slowThresholdNanos / 1_000_000L;
+    }
+
+    /**
+     * Clears all statement metrics and the slow-query log.
+     */
+    public static void reset() {
+        STATEMENTS.clear();
+        ALL.reset();
+        SLOW_COUNT.reset();
+        synchronized (SLOW_LOG) {
+            SLOW_LOG.clear();
+        }
+    }
+
+    /**
+     * Formats the top statements by total time as a plain-text table.
+     */
+    public static String formatReport(int limit) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%8s %8s %10s %9s %9s %9s %9s  %s%n",
+                "calls", "errors", "rows", "p50 ms", "p95 ms", "p99 ms", "max ms", "call site / sql"));
+        snapshot().stream().limit(limit).forEach(s -> sb.append(String.format(
+                "%8d %8d %10d %9.2f %9.2f %9.2f %9.2f  %s%n%66s%s%n",
+                s.calls(), s.errors(), s.rows(), s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis(),
+                s.callSite(), "", s.sql())));
+        return sb.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
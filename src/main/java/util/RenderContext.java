@@ -0,0 +1,68 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes service calls for the duration of one page build. Within
+ * {@link #render}, {@link #memoize} runs each distinct (method, arguments)
+ * query once and hands the same result to every later caller; the results
+ * are discarded when the build returns, so the next render queries again.
+ * <p>
+ * The context belongs to the thread running the build (the FX thread).
+ * Outside a render — e.g. in a button handler — {@code memoize} simply runs
+ * the query. Memoized results are shared, so callers must not modify them.
+ */
+public final class RenderContext {
+
+    private static final ThreadLocal<RenderContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<List<Object>, Object> results = new HashMap<>();
+
+    private RenderContext() {
+    }
+
+    /**
+     * Runs a page build with a fresh context. A nested call joins the
+     * enclosing build's context.
+     */
+    public static <T> T render(Supplier<T> builder) {
+        if (CURRENT.get() != null) {
+            return builder.get();
+        }
+        RenderContext context = new RenderContext();
+        CURRENT.set(context);
+        try {
+            return builder.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Returns the result of the query, running it only if no earlier call in
+     * this render used the same method name and arguments.
+     *
+     * @param method name identifying the query, e.g. {@code "UserService.getAllUsers"}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T memoize(String method, Supplier<T> query, Object... args) {
+        RenderContext context = CURRENT.get();
+        if (context == null) {
+            return query.get();
+        }
+        List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(method);
+        key.addAll(Arrays.asList(args));
+        if (context.results.containsKey(key)) {
+            return (T) context.results.get(key);
+        }
+        T result = query.get();
+        context.results.put(key, result);
+        return result;
+    }
+}
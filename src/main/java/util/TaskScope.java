@@ -0,0 +1,126 @@
+package util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs independent subtasks on virtual threads and waits for all of them
+ * under one deadline, in the manner of {@code StructuredTaskScope.ShutdownOnFailure}
+ * (still a preview API in Java 21).
+ * <p>
+ * {@link #join()} returns once every forked subtask has succeeded. If one
+ * fails, or the deadline passes first, the rest are cancelled and join
+ * throws. Closing the scope cancels whatever is still running, so subtasks
+ * never outlive the block that forked them:
+ *
+ * <pre>
+ *   try (TaskScope scope = new TaskScope("report", Duration.ofSeconds(20))) {
+ *       TaskScope.Subtask&lt;List&lt;Donation&gt;&gt; donations = scope.fork(donationService::getAll);
+ *       TaskScope.Subtask&lt;List&lt;Child&gt;&gt; children = scope.fork(childService::getAll);
+ *       scope.join();
+ *       ... donations.get(), children.get() ...
+ *   }
+ * </pre>
+ *
+ * A scope belongs to the thread that created it; subtasks may open scopes
+ * of their own.
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private final String name;
+    private final Duration timeout;
+    private final long deadline;
+    private final ExecutorService executor;
+    private final List<Future<?>> forked = new ArrayList<>();
+    private final BlockingQueue<Future<?>> completed = new LinkedBlockingQueue<>();
+    private int joined;
+
+    /** A scope whose subtasks must all finish within {@code timeout} of now. */
+    public TaskScope(String name, Duration timeout) {
+        this.name = name;
+        this.timeout = timeout;
+        this.deadline = System.nanoTime() + timeout.toNanos();
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    /** The result of a forked subtask, available once {@link #join()} has returned. */
+    public static final class Subtask<T> {
+        private final Future<T> future;
+
+        private Subtask(Future<T> future) {
+            this.future = future;
+        }
+
+        /**
+         * @throws IllegalStateException if the subtask has not completed successfully
+         */
+        public T get() {
+            if (future.state() != Future.State.SUCCESS) {
+                throw new IllegalStateException("Subtask is " + future.state());
+            }
+            return future.resultNow();
+        }
+    }
+
+    /** Starts a subtask on its own virtual thread. */
+    public <T> Subtask<T> fork(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task) {
+            @Override
+            protected void done() {
+                completed.add(this);
+            }
+        };
+        forked.add(future);
+        executor.execute(future);
+        return new Subtask<>(future);
+    }
+
+    /**
+     * Waits for every subtask forked so far. May be called again after
+     * forking more.
+     *
+     * @throws ExecutionException   if a subtask failed; its exception is the cause
+     * @throws TimeoutException     if the deadline passed first
+     * @throws InterruptedException if the calling thread was interrupted
+     */
+    public void join() throws ExecutionException, TimeoutException, InterruptedException {
+        try {
+            while (joined < forked.size()) {
+                long remaining = deadline - System.nanoTime();
+                Future<?> done = remaining > 0 ? completed.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (done == null) {
+                    throw new TimeoutException(name + " did not finish within " + timeout.toMillis() + " ms");
+                }
+                joined++;
+                done.get();
+            }
+        } catch (ExecutionException | TimeoutException | InterruptedException e) {
+            cancelAll();
+            throw e;
+        }
+    }
+
+    /** Cancels any subtasks still running; does not wait for them to stop. */
+    @Override
+    public void close() {
+        cancelAll();
+        executor.shutdown();
+    }
+
+    private void cancelAll() {
+        for (Future<?> future : forked) {
+            future.cancel(true);
+        }
+    }
+}
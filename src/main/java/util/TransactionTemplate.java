@@ -0,0 +1,75 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Runs multi-statement work as a single unit on the shared connection:
+ * everything commits once at the end, or rolls back together if the work
+ * throws. Nested calls join the outer transaction. While a transaction is
+ * open, other threads' calls on the connection wait for it to end.
+ */
+public final class TransactionTemplate {
+
+    /**
+     * Work to run inside a transaction.
+     */
+    @FunctionalInterface
+    public interface TransactionCallback<T> {
+        T doInTransaction(Connection conn) throws SQLException;
+    }
+
+    private TransactionTemplate() {
+    }
+
+    /**
+     * Runs the callback in a transaction and returns its result.
+     * Repositories called from the callback use the same connection, so their
+     * statements become part of the transaction. Throw from the callback
+     * (e.g. when a repository reports failure) to roll everything back.
+     *
+     * @throws SQLException if the work or the commit fails; the transaction has been rolled back
+     */
+    public static <T> T inTransaction(TransactionCallback<T> work) throws SQLException {
+        // The connection lock, held until commit: the connection is shared, and any
+        // statement run on it while the transaction is open would become part of it
+        DBUtil.CONNECTION_LOCK.lock();
+        try {
+            Connection conn = DBUtil.getConnection();
+            if (DBUtil.CONNECTION_LOCK.getHoldCount() > 1) {
+                return work.doInTransaction(conn);
+            }
+
+            boolean previousAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                T result = work.doInTransaction(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                rollbackQuietly(conn, e);
+                throw e;
+            } finally {
+                conn.setAutoCommit(previousAutoCommit);
+            }
+        } finally {
+            DBUtil.CONNECTION_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Whether the calling thread is inside a transaction (or otherwise holds
+     * the connection), so that other threads are waiting on it.
+     */
+    public static boolean isActive() {
+        return DBUtil.CONNECTION_LOCK.isHeldByCurrentThread();
+    }
+
+    private static void rollbackQuietly(Connection conn, Exception cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException rollbackError) {
+            cause.addSuppressed(rollbackError);
+        }
+    }
+}